@@ -0,0 +1,81 @@
+package meva.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import meva.fileio.ArchiveFile;
+import meva.fileio.ArchiveHandler;
+import meva.fileio.MevaBinaryHandler;
+import meva.models.TestData;
+
+/**
+ * 압축 보관 파일(.mevz) 쓰기/복원 벤치마크
+ * 압축률은 설정 단계에서 출력하고, .meva(비압축) 읽기를 비교 기준으로 둔다
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class ArchiveBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private final ArchiveHandler archiveHandler = new ArchiveHandler();
+    private final MevaBinaryHandler binaryHandler = new MevaBinaryHandler();
+    private TestData testData;
+    private File archive;
+    private File binary;
+    private File output;
+    private double duration;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        testData = SyntheticData.testData(size, 42);
+        duration = size * SyntheticData.SAMPLE_INTERVAL;
+        archive = File.createTempFile("meva-bench", ArchiveHandler.EXTENSION);
+        binary = File.createTempFile("meva-bench", MevaBinaryHandler.EXTENSION);
+        output = File.createTempFile("meva-bench-out", ArchiveHandler.EXTENSION);
+        archiveHandler.writeFile(testData, archive.getPath());
+        binaryHandler.writeFile(testData, binary.getPath());
+        try (ArchiveFile file = ArchiveFile.open(archive.getPath())) {
+            System.out.printf("%n[archive] samples=%d, ratio=%.2f (%d → %d bytes)%n",
+                    size, file.getCompressionRatio(), binary.length(), archive.length());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        archive.delete();
+        binary.delete();
+        output.delete();
+    }
+
+    @Benchmark
+    public boolean writeArchive() {
+        return archiveHandler.writeFile(testData, output.getPath());
+    }
+
+    @Benchmark
+    public Object readArchive() {
+        return archiveHandler.readFile(archive.getPath());
+    }
+
+    @Benchmark
+    public Object readBinary() {
+        return binaryHandler.readFile(binary.getPath());
+    }
+
+    /** 전체의 1%에 해당하는 시간 구간만 복원 */
+    @Benchmark
+    public TestData readArchiveTimeRange() throws IOException {
+        try (ArchiveFile file = ArchiveFile.open(archive.getPath())) {
+            return file.readTimeRange(duration * 0.5, duration * 0.51);
+        }
+    }
+}
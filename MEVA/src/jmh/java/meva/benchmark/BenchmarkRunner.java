@@ -0,0 +1,31 @@
+package meva.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 전체 벤치마크 실행기
+ * gc 프로파일러를 항상 붙여 처리량과 함께 할당량(gc.alloc.rate.norm, bytes/op)을 기록한다
+ *
+ * <pre>
+ * java meva.benchmark.BenchmarkRunner [포함할 벤치마크 정규식] [결과 JSON 경로]
+ * </pre>
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "meva\\.benchmark\\..*";
+        String result = args.length > 1 ? args[1] : "jmh-result.json";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,63 @@
+package meva.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import meva.fileio.CSVHandler;
+import meva.models.TestData;
+
+/**
+ * CSVHandler 읽기/쓰기 벤치마크
+ * readFile은 기존 String[] 기반 경로, readTestData는 스트리밍 primitive 경로
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class CSVHandlerBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private final CSVHandler handler = new CSVHandler();
+    private File input;
+    private File output;
+    private List<String[]> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = SyntheticData.writeCsv(SyntheticData.testData(size, 42));
+        output = File.createTempFile("meva-bench-out", ".csv");
+        output.deleteOnExit();
+        @SuppressWarnings("unchecked")
+        List<String[]> parsed = (List<String[]>) handler.readFile(input.getPath());
+        rows = parsed;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        input.delete();
+        output.delete();
+    }
+
+    @Benchmark
+    public Object readFile() {
+        return handler.readFile(input.getPath());
+    }
+
+    @Benchmark
+    public TestData readTestData() {
+        return handler.readTestData(input.getPath());
+    }
+
+    @Benchmark
+    public boolean writeFile() {
+        return handler.writeFile(rows, output.getPath());
+    }
+}
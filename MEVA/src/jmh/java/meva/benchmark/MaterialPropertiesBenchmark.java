@@ -0,0 +1,62 @@
+package meva.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import meva.calculation.MaterialProperties;
+import meva.calculation.PropertyExtractor;
+import meva.models.TestData;
+
+/**
+ * MaterialProperties 메서드별 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class MaterialPropertiesBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private final MaterialProperties properties = new MaterialProperties();
+    private TestData testData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        testData = SyntheticData.testData(size, 42);
+    }
+
+    @Benchmark
+    public double youngsModulus() {
+        return properties.calculateYoungsModulus(testData);
+    }
+
+    @Benchmark
+    public double yieldStrength() {
+        return properties.calculateYieldStrength(testData);
+    }
+
+    @Benchmark
+    public double tensileStrength() {
+        return properties.calculateTensileStrength(testData);
+    }
+
+    @Benchmark
+    public double elongation() {
+        return properties.calculateElongation(testData);
+    }
+
+    @Benchmark
+    public double reductionOfArea() {
+        return properties.calculateReductionOfArea(testData);
+    }
+
+    @Benchmark
+    public PropertyExtractor extractAll() {
+        return properties.extract(testData);
+    }
+}
@@ -0,0 +1,49 @@
+package meva.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import meva.models.Material;
+import meva.simulation.MaterialSimulator;
+import meva.simulation.ParameterRange;
+import meva.simulation.ParameterSweep;
+
+/**
+ * MaterialSimulator 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MaterialSimulatorBenchmark {
+
+    private final MaterialSimulator simulator = new MaterialSimulator();
+    private Material material;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        material = SyntheticData.steel();
+    }
+
+    @Benchmark
+    public void simulateMaterialBehavior(Blackhole blackhole) {
+        blackhole.consume(simulator.simulateMaterialBehavior(material));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long parameterSweep() {
+        // 10 × 10 × 10 = 1000 조합, 요약값만 집계
+        ParameterSweep sweep = new ParameterSweep();
+        sweep.setYoungsModulus(new ParameterRange(150, 250, 10));
+        sweep.setYieldStrength(new ParameterRange(200, 600, 10));
+        sweep.setTensileStrength(new ParameterRange(400, 900, 10));
+        long[] rows = new long[1];
+        sweep.run(summary -> rows[0] += summary.size());
+        return rows[0];
+    }
+}
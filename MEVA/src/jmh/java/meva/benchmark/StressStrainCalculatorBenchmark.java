@@ -0,0 +1,55 @@
+package meva.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.StressStrainCalculator;
+
+/**
+ * StressStrainCalculator 벤치마크
+ * 결과 배열을 새로 할당하는 경우와 재사용하는 경우를 비교 (gc 프로파일러의 bytes/op 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class StressStrainCalculatorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private final StressStrainCalculator calculator = new StressStrainCalculator();
+    private final SimulationResult reused = new SimulationResult();
+    private Material material;
+    private TestData measured;
+    private TestData theoretical;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        material = SyntheticData.steel();
+        measured = SyntheticData.testData(size, 42);
+        theoretical = new TestData();
+        calculator.setResolution(size);
+    }
+
+    @Benchmark
+    public SimulationResult measuredAllocating() {
+        return calculator.calculateStressStrain(material, measured);
+    }
+
+    @Benchmark
+    public SimulationResult measuredReusingBuffers() {
+        return calculator.calculateStressStrain(material, measured, reused);
+    }
+
+    @Benchmark
+    public SimulationResult theoreticalReusingBuffers() {
+        return calculator.calculateStressStrain(material, theoretical, reused);
+    }
+}
@@ -0,0 +1,79 @@
+package meva.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.StressStrainCalculator;
+
+/**
+ * 벤치마크용 합성 시험 데이터 생성기
+ * 이론 곡선을 하중/변위로 되돌리고 측정 잡음을 더해 실제 시험기 출력과 비슷하게 만든다
+ */
+final class SyntheticData {
+
+    static final double CROSS_SECTION_AREA = 78.54; // mm²
+    static final double INITIAL_LENGTH = 50.0;      // mm
+    static final double SAMPLE_INTERVAL = 0.01;     // s (100 Hz)
+
+    private SyntheticData() {}
+
+    static Material steel() {
+        return new Material("Steel_AISI1020", 200, 250, 400, 7850, 0.29);
+    }
+
+    /**
+     * n개 샘플의 시험 데이터 생성
+     * @param n 샘플 수
+     * @param seed 난수 시드 (같은 시드면 같은 데이터)
+     */
+    static TestData testData(int n, long seed) {
+        StressStrainCalculator calculator = new StressStrainCalculator();
+        calculator.setResolution(Math.max(2, n));
+        SimulationResult curve = calculator.calculateStressStrain(steel(), new TestData());
+
+        Random random = new Random(seed);
+        double[] force = new double[n];
+        double[] displacement = new double[n];
+        double[] time = new double[n];
+        for (int i = 0; i < n; i++) {
+            force[i] = curve.getStress()[i] * CROSS_SECTION_AREA + random.nextGaussian() * 5.0;
+            displacement[i] = curve.getStrain()[i] * INITIAL_LENGTH + random.nextGaussian() * 1e-4;
+            time[i] = i * SAMPLE_INTERVAL;
+        }
+
+        TestData testData = new TestData();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+        testData.setTime(time);
+        testData.setCrossSectionArea(CROSS_SECTION_AREA);
+        testData.setInitialLength(INITIAL_LENGTH);
+        return testData;
+    }
+
+    /**
+     * 시험 데이터를 임시 CSV 파일로 저장
+     * @return 생성된 파일 (JVM 종료 시 삭제)
+     */
+    static File writeCsv(TestData testData) throws IOException {
+        File file = File.createTempFile("meva-bench", ".csv");
+        file.deleteOnExit();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            writer.write("Load (N),Displacement (mm),Time (s)\n");
+            for (int i = 0; i < testData.getForce().length; i++) {
+                writer.write(Double.toString(testData.getForce()[i]));
+                writer.write(',');
+                writer.write(Double.toString(testData.getDisplacement()[i]));
+                writer.write(',');
+                writer.write(Double.toString(testData.getTime()[i]));
+                writer.write('\n');
+            }
+        }
+        return file;
+    }
+}
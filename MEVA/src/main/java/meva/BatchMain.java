@@ -0,0 +1,79 @@
+package meva;
+
+import java.io.IOException;
+import java.util.List;
+
+import meva.batch.BatchAnalyzer;
+import meva.batch.BatchReport;
+import meva.fileio.ExportManager;
+
+/**
+ * MEVA 일괄 분석 실행 진입점 (GUI 없음)
+ *
+ * <pre>
+ * java meva.BatchMain &lt;디렉터리|glob&gt; [-o summary.csv] [--threads N] [--max-in-flight M]
+ *                     [--area mm²] [--length mm]
+ * </pre>
+ */
+public class BatchMain {
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("사용법: BatchMain <디렉터리|glob> [-o summary.csv] [--threads N] "
+                    + "[--max-in-flight M] [--area mm2] [--length mm]");
+            System.exit(2);
+        }
+
+        String input = args[0];
+        String output = "batch_summary.csv";
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxInFlight = -1;
+        double area = -1;
+        double length = -1;
+
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "-o": output = args[++i]; break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    case "--max-in-flight": maxInFlight = Integer.parseInt(args[++i]); break;
+                    case "--area": area = Double.parseDouble(args[++i]); break;
+                    case "--length": length = Double.parseDouble(args[++i]); break;
+                    default:
+                        System.err.println("알 수 없는 옵션: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println("잘못된 옵션 값: " + e.getMessage());
+            System.exit(2);
+        }
+
+        BatchAnalyzer analyzer = new BatchAnalyzer(threads, maxInFlight > 0 ? maxInFlight : threads * 2);
+        if (area > 0) {
+            analyzer.setDefaultCrossSectionArea(area);
+        }
+        if (length > 0) {
+            analyzer.setDefaultInitialLength(length);
+        }
+
+        List<String> files;
+        try {
+            files = analyzer.collectFiles(input);
+        } catch (IOException e) {
+            System.err.println("파일 목록을 읽을 수 없습니다: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (files.isEmpty()) {
+            System.err.println("분석할 파일이 없습니다: " + input);
+            System.exit(1);
+        }
+
+        BatchReport report = analyzer.analyze(files);
+        System.out.println(report);
+        if (!report.export(new ExportManager(), output)) {
+            System.exit(1);
+        }
+        System.out.println("요약 저장: " + output);
+    }
+}
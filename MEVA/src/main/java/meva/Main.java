@@ -1,29 +1,24 @@
 package meva;
 
+import meva.cli.CommandLine;
 import meva.gui.MainFrame;
-import javax.swing.SwingUtilities;
 
 /**
  * MEVA (Materials Engineering Visualization and Analysis) 메인 애플리케이션
  * 재료공학 인장시험 데이터 시각화 및 분석 프로그램
  * 
+ * 인자 없이 실행하면 GUI를, 명령(analyse, simulate, convert, export)을 주면
+ * AWT/Swing을 불러오지 않는 헤드리스 모드({@link CommandLine})를 실행한다.
+ * GUI 관련 코드는 MainFrame에만 있으므로 헤드리스 모드에서는 Swing 클래스가 로드되지 않는다.
+ * 
  * @author 5조 - 김세현, 김종현, 박성빈, 이태윤
  * @version 1.0
  */
 public class Main {
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                // Look and Feel 설정
-                javax.swing.UIManager.setLookAndFeel(
-                    javax.swing.UIManager.getSystemLookAndFeel());
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            
-            // 메인 프레임 생성 및 표시
-            MainFrame mainFrame = new MainFrame();
-            mainFrame.setVisible(true);
-        });
+        if (args.length > 0) {
+            System.exit(CommandLine.run(args));
+        }
+        MainFrame.launch();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package meva.acquisition;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import meva.fileio.SampleChunk;
+
+/**
+ * 시험기가 기록 중인 텍스트 파일의 끝을 따라가며 샘플을 읽음 (tail -f)
+ * 시험기 대신 파일로 재생하거나 시험기 소프트웨어가 파일로만 내보내는 경우에 사용
+ */
+public class FileTailSampleSource implements SampleSource {
+
+    private final FileChannel channel;
+    private final long pollMillis;
+    private final long idleTimeoutMillis;
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    private final StringBuilder line = new StringBuilder(64);
+    private volatile boolean closed;
+
+    /**
+     * @param file 따라갈 파일
+     * @param pollMillis 새 데이터 확인 간격
+     * @param idleTimeoutMillis 파일이 이 시간 동안 늘어나지 않으면 스트림 종료 (0 이하이면 무한 대기)
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public FileTailSampleSource(Path file, long pollMillis, long idleTimeoutMillis) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.pollMillis = Math.max(1, pollMillis);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    @Override
+    public int read(SampleChunk chunk) throws IOException {
+        int before = chunk.size();
+        long idleSince = System.currentTimeMillis();
+        while (!closed) {
+            buffer.clear();
+            int read = channel.read(buffer);
+            if (read > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining() && !chunk.isFull()) {
+                    char c = (char) buffer.get();
+                    if (c == '\n') {
+                        SampleLineParser.parse(line, chunk);
+                        line.setLength(0);
+                    } else {
+                        line.append(c);
+                    }
+                }
+                // 묶음이 가득 차 남은 바이트는 다음 호출에서 다시 읽음
+                channel.position(channel.position() - buffer.remaining());
+                if (chunk.size() > before) {
+                    return chunk.size() - before;
+                }
+                idleSince = System.currentTimeMillis();
+                continue;
+            }
+            if (idleTimeoutMillis > 0 && System.currentTimeMillis() - idleSince >= idleTimeoutMillis) {
+                break;
+            }
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("샘플 대기 중 중단되었습니다");
+            }
+        }
+        if (line.length() > 0) {
+            // 줄바꿈 없이 끝난 마지막 줄
+            SampleLineParser.parse(line, chunk);
+            line.setLength(0);
+        }
+        return chunk.size() > before ? chunk.size() - before : -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+}
@@ -0,0 +1,232 @@
+package meva.acquisition;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import meva.calculation.PropertyExtractor;
+import meva.fileio.SampleChunk;
+
+/**
+ * 실시간 측정 파이프라인
+ *
+ * 생산자 스레드: 공급원 → 원시 샘플 기록(SampleRecorder) → 응력/변형률 변환 및 물성값 갱신
+ * → 링 버퍼. 소비자(화면)는 일정한 주기로 링 버퍼를 비운다.
+ * 화면 쪽이 느려 링 버퍼가 가득 차면 표시용 샘플만 버리고(가장 최근 샘플은 보류했다가
+ * 공간이 생기면 넣음), 기록과 물성값 계산에는 모든 샘플이 반영된다.
+ */
+public class LiveAcquisition implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(LiveAcquisition.class.getName());
+    public static final int DEFAULT_RING_CAPACITY = 1 << 16;
+    static final int READ_CHUNK_SIZE = 1024;
+
+    private final SampleSource source;
+    private final SampleRecorder recorder;
+    private final double inverseArea;
+    private final double inverseLength;
+    private final SampleRingBuffer ring;
+    private final PropertyExtractor extractor = new PropertyExtractor();
+
+    private volatile LiveStatus status = LiveStatus.EMPTY;
+    private volatile boolean running;
+    private volatile IOException failure;
+    private Thread producer;
+
+    // 생산자 전용 상태
+    private long sampleCount;
+    private long displayDropped;
+    private boolean hasPending;
+    private double pendingStress;
+    private double pendingStrain;
+    private double pendingTime;
+
+    /**
+     * @param source 샘플 공급원
+     * @param recorder 원시 샘플 기록기 (null이면 기록하지 않음)
+     * @param crossSectionArea 단면적 (mm²)
+     * @param initialLength 초기 길이 (mm)
+     */
+    public LiveAcquisition(SampleSource source, SampleRecorder recorder, double crossSectionArea, double initialLength) {
+        this(source, recorder, crossSectionArea, initialLength, DEFAULT_RING_CAPACITY);
+    }
+
+    public LiveAcquisition(SampleSource source, SampleRecorder recorder, double crossSectionArea,
+                           double initialLength, int ringCapacity) {
+        if (crossSectionArea <= 0 || initialLength <= 0) {
+            throw new IllegalArgumentException("단면적과 초기 길이는 0보다 커야 합니다");
+        }
+        this.source = source;
+        this.recorder = recorder;
+        this.inverseArea = 1.0 / crossSectionArea;
+        this.inverseLength = 1.0 / initialLength;
+        this.ring = new SampleRingBuffer(ringCapacity);
+    }
+
+    /**
+     * 수신 시작 (생산자 스레드 생성)
+     */
+    public synchronized void start() {
+        if (producer != null) {
+            throw new IllegalStateException("already started");
+        }
+        running = true;
+        producer = new Thread(this::produce, "meva-acquisition");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    private void produce() {
+        SampleChunk chunk = new SampleChunk(READ_CHUNK_SIZE);
+        try {
+            while (running) {
+                chunk.reset(sampleCount);
+                if (source.read(chunk) < 0) {
+                    break;
+                }
+                process(chunk);
+            }
+        } catch (IOException e) {
+            if (running) {
+                failure = e;
+                LOGGER.log(Level.WARNING, "샘플 수신 중 오류", e);
+            }
+        } finally {
+            flushPending();
+            try {
+                if (recorder != null) {
+                    recorder.flush();
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+            publishStatus();
+            running = false;
+        }
+    }
+
+    /**
+     * 공급원이 끝난 경우 보류 중인 마지막 샘플(보통 파단점)을 화면에 전달. 최대 1초 대기
+     * stop으로 중지한 경우에는 화면 쪽이 이미 비우기를 멈췄을 수 있으므로 기다리지 않고 버린다
+     * (기록과 물성값에는 이미 반영되어 있음)
+     */
+    private void flushPending() {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (hasPending && running && System.nanoTime() < deadline) {
+            if (ring.offer(pendingStress, pendingStrain, pendingTime)) {
+                hasPending = false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void process(SampleChunk chunk) throws IOException {
+        double[] force = chunk.getForce();
+        double[] displacement = chunk.getDisplacement();
+        double[] time = chunk.getTime();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (recorder != null) {
+                recorder.record(force[i], displacement[i], time[i]);
+            }
+            double stress = force[i] * inverseArea;
+            double strain = displacement[i] * inverseLength;
+            extractor.addStressStrain(stress, strain);
+            offerForDisplay(stress, strain, time[i]);
+        }
+        sampleCount += chunk.size();
+        if (recorder != null) {
+            recorder.flush();
+        }
+        publishStatus();
+    }
+
+    /**
+     * 표시용 링 버퍼에 넣기. 가득 차면 가장 최근 샘플만 보류
+     */
+    private void offerForDisplay(double stress, double strain, double time) {
+        if (hasPending) {
+            if (!ring.offer(pendingStress, pendingStrain, pendingTime)) {
+                displayDropped++;
+                pendingStress = stress;
+                pendingStrain = strain;
+                pendingTime = time;
+                return;
+            }
+            hasPending = false;
+        }
+        if (!ring.offer(stress, strain, time)) {
+            hasPending = true;
+            pendingStress = stress;
+            pendingStrain = strain;
+            pendingTime = time;
+        }
+    }
+
+    private void publishStatus() {
+        status = new LiveStatus(sampleCount, displayDropped, extractor.getYoungsModulus(),
+                extractor.getYieldStrength(), extractor.getTensileStrength(),
+                extractor.getElongation(), extractor.isFractureDetected());
+    }
+
+    /**
+     * 쌓인 표시용 샘플을 화면 버퍼로 옮김 (소비자 스레드, 한 스레드에서만 호출)
+     * @return 옮긴 샘플 수
+     */
+    public int drainTo(LiveDisplayBuffer display) {
+        return display.drainFrom(ring);
+    }
+
+    /** 최신 상태 (어느 스레드에서나 호출 가능) */
+    public LiveStatus getStatus() { return status; }
+
+    /** 수신 중이거나 아직 표시하지 않은 샘플이 남아 있으면 true */
+    public boolean isActive() {
+        return running || ring.size() > 0;
+    }
+
+    /** 수신 중 발생한 오류 (없으면 null) */
+    public IOException getFailure() { return failure; }
+
+    /**
+     * 수신 중지. 공급원을 닫고 생산자 스레드가 끝날 때까지 기다린다
+     */
+    public void stop() throws IOException {
+        running = false;
+        source.close();
+        Thread thread;
+        synchronized (this) {
+            thread = producer;
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 생산자 스레드가 끝날 때까지 대기 (공급원이 끝나는 경우)
+     * @param millis 최대 대기 시간
+     */
+    public void awaitCompletion(long millis) throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            thread = producer;
+        }
+        if (thread != null) {
+            thread.join(millis);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stop();
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+}
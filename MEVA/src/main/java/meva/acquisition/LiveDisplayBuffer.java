@@ -0,0 +1,93 @@
+package meva.acquisition;
+
+import java.util.Arrays;
+
+import meva.models.SimulationResult;
+
+/**
+ * 화면에 표시할 실시간 곡선 버퍼 (소비자 스레드 전용)
+ * 점 수가 상한에 도달하면 절반으로 솎아내고 이후에는 그 간격으로만 받아들여
+ * 측정 시간과 무관하게 크기가 일정하다
+ */
+public class LiveDisplayBuffer {
+
+    public static final int DEFAULT_MAX_POINTS = 50_000;
+
+    private final double[] stress;
+    private final double[] strain;
+    private final double[] drainStress = new double[4096];
+    private final double[] drainStrain = new double[4096];
+    private int size;
+    private int stride = 1;
+    private long received;
+
+    public LiveDisplayBuffer() {
+        this(DEFAULT_MAX_POINTS);
+    }
+
+    public LiveDisplayBuffer(int maxPoints) {
+        if (maxPoints < 2) {
+            throw new IllegalArgumentException("maxPoints must be at least 2: " + maxPoints);
+        }
+        stress = new double[maxPoints];
+        strain = new double[maxPoints];
+    }
+
+    /**
+     * 링 버퍼의 샘플을 모두 옮김
+     * @return 옮긴 샘플 수
+     */
+    public int drainFrom(SampleRingBuffer ring) {
+        int total = 0;
+        int count;
+        while ((count = ring.drain(drainStress, drainStrain, null, 0, drainStress.length)) > 0) {
+            for (int i = 0; i < count; i++) {
+                add(drainStress[i], drainStrain[i]);
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    private void add(double stressValue, double strainValue) {
+        if (received++ % stride != 0) {
+            return;
+        }
+        if (size == stress.length) {
+            // 짝수 번째 점만 남기고 간격을 두 배로
+            for (int i = 0; i < size / 2; i++) {
+                stress[i] = stress[2 * i];
+                strain[i] = strain[2 * i];
+            }
+            size /= 2;
+            stride *= 2;
+            if ((received - 1) % stride != 0) {
+                return;
+            }
+        }
+        stress[size] = stressValue;
+        strain[size] = strainValue;
+        size++;
+    }
+
+    public int size() { return size; }
+
+    /** 현재 솎아내기 간격 (1이면 모든 샘플 표시) */
+    public int getStride() { return stride; }
+
+    /**
+     * 그래프 표시용 결과 생성 (배열은 복사됨)
+     * @param status 물성값을 가져올 상태
+     */
+    public SimulationResult toResult(LiveStatus status) {
+        SimulationResult result = new SimulationResult();
+        result.setStress(Arrays.copyOf(stress, size));
+        result.setStrain(Arrays.copyOf(strain, size));
+        result.setYoungsModulus(status.getYoungsModulus());
+        result.setYieldStrength(status.getYieldStrength());
+        result.setTensileStrength(status.getTensileStrength());
+        result.setElongation(status.getElongation());
+        result.setValid(size > 0);
+        return result;
+    }
+}
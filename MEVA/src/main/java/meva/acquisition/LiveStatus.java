@@ -0,0 +1,39 @@
+package meva.acquisition;
+
+/**
+ * 실시간 측정 상태의 불변 스냅샷
+ * 생산자 스레드가 묶음마다 새로 만들어 공개하므로 어느 스레드에서나 읽을 수 있다
+ */
+public final class LiveStatus {
+
+    static final LiveStatus EMPTY = new LiveStatus(0, 0, 0, 0, 0, 0, false);
+
+    private final long sampleCount;
+    private final long displayDroppedCount;
+    private final double youngsModulus;
+    private final double yieldStrength;
+    private final double tensileStrength;
+    private final double elongation;
+    private final boolean fractureDetected;
+
+    LiveStatus(long sampleCount, long displayDroppedCount, double youngsModulus, double yieldStrength,
+               double tensileStrength, double elongation, boolean fractureDetected) {
+        this.sampleCount = sampleCount;
+        this.displayDroppedCount = displayDroppedCount;
+        this.youngsModulus = youngsModulus;
+        this.yieldStrength = yieldStrength;
+        this.tensileStrength = tensileStrength;
+        this.elongation = elongation;
+        this.fractureDetected = fractureDetected;
+    }
+
+    /** 수신하여 기록한 전체 샘플 수 */
+    public long getSampleCount() { return sampleCount; }
+    /** 화면 버퍼가 가득 차 표시에서만 빠진 샘플 수 */
+    public long getDisplayDroppedCount() { return displayDroppedCount; }
+    public double getYoungsModulus() { return youngsModulus; }
+    public double getYieldStrength() { return yieldStrength; }
+    public double getTensileStrength() { return tensileStrength; }
+    public double getElongation() { return elongation; }
+    public boolean isFractureDetected() { return fractureDetected; }
+}
@@ -0,0 +1,57 @@
+package meva.acquisition;
+
+import meva.fileio.SampleChunk;
+
+/**
+ * "하중,변위[,시간]" 형식의 텍스트 한 줄 해석
+ * 구분자는 쉼표, 세미콜론, 탭, 공백을 모두 허용하며 숫자가 아닌 줄(헤더 등)은 건너뛴다
+ */
+final class SampleLineParser {
+
+    private SampleLineParser() {}
+
+    /**
+     * 한 줄을 해석하여 묶음에 추가
+     * @return 샘플을 추가했으면 true
+     */
+    static boolean parse(CharSequence line, SampleChunk chunk) {
+        double force = Double.NaN;
+        double displacement = Double.NaN;
+        double time = Double.NaN;
+        int field = 0;
+        int length = line.length();
+        int start = 0;
+        while (start < length && field < 3) {
+            while (start < length && isSeparator(line.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !isSeparator(line.charAt(end))) {
+                end++;
+            }
+            if (start == end) {
+                break;
+            }
+            double value;
+            try {
+                value = Double.parseDouble(line.subSequence(start, end).toString());
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (field == 0) {
+                force = value;
+            } else if (field == 1) {
+                displacement = value;
+            } else {
+                time = value;
+            }
+            field++;
+            start = end;
+        }
+        return field >= 2 && chunk.add(force, displacement, time);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == ';' || c == '\t' || c == ' ' || c == '\r';
+    }
+}
@@ -0,0 +1,80 @@
+package meva.acquisition;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 수신한 원시 샘플을 빠짐없이 CSV로 기록
+ * 화면 표시용 버퍼가 넘쳐도 이 기록은 줄지 않는다. 결과 파일은 CSVHandler로 다시 읽을 수 있다
+ */
+public class SampleRecorder implements Closeable {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path file;
+    private final BufferedWriter writer;
+    private final StringBuilder line = new StringBuilder(64);
+    private long sampleCount;
+
+    /**
+     * @param file 기록할 파일 (있으면 덮어씀)
+     * @throws IOException 파일을 만들 수 없는 경우
+     */
+    public SampleRecorder(Path file) throws IOException {
+        this.file = file;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write("force,displacement,time");
+        writer.newLine();
+    }
+
+    /**
+     * 디렉터리에 측정 시작 시각으로 이름 붙인 새 기록 파일 생성 (live-20240101-093000.csv)
+     * 같은 이름이 있으면 -2, -3 ...을 붙여 기존 기록을 덮어쓰지 않는다
+     * @param directory 기록 디렉터리 (없으면 만듦)
+     * @throws IOException 디렉터리나 파일을 만들 수 없는 경우
+     */
+    public static SampleRecorder createIn(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String name = "live-" + LocalDateTime.now().format(FILE_TIME);
+        Path file = directory.resolve(name + ".csv");
+        for (int i = 2; Files.exists(file); i++) {
+            file = directory.resolve(name + "-" + i + ".csv");
+        }
+        return new SampleRecorder(file);
+    }
+
+    /**
+     * 샘플 하나 기록
+     */
+    public void record(double force, double displacement, double time) throws IOException {
+        line.setLength(0);
+        line.append(force).append(',').append(displacement).append(',');
+        if (!Double.isNaN(time)) {
+            line.append(time);
+        }
+        writer.append(line);
+        writer.newLine();
+        sampleCount++;
+    }
+
+    /**
+     * 버퍼의 내용을 파일에 씀
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    public long getSampleCount() { return sampleCount; }
+    public Path getFile() { return file; }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,94 @@
+package meva.acquisition;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 생산자/단일 소비자 잠금 없는 링 버퍼 (응력, 변형률, 시간)
+ *
+ * 생산자는 offer만, 소비자는 drain만 호출해야 한다. 위치는 AtomicLong.lazySet으로
+ * 공개하여 값 기록이 위치 갱신보다 먼저 보이도록 하고, 상대 위치는 캐시하여
+ * 매 호출마다 volatile 읽기를 하지 않는다.
+ */
+public class SampleRingBuffer {
+
+    private final double[] stress;
+    private final double[] strain;
+    private final double[] time;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // 다음에 읽을 위치 (소비자)
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자)
+    private long cachedHead; // 생산자가 본 head
+    private long cachedTail; // 소비자가 본 tail
+
+    /**
+     * @param capacity 용량 (2의 거듭제곱으로 올림)
+     */
+    public SampleRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        stress = new double[size];
+        strain = new double[size];
+        time = new double[size];
+        mask = size - 1;
+    }
+
+    public int capacity() { return mask + 1; }
+
+    /**
+     * 샘플 추가 (생산자 스레드)
+     * @return 가득 차서 추가하지 못하면 false
+     */
+    public boolean offer(double stressValue, double strainValue, double timeValue) {
+        long t = tail.get();
+        if (t - cachedHead > mask) {
+            cachedHead = head.get();
+            if (t - cachedHead > mask) {
+                return false;
+            }
+        }
+        int i = (int) t & mask;
+        stress[i] = stressValue;
+        strain[i] = strainValue;
+        time[i] = timeValue;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * 쌓인 샘플을 꺼내 배열에 복사 (소비자 스레드)
+     * @param stressOut 응력
+     * @param strainOut 변형률
+     * @param timeOut 시간 (null 가능)
+     * @param offset 배열 시작 위치
+     * @param maxCount 최대 개수
+     * @return 꺼낸 샘플 수
+     */
+    public int drain(double[] stressOut, double[] strainOut, double[] timeOut, int offset, int maxCount) {
+        long h = head.get();
+        if (cachedTail - h < 1) {
+            cachedTail = tail.get();
+        }
+        int count = (int) Math.min(maxCount, cachedTail - h);
+        for (int k = 0; k < count; k++) {
+            int i = (int) (h + k) & mask;
+            stressOut[offset + k] = stress[i];
+            strainOut[offset + k] = strain[i];
+            if (timeOut != null) {
+                timeOut[offset + k] = time[i];
+            }
+        }
+        head.lazySet(h + count);
+        return count;
+    }
+
+    /** 대략적인 대기 샘플 수 (어느 스레드에서나 호출 가능) */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
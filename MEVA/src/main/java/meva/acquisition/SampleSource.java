@@ -0,0 +1,21 @@
+package meva.acquisition;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import meva.fileio.SampleChunk;
+
+/**
+ * 시험기에서 실시간으로 들어오는 하중/변위/시간 샘플 공급원
+ */
+public interface SampleSource extends Closeable {
+
+    /**
+     * 지금 받을 수 있는 샘플을 묶음에 추가
+     * 샘플이 하나도 없으면 하나 이상 도착할 때까지 기다린다
+     * @param chunk 샘플을 추가할 묶음 (가득 차면 멈춤)
+     * @return 추가한 샘플 수, 스트림이 끝났으면 -1
+     * @throws IOException 읽기 오류
+     */
+    int read(SampleChunk chunk) throws IOException;
+}
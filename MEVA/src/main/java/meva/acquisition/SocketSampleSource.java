@@ -0,0 +1,55 @@
+package meva.acquisition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import meva.fileio.SampleChunk;
+
+/**
+ * TCP 소켓으로 한 줄에 한 샘플씩 보내는 시험기(또는 대체 장치)에서 샘플 수신
+ */
+public class SocketSampleSource implements SampleSource {
+
+    private final Socket socket;
+    private final BufferedReader reader;
+
+    /**
+     * @param host 시험기 주소
+     * @param port 포트
+     * @throws IOException 연결 실패
+     */
+    public SocketSampleSource(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        this.socket.setTcpNoDelay(true);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public int read(SampleChunk chunk) throws IOException {
+        int before = chunk.size();
+        // 첫 샘플은 기다리고, 이후에는 이미 도착한 줄만 읽음
+        while (chunk.size() == before) {
+            String line = reader.readLine();
+            if (line == null) {
+                return -1;
+            }
+            SampleLineParser.parse(line, chunk);
+        }
+        while (!chunk.isFull() && reader.ready()) {
+            String line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            SampleLineParser.parse(line, chunk);
+        }
+        return chunk.size() - before;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,102 @@
+package meva.aggregation;
+
+import java.util.Arrays;
+
+import meva.calculation.PropertyExtractor;
+
+/**
+ * 시편 한 개의 응력-변형률 샘플을 공통 격자로 선형 보간하는 클래스
+ *
+ * 샘플을 순서대로 한 번만 보므로 곡선 전체를 따로 보관하지 않는다.
+ * - 변형률이 이전 최댓값보다 작은 샘플(잡음으로 인한 역행)은 건너뛴다
+ * - 첫 샘플 이전과 파단 이후의 격자점은 NaN (그 시편은 해당 변형률에 기여하지 않음)
+ * - 파단은 PropertyExtractor와 같은 기준으로 판정한다 (최댓값의 FRACTURE_DROP_RATIO 미만으로 하락)
+ */
+public class CurveResampler {
+
+    private final StrainGrid grid;
+    private final double[] values;
+    private int next;
+    private boolean started;
+    private boolean finished;
+    private double previousStrain;
+    private double previousStress;
+    private double maxStress;
+
+    public CurveResampler(StrainGrid grid) {
+        this.grid = grid;
+        this.values = new double[grid.size()];
+        reset();
+    }
+
+    /**
+     * 다음 시편을 위해 초기화 (격자 배열 재사용)
+     */
+    public void reset() {
+        Arrays.fill(values, Double.NaN);
+        next = 0;
+        started = false;
+        finished = false;
+        maxStress = 0.0;
+    }
+
+    /**
+     * 샘플 하나 추가
+     * @param strain 공칭 변형률
+     * @param stress 공칭 응력 (MPa)
+     */
+    public void add(double strain, double stress) {
+        if (finished || Double.isNaN(strain) || Double.isNaN(stress)) {
+            return;
+        }
+        if (maxStress > 0 && stress < maxStress * PropertyExtractor.FRACTURE_DROP_RATIO) {
+            finished = true;
+            return;
+        }
+        if (started && strain <= previousStrain) {
+            return;
+        }
+        maxStress = Math.max(maxStress, stress);
+        int size = grid.size();
+        if (!started) {
+            started = true;
+            while (next < size && grid.strain(next) < strain) {
+                next++;
+            }
+            if (next < size && grid.strain(next) == strain) {
+                values[next++] = stress;
+            }
+        } else {
+            double slope = (stress - previousStress) / (strain - previousStrain);
+            double x;
+            while (next < size && (x = grid.strain(next)) <= strain) {
+                values[next++] = previousStress + slope * (x - previousStrain);
+            }
+        }
+        previousStrain = strain;
+        previousStress = stress;
+        finished = next >= size;
+    }
+
+    /**
+     * 배열 구간의 샘플 추가
+     */
+    public void add(double[] strain, double[] stress, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end && !finished; i++) {
+            add(strain[i], stress[i]);
+        }
+    }
+
+    /** 유효한 샘플을 하나 이상 받았는지 */
+    public boolean hasSamples() { return started; }
+
+    /** 더 받을 샘플이 없는지 (파단 또는 격자 끝 도달) */
+    public boolean isFinished() { return finished; }
+
+    /**
+     * 격자점별 응력 (기여하지 않는 점은 NaN). 다음 reset 전까지만 유효
+     */
+    public double[] getValues() { return values; }
+
+    public StrainGrid getGrid() { return grid; }
+}
@@ -0,0 +1,230 @@
+package meva.aggregation;
+
+import meva.chart.ChartBand;
+import meva.models.SimulationResult;
+
+/**
+ * 여러 시편 곡선의 격자점별 통계 누적기
+ *
+ * 격자점마다 Welford 방식으로 개수/평균/편차 제곱합을 갱신하고, 분위수는
+ * {@link QuantileSketch}로 근사한다. 곡선 자체는 보관하지 않으므로 시편 수와 무관하게
+ * 메모리 사용량이 격자 크기에 비례한다. 부분 누적기를 {@link #merge}로 합칠 수 있어
+ * 스레드마다 따로 누적한 뒤 합치는 병렬 집계에 쓴다 (인스턴스 자체는 스레드 안전하지 않음).
+ */
+public class CurveStatistics {
+
+    private final StrainGrid grid;
+    private final long[] counts;
+    private final double[] means;
+    private final double[] squaredDeviations;
+    private final double[] mins;
+    private final double[] maxs;
+    private final QuantileSketch[] sketches;
+    private long specimenCount;
+
+    public CurveStatistics(StrainGrid grid) {
+        int size = grid.size();
+        this.grid = grid;
+        this.counts = new long[size];
+        this.means = new double[size];
+        this.squaredDeviations = new double[size];
+        this.mins = new double[size];
+        this.maxs = new double[size];
+        this.sketches = new QuantileSketch[size];
+        for (int i = 0; i < size; i++) {
+            mins[i] = Double.POSITIVE_INFINITY;
+            maxs[i] = Double.NEGATIVE_INFINITY;
+            sketches[i] = new QuantileSketch();
+        }
+    }
+
+    /**
+     * 격자로 보간된 시편 곡선 하나 추가
+     * @param values 격자점별 응력 (NaN 또는 무한대는 기여하지 않음)
+     */
+    public void add(double[] values) {
+        if (values.length != counts.length) {
+            throw new IllegalArgumentException("values length " + values.length + " != grid size " + counts.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            long n = ++counts[i];
+            double delta = value - means[i];
+            means[i] += delta / n;
+            squaredDeviations[i] += delta * (value - means[i]);
+            mins[i] = Math.min(mins[i], value);
+            maxs[i] = Math.max(maxs[i], value);
+            sketches[i].add(value);
+        }
+        specimenCount++;
+    }
+
+    /**
+     * 보간기의 현재 곡선 추가
+     */
+    public void add(CurveResampler resampler) {
+        add(resampler.getValues());
+    }
+
+    /**
+     * 다른 누적기의 통계를 합침 (Chan의 병렬 분산 공식)
+     * @param other 같은 격자의 누적기
+     */
+    public void merge(CurveStatistics other) {
+        if (!grid.equals(other.grid)) {
+            throw new IllegalArgumentException("grids differ: " + grid + ", " + other.grid);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            long nb = other.counts[i];
+            if (nb == 0) {
+                continue;
+            }
+            long na = counts[i];
+            long n = na + nb;
+            double delta = other.means[i] - means[i];
+            means[i] += delta * nb / n;
+            squaredDeviations[i] += other.squaredDeviations[i] + delta * delta * ((double) na * nb / n);
+            counts[i] = n;
+            mins[i] = Math.min(mins[i], other.mins[i]);
+            maxs[i] = Math.max(maxs[i], other.maxs[i]);
+            sketches[i].merge(other.sketches[i]);
+        }
+        specimenCount += other.specimenCount;
+    }
+
+    public StrainGrid getGrid() { return grid; }
+
+    /** 누적한 시편 수 */
+    public long getSpecimenCount() { return specimenCount; }
+
+    /** i번째 격자점에 기여한 시편 수 */
+    public long getCount(int i) { return counts[i]; }
+
+    /** 평균 응력 (기여한 시편이 없으면 NaN) */
+    public double getMean(int i) {
+        return counts[i] == 0 ? Double.NaN : means[i];
+    }
+
+    /** 표본 표준편차 (시편이 2개 미만이면 NaN) */
+    public double getStandardDeviation(int i) {
+        return counts[i] < 2 ? Double.NaN : Math.sqrt(Math.max(0.0, squaredDeviations[i] / (counts[i] - 1)));
+    }
+
+    public double getMin(int i) {
+        return counts[i] == 0 ? Double.NaN : mins[i];
+    }
+
+    public double getMax(int i) {
+        return counts[i] == 0 ? Double.NaN : maxs[i];
+    }
+
+    /**
+     * 백분위 응력 (근사값, 최소/최대 안으로 제한)
+     * @param i 격자점
+     * @param percentile 0 ~ 100
+     * @return 응력 (기여한 시편이 없으면 NaN)
+     */
+    public double getPercentile(int i, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile: " + percentile);
+        }
+        if (counts[i] == 0) {
+            return Double.NaN;
+        }
+        double value = sketches[i].percentile(percentile, counts[i]);
+        return Math.max(mins[i], Math.min(maxs[i], value));
+    }
+
+    public double[] getMeanCurve() {
+        double[] curve = new double[counts.length];
+        for (int i = 0; i < curve.length; i++) {
+            curve[i] = getMean(i);
+        }
+        return curve;
+    }
+
+    public double[] getStandardDeviationCurve() {
+        double[] curve = new double[counts.length];
+        for (int i = 0; i < curve.length; i++) {
+            curve[i] = getStandardDeviation(i);
+        }
+        return curve;
+    }
+
+    public double[] getPercentileCurve(double percentile) {
+        double[] curve = new double[counts.length];
+        for (int i = 0; i < curve.length; i++) {
+            curve[i] = getPercentile(i, percentile);
+        }
+        return curve;
+    }
+
+    /**
+     * 기여한 시편이 있는 격자점 수
+     */
+    public int getCoveredPointCount() {
+        int covered = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                covered++;
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * 평균 곡선을 결과 객체로 변환 (기여한 시편이 없는 격자점은 제외)
+     * 인장강도에는 평균 곡선의 최댓값을 넣는다
+     * @return 평균 곡선 결과 (덮인 점이 2개 미만이면 유효하지 않은 결과)
+     */
+    public SimulationResult toMeanResult() {
+        SimulationResult result = new SimulationResult();
+        int covered = getCoveredPointCount();
+        if (covered < 2) {
+            result.setErrorMessage("통계를 낼 시편 곡선이 없습니다");
+            return result;
+        }
+        double[] strain = new double[covered];
+        double[] stress = new double[covered];
+        double maxStress = Double.NEGATIVE_INFINITY;
+        int n = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                strain[n] = grid.strain(i);
+                stress[n] = means[i];
+                maxStress = Math.max(maxStress, means[i]);
+                n++;
+            }
+        }
+        result.setStrain(strain);
+        result.setStress(stress);
+        result.setTensileStrength(maxStress);
+        result.setValid(true);
+        return result;
+    }
+
+    /**
+     * 백분위 띠 (기여한 시편이 없는 격자점은 제외, toMeanResult와 같은 점)
+     * @param lowerPercentile 아래 경계 백분위 (예: 5)
+     * @param upperPercentile 위 경계 백분위 (예: 95)
+     */
+    public ChartBand getPercentileBand(double lowerPercentile, double upperPercentile) {
+        int covered = getCoveredPointCount();
+        double[] strain = new double[covered];
+        double[] lower = new double[covered];
+        double[] upper = new double[covered];
+        int n = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                strain[n] = grid.strain(i);
+                lower[n] = getPercentile(i, lowerPercentile);
+                upper[n] = getPercentile(i, upperPercentile);
+                n++;
+            }
+        }
+        return new ChartBand(strain, lower, upper);
+    }
+}
@@ -0,0 +1,145 @@
+package meva.aggregation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import meva.calculation.PropertyExtractor;
+import meva.fileio.ExportManager;
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+
+/**
+ * 여러 시편(로트)의 응력-변형률 곡선 통계 집계 엔진
+ *
+ * 시편마다 곡선을 공통 변형률 격자로 보간한 뒤 {@link CurveStatistics}에 누적한다.
+ * 시편은 ForkJoinPool에서 병렬로 처리되며, 작업 묶음마다 부분 누적기를 만들어 마지막에 합친다.
+ * 보간된 격자 배열만 잠시 쓰고 버리므로 시편 곡선을 모아 두지 않는다.
+ *
+ * 사용 예:
+ * <pre>
+ * SpecimenAggregator aggregator = new SpecimenAggregator(new StrainGrid(0.0, 0.3, 1000));
+ * CurveStatistics statistics = aggregator.aggregateFiles(paths);
+ * graphPanel.updateGraph(statistics, 5, 95);
+ * </pre>
+ */
+public class SpecimenAggregator {
+
+    private final StrainGrid grid;
+    private final ExportManager exportManager = new ExportManager();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long failedCount;
+
+    /**
+     * @param grid 통계를 낼 공통 변형률 격자
+     */
+    public SpecimenAggregator(StrainGrid grid) {
+        this.grid = grid;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() { return parallelism; }
+
+    public StrainGrid getGrid() { return grid; }
+
+    /** 마지막 aggregateFiles에서 읽지 못한 파일 수 */
+    public long getFailedCount() { return failedCount; }
+
+    /**
+     * 시험 데이터(하중/변위) 집계. 하중/변위 컬럼이나 시편 치수가 없는 데이터는 건너뛴다
+     * (건너뛴 데이터는 {@link CurveStatistics#getSpecimenCount()}에 포함되지 않음)
+     */
+    public CurveStatistics aggregate(Collection<? extends TestData> specimens) {
+        return collect(specimens, SpecimenAggregator::resample);
+    }
+
+    /**
+     * 계산된 응력-변형률 곡선 집계. 유효하지 않은 결과는 건너뛴다
+     */
+    public CurveStatistics aggregateResults(Collection<? extends SimulationResult> results) {
+        return collect(results, (resampler, result) -> {
+            if (result != null && result.isValid() && result.getStress() != null && result.getStrain() != null) {
+                int length = Math.min(result.getStress().length, result.getStrain().length);
+                resampler.add(result.getStrain(), result.getStress(), 0, length);
+            }
+        });
+    }
+
+    /**
+     * 시험 파일 집계. 파일은 작업 스레드에서 읽고 보간 후 바로 버리므로
+     * 동시에 메모리에 올라가는 파일 수는 병렬 수 이하이다
+     * @param filePaths ExportManager가 읽을 수 있는 파일 경로
+     */
+    public CurveStatistics aggregateFiles(List<String> filePaths) {
+        AtomicLong failed = new AtomicLong();
+        CurveStatistics statistics = collect(filePaths, (resampler, path) -> {
+            TestData testData = exportManager.importTestData(path);
+            if (testData == null) {
+                failed.incrementAndGet();
+                return;
+            }
+            resample(resampler, testData);
+        });
+        failedCount = failed.get();
+        return statistics;
+    }
+
+    /**
+     * 항목마다 보간기를 채워 부분 누적기에 더하고, 부분 누적기를 합침
+     */
+    private <T> CurveStatistics collect(Collection<? extends T> items, BiConsumer<CurveResampler, T> feed) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (Scope scope = Metrics.start(Metrics.AGGREGATION)) {
+            CurveStatistics statistics = pool.submit(() -> items.parallelStream().collect(
+                    () -> new CurveStatistics(grid),
+                    (partial, item) -> {
+                        CurveResampler resampler = new CurveResampler(grid);
+                        feed.accept(resampler, item);
+                        if (resampler.hasSamples()) {
+                            partial.add(resampler);
+                        }
+                    },
+                    CurveStatistics::merge)).join();
+            scope.setItems(statistics.getSpecimenCount());
+            return statistics;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 하중/변위 컬럼을 블록 단위로 읽어 공칭 응력/변형률로 보간
+     */
+    private static void resample(CurveResampler resampler, TestData testData) {
+        if (testData == null || testData.getForceColumn() == null || testData.getDisplacementColumn() == null
+                || testData.getCrossSectionArea() <= 0 || testData.getInitialLength() <= 0) {
+            return;
+        }
+        double inverseArea = 1.0 / testData.getCrossSectionArea();
+        double inverseLength = 1.0 / testData.getInitialLength();
+        ChunkedColumn force = testData.getForceColumn();
+        ChunkedColumn displacement = testData.getDisplacementColumn();
+        ColumnCursor forceCursor = force.cursor(PropertyExtractor.COLUMN_BLOCK_SIZE);
+        ColumnCursor displacementCursor = displacement.cursor(PropertyExtractor.COLUMN_BLOCK_SIZE);
+        int length;
+        while (!resampler.isFinished() && (length = Math.min(forceCursor.next(), displacementCursor.next())) > 0) {
+            double[] f = forceCursor.block();
+            double[] d = displacementCursor.block();
+            for (int i = 0; i < length && !resampler.isFinished(); i++) {
+                resampler.add(d[i] * inverseLength, f[i] * inverseArea);
+            }
+        }
+    }
+}
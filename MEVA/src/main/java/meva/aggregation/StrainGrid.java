@@ -0,0 +1,70 @@
+package meva.aggregation;
+
+/**
+ * 여러 시편의 곡선을 모을 공통 변형률 격자 (등간격)
+ */
+public final class StrainGrid {
+
+    private final double min;
+    private final double max;
+    private final int size;
+
+    /**
+     * @param min 시작 변형률
+     * @param max 끝 변형률 (포함, min보다 커야 함)
+     * @param size 격자점 수 (2 이상)
+     */
+    public StrainGrid(double min, double max, int size) {
+        if (size < 2) {
+            throw new IllegalArgumentException("size must be at least 2: " + size);
+        }
+        if (!(max > min)) {
+            throw new IllegalArgumentException("max must be greater than min: " + min + " ~ " + max);
+        }
+        this.min = min;
+        this.max = max;
+        this.size = size;
+    }
+
+    /**
+     * i번째 격자점의 변형률
+     */
+    public double strain(int i) {
+        return i == size - 1 ? max : min + (max - min) * i / (size - 1);
+    }
+
+    /**
+     * 모든 격자점의 변형률
+     */
+    public double[] toArray() {
+        double[] strain = new double[size];
+        for (int i = 0; i < size; i++) {
+            strain[i] = strain(i);
+        }
+        return strain;
+    }
+
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+    public int size() { return size; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof StrainGrid)) {
+            return false;
+        }
+        StrainGrid other = (StrainGrid) o;
+        return Double.compare(min, other.min) == 0 && Double.compare(max, other.max) == 0 && size == other.size;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = Double.doubleToLongBits(min) * 31 + Double.doubleToLongBits(max);
+        return Long.hashCode(h * 31 + size);
+    }
+
+    @Override
+    public String toString() {
+        return "StrainGrid[" + min + " ~ " + max + ", " + size + " points]";
+    }
+}
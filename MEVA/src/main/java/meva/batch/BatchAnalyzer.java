@@ -0,0 +1,244 @@
+package meva.batch;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import meva.calculation.PropertyExtractor;
+import meva.fileio.ExportManager;
+import meva.models.ChunkedColumn;
+import meva.models.TestData;
+
+/**
+ * 여러 시험 파일을 병렬로 분석하는 일괄 처리 엔진
+ *
+ * 파일 읽기는 I/O 스레드 풀에서, 응력-변형률 변환과 물성값 추출은
+ * work-stealing ForkJoinPool에서 수행한다. 동시에 메모리에 올라가는 파일 수는
+ * maxInFlight로 제한되어 파일 수와 무관하게 메모리 사용량이 일정하다.
+ */
+public class BatchAnalyzer {
+
+    private final int parallelism;
+    private final int maxInFlight;
+    private final ExportManager exportManager = new ExportManager();
+    private int peakInFlight;
+
+    // 파일에 시편 치수가 없을 때 사용할 값
+    private double defaultCrossSectionArea = 78.54; // mm² (Ø10 mm)
+    private double defaultInitialLength = 50.0;     // mm
+
+    /**
+     * 코어 수만큼 병렬 처리하는 분석기 생성
+     */
+    public BatchAnalyzer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchAnalyzer(int parallelism) {
+        this(parallelism, parallelism * 2);
+    }
+
+    /**
+     * @param parallelism 계산 스레드 수
+     * @param maxInFlight 동시에 읽거나 계산 중인 최대 파일 수
+     */
+    public BatchAnalyzer(int parallelism, int maxInFlight) {
+        if (parallelism <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("parallelism and maxInFlight must be positive");
+        }
+        this.parallelism = parallelism;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public void setDefaultCrossSectionArea(double area) { this.defaultCrossSectionArea = area; }
+    public void setDefaultInitialLength(double length) { this.defaultInitialLength = length; }
+
+    /**
+     * 디렉터리, glob 패턴 또는 단일 파일에서 분석할 파일 목록 수집
+     * 예: "data", "data/*.csv", "runs/**&#47;*.meva"
+     * @param pattern 디렉터리 경로, glob 또는 파일 경로
+     * @return 정렬된 파일 경로 목록 (지원하는 형식만)
+     * @throws IOException 디렉터리를 읽을 수 없는 경우
+     */
+    public List<String> collectFiles(String pattern) throws IOException {
+        int wildcard = indexOfWildcard(pattern);
+        if (wildcard < 0) {
+            Path path = Paths.get(pattern);
+            if (Files.isDirectory(path)) {
+                return listMatching(path, null, false);
+            }
+            return exportManager.isSupported(pattern) ? List.of(pattern) : List.of();
+        }
+
+        // 와일드카드 앞의 고정 디렉터리부터 탐색
+        String prefix = pattern.substring(0, wildcard);
+        int slash = Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf('\\'));
+        Path base = slash < 0 ? Paths.get("") : Paths.get(pattern.substring(0, slash + 1));
+        String relativeGlob = pattern.substring(slash + 1);
+        boolean recursive = relativeGlob.contains("/") || relativeGlob.contains("\\") || relativeGlob.contains("**");
+        return listMatching(base, FileSystems.getDefault().getPathMatcher("glob:" + relativeGlob), recursive);
+    }
+
+    private List<String> listMatching(Path base, PathMatcher matcher, boolean recursive) throws IOException {
+        Path root = base.toString().isEmpty() ? Paths.get(".") : base;
+        List<String> files = new ArrayList<>();
+        try (Stream<Path> stream = recursive ? Files.walk(root) : Files.list(root)) {
+            stream.filter(Files::isRegularFile)
+                  .filter(p -> matcher == null || matcher.matches(root.relativize(p)))
+                  .filter(p -> exportManager.isSupported(p.toString()))
+                  .forEach(p -> files.add(p.toString()));
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    private static int indexOfWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 파일 목록 일괄 분석
+     * @param files 분석할 파일 경로
+     * @return 파일별 결과와 처리량 통계
+     */
+    public BatchReport analyze(List<String> files) {
+        long start = System.nanoTime();
+        String[][] rows = new String[files.size()][];
+        AtomicLong samples = new AtomicLong();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        CountDownLatch done = new CountDownLatch(files.size());
+        AtomicInteger active = new AtomicInteger();
+        peakInFlight = 0;
+
+        ForkJoinPool computePool = new ForkJoinPool(parallelism);
+        // CSV 읽기는 파싱 비용이 커서 I/O 풀도 계산 스레드 수만큼 둠
+        ExecutorService ioPool = Executors.newFixedThreadPool(parallelism, daemonThreads("meva-batch-io"));
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                int index = i;
+                String file = files.get(i);
+                inFlight.acquireUninterruptibly(); // 메모리 상한: 처리 중인 파일 수 제한
+                peakInFlight = Math.max(peakInFlight, active.incrementAndGet());
+                CompletableFuture
+                    .supplyAsync(() -> exportManager.importTestData(file), ioPool)
+                    .thenApplyAsync(testData -> analyzeFile(file, testData, samples), computePool)
+                    .whenComplete((row, error) -> {
+                        try {
+                            if (error != null) {
+                                row = errorRow(file, error.getCause() != null ? error.getCause() : error);
+                            }
+                            rows[index] = row;
+                        } finally {
+                            // 행을 만드는 중에 예외가 나도 다음 파일과 대기 중인 호출자가 멈추지 않도록 함
+                            active.decrementAndGet();
+                            inFlight.release();
+                            done.countDown();
+                        }
+                    });
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ioPool.shutdownNow();
+            computePool.shutdownNow();
+        }
+        String[][] complete = completeRows(files, rows);
+        return new BatchReport(complete, samples.get(), countFailed(complete), System.nanoTime() - start);
+    }
+
+    /**
+     * 중단되어 결과가 없는 파일에 오류 행을 채운 복사본
+     * (중단 후에도 남은 작업이 원본 배열에 쓸 수 있으므로 복사본을 보고서에 넘김)
+     */
+    private static String[][] completeRows(List<String> files, String[][] rows) {
+        String[][] complete = rows.clone();
+        for (int i = 0; i < complete.length; i++) {
+            if (complete[i] == null) {
+                complete[i] = errorRow(files.get(i), "분석이 중단되었습니다");
+            }
+        }
+        return complete;
+    }
+
+    private static int countFailed(String[][] rows) {
+        int failed = 0;
+        for (String[] row : rows) {
+            if (!"OK".equals(row[row.length - 1])) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 마지막 analyze 호출에서 동시에 처리 중이던 최대 파일 수
+     */
+    int getPeakInFlight() { return peakInFlight; }
+
+    /**
+     * 파일 하나 분석 (계산 스레드에서 실행)
+     */
+    private String[] analyzeFile(String file, TestData testData, AtomicLong samples) {
+        if (testData == null || testData.getForceColumn() == null) {
+            return errorRow(file, "데이터를 읽을 수 없습니다");
+        }
+        if (testData.getCrossSectionArea() <= 0) {
+            testData.setCrossSectionArea(defaultCrossSectionArea);
+        }
+        if (testData.getInitialLength() <= 0) {
+            testData.setInitialLength(defaultInitialLength);
+        }
+
+        ChunkedColumn displacement = testData.getDisplacementColumn();
+        if (displacement == null || displacement.size() != testData.getSampleCount()) {
+            return errorRow(file, "하중과 변위 데이터의 길이가 다릅니다");
+        }
+        // 응력 배열을 만들지 않고 컬럼을 블록 단위로 바로 추출하여 샘플 수 제한이 없음
+        PropertyExtractor extractor = new PropertyExtractor(
+                testData.getCrossSectionArea(), testData.getInitialLength());
+        extractor.addSamples(testData.getForceColumn(), displacement);
+        samples.addAndGet(testData.getSampleCount());
+
+        return new String[] {
+            file,
+            String.valueOf(testData.getSampleCount()),
+            format(extractor.getYoungsModulus()),
+            format(extractor.getYieldStrength()),
+            format(extractor.getTensileStrength()),
+            format(extractor.getElongation()),
+            "OK"
+        };
+    }
+
+    private static String[] errorRow(String file, Object error) {
+        String message = error instanceof Throwable ? String.valueOf(((Throwable) error).getMessage()) : String.valueOf(error);
+        return new String[] {file, "0", "", "", "", "", "ERROR: " + message};
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package meva.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import meva.fileio.ExportManager;
+
+/**
+ * 일괄 분석 결과 요약
+ * 파일별 물성값 행과 처리량 통계를 담는다
+ */
+public class BatchReport {
+
+    public static final String[] HEADER = {
+        "file", "samples", "youngsModulus(GPa)", "yieldStrength(MPa)",
+        "tensileStrength(MPa)", "elongation(%)", "status"
+    };
+
+    private final String[][] rows;
+    private final long sampleCount;
+    private final int failedCount;
+    private final long elapsedNanos;
+
+    BatchReport(String[][] rows, long sampleCount, int failedCount, long elapsedNanos) {
+        this.rows = rows;
+        this.sampleCount = sampleCount;
+        this.failedCount = failedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getFileCount() { return rows.length; }
+    public int getFailedCount() { return failedCount; }
+    public long getSampleCount() { return sampleCount; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /** 초당 처리 파일 수 */
+    public double getFilesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rows.length * 1e9 / elapsedNanos;
+    }
+
+    /** 초당 처리 샘플 수 */
+    public double getSamplesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : sampleCount * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * 헤더를 포함한 요약 행 목록 (입력 파일 순서)
+     * @return CSVHandler.writeFile에 바로 넘길 수 있는 행 목록
+     */
+    public List<String[]> toRows() {
+        List<String[]> table = new ArrayList<>(rows.length + 1);
+        table.add(HEADER);
+        for (String[] row : rows) {
+            table.add(row);
+        }
+        return table;
+    }
+
+    /**
+     * 요약을 파일로 내보내기 (확장자로 형식 결정)
+     * @param exportManager 내보내기 관리자
+     * @param filePath 저장 경로
+     * @return 성공 여부
+     */
+    public boolean export(ExportManager exportManager, String filePath) {
+        return exportManager.exportDataAuto(toRows(), filePath);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d files (%d failed), %d samples in %.2f s: %.1f files/s, %.0f samples/s",
+                rows.length, failedCount, sampleCount, elapsedNanos / 1e9,
+                getFilesPerSecond(), getSamplesPerSecond());
+    }
+}
@@ -0,0 +1,112 @@
+package meva.calculation;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import meva.fileio.ExportManager;
+import meva.fileio.FastCsvWriter;
+import meva.fileio.ResultCache;
+import meva.models.ChunkedColumn;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.StressStrainCalculator;
+import meva.utils.Constants;
+
+/**
+ * 시험 파일 하나를 읽어 곡선과 물성값을 계산하는 클래스 (결과 캐시 사용)
+ *
+ * 캐시 키는 파일 내용과 계산 설정(정밀도, 항복 오프셋, 시편 치수 지정값)으로 정해지므로
+ * 같은 파일을 다시 열면 파일 읽기와 물성값 계산 없이 저장된 결과를 돌려준다.
+ * 곡선으로 바꾸기에 너무 큰 데이터는 물성값만 계산하여 곡선 없이 돌려준다.
+ */
+public class FileAnalyzer {
+
+    /** 계산 방식이 바뀌면 올려서 이전 캐시 항목을 무효화 */
+    static final int ANALYSIS_VERSION = 2;
+
+    private final ResultCache cache;
+    private final ExportManager exportManager = new ExportManager();
+    private boolean lastCacheHit;
+
+    /**
+     * @param cache 결과 캐시 (null이면 항상 계산)
+     */
+    public FileAnalyzer(ResultCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 파일 분석
+     * @param filePath 시험 파일 경로
+     * @param crossSectionArea 단면적 지정값 (mm², NaN이면 파일 값 사용)
+     * @param initialLength 초기 길이 지정값 (mm, NaN이면 파일 값 사용)
+     * @return 결과 (실패 시 오류 메시지가 있는 유효하지 않은 결과)
+     */
+    public SimulationResult analyse(String filePath, double crossSectionArea, double initialLength) {
+        lastCacheHit = false;
+        ResultCache.Key key = null;
+        if (cache != null) {
+            try {
+                key = cache.keyOf(filePath, settings(crossSectionArea, initialLength));
+                SimulationResult cached = cache.get(key);
+                if (cached != null) {
+                    lastCacheHit = true;
+                    return cached;
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        SimulationResult result = new SimulationResult();
+        TestData testData = exportManager.importTestData(filePath);
+        if (testData == null) {
+            result.setErrorMessage("파일을 읽을 수 없습니다: " + filePath);
+            return result;
+        }
+        if (!Double.isNaN(crossSectionArea)) {
+            testData.setCrossSectionArea(crossSectionArea);
+        }
+        if (!Double.isNaN(initialLength)) {
+            testData.setInitialLength(initialLength);
+        }
+        ChunkedColumn force = testData.getForceColumn();
+        if (force != null && force.size() <= ChunkedColumn.MAX_ARRAY_LENGTH) {
+            new StressStrainCalculator().calculateStressStrain(null, testData, result);
+            if (!result.isValid()) {
+                return result;
+            }
+        }
+
+        MaterialProperties properties = new MaterialProperties();
+        ModulusFit fit = properties.fitYoungsModulus(testData);
+        PropertyExtractor extractor = properties.extract(testData, fit);
+        if (extractor.getSampleCount() == 0) {
+            result.setValid(false);
+            result.setErrorMessage("물성값을 계산할 수 없습니다: 하중/변위 컬럼이 없습니다");
+            return result;
+        }
+        extractor.applyTo(result);
+        fit.applyTo(result);
+        result.setValid(true);
+
+        if (key != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /** 마지막 analyse가 캐시에서 결과를 가져왔는지 */
+    public boolean wasCacheHit() { return lastCacheHit; }
+
+    public ResultCache getCache() { return cache; }
+
+    /**
+     * 결과에 영향을 주는 설정 문자열
+     */
+    static String settings(double crossSectionArea, double initialLength) {
+        return String.format(Locale.ROOT, "analysis=%d;precision=%d;yieldOffset=%s;area=%s;length=%s",
+                ANALYSIS_VERSION, FastCsvWriter.defaultPrecision(), Constants.YIELD_OFFSET,
+                crossSectionArea, initialLength);
+    }
+}
@@ -1,66 +1,123 @@
 package meva.calculation;
 
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
 import meva.models.TestData;
 
 /**
  * 재료 물성값 계산 클래스
  * 
+ * 각 계산 메서드는 PropertyExtractor로 데이터를 한 번만 훑는다.
+ * 컬럼을 블록 단위로 읽으므로 배열 한도를 넘는 시험 데이터도 처리할 수 있다.
+ * 여러 물성값이 필요하면 {@link #extract(TestData)}로 한 번에 구하는 것이 좋다.
+ * 영률은 잡음에 강한 구간 탐색 회귀({@link ModulusFitter})로 따로 구한다.
+ * 
  * @author 이태윤
  */
 public class MaterialProperties {
     
+    /**
+     * 시험 데이터를 한 번 훑어 모든 물성값을 계산
+     * 
+     * @param testData 시험 데이터
+     * @return 계산이 끝난 추출기 (데이터가 없으면 빈 추출기)
+     */
+    public PropertyExtractor extract(TestData testData) {
+        return extract(testData, ModulusFit.NONE);
+    }
+    
+    /**
+     * 구간 탐색 회귀 직선을 탄성 직선으로 사용하여 모든 물성값을 계산
+     * 항복강도(오프셋 직선)와 연신율(탄성 회복분)이 영률과 같은 직선을 따른다
+     * 
+     * @param testData 시험 데이터
+     * @param fit {@link #fitYoungsModulus(TestData)} 결과 (유효하지 않으면 추출기 자체 회귀 사용)
+     * @return 계산이 끝난 추출기 (데이터가 없으면 빈 추출기)
+     */
+    public PropertyExtractor extract(TestData testData, ModulusFit fit) {
+        if (testData == null || testData.getForceColumn() == null || testData.getDisplacementColumn() == null
+                || testData.getCrossSectionArea() <= 0 || testData.getInitialLength() <= 0) {
+            return new PropertyExtractor();
+        }
+        
+        try (Scope scope = Metrics.start(Metrics.PROPERTIES)) {
+            PropertyExtractor extractor = new PropertyExtractor(
+                    testData.getCrossSectionArea(), testData.getInitialLength());
+            extractor.useElasticLine(fit);
+            extractor.addSamples(testData.getForceColumn(), testData.getDisplacementColumn());
+            scope.setItems(testData.getSampleCount());
+            return extractor;
+        }
+    }
+    
+    /**
+     * 가장 선형적인 탄성 구간을 찾아 영률 회귀
+     * 
+     * @param testData 시험 데이터
+     * @return 영률, 결정계수(R²), 구간 위치 (데이터가 부족하면 {@link ModulusFit#NONE})
+     */
+    public ModulusFit fitYoungsModulus(TestData testData) {
+        try (Scope scope = Metrics.start(Metrics.MODULUS_FIT)) {
+            ModulusFit fit = new ModulusFitter().fit(testData);
+            scope.setItems(fit.getPointCount());
+            return fit;
+        }
+    }
+    
     /**
      * 영률(Young's Modulus) 계산
+     * 구간 탐색 회귀가 실패하면 단일 패스 추출기의 탄성 구간 회귀값을 사용
      * 
      * @param testData 시험 데이터
-     * @return 영률값
+     * @return 영률값 (GPa)
      */
     public double calculateYoungsModulus(TestData testData) {
-        // TODO: F-CALC-001 요구사항 구현
-        return 0.0;
+        ModulusFit fit = fitYoungsModulus(testData);
+        return fit.isValid() ? fit.getYoungsModulus() : extract(testData).getYoungsModulus();
     }
     
     /**
      * 항복 강도 계산
      * 
      * @param testData 시험 데이터
-     * @return 항복 강도
+     * @return 항복 강도 (MPa, 0.2% 오프셋)
      */
     public double calculateYieldStrength(TestData testData) {
-        // TODO: F-CALC-001 요구사항 구현
-        return 0.0;
+        return extract(testData, fitYoungsModulus(testData)).getYieldStrength();
     }
     
     /**
      * 인장 강도 계산
      * 
      * @param testData 시험 데이터
-     * @return 인장 강도
+     * @return 인장 강도 (MPa)
      */
     public double calculateTensileStrength(TestData testData) {
-        // TODO: F-CALC-001 요구사항 구현
-        return 0.0;
+        return extract(testData).getTensileStrength();
     }
     
     /**
      * 연신율 계산
      * 
      * @param testData 시험 데이터
-     * @return 연신율
+     * @return 연신율 (%)
      */
     public double calculateElongation(TestData testData) {
-        // TODO: F-CALC-002 요구사항 구현
-        return 0.0;
+        return extract(testData, fitYoungsModulus(testData)).getElongation();
     }
     
     /**
      * 단면수축률 계산
      * 
      * @param testData 시험 데이터
-     * @return 단면수축률
+     * @return 단면수축률 (%), 파단 후 단면적이 없으면 0
      */
     public double calculateReductionOfArea(TestData testData) {
-        // TODO: F-CALC-002 요구사항 구현
-        return 0.0;
+        if (testData == null || testData.getCrossSectionArea() <= 0
+                || testData.getFinalCrossSectionArea() <= 0) {
+            return 0.0;
+        }
+        double initialArea = testData.getCrossSectionArea();
+        return (initialArea - testData.getFinalCrossSectionArea()) / initialArea * 100.0;
     }
-}
\ No newline at end of file
+}
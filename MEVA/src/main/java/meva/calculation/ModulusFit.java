@@ -0,0 +1,86 @@
+package meva.calculation;
+
+import meva.models.SimulationResult;
+import meva.utils.Constants;
+
+/**
+ * 탄성 구간 선형회귀 결과 (불변)
+ * 영률과 함께 적합도(R²)와 선택된 구간의 위치를 담는다
+ */
+public final class ModulusFit {
+
+    /** 적합할 수 없을 때의 결과 */
+    public static final ModulusFit NONE = new ModulusFit(Double.NaN, Double.NaN, Double.NaN, 0, 0, Double.NaN, Double.NaN);
+
+    private final double slope;      // MPa
+    private final double intercept;  // MPa
+    private final double rSquared;
+    private final long startIndex;
+    private final long endIndex;
+    private final double startStrain;
+    private final double endStrain;
+
+    ModulusFit(double slope, double intercept, double rSquared, long startIndex, long endIndex,
+               double startStrain, double endStrain) {
+        this.slope = slope;
+        this.intercept = intercept;
+        this.rSquared = rSquared;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.startStrain = startStrain;
+        this.endStrain = endStrain;
+    }
+
+    public boolean isValid() { return slope > 0; }
+
+    /** 영률 (GPa), 적합하지 못했으면 0 */
+    public double getYoungsModulus() {
+        return isValid() ? slope / Constants.GPA_TO_MPA : 0.0;
+    }
+
+    /** 회귀 직선의 기울기 (MPa), 적합하지 못했으면 NaN */
+    public double getSlope() { return slope; }
+
+    /** 회귀 직선의 응력 절편 (MPa) */
+    public double getIntercept() { return intercept; }
+
+    /** 결정계수 R² (0 ~ 1), 적합하지 못했으면 NaN */
+    public double getRSquared() { return rSquared; }
+
+    /** 구간 첫 샘플 위치 (NaN 샘플은 세지 않음) */
+    public long getStartIndex() { return startIndex; }
+
+    /** 구간 끝 샘플 위치 (포함하지 않음) */
+    public long getEndIndex() { return endIndex; }
+
+    /** 구간에 포함된 샘플 수 */
+    public long getPointCount() { return endIndex - startIndex; }
+
+    /** 구간 시작 변형률 */
+    public double getStartStrain() { return startStrain; }
+
+    /** 구간 끝 변형률 */
+    public double getEndStrain() { return endStrain; }
+
+    /**
+     * 영률과 적합 정보를 결과 객체에 기록 (적합하지 못했으면 아무것도 바꾸지 않음)
+     * 항복강도와 연신율은 바꾸지 않으므로 {@link PropertyExtractor#useElasticLine(ModulusFit)}로
+     * 같은 직선을 사용한 추출기의 결과와 함께 기록해야 한다
+     * @param result 결과 객체
+     */
+    public void applyTo(SimulationResult result) {
+        if (!isValid()) {
+            return;
+        }
+        result.setYoungsModulus(getYoungsModulus());
+        result.setModulusRSquared(rSquared);
+        result.setModulusStartStrain(startStrain);
+        result.setModulusEndStrain(endStrain);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ModulusFit[E=%.3f GPa, R²=%.5f, strain %.6g ~ %.6g, %d points]",
+                getYoungsModulus(), rSquared, startStrain, endStrain, getPointCount());
+    }
+}
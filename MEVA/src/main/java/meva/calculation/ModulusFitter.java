@@ -0,0 +1,332 @@
+package meva.calculation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.TestData;
+
+/**
+ * 구간 탐색 선형회귀로 영률을 구하는 클래스
+ *
+ * 인장강도 지점까지의 곡선에서 여러 폭의 창(window)을 밀어 가며 직선 회귀를 하고,
+ * 가장 선형적인 구간을 탄성 구간으로 고른다. 누적합(prefix sum) 배열을 한 번 만들어 두면
+ * 창 하나의 회귀(기울기, R²)는 뺄셈 몇 번으로 O(1)에 구해진다.
+ *
+ * 선택 기준: 전체 창 중 최대 R²를 구한 뒤, R²가 그 값에서 R2_TOLERANCE 이내인 창 중
+ * 기울기의 하한(기울기 - 2·표준오차)이 가장 큰 창을 고른다. 초기 유격(toe) 구간이나
+ * 선형에 가까운 소성 경화 구간보다 탄성 구간이 가파르므로 탄성 구간이 선택되고,
+ * 표준오차를 빼므로 잡음 때문에 우연히 가팔라 보이는 짧은 창은 밀려난다.
+ *
+ * 누적합의 상쇄 오차 때문에 아주 짧은 창은 믿을 수 없으므로, 창의 최소 폭은
+ * MIN_WINDOW와 (포인트 수 / MIN_WINDOW_DIVISOR) 중 큰 값이다.
+ *
+ * 창 수가 PARALLEL_THRESHOLD 이상이면 창을 묶음으로 나누어 여러 코어에서 탐색한다.
+ * 인장강도까지의 샘플이 MAX_FIT_POINTS를 넘으면 연속 샘플을 평균하여 줄인 뒤 탐색한다.
+ */
+public class ModulusFitter {
+
+    /** 창의 최소 샘플 수 */
+    public static final int MIN_WINDOW = 10;
+    /** 창의 최소 폭을 전체 포인트 수의 이 분의 1 이상으로 제한 */
+    public static final int MIN_WINDOW_DIVISOR = 1024;
+    /** 최대 R² 대비 허용 차이 */
+    public static final double R2_TOLERANCE = 0.002;
+    /** 탐색에 쓰는 최대 포인트 수 (초과 시 구간 평균으로 줄임) */
+    public static final int MAX_FIT_POINTS = 1 << 21;
+    /** 이 수 이상의 창을 탐색할 때 병렬 실행 */
+    public static final long PARALLEL_THRESHOLD = 1 << 16;
+
+    // 창 폭은 MIN_WINDOW부터 약 √2배씩 늘리고, 시작 위치는 폭/START_STEP_DIVISOR 간격으로 민다
+    private static final double WIDTH_GROWTH = Math.sqrt(2.0);
+    private static final int START_STEP_DIVISOR = 16;
+    // 병렬 작업 하나가 맡는 창 수
+    private static final int TASK_WINDOWS = 4096;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * 시험 데이터(하중/변위)로 영률 적합
+     * @param testData 단면적/초기 길이와 하중/변위 컬럼이 있는 시험 데이터
+     * @return 적합 결과 (데이터가 부족하면 {@link ModulusFit#NONE})
+     */
+    public ModulusFit fit(TestData testData) {
+        if (testData == null || testData.getForceColumn() == null || testData.getDisplacementColumn() == null
+                || testData.getCrossSectionArea() <= 0 || testData.getInitialLength() <= 0) {
+            return ModulusFit.NONE;
+        }
+        double inverseArea = 1.0 / testData.getCrossSectionArea();
+        double inverseLength = 1.0 / testData.getInitialLength();
+        ChunkedColumn force = testData.getForceColumn();
+        ChunkedColumn displacement = testData.getDisplacementColumn();
+
+        // 1차: 인장강도 지점까지의 유효 샘플 수
+        long valid = 0;
+        long region = 0;
+        double maxStress = Double.NEGATIVE_INFINITY;
+        ColumnCursor forceCursor = force.cursor(PropertyExtractor.COLUMN_BLOCK_SIZE);
+        ColumnCursor displacementCursor = displacement.cursor(PropertyExtractor.COLUMN_BLOCK_SIZE);
+        int length;
+        while ((length = Math.min(forceCursor.next(), displacementCursor.next())) > 0) {
+            double[] f = forceCursor.block();
+            double[] d = displacementCursor.block();
+            for (int i = 0; i < length; i++) {
+                if (Double.isNaN(f[i]) || Double.isNaN(d[i])) {
+                    continue;
+                }
+                double stress = f[i] * inverseArea;
+                valid++;
+                if (stress > maxStress) {
+                    maxStress = stress;
+                    region = valid;
+                }
+            }
+        }
+
+        // 2차: 누적합 구성
+        PrefixSums sums = new PrefixSums(region);
+        forceCursor = force.cursor(PropertyExtractor.COLUMN_BLOCK_SIZE);
+        displacementCursor = displacement.cursor(PropertyExtractor.COLUMN_BLOCK_SIZE);
+        while (!sums.isFull() && (length = Math.min(forceCursor.next(), displacementCursor.next())) > 0) {
+            double[] f = forceCursor.block();
+            double[] d = displacementCursor.block();
+            for (int i = 0; i < length && !sums.isFull(); i++) {
+                if (!Double.isNaN(f[i]) && !Double.isNaN(d[i])) {
+                    sums.add(d[i] * inverseLength, f[i] * inverseArea);
+                }
+            }
+        }
+        return search(sums);
+    }
+
+    /**
+     * 공칭 응력/변형률 배열로 영률 적합
+     * @param stress 공칭 응력 (MPa)
+     * @param strain 공칭 변형률
+     * @param length 앞에서부터 사용할 샘플 수
+     * @return 적합 결과 (데이터가 부족하면 {@link ModulusFit#NONE})
+     */
+    public ModulusFit fit(double[] stress, double[] strain, int length) {
+        long valid = 0;
+        long region = 0;
+        double maxStress = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            if (Double.isNaN(stress[i]) || Double.isNaN(strain[i])) {
+                continue;
+            }
+            valid++;
+            if (stress[i] > maxStress) {
+                maxStress = stress[i];
+                region = valid;
+            }
+        }
+        PrefixSums sums = new PrefixSums(region);
+        for (int i = 0; i < length && !sums.isFull(); i++) {
+            if (!Double.isNaN(stress[i]) && !Double.isNaN(strain[i])) {
+                sums.add(strain[i], stress[i]);
+            }
+        }
+        return search(sums);
+    }
+
+    /**
+     * 모든 창을 두 번 훑어 탄성 구간 선택
+     * (1) 최대 R² (2) 최대 R² 근처 창 중 최대 기울기 하한
+     */
+    private ModulusFit search(PrefixSums sums) {
+        int size = sums.size;
+        if (size < MIN_WINDOW) {
+            return ModulusFit.NONE;
+        }
+        List<int[]> tasks = new ArrayList<>();
+        long windows = 0;
+        for (double w = Math.max(MIN_WINDOW, size / MIN_WINDOW_DIVISOR); w <= size; w *= WIDTH_GROWTH) {
+            int width = (int) w;
+            int step = Math.max(1, width / START_STEP_DIVISOR);
+            int starts = (size - width) / step + 1;
+            for (int first = 0; first < starts; first += TASK_WINDOWS) {
+                tasks.add(new int[] {width, step, first, Math.min(starts, first + TASK_WINDOWS)});
+            }
+            windows += starts;
+        }
+
+        Window best = run(tasks, windows, task -> bestInTask(sums, task, Double.NaN));
+        if (best == null) {
+            return ModulusFit.NONE;
+        }
+        double threshold = best.rSquared - R2_TOLERANCE;
+        Window steepest = run(tasks, windows, task -> bestInTask(sums, task, threshold));
+        return sums.toFit(steepest != null ? steepest : best);
+    }
+
+    private Window run(List<int[]> tasks, long windows, Function<int[], Window> evaluate) {
+        IntStream indices = IntStream.range(0, tasks.size());
+        if (parallelism == 1 || windows < PARALLEL_THRESHOLD) {
+            return reduce(indices, tasks, evaluate);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> reduce(indices.parallel(), tasks, evaluate)).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Window reduce(IntStream indices, List<int[]> tasks,
+                                 Function<int[], Window> evaluate) {
+        return indices.mapToObj(i -> evaluate.apply(tasks.get(i)))
+                .reduce(null, (a, b) -> a == null ? b : b == null ? a : a.better(b));
+    }
+
+    /**
+     * 작업 하나의 창 중 최선의 창
+     * @param threshold NaN이면 R² 기준, 아니면 R² ≥ threshold인 창 중 기울기 하한 기준
+     */
+    private static Window bestInTask(PrefixSums sums, int[] task, double threshold) {
+        int width = task[0];
+        int step = task[1];
+        boolean bySlope = !Double.isNaN(threshold);
+        double n = width;
+        Window best = null;
+        for (int k = task[2]; k < task[3]; k++) {
+            int s = k * step;
+            int e = s + width;
+            double sx = sums.x[e] - sums.x[s];
+            double sy = sums.y[e] - sums.y[s];
+            double sxx = sums.xx[e] - sums.xx[s] - sx * sx / n;
+            double syy = sums.yy[e] - sums.yy[s] - sy * sy / n;
+            double sxy = sums.xy[e] - sums.xy[s] - sx * sy / n;
+            if (sxx <= 0 || syy <= 0 || sxy <= 0) {
+                continue; // 평평하거나 감소하는 구간
+            }
+            double slope = sxy / sxx;
+            double rSquared = Math.min(1.0, sxy * sxy / (sxx * syy));
+            if (bySlope && rSquared < threshold) {
+                continue;
+            }
+            double score = rSquared;
+            if (bySlope) {
+                double residual = Math.max(0.0, syy - slope * sxy);
+                score = slope - 2.0 * Math.sqrt(residual / ((n - 2) * sxx));
+            }
+            if (best == null || score > best.score || (score == best.score && width > best.width)) {
+                if (best == null) {
+                    best = new Window();
+                }
+                best.set(s, width, slope, (sy - slope * sx) / n, rSquared, score);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 후보 창
+     */
+    private static final class Window {
+        int start;
+        int width;
+        double slope;
+        double interceptShifted; // 이동된 좌표계의 절편
+        double rSquared;
+        double score;
+
+        void set(int start, int width, double slope, double interceptShifted, double rSquared, double score) {
+            this.start = start;
+            this.width = width;
+            this.slope = slope;
+            this.interceptShifted = interceptShifted;
+            this.rSquared = rSquared;
+            this.score = score;
+        }
+
+        Window better(Window other) {
+            if (other.score != score) {
+                return other.score > score ? other : this;
+            }
+            if (other.width != width) {
+                return other.width > width ? other : this;
+            }
+            return other.start < start ? other : this; // 작업 분할과 무관하게 같은 결과
+        }
+    }
+
+    /**
+     * 변형률(x)/응력(y)의 누적합 배열
+     * 상쇄 오차를 줄이기 위해 첫 포인트를 원점으로 옮겨 누적하고,
+     * 포인트가 MAX_FIT_POINTS를 넘으면 연속 binSize개를 평균한 값을 포인트 하나로 쓴다
+     */
+    private static final class PrefixSums {
+        final long sampleCount;
+        final int binSize;
+        final int size;
+        final double[] x, y, xx, xy, yy;
+        double originX = Double.NaN, originY = Double.NaN;
+        int filled;
+        long added;
+        double binX, binY;
+        int binCount;
+
+        PrefixSums(long sampleCount) {
+            this.sampleCount = sampleCount;
+            this.binSize = (int) Math.max(1, (sampleCount + MAX_FIT_POINTS - 1) / MAX_FIT_POINTS);
+            this.size = (int) ((sampleCount + binSize - 1) / binSize);
+            x = new double[size + 1];
+            y = new double[size + 1];
+            xx = new double[size + 1];
+            xy = new double[size + 1];
+            yy = new double[size + 1];
+        }
+
+        boolean isFull() {
+            return added >= sampleCount;
+        }
+
+        void add(double strain, double stress) {
+            if (Double.isNaN(originX)) {
+                originX = strain;
+                originY = stress;
+            }
+            binX += strain - originX;
+            binY += stress - originY;
+            added++;
+            if (++binCount == binSize || added == sampleCount) {
+                append(binX / binCount, binY / binCount);
+                binX = 0;
+                binY = 0;
+                binCount = 0;
+            }
+        }
+
+        private void append(double px, double py) {
+            int i = filled++;
+            x[i + 1] = x[i] + px;
+            y[i + 1] = y[i] + py;
+            xx[i + 1] = xx[i] + px * px;
+            xy[i + 1] = xy[i] + px * py;
+            yy[i + 1] = yy[i] + py * py;
+        }
+
+        ModulusFit toFit(Window window) {
+            int s = window.start;
+            int e = s + window.width;
+            // y - originY = a' + b·(x - originX)  →  y = (originY + a' - b·originX) + b·x
+            double intercept = originY + window.interceptShifted - window.slope * originX;
+            return new ModulusFit(window.slope, intercept, window.rSquared,
+                    (long) s * binSize, Math.min(sampleCount, (long) e * binSize),
+                    originX + (x[s + 1] - x[s]), originX + (x[e] - x[e - 1]));
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package meva.calculation;
+
+import meva.fileio.SampleChunk;
+import meva.fileio.SampleChunkListener;
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.SimulationResult;
+import meva.utils.Constants;
+
+/**
+ * 단일 패스 물성값 추출기
+ * 샘플을 한 번씩만 받아 O(1) 메모리로 영률, 0.2% 오프셋 항복강도,
+ * 인장강도, 파단점을 동시에 계산한다. 스트리밍 리더의 묶음을 그대로 받을 수 있음
+ *
+ * - 영률: 탄성 구간 선형회귀 누적합. 예측값보다 일정 이상 낮은 샘플이 연속되면 탄성 구간 종료
+ *   ({@link #useElasticLine(ModulusFit)}로 구간 탐색 회귀 직선을 미리 주면 그 직선을 사용)
+ * - 항복강도: 탄성 직선을 YIELD_OFFSET만큼 평행이동한 직선과 곡선의 첫 교점 (선형 보간)
+ * - 인장강도: 공칭 응력 최댓값
+ * - 파단: 최댓값 이후 응력이 FRACTURE_DROP_RATIO 미만으로 떨어지기 직전 샘플
+ *
+ * @author 이태윤
+ */
+public class PropertyExtractor implements SampleChunkListener {
+
+    /** 탄성 구간 회귀에 필요한 최소 샘플 수 */
+    public static final int MIN_ELASTIC_POINTS = 5;
+    /** 탄성 직선 대비 허용 편차 비율 */
+    public static final double ELASTIC_DEVIATION = 0.02;
+    /** 탄성 구간 종료로 판정하는 연속 이탈 샘플 수 */
+    public static final int ELASTIC_EXIT_COUNT = 3;
+    /** 인장강도 대비 이 비율 미만으로 떨어지면 파단으로 판정 */
+    public static final double FRACTURE_DROP_RATIO = 0.1;
+    /** 컬럼을 읽을 때 한 번에 처리하는 샘플 수 */
+    public static final int COLUMN_BLOCK_SIZE = 64 * 1024;
+
+    private final double inverseArea;
+    private final double inverseLength;
+
+    // 탄성 구간 회귀 누적합
+    private long elasticCount;
+    private double sumX, sumY, sumXX, sumXY, sumYY;
+    private boolean elasticClosed;
+    private int deviationCount;
+    private double slope = Double.NaN;     // MPa
+    private double intercept = Double.NaN; // MPa
+
+    // 0.2% 오프셋 항복
+    private double yieldStrength = Double.NaN;
+
+    // 인장강도 및 파단
+    private double maxStress = Double.NEGATIVE_INFINITY;
+    private double strainAtMax = Double.NaN;
+    private boolean fractureDetected;
+    private double fractureStress = Double.NaN;
+    private double fractureStrain = Double.NaN;
+
+    private long sampleCount;
+    private double previousStress = Double.NaN;
+    private double previousStrain = Double.NaN;
+    private double previousOffsetDiff = Double.NaN;
+
+    /**
+     * 응력/변형률을 직접 입력하는 추출기 생성
+     */
+    public PropertyExtractor() {
+        this(1.0, 1.0);
+    }
+
+    /**
+     * 하중/변위를 입력하는 추출기 생성
+     * @param crossSectionArea 단면적 (mm²)
+     * @param initialLength 초기 길이 (mm)
+     */
+    public PropertyExtractor(double crossSectionArea, double initialLength) {
+        if (crossSectionArea <= 0 || initialLength <= 0) {
+            throw new IllegalArgumentException("단면적과 초기 길이는 0보다 커야 합니다");
+        }
+        this.inverseArea = 1.0 / crossSectionArea;
+        this.inverseLength = 1.0 / initialLength;
+    }
+
+    /**
+     * 탄성 구간 회귀 대신 주어진 탄성 직선을 사용 (샘플을 추가하기 전에 호출)
+     * 항복강도의 오프셋 직선과 연신율의 탄성 회복분이 모두 이 직선을 따른다
+     * @param fit 구간 탐색 회귀 결과 (유효하지 않으면 아무것도 바꾸지 않음)
+     * @throws IllegalStateException 이미 샘플이 추가된 경우
+     */
+    public void useElasticLine(ModulusFit fit) {
+        if (sampleCount > 0) {
+            throw new IllegalStateException("탄성 직선은 샘플을 추가하기 전에 지정해야 합니다");
+        }
+        if (!fit.isValid()) {
+            return;
+        }
+        elasticClosed = true;
+        slope = fit.getSlope();
+        intercept = fit.getIntercept();
+    }
+
+    /**
+     * 하중/변위 샘플 추가
+     * @param force 하중 (N)
+     * @param displacement 변위 (mm)
+     */
+    public void addSample(double force, double displacement) {
+        addStressStrain(force * inverseArea, displacement * inverseLength);
+    }
+
+    /**
+     * 하중/변위 배열의 일부 구간 추가
+     */
+    public void addSamples(double[] force, double[] displacement, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end && !fractureDetected; i++) {
+            addStressStrain(force[i] * inverseArea, displacement[i] * inverseLength);
+        }
+    }
+
+    /**
+     * 하중/변위 컬럼 전체를 블록 단위로 추가 (파단이 감지되면 중단)
+     * 전체를 하나의 배열로 올리지 않으므로 샘플 수에 관계없이 메모리 사용량이 일정하다
+     */
+    public void addSamples(ChunkedColumn force, ChunkedColumn displacement) {
+        ColumnCursor forceCursor = force.cursor(COLUMN_BLOCK_SIZE);
+        ColumnCursor displacementCursor = displacement.cursor(COLUMN_BLOCK_SIZE);
+        int length;
+        while (!fractureDetected && (length = Math.min(forceCursor.next(), displacementCursor.next())) > 0) {
+            addSamples(forceCursor.block(), displacementCursor.block(), 0, length);
+        }
+    }
+
+    /**
+     * 응력/변형률 배열의 일부 구간 추가
+     */
+    public void addStressStrainSamples(double[] stress, double[] strain, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end && !fractureDetected; i++) {
+            addStressStrain(stress[i], strain[i]);
+        }
+    }
+
+    @Override
+    public void onChunk(SampleChunk chunk) {
+        addSamples(chunk.getForce(), chunk.getDisplacement(), 0, chunk.size());
+    }
+
+    /**
+     * 공칭 응력/변형률 샘플 하나 추가
+     * @param stress 공칭 응력 (MPa)
+     * @param strain 공칭 변형률
+     */
+    public void addStressStrain(double stress, double strain) {
+        if (fractureDetected || Double.isNaN(stress) || Double.isNaN(strain)) {
+            return;
+        }
+        sampleCount++;
+
+        if (maxStress > 0 && stress < maxStress * FRACTURE_DROP_RATIO) {
+            fractureDetected = true;
+            fractureStress = previousStress;
+            fractureStrain = previousStrain;
+            return;
+        }
+
+        if (!elasticClosed) {
+            updateElastic(stress, strain);
+        }
+        if (elasticClosed && Double.isNaN(yieldStrength)) {
+            updateYield(stress, strain);
+        }
+        if (stress > maxStress) {
+            maxStress = stress;
+            strainAtMax = strain;
+        }
+
+        previousStress = stress;
+        previousStrain = strain;
+    }
+
+    private void updateElastic(double stress, double strain) {
+        if (elasticCount >= MIN_ELASTIC_POINTS) {
+            double n = elasticCount;
+            double denominator = n * sumXX - sumX * sumX;
+            if (denominator > 0) {
+                double b = (n * sumXY - sumX * sumY) / denominator;
+                double a = (sumY - b * sumX) / n;
+                double predicted = a + b * strain;
+                double residualVariance = Math.max(0.0, (sumYY - a * sumY - b * sumXY) / (n - 2));
+                double tolerance = Math.max(ELASTIC_DEVIATION * Math.abs(predicted), 3.0 * Math.sqrt(residualVariance));
+                if (stress < predicted - tolerance) {
+                    if (++deviationCount >= ELASTIC_EXIT_COUNT) {
+                        closeElastic();
+                    }
+                    return;
+                }
+            }
+        }
+        deviationCount = 0;
+        elasticCount++;
+        sumX += strain;
+        sumY += stress;
+        sumXX += strain * strain;
+        sumXY += strain * stress;
+        sumYY += stress * stress;
+    }
+
+    private void closeElastic() {
+        elasticClosed = true;
+        double n = elasticCount;
+        double denominator = n * sumXX - sumX * sumX;
+        if (denominator > 0) {
+            slope = (n * sumXY - sumX * sumY) / denominator;
+            intercept = (sumY - slope * sumX) / n;
+        }
+    }
+
+    private void updateYield(double stress, double strain) {
+        if (Double.isNaN(slope)) {
+            return;
+        }
+        double offsetDiff = stress - (intercept + slope * (strain - Constants.YIELD_OFFSET));
+        if (offsetDiff <= 0 && !Double.isNaN(previousOffsetDiff) && previousOffsetDiff > 0) {
+            double t = previousOffsetDiff / (previousOffsetDiff - offsetDiff);
+            yieldStrength = previousStress + t * (stress - previousStress);
+        } else if (offsetDiff <= 0 && Double.isNaN(previousOffsetDiff)) {
+            yieldStrength = stress;
+        }
+        previousOffsetDiff = offsetDiff;
+    }
+
+    /**
+     * 현재 탄성 기울기 (MPa). 탄성 구간이 아직 열려 있으면 지금까지의 회귀값이며,
+     * 조회만 하고 상태는 바꾸지 않으므로 측정 중간에 호출해도 이후 계산에 영향이 없다
+     */
+    private double currentSlope() {
+        if (elasticClosed || elasticCount < 2) {
+            return slope;
+        }
+        double n = elasticCount;
+        double denominator = n * sumXX - sumX * sumX;
+        return denominator > 0 ? (n * sumXY - sumX * sumY) / denominator : Double.NaN;
+    }
+
+    /** 영률 (GPa), 계산 불가 시 0 */
+    public double getYoungsModulus() {
+        double current = currentSlope();
+        return Double.isNaN(current) ? 0.0 : current / Constants.GPA_TO_MPA;
+    }
+
+    /** 0.2% 오프셋 항복강도 (MPa), 교점이 없으면 0 */
+    public double getYieldStrength() {
+        return Double.isNaN(yieldStrength) ? 0.0 : yieldStrength;
+    }
+
+    /** 인장강도 (MPa) */
+    public double getTensileStrength() {
+        return sampleCount == 0 ? 0.0 : maxStress;
+    }
+
+    /** 인장강도 지점의 변형률 (균일 변형률) */
+    public double getUniformStrain() {
+        return Double.isNaN(strainAtMax) ? 0.0 : strainAtMax;
+    }
+
+    /** 파단 응력 (MPa), 파단이 감지되지 않았으면 마지막 샘플 */
+    public double getFractureStress() {
+        double value = fractureDetected ? fractureStress : previousStress;
+        return Double.isNaN(value) ? 0.0 : value;
+    }
+
+    /** 파단 변형률, 파단이 감지되지 않았으면 마지막 샘플 */
+    public double getFractureStrain() {
+        double value = fractureDetected ? fractureStrain : previousStrain;
+        return Double.isNaN(value) ? 0.0 : value;
+    }
+
+    /**
+     * 연신율 (%) - 파단 변형률에서 탄성 회복분을 뺀 영구 변형률
+     */
+    public double getElongation() {
+        double current = currentSlope();
+        double strain = getFractureStrain();
+        if (!Double.isNaN(current) && current > 0) {
+            strain -= getFractureStress() / current;
+        }
+        return Math.max(0.0, strain) * 100.0;
+    }
+
+    public boolean isFractureDetected() { return fractureDetected; }
+
+    public long getSampleCount() { return sampleCount; }
+
+    /**
+     * 계산된 물성값을 결과 객체에 기록
+     * @param result 결과 객체
+     */
+    public void applyTo(SimulationResult result) {
+        result.setYoungsModulus(getYoungsModulus());
+        result.setYieldStrength(getYieldStrength());
+        result.setTensileStrength(getTensileStrength());
+        result.setElongation(getElongation());
+        result.setUniformStrain(getUniformStrain());
+        result.setFractureDetected(isFractureDetected());
+        result.setSampleCount(getSampleCount());
+    }
+}
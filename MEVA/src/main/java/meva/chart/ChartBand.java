@@ -0,0 +1,39 @@
+package meva.chart;
+
+/**
+ * 그래프 곡선 뒤에 채워 그리는 범위 띠 (여러 시편의 백분위 구간 등)
+ * x는 오름차순이고, 세 배열의 길이는 같다
+ */
+public class ChartBand {
+
+    private final double[] x;
+    private final double[] lower;
+    private final double[] upper;
+
+    public ChartBand(double[] x, double[] lower, double[] upper) {
+        if (x.length != lower.length || x.length != upper.length) {
+            throw new IllegalArgumentException("band arrays must have the same length");
+        }
+        this.x = x;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public int size() { return x.length; }
+    public double getX(int i) { return x[i]; }
+    public double getLower(int i) { return lower[i]; }
+    public double getUpper(int i) { return upper[i]; }
+
+    /**
+     * 위 경계의 최댓값 (점이 없으면 NaN)
+     */
+    public double getMaxUpper() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : upper) {
+            if (value > max) {
+                max = value;
+            }
+        }
+        return max == Double.NEGATIVE_INFINITY ? Double.NaN : max;
+    }
+}
@@ -0,0 +1,204 @@
+package meva.chart;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import javax.imageio.ImageIO;
+
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
+import meva.models.SimulationResult;
+
+/**
+ * 응력-변형률 그래프를 이미지 파일(PNG, JPG, SVG)로 저장하는 클래스
+ *
+ * 화면의 GraphPanel을 거치지 않고 곡선을 LTTB로 그래프 폭에 맞게 줄인 뒤
+ * PNG/JPG는 BufferedImage에 ChartRenderer로 그리고, SVG는 SvgChartWriter로 바로 쓴다.
+ * Swing 컴포넌트를 쓰지 않으므로 작업 스레드와 헤드리스 환경에서 사용할 수 있다.
+ *
+ * 사용 예:
+ * <pre>
+ * ChartImageExporter exporter = new ChartImageExporter();
+ * exporter.setSize(1200, 900);
+ * int saved = exporter.exportAll(results, paths);
+ * </pre>
+ */
+public class ChartImageExporter {
+
+    public static final int DEFAULT_WIDTH = 800;
+    public static final int DEFAULT_HEIGHT = 600;
+
+    /** 그래프 폭 1픽셀당 남길 점 수 */
+    private static final int POINTS_PER_PIXEL = 2;
+
+    private int width = DEFAULT_WIDTH;
+    private int height = DEFAULT_HEIGHT;
+    private boolean antiAliasing = true;
+    private boolean showGrid = true;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public void setSize(int width, int height) {
+        if (width <= ChartRenderer.MARGIN_LEFT + ChartRenderer.MARGIN_RIGHT
+                || height <= ChartRenderer.MARGIN_TOP + ChartRenderer.MARGIN_BOTTOM) {
+            throw new IllegalArgumentException("image too small: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    public void setAntiAliasing(boolean antiAliasing) { this.antiAliasing = antiAliasing; }
+    public void setShowGrid(boolean showGrid) { this.showGrid = showGrid; }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * 확장자로 이미지 형식을 알 수 있는지 (.png, .jpg, .jpeg, .svg)
+     * @see ImageFormats#isSupported(String)
+     */
+    public static boolean isSupported(String filePath) {
+        return ImageFormats.isSupported(filePath);
+    }
+
+    /**
+     * 결과 곡선을 이미지로 저장 (형식은 확장자로 결정)
+     * @return 저장 성공 여부
+     */
+    public boolean export(SimulationResult result, String filePath) {
+        return export(result, null, filePath);
+    }
+
+    /**
+     * 결과 곡선과 범위 띠를 이미지로 저장
+     * @param band 곡선 뒤에 채울 범위 띠 (null 가능)
+     * @return 저장 성공 여부 (곡선이 없거나 형식을 모르면 false)
+     */
+    public boolean export(SimulationResult result, ChartBand band, String filePath) {
+        String format = ImageFormats.formatOf(filePath);
+        if (format == null) {
+            System.err.println("지원하지 않는 이미지 형식: " + filePath);
+            return false;
+        }
+        if (!hasCurve(result)) {
+            return false;
+        }
+        try (Scope scope = Metrics.start(Metrics.IMAGE_EXPORT)) {
+            Chart chart = new Chart(result, band, width);
+            if ("svg".equals(format)) {
+                try (Writer out = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8)) {
+                    SvgChartWriter writer = new SvgChartWriter();
+                    writer.setShowGrid(showGrid);
+                    writer.write(out, width, height, chart.points, chart.viewport, chart.markers, band);
+                }
+            } else if (!ImageIO.write(render(chart, band), format, new File(filePath))) {
+                System.err.println("이미지 인코더를 찾을 수 없습니다: " + format);
+                return false;
+            }
+            scope.setItems(chart.points.size());
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 결과 곡선을 BufferedImage에 그림
+     * @return 그린 이미지 (곡선이 없으면 null)
+     */
+    public BufferedImage renderImage(SimulationResult result, ChartBand band) {
+        if (!hasCurve(result)) {
+            return null;
+        }
+        return render(new Chart(result, band, width), band);
+    }
+
+    /**
+     * 여러 결과를 병렬로 저장. results와 filePaths는 같은 순서로 짝지어진다
+     * @return 저장에 성공한 파일 수
+     */
+    public int exportAll(List<SimulationResult> results, List<String> filePaths) {
+        if (results.size() != filePaths.size()) {
+            throw new IllegalArgumentException("results and paths differ in size: "
+                    + results.size() + " != " + filePaths.size());
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> (int) IntStream.range(0, results.size()).parallel()
+                    .filter(i -> export(results.get(i), filePaths.get(i)))
+                    .count()).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private BufferedImage render(Chart chart, ChartBand band) {
+        // JPG는 알파 채널을 지원하지 않으므로 RGB로 그림 (배경은 항상 흰색)
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            ChartRenderer renderer = new ChartRenderer();
+            renderer.setAntiAliasing(antiAliasing);
+            renderer.setShowGrid(showGrid);
+            renderer.render(g, width, height, chart.points, chart.viewport, chart.markers, band);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static boolean hasCurve(SimulationResult result) {
+        return result != null && result.isValid() && result.getStress() != null && result.getStrain() != null
+                && result.getStress().length > 0 && result.getStress().length == result.getStrain().length;
+    }
+
+    /**
+     * 한 그래프에 그릴 점, 마커, 보이는 구간
+     */
+    private static final class Chart {
+        final PlotPoints points;
+        final List<ChartMarker> markers;
+        final Viewport viewport;
+
+        Chart(SimulationResult result, ChartBand band, int width) {
+            double[] strain = result.getStrain();
+            double[] stress = result.getStress();
+            int[] keys = CurveDownsampler.keyIndices(stress, result.getYieldStrength());
+            int threshold = ChartRenderer.plotWidth(width) * POINTS_PER_PIXEL;
+            points = new PlotPoints(Math.min(stress.length, threshold + keys.length + 2));
+            CurveDownsampler.lttb(strain, stress, threshold, points, keys);
+            markers = ChartMarker.fromKeyIndices(strain, stress, keys);
+
+            double xMin = Double.POSITIVE_INFINITY;
+            double xMax = Double.NEGATIVE_INFINITY;
+            double yMin = Double.POSITIVE_INFINITY;
+            double yMax = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < points.size(); i++) {
+                xMin = Math.min(xMin, points.getX(i));
+                xMax = Math.max(xMax, points.getX(i));
+                yMin = Math.min(yMin, points.getY(i));
+                yMax = Math.max(yMax, points.getY(i));
+            }
+            if (band != null && band.getMaxUpper() > yMax) {
+                yMax = band.getMaxUpper();
+            }
+            viewport = Viewport.fit(xMin, xMax, yMin, yMax);
+        }
+    }
+}
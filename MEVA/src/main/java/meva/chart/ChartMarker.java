@@ -0,0 +1,43 @@
+package meva.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 그래프 위의 물성값 마커 (항복점, 인장강도점, 파단점 등)
+ */
+public class ChartMarker {
+
+    private final String label;
+    private final double x;
+    private final double y;
+
+    public ChartMarker(String label, double x, double y) {
+        this.label = label;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * 곡선의 주요 점 인덱스로 마커 목록 생성 (최대 응력점 앞은 항복점, 뒤는 파단점)
+     * @param keys {@link CurveDownsampler#keyIndices(double[], double)}의 결과
+     */
+    public static List<ChartMarker> fromKeyIndices(double[] strain, double[] stress, int[] keys) {
+        List<ChartMarker> list = new ArrayList<>(keys.length);
+        int peak = keys.length == 0 ? -1 : keys[0];
+        for (int k : keys) {
+            if (stress[k] > stress[peak]) {
+                peak = k;
+            }
+        }
+        for (int k : keys) {
+            String label = k == peak ? "인장강도" : k < peak ? "항복점" : "파단점";
+            list.add(new ChartMarker(label, strain[k], stress[k]));
+        }
+        return list;
+    }
+
+    public String getLabel() { return label; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+}
@@ -0,0 +1,198 @@
+package meva.chart;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 응력-변형률 그래프를 Graphics2D에 그리는 클래스
+ * Swing에 의존하지 않으므로 GraphPanel과 오프스크린 이미지 출력에서 함께 사용한다
+ */
+public class ChartRenderer {
+
+    public static final int MARGIN_LEFT = 64;
+    public static final int MARGIN_RIGHT = 20;
+    public static final int MARGIN_TOP = 20;
+    public static final int MARGIN_BOTTOM = 44;
+    static final int TICK_COUNT = 5;
+
+    private boolean antiAliasing = true;
+    private boolean showGrid = true;
+    private Color curveColor = new Color(0x1F77B4);
+    private Color markerColor = new Color(0xD62728);
+    private Color gridColor = new Color(0xE0E0E0);
+    private Color bandColor = new Color(0x1F, 0x77, 0xB4, 0x40);
+
+    // drawPolyline용 좌표 버퍼 (재사용)
+    private int[] xPixels = new int[0];
+    private int[] yPixels = new int[0];
+
+    public void setAntiAliasing(boolean antiAliasing) { this.antiAliasing = antiAliasing; }
+    public void setShowGrid(boolean showGrid) { this.showGrid = showGrid; }
+    public void setCurveColor(Color curveColor) { this.curveColor = curveColor; }
+    public void setBandColor(Color bandColor) { this.bandColor = bandColor; }
+
+    /**
+     * 그래프 영역 폭 (픽셀)
+     */
+    public static int plotWidth(int width) {
+        return Math.max(1, width - MARGIN_LEFT - MARGIN_RIGHT);
+    }
+
+    /**
+     * 그래프 영역 높이 (픽셀)
+     */
+    public static int plotHeight(int height) {
+        return Math.max(1, height - MARGIN_TOP - MARGIN_BOTTOM);
+    }
+
+    /**
+     * 배경, 격자, 축, 곡선, 마커를 그림
+     * @param g 그릴 대상
+     * @param width 전체 폭
+     * @param height 전체 높이
+     * @param points 다운샘플링된 점
+     * @param viewport 보이는 구간
+     * @param markers 표시할 마커 (null 가능)
+     */
+    public void render(Graphics2D g, int width, int height, PlotPoints points,
+                       Viewport viewport, List<ChartMarker> markers) {
+        render(g, width, height, points, viewport, markers, null);
+    }
+
+    /**
+     * 배경, 격자, 축, 범위 띠, 곡선, 마커를 그림
+     * @param band 곡선 뒤에 채울 범위 띠 (null 가능)
+     */
+    public void render(Graphics2D g, int width, int height, PlotPoints points,
+                       Viewport viewport, List<ChartMarker> markers, ChartBand band) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                antiAliasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+
+        int plotWidth = plotWidth(width);
+        int plotHeight = plotHeight(height);
+        drawAxes(g, plotWidth, plotHeight, viewport);
+
+        Shape oldClip = g.getClip();
+        g.clipRect(MARGIN_LEFT, MARGIN_TOP, plotWidth + 1, plotHeight + 1);
+        if (band != null) {
+            drawBand(g, band, viewport, plotWidth, plotHeight);
+        }
+        drawCurve(g, points, viewport, plotWidth, plotHeight);
+        if (markers != null) {
+            drawMarkers(g, markers, viewport, plotWidth, plotHeight);
+        }
+        g.setClip(oldClip);
+    }
+
+    private void drawAxes(Graphics2D g, int plotWidth, int plotHeight, Viewport viewport) {
+        FontMetrics metrics = g.getFontMetrics();
+        for (int i = 0; i <= TICK_COUNT; i++) {
+            int px = MARGIN_LEFT + plotWidth * i / TICK_COUNT;
+            int py = MARGIN_TOP + plotHeight - plotHeight * i / TICK_COUNT;
+            if (showGrid) {
+                g.setColor(gridColor);
+                g.drawLine(px, MARGIN_TOP, px, MARGIN_TOP + plotHeight);
+                g.drawLine(MARGIN_LEFT, py, MARGIN_LEFT + plotWidth, py);
+            }
+            g.setColor(Color.DARK_GRAY);
+            // x축은 변형률(%)로 표시
+            String xLabel = format((viewport.getXMin() + viewport.getWidth() * i / TICK_COUNT) * 100.0);
+            String yLabel = format(viewport.getYMin() + viewport.getHeight() * i / TICK_COUNT);
+            g.drawString(xLabel, px - metrics.stringWidth(xLabel) / 2, MARGIN_TOP + plotHeight + metrics.getAscent() + 4);
+            g.drawString(yLabel, MARGIN_LEFT - metrics.stringWidth(yLabel) - 6, py + metrics.getAscent() / 2);
+        }
+        g.setColor(Color.BLACK);
+        g.drawRect(MARGIN_LEFT, MARGIN_TOP, plotWidth, plotHeight);
+        String xTitle = "Strain (%)";
+        g.drawString(xTitle, MARGIN_LEFT + (plotWidth - metrics.stringWidth(xTitle)) / 2,
+                MARGIN_TOP + plotHeight + 2 * metrics.getHeight() + 4);
+        g.drawString("Stress (MPa)", 4, MARGIN_TOP - 6 + metrics.getAscent());
+    }
+
+    private void drawCurve(Graphics2D g, PlotPoints points, Viewport viewport, int plotWidth, int plotHeight) {
+        int n = points.size();
+        if (n == 0) {
+            return;
+        }
+        if (xPixels.length < n) {
+            xPixels = new int[n];
+            yPixels = new int[n];
+        }
+        double xScale = plotWidth / viewport.getWidth();
+        double yScale = plotHeight / viewport.getHeight();
+        for (int i = 0; i < n; i++) {
+            xPixels[i] = MARGIN_LEFT + (int) Math.round((points.getX(i) - viewport.getXMin()) * xScale);
+            yPixels[i] = MARGIN_TOP + plotHeight - (int) Math.round((points.getY(i) - viewport.getYMin()) * yScale);
+        }
+        g.setColor(curveColor);
+        g.setStroke(new BasicStroke(1.5f));
+        g.drawPolyline(xPixels, yPixels, n);
+    }
+
+    /**
+     * 띠를 위 경계 → 아래 경계(역순) 다각형으로 채움. NaN인 점에서 띠를 끊는다
+     */
+    private void drawBand(Graphics2D g, ChartBand band, Viewport viewport, int plotWidth, int plotHeight) {
+        int n = band.size();
+        if (xPixels.length < 2 * n) {
+            xPixels = new int[2 * n];
+            yPixels = new int[2 * n];
+        }
+        double xScale = plotWidth / viewport.getWidth();
+        double yScale = plotHeight / viewport.getHeight();
+        g.setColor(bandColor);
+        int start = 0;
+        while (start < n) {
+            while (start < n && !isFinite(band.getLower(start), band.getUpper(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < n && isFinite(band.getLower(end), band.getUpper(end))) {
+                end++;
+            }
+            int count = 0;
+            for (int i = start; i < end; i++, count++) {
+                xPixels[count] = MARGIN_LEFT + (int) Math.round((band.getX(i) - viewport.getXMin()) * xScale);
+                yPixels[count] = MARGIN_TOP + plotHeight
+                        - (int) Math.round((band.getUpper(i) - viewport.getYMin()) * yScale);
+            }
+            for (int i = end - 1; i >= start; i--, count++) {
+                xPixels[count] = MARGIN_LEFT + (int) Math.round((band.getX(i) - viewport.getXMin()) * xScale);
+                yPixels[count] = MARGIN_TOP + plotHeight
+                        - (int) Math.round((band.getLower(i) - viewport.getYMin()) * yScale);
+            }
+            if (count > 2) {
+                g.fillPolygon(xPixels, yPixels, count);
+            }
+            start = end;
+        }
+    }
+
+    private static boolean isFinite(double lower, double upper) {
+        return !Double.isNaN(lower) && !Double.isNaN(upper) && !Double.isInfinite(lower) && !Double.isInfinite(upper);
+    }
+
+    private void drawMarkers(Graphics2D g, List<ChartMarker> markers, Viewport viewport, int plotWidth, int plotHeight) {
+        double xScale = plotWidth / viewport.getWidth();
+        double yScale = plotHeight / viewport.getHeight();
+        g.setColor(markerColor);
+        for (ChartMarker marker : markers) {
+            int px = MARGIN_LEFT + (int) Math.round((marker.getX() - viewport.getXMin()) * xScale);
+            int py = MARGIN_TOP + plotHeight - (int) Math.round((marker.getY() - viewport.getYMin()) * yScale);
+            g.fillOval(px - 4, py - 4, 8, 8);
+            String label = marker.getLabel() + " (" + format(marker.getX() * 100.0) + "%, " + format(marker.getY()) + ")";
+            g.drawString(label, px + 6, py - 6);
+        }
+    }
+
+    static String format(double value) {
+        double magnitude = Math.abs(value);
+        if (magnitude != 0 && (magnitude < 0.01 || magnitude >= 1e5)) {
+            return String.format(Locale.ROOT, "%.2e", value);
+        }
+        return String.format(Locale.ROOT, magnitude < 10 ? "%.3f" : "%.1f", value);
+    }
+}
@@ -0,0 +1,150 @@
+package meva.chart;
+
+/**
+ * 곡선 다운샘플링 유틸리티
+ * 정적 출력(이미지, 보고서)용 LTTB(Largest-Triangle-Three-Buckets)와 주요 점 탐색
+ */
+public final class CurveDownsampler {
+
+    private CurveDownsampler() {}
+
+    /**
+     * LTTB로 곡선을 threshold개 점으로 줄임
+     * 주요 점 인덱스에서 구간을 나누어 각 구간의 양 끝점으로 보존한다
+     *
+     * @param x 변형률 배열
+     * @param y 응력 배열
+     * @param threshold 목표 점 수
+     * @param out 결과 버퍼 (기존 내용은 지워짐)
+     * @param keyIndices 반드시 포함할 인덱스 (오름차순)
+     */
+    public static void lttb(double[] x, double[] y, int threshold, PlotPoints out, int... keyIndices) {
+        out.clear();
+        int n = x.length;
+        if (n == 0) {
+            return;
+        }
+        if (threshold >= n || threshold < 3) {
+            for (int i = 0; i < n; i++) {
+                out.add(x[i], y[i], i);
+            }
+            return;
+        }
+
+        int start = 0;
+        for (int k = 0; k <= keyIndices.length; k++) {
+            int end = k < keyIndices.length ? keyIndices[k] : n - 1;
+            if (end <= start || end >= n) {
+                continue;
+            }
+            int segmentThreshold = Math.max(2, (int) ((long) threshold * (end - start) / (n - 1)));
+            lttbSegment(x, y, start, end, segmentThreshold, out);
+            start = end;
+        }
+        if (out.lastIndex() != n - 1) {
+            out.add(x[n - 1], y[n - 1], n - 1);
+        }
+    }
+
+    /**
+     * [start, end] 구간을 LTTB로 축소 (양 끝점 포함, 마지막 점은 다음 구간이 추가)
+     */
+    private static void lttbSegment(double[] x, double[] y, int start, int end, int threshold, PlotPoints out) {
+        if (out.lastIndex() != start) {
+            out.add(x[start], y[start], start);
+        }
+        int length = end - start + 1;
+        if (threshold >= length) {
+            for (int i = start + 1; i < end; i++) {
+                out.add(x[i], y[i], i);
+            }
+            out.add(x[end], y[end], end);
+            return;
+        }
+
+        double bucketSize = (double) (length - 2) / (threshold - 2);
+        int a = start;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = start + 1 + (int) Math.floor(bucket * bucketSize);
+            int bucketEnd = Math.min(end, start + 1 + (int) Math.floor((bucket + 1) * bucketSize));
+
+            // 다음 묶음의 평균점
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min(end + 1, start + 1 + (int) Math.floor((bucket + 2) * bucketSize));
+            double averageX = 0.0;
+            double averageY = 0.0;
+            int count = Math.max(1, nextEnd - nextStart);
+            for (int i = nextStart; i < nextStart + count && i <= end; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            averageX /= count;
+            averageY /= count;
+
+            double maxArea = -1.0;
+            int selected = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                double area = Math.abs((x[a] - averageX) * (y[i] - y[a]) - (x[a] - x[i]) * (averageY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = i;
+                }
+            }
+            out.add(x[selected], y[selected], selected);
+            a = selected;
+        }
+        out.add(x[end], y[end], end);
+    }
+
+    /**
+     * 곡선의 주요 점 인덱스 {항복점, 최대 응력점, 파단점}
+     * @param stress 응력 배열
+     * @param yieldStrength 항복강도 (0 이하이면 항복점 생략)
+     * @return 오름차순 인덱스 배열
+     */
+    public static int[] keyIndices(double[] stress, double yieldStrength) {
+        return keyIndices(stress, yieldStrength, peakIndex(stress));
+    }
+
+    /**
+     * 미리 찾아 둔 최대 응력점으로 주요 점 인덱스 계산
+     * 최대 응력점 이후는 보지 않으므로 같은 곡선의 항복강도만 바뀐 경우 곡선 전체를 다시 훑지 않는다
+     * @param peak {@link #peakIndex(double[])}의 결과
+     */
+    public static int[] keyIndices(double[] stress, double yieldStrength, int peak) {
+        int n = stress.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int yield = -1;
+        if (yieldStrength > 0) {
+            for (int i = 0; i <= peak; i++) {
+                if (stress[i] >= yieldStrength) {
+                    yield = i;
+                    break;
+                }
+            }
+        }
+        if (yield >= 0 && yield < peak) {
+            return peak < n - 1 ? new int[] {yield, peak, n - 1} : new int[] {yield, peak};
+        }
+        return peak < n - 1 ? new int[] {peak, n - 1} : new int[] {peak};
+    }
+
+    /**
+     * 최대 응력점 인덱스 (빈 배열이면 -1)
+     */
+    public static int peakIndex(double[] stress) {
+        int n = stress.length;
+        if (n == 0) {
+            return -1;
+        }
+        int peak = 0;
+        for (int i = 1; i < n; i++) {
+            if (stress[i] > stress[peak]) {
+                peak = i;
+            }
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,189 @@
+package meva.chart;
+
+import java.util.Arrays;
+
+/**
+ * 응력-변형률 곡선의 다중 해상도 피라미드
+ *
+ * 레벨 l은 2^(BASE_SHIFT + l)개 샘플 묶음마다 최소/최대 응력 샘플의 인덱스를 저장한다.
+ * 보이는 구간을 조회하면 픽셀당 샘플 수에 맞는 레벨을 골라 묶음별 최소/최대점만 돌려주므로
+ * 확대/이동 시 비용이 샘플 수가 아니라 픽셀 수에 비례한다.
+ * 항복점, 인장강도점, 파단점 등 주요 점은 항상 결과에 포함된다.
+ *
+ * x(변형률)는 인덱스 순서로 증가한다고 가정하고 이진 탐색으로 구간을 찾는다.
+ */
+public class CurvePyramid {
+
+    /** 가장 낮은 레벨의 묶음 크기 2^3 = 8 샘플 */
+    static final int BASE_SHIFT = 3;
+
+    private final double[] x;
+    private final double[] y;
+    private final int size;
+    private final int[][] minIndex;
+    private final int[][] maxIndex;
+    private final int[] keyIndices;
+
+    /**
+     * 피라미드 생성 (O(n))
+     * @param x 변형률 배열
+     * @param y 응력 배열
+     * @param keyIndices 항상 표시할 주요 점 인덱스 (범위 밖 값은 무시)
+     */
+    public CurvePyramid(double[] x, double[] y, int... keyIndices) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        this.x = x;
+        this.y = y;
+        this.size = x.length;
+        this.keyIndices = Arrays.stream(keyIndices).filter(i -> i >= 0 && i < size).sorted().distinct().toArray();
+
+        int levels = 0;
+        for (int buckets = bucketCount(BASE_SHIFT); buckets > 1; buckets = (buckets + 1) / 2) {
+            levels++;
+        }
+        levels = Math.max(1, levels + 1);
+        minIndex = new int[levels][];
+        maxIndex = new int[levels][];
+        buildBaseLevel();
+        for (int level = 1; level < levels; level++) {
+            buildLevel(level);
+        }
+    }
+
+    private int bucketCount(int shift) {
+        return (int) (((long) size + (1L << shift) - 1) >> shift);
+    }
+
+    private void buildBaseLevel() {
+        int buckets = bucketCount(BASE_SHIFT);
+        int[] mins = new int[buckets];
+        int[] maxs = new int[buckets];
+        for (int b = 0; b < buckets; b++) {
+            int start = b << BASE_SHIFT;
+            int end = Math.min(size, start + (1 << BASE_SHIFT));
+            int lo = start;
+            int hi = start;
+            for (int i = start + 1; i < end; i++) {
+                if (y[i] < y[lo]) lo = i;
+                if (y[i] > y[hi]) hi = i;
+            }
+            mins[b] = lo;
+            maxs[b] = hi;
+        }
+        minIndex[0] = mins;
+        maxIndex[0] = maxs;
+    }
+
+    private void buildLevel(int level) {
+        int[] childMins = minIndex[level - 1];
+        int[] childMaxs = maxIndex[level - 1];
+        int buckets = (childMins.length + 1) / 2;
+        int[] mins = new int[buckets];
+        int[] maxs = new int[buckets];
+        for (int b = 0; b < buckets; b++) {
+            int left = 2 * b;
+            int right = left + 1;
+            if (right < childMins.length) {
+                mins[b] = y[childMins[right]] < y[childMins[left]] ? childMins[right] : childMins[left];
+                maxs[b] = y[childMaxs[right]] > y[childMaxs[left]] ? childMaxs[right] : childMaxs[left];
+            } else {
+                mins[b] = childMins[left];
+                maxs[b] = childMaxs[left];
+            }
+        }
+        minIndex[level] = mins;
+        maxIndex[level] = maxs;
+    }
+
+    public int size() { return size; }
+    public double getMinX() { return size == 0 ? 0.0 : x[0]; }
+    public double getMaxX() { return size == 0 ? 0.0 : x[size - 1]; }
+
+    /**
+     * 전체 응력 최댓값
+     */
+    public double getMaxY() {
+        int top = minIndex.length - 1;
+        return size == 0 ? 0.0 : y[maxIndex[top][0]];
+    }
+
+    /**
+     * 전체 응력 최솟값
+     */
+    public double getMinY() {
+        int top = minIndex.length - 1;
+        return size == 0 ? 0.0 : y[minIndex[top][0]];
+    }
+
+    /**
+     * 보이는 x 구간의 그릴 점 조회
+     * @param xMin 보이는 구간 시작
+     * @param xMax 보이는 구간 끝
+     * @param pixelWidth 그래프 영역 폭 (픽셀)
+     * @param out 결과를 기록할 버퍼 (기존 내용은 지워짐)
+     */
+    public void query(double xMin, double xMax, int pixelWidth, PlotPoints out) {
+        out.clear();
+        if (size == 0) {
+            return;
+        }
+        // 구간 경계 바깥의 한 점씩 포함하여 선이 가장자리까지 이어지게 함
+        int from = Math.max(0, lowerBound(xMin) - 1);
+        int to = Math.min(size, lowerBound(Math.nextUp(xMax)) + 1);
+        if (from >= to) {
+            return;
+        }
+
+        double samplesPerPixel = (to - from) / (double) Math.max(1, pixelWidth);
+        int level = 31 - Integer.numberOfLeadingZeros((int) Math.max(1, samplesPerPixel)) - BASE_SHIFT;
+        if (level < 0) {
+            for (int i = from; i < to; i++) {
+                out.add(x[i], y[i], i);
+            }
+        } else {
+            level = Math.min(level, minIndex.length - 1);
+            int shift = BASE_SHIFT + level;
+            int[] mins = minIndex[level];
+            int[] maxs = maxIndex[level];
+            out.add(x[from], y[from], from);
+            for (int b = from >> shift, last = (to - 1) >> shift; b <= last; b++) {
+                int first = Math.min(mins[b], maxs[b]);
+                int second = Math.max(mins[b], maxs[b]);
+                addInRange(out, first, from, to);
+                addInRange(out, second, from, to);
+            }
+            addInRange(out, to - 1, from, to);
+        }
+
+        for (int key : keyIndices) {
+            if (key >= from && key < to) {
+                out.insertOrdered(x[key], y[key], key);
+            }
+        }
+    }
+
+    private void addInRange(PlotPoints out, int i, int from, int to) {
+        if (i >= from && i < to && i > out.lastIndex()) {
+            out.add(x[i], y[i], i);
+        }
+    }
+
+    /**
+     * x[i] >= value 인 첫 인덱스
+     */
+    private int lowerBound(double value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (x[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
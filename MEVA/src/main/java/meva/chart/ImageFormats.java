@@ -0,0 +1,41 @@
+package meva.chart;
+
+import java.util.Locale;
+
+/**
+ * 그래프 이미지 파일 형식 판별 (확장자 기준)
+ *
+ * AWT/ImageIO를 참조하지 않으므로 헤드리스 명령행에서 이미지 저장 여부를 고를 때
+ * ChartImageExporter를 불러오지 않고 사용할 수 있다.
+ */
+public final class ImageFormats {
+
+    private ImageFormats() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 확장자로 이미지 형식을 알 수 있는지 (.png, .jpg, .jpeg, .svg)
+     */
+    public static boolean isSupported(String filePath) {
+        return formatOf(filePath) != null;
+    }
+
+    /**
+     * 확장자에 해당하는 형식 이름
+     * @return "png", "jpg", "svg" 중 하나 (지원하지 않으면 null)
+     */
+    public static String formatOf(String filePath) {
+        String lower = filePath.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        if (lower.endsWith(".svg")) {
+            return "svg";
+        }
+        return null;
+    }
+}
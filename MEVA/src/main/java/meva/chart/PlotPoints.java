@@ -0,0 +1,82 @@
+package meva.chart;
+
+import java.util.Arrays;
+
+/**
+ * 화면에 그릴 점 목록 (재사용 가능한 버퍼)
+ * 각 점은 원본 데이터에서의 인덱스를 함께 가진다
+ */
+public class PlotPoints {
+
+    private double[] x;
+    private double[] y;
+    private int[] index;
+    private int size;
+
+    public PlotPoints() {
+        this(256);
+    }
+
+    public PlotPoints(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new double[capacity];
+        y = new double[capacity];
+        index = new int[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 점 추가
+     * @param xValue x 좌표 (변형률)
+     * @param yValue y 좌표 (응력)
+     * @param sourceIndex 원본 인덱스
+     */
+    public void add(double xValue, double yValue, int sourceIndex) {
+        ensureCapacity(size + 1);
+        x[size] = xValue;
+        y[size] = yValue;
+        index[size] = sourceIndex;
+        size++;
+    }
+
+    /**
+     * 원본 인덱스 순서를 유지하도록 점 삽입 (이미 있으면 무시)
+     */
+    public void insertOrdered(double xValue, double yValue, int sourceIndex) {
+        int position = Arrays.binarySearch(index, 0, size, sourceIndex);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(x, position, x, position + 1, size - position);
+        System.arraycopy(y, position, y, position + 1, size - position);
+        System.arraycopy(index, position, index, position + 1, size - position);
+        x[position] = xValue;
+        y[position] = yValue;
+        index[position] = sourceIndex;
+        size++;
+    }
+
+    public int size() { return size; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public int getIndex(int i) { return index[i]; }
+
+    /** 마지막으로 추가된 점의 원본 인덱스 (없으면 -1) */
+    public int lastIndex() {
+        return size == 0 ? -1 : index[size - 1];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > x.length) {
+            int newCapacity = Math.max(capacity, x.length * 2);
+            x = Arrays.copyOf(x, newCapacity);
+            y = Arrays.copyOf(y, newCapacity);
+            index = Arrays.copyOf(index, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package meva.chart;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 응력-변형률 그래프를 SVG로 바로 쓰는 클래스
+ *
+ * ChartRenderer와 같은 여백과 눈금으로 배치하되, 문서 트리를 만들지 않고
+ * 요소를 Writer에 순서대로 써 나간다. 곡선은 하나의 path로 쓴다.
+ */
+public class SvgChartWriter {
+
+    private boolean showGrid = true;
+    private Color curveColor = new Color(0x1F77B4);
+    private Color markerColor = new Color(0xD62728);
+    private Color gridColor = new Color(0xE0E0E0);
+    private Color bandColor = new Color(0x1F, 0x77, 0xB4, 0x40);
+
+    // 좌표 한 개를 쓸 때마다 문자열을 만들지 않도록 재사용
+    private final StringBuilder line = new StringBuilder(256);
+
+    public void setShowGrid(boolean showGrid) { this.showGrid = showGrid; }
+    public void setCurveColor(Color curveColor) { this.curveColor = curveColor; }
+    public void setBandColor(Color bandColor) { this.bandColor = bandColor; }
+
+    /**
+     * SVG 문서 쓰기
+     * @param out 출력 (닫지 않음)
+     * @param width 전체 폭
+     * @param height 전체 높이
+     * @param points 다운샘플링된 점
+     * @param viewport 보이는 구간
+     * @param markers 표시할 마커 (null 가능)
+     * @param band 곡선 뒤에 채울 범위 띠 (null 가능)
+     * @throws IOException 쓰기 실패
+     */
+    public void write(Writer out, int width, int height, PlotPoints points, Viewport viewport,
+                      List<ChartMarker> markers, ChartBand band) throws IOException {
+        int plotWidth = ChartRenderer.plotWidth(width);
+        int plotHeight = ChartRenderer.plotHeight(height);
+        double xScale = plotWidth / viewport.getWidth();
+        double yScale = plotHeight / viewport.getHeight();
+        int left = ChartRenderer.MARGIN_LEFT;
+        int top = ChartRenderer.MARGIN_TOP;
+
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + width + "\" height=\"" + height
+                + "\" viewBox=\"0 0 " + width + " " + height + "\" font-family=\"sans-serif\" font-size=\"12\">\n");
+        out.write("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>\n");
+        writeAxes(out, plotWidth, plotHeight, viewport);
+
+        out.write("<defs><clipPath id=\"plot\"><rect x=\"" + left + "\" y=\"" + top + "\" width=\"" + (plotWidth + 1)
+                + "\" height=\"" + (plotHeight + 1) + "\"/></clipPath></defs>\n");
+        out.write("<g clip-path=\"url(#plot)\">\n");
+        if (band != null) {
+            writeBand(out, band, viewport, xScale, yScale, plotHeight);
+        }
+        if (points.size() > 0) {
+            out.write("<path fill=\"none\" stroke-width=\"1.5\" stroke=\"" + rgb(curveColor) + "\" d=\"");
+            for (int i = 0; i < points.size(); i++) {
+                line.setLength(0);
+                line.append(i == 0 ? 'M' : 'L');
+                appendPoint(points.getX(i), points.getY(i), viewport, xScale, yScale, plotHeight);
+                out.append(line);
+            }
+            out.write("\"/>\n");
+        }
+        if (markers != null) {
+            for (ChartMarker marker : markers) {
+                double px = left + (marker.getX() - viewport.getXMin()) * xScale;
+                double py = top + plotHeight - (marker.getY() - viewport.getYMin()) * yScale;
+                line.setLength(0);
+                line.append("<circle r=\"4\" fill=\"").append(rgb(markerColor)).append("\" cx=\"");
+                appendCoordinate(px).append("\" cy=\"");
+                appendCoordinate(py).append("\"/>\n<text fill=\"").append(rgb(markerColor)).append("\" x=\"");
+                appendCoordinate(px + 6).append("\" y=\"");
+                appendCoordinate(py - 6).append("\">");
+                escape(marker.getLabel() + " (" + ChartRenderer.format(marker.getX() * 100.0) + "%, "
+                        + ChartRenderer.format(marker.getY()) + ")");
+                line.append("</text>\n");
+                out.append(line);
+            }
+        }
+        out.write("</g>\n</svg>\n");
+    }
+
+    private void writeAxes(Writer out, int plotWidth, int plotHeight, Viewport viewport) throws IOException {
+        int left = ChartRenderer.MARGIN_LEFT;
+        int top = ChartRenderer.MARGIN_TOP;
+        int tickCount = ChartRenderer.TICK_COUNT;
+        if (showGrid) {
+            out.write("<g stroke=\"" + rgb(gridColor) + "\">\n");
+            for (int i = 0; i <= tickCount; i++) {
+                int px = left + plotWidth * i / tickCount;
+                int py = top + plotHeight - plotHeight * i / tickCount;
+                out.write("<line x1=\"" + px + "\" y1=\"" + top + "\" x2=\"" + px + "\" y2=\"" + (top + plotHeight) + "\"/>");
+                out.write("<line x1=\"" + left + "\" y1=\"" + py + "\" x2=\"" + (left + plotWidth) + "\" y2=\"" + py + "\"/>\n");
+            }
+            out.write("</g>\n");
+        }
+        out.write("<g fill=\"#404040\">\n");
+        for (int i = 0; i <= tickCount; i++) {
+            int px = left + plotWidth * i / tickCount;
+            int py = top + plotHeight - plotHeight * i / tickCount;
+            // x축은 변형률(%)로 표시
+            String xLabel = ChartRenderer.format((viewport.getXMin() + viewport.getWidth() * i / tickCount) * 100.0);
+            String yLabel = ChartRenderer.format(viewport.getYMin() + viewport.getHeight() * i / tickCount);
+            out.write("<text text-anchor=\"middle\" x=\"" + px + "\" y=\"" + (top + plotHeight + 16) + "\">" + xLabel + "</text>");
+            out.write("<text text-anchor=\"end\" x=\"" + (left - 6) + "\" y=\"" + (py + 4) + "\">" + yLabel + "</text>\n");
+        }
+        out.write("</g>\n");
+        out.write("<rect fill=\"none\" stroke=\"black\" x=\"" + left + "\" y=\"" + top + "\" width=\"" + plotWidth
+                + "\" height=\"" + plotHeight + "\"/>\n");
+        out.write("<text text-anchor=\"middle\" x=\"" + (left + plotWidth / 2) + "\" y=\"" + (top + plotHeight + 36)
+                + "\">Strain (%)</text>\n");
+        out.write("<text x=\"4\" y=\"" + (top - 6 + 12) + "\">Stress (MPa)</text>\n");
+    }
+
+    /**
+     * 띠를 위 경계 → 아래 경계(역순) 다각형으로 채움. NaN인 점에서 띠를 끊는다
+     */
+    private void writeBand(Writer out, ChartBand band, Viewport viewport, double xScale, double yScale,
+                           int plotHeight) throws IOException {
+        out.write("<g fill=\"" + rgb(bandColor) + "\" fill-opacity=\""
+                + ChartRenderer.format(bandColor.getAlpha() / 255.0) + "\">\n");
+        int n = band.size();
+        int start = 0;
+        while (start < n) {
+            while (start < n && !isFinite(band.getLower(start), band.getUpper(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < n && isFinite(band.getLower(end), band.getUpper(end))) {
+                end++;
+            }
+            if (end - start > 1) {
+                out.write("<path d=\"");
+                for (int i = start; i < end; i++) {
+                    line.setLength(0);
+                    line.append(i == start ? 'M' : 'L');
+                    appendPoint(band.getX(i), band.getUpper(i), viewport, xScale, yScale, plotHeight);
+                    out.append(line);
+                }
+                for (int i = end - 1; i >= start; i--) {
+                    line.setLength(0);
+                    line.append('L');
+                    appendPoint(band.getX(i), band.getLower(i), viewport, xScale, yScale, plotHeight);
+                    out.append(line);
+                }
+                out.write("Z\"/>\n");
+            }
+            start = end;
+        }
+        out.write("</g>\n");
+    }
+
+    private static boolean isFinite(double lower, double upper) {
+        return !Double.isNaN(lower) && !Double.isNaN(upper) && !Double.isInfinite(lower) && !Double.isInfinite(upper);
+    }
+
+    private void appendPoint(double x, double y, Viewport viewport, double xScale, double yScale, int plotHeight) {
+        appendCoordinate(ChartRenderer.MARGIN_LEFT + (x - viewport.getXMin()) * xScale).append(',');
+        appendCoordinate(ChartRenderer.MARGIN_TOP + plotHeight - (y - viewport.getYMin()) * yScale);
+    }
+
+    /**
+     * 좌표를 0.1 픽셀 단위로 씀 (String.format 없이)
+     */
+    private StringBuilder appendCoordinate(double value) {
+        long tenths = Math.round(value * 10.0);
+        if (tenths < 0) {
+            line.append('-');
+            tenths = -tenths;
+        }
+        line.append(tenths / 10);
+        if (tenths % 10 != 0) {
+            line.append('.').append(tenths % 10);
+        }
+        return line;
+    }
+
+    private void escape(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&': line.append("&amp;"); break;
+                case '<': line.append("&lt;"); break;
+                case '>': line.append("&gt;"); break;
+                case '"': line.append("&quot;"); break;
+                default: line.append(c);
+            }
+        }
+    }
+
+    private static String rgb(Color color) {
+        return String.format("#%06X", color.getRGB() & 0xFFFFFF);
+    }
+}
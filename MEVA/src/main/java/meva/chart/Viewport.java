@@ -0,0 +1,55 @@
+package meva.chart;
+
+/**
+ * 그래프에 보이는 좌표 구간 (x: 변형률, y: 응력)
+ */
+public class Viewport {
+
+    private double xMin;
+    private double xMax;
+    private double yMin;
+    private double yMax;
+
+    public Viewport(double xMin, double xMax, double yMin, double yMax) {
+        set(xMin, xMax, yMin, yMax);
+    }
+
+    /**
+     * 곡선 전체가 보이는 구간 (y는 0부터 최대값의 110%까지)
+     */
+    public static Viewport fit(double xMin, double xMax, double yMin, double yMax) {
+        return new Viewport(xMin, xMax, Math.min(0.0, yMin), yMax > 0 ? yMax * 1.1 : 1.0);
+    }
+
+    public final void set(double xMin, double xMax, double yMin, double yMax) {
+        this.xMin = xMin;
+        this.xMax = xMax > xMin ? xMax : xMin + 1e-9;
+        this.yMin = yMin;
+        this.yMax = yMax > yMin ? yMax : yMin + 1e-9;
+    }
+
+    /**
+     * 주어진 x를 중심으로 확대/축소
+     * @param centerX 고정할 x 좌표
+     * @param factor 1보다 작으면 확대, 크면 축소
+     */
+    public void zoomX(double centerX, double factor) {
+        double newMin = centerX - (centerX - xMin) * factor;
+        double newMax = centerX + (xMax - centerX) * factor;
+        set(newMin, newMax, yMin, yMax);
+    }
+
+    /**
+     * x 방향 이동
+     */
+    public void panX(double deltaX) {
+        set(xMin + deltaX, xMax + deltaX, yMin, yMax);
+    }
+
+    public double getXMin() { return xMin; }
+    public double getXMax() { return xMax; }
+    public double getYMin() { return yMin; }
+    public double getYMax() { return yMax; }
+    public double getWidth() { return xMax - xMin; }
+    public double getHeight() { return yMax - yMin; }
+}
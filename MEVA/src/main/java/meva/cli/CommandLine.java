@@ -0,0 +1,459 @@
+package meva.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import meva.batch.BatchAnalyzer;
+import meva.calculation.FileAnalyzer;
+import meva.chart.ChartImageExporter;
+import meva.chart.ImageFormats;
+import meva.database.MaterialDatabase;
+import meva.database.StandardProperties;
+import meva.fileio.DoubleFormatter;
+import meva.fileio.ExportManager;
+import meva.fileio.ResultCache;
+import meva.metrics.Metrics;
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.StandardProperty;
+import meva.models.TestData;
+import meva.report.CampaignReport;
+import meva.simulation.MaterialSimulator;
+import meva.utils.ConfigManager;
+
+/**
+ * 헤드리스 명령행 모드
+ *
+ * AWT/Swing 클래스를 전혀 참조하지 않으므로 GUI 없이 빠르게 시작한다.
+ * ConfigManager와 MaterialDatabase는 그것이 필요한 명령에서만 처음 초기화된다.
+ * 결과는 "이름=값" 행으로 표준 출력에 쓰므로 셸 파이프라인에서 바로 다룰 수 있다.
+ *
+ * <pre>
+ * analyse  &lt;시험데이터&gt; [--area mm²] [--length mm] [--cache 디렉터리|off]
+ * simulate &lt;재료명&gt; | --youngs GPa --yield MPa --tensile MPa [--resolution N] [--output 파일]
+ * convert  &lt;입력&gt; &lt;출력&gt;
+ * export   &lt;시험데이터&gt; &lt;출력&gt; [--area mm²] [--length mm] [--cache 디렉터리|off]
+ * report   &lt;시험데이터 패턴&gt; &lt;출력.pdf&gt; [--standard 재료명] [--title 제목] [--area mm²] [--length mm]
+ * </pre>
+ * analyse/export는 결과 캐시({@link ResultCache})를 사용하여 같은 파일을 다시 분석하면 저장된 결과를 쓴다.
+ * export의 출력 경로가 .png/.jpg/.svg이면 곡선 대신 그래프 이미지를 저장한다.
+ * 공통 옵션: --precision N (출력 유효숫자 수, 기본 6), --metrics 파일 (실행 구간 계측 보고서 저장)
+ */
+public final class CommandLine {
+
+    /** 성공 */
+    public static final int EXIT_OK = 0;
+    /** 실행 실패 (파일 오류, 잘못된 데이터 등) */
+    public static final int EXIT_FAILURE = 1;
+    /** 잘못된 사용법 */
+    public static final int EXIT_USAGE = 2;
+
+    private static final int DEFAULT_PRECISION = 6;
+
+    private static final String USAGE =
+        "사용법: meva <명령> [인자] [옵션]\n"
+        + "  analyse  <시험데이터> [--area mm2] [--length mm]      물성값 계산\n"
+        + "  simulate <재료명> | --youngs GPa --yield MPa --tensile MPa\n"
+        + "           [--resolution N] [--output 파일]              이론 곡선 시뮬레이션\n"
+        + "  convert  <입력> <출력>                                  시험 데이터 형식 변환\n"
+        + "  export   <시험데이터> <출력> [--area mm2] [--length mm] 응력-변형률 곡선 저장\n"
+        + "  report   <시험데이터 패턴> <출력.pdf> [--standard 재료명] [--title 제목]\n"
+        + "           [--area mm2] [--length mm]                    PDF 캠페인 보고서 작성\n"
+        + "analyse/export/report 옵션: --cache 디렉터리|off (결과 캐시, 기본은 설정 파일의 cache.directory)\n"
+        + "공통 옵션: --precision N (출력 유효숫자 수, 기본 6), --metrics 파일 (계측 보고서 저장)\n"
+        + "지원 형식: .csv, .xlsx, .meva, .mevz (export 출력은 .png, .jpg, .svg 그래프 이미지도 가능)";
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final List<String> arguments = new ArrayList<>();
+    private final Map<String, String> options = new HashMap<>();
+    private int precision = DEFAULT_PRECISION;
+
+    CommandLine(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * 명령 실행
+     * @param args 명령행 인자 (첫 번째가 명령)
+     * @return 종료 코드
+     */
+    public static int run(String[] args) {
+        return new CommandLine(System.out, System.err).execute(args);
+    }
+
+    int execute(String[] args) {
+        if (args.length == 0 || "help".equals(args[0]) || "--help".equals(args[0]) || "-h".equals(args[0])) {
+            out.println(USAGE);
+            return args.length == 0 ? EXIT_USAGE : EXIT_OK;
+        }
+        try {
+            parse(args);
+            precision = intOption("precision", DEFAULT_PRECISION);
+            if (precision < 1) {
+                throw new UsageException("--precision는 1 이상이어야 합니다");
+            }
+            String metricsFile = options.get("metrics");
+            if (metricsFile != null) {
+                Metrics.setEnabled(true);
+            }
+            int status = dispatch(args[0]);
+            if (metricsFile != null && !Metrics.getRegistry().dump(metricsFile)) {
+                err.println("계측 보고서 저장 실패: " + metricsFile);
+            }
+            return status;
+        } catch (UsageException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+    }
+
+    private int dispatch(String command) throws UsageException {
+        switch (command) {
+            case "analyse":
+            case "analyze":
+                return analyse();
+            case "simulate":
+                return simulate();
+            case "convert":
+                return convert();
+            case "export":
+                return export();
+            case "report":
+                return report();
+            default:
+                throw new UsageException("알 수 없는 명령: " + command);
+        }
+    }
+
+    /**
+     * 시험 데이터에서 물성값 계산
+     */
+    private int analyse() throws UsageException {
+        requireArguments(1);
+        FileAnalyzer analyzer = createAnalyzer(arguments.get(0));
+        SimulationResult result = analyzer.analyse(arguments.get(0), doubleOption("area"), doubleOption("length"));
+        if (!result.isValid()) {
+            err.println(result.getErrorMessage());
+            return EXIT_FAILURE;
+        }
+        print("samples", result.getSampleCount());
+        print("youngsModulus(GPa)", result.getYoungsModulus());
+        if (result.getModulusRSquared() > 0) {
+            print("modulusRSquared", result.getModulusRSquared());
+            print("modulusStartStrain", result.getModulusStartStrain());
+            print("modulusEndStrain", result.getModulusEndStrain());
+        }
+        print("yieldStrength(MPa)", result.getYieldStrength());
+        print("tensileStrength(MPa)", result.getTensileStrength());
+        print("uniformStrain", result.getUniformStrain());
+        print("elongation(%)", result.getElongation());
+        print("fractureDetected", String.valueOf(result.isFractureDetected()));
+        print("cached", String.valueOf(analyzer.wasCacheHit()));
+        return EXIT_OK;
+    }
+
+    /**
+     * 재료 물성값으로 이론 곡선 시뮬레이션
+     */
+    private int simulate() throws UsageException {
+        Material material;
+        if (!arguments.isEmpty()) {
+            material = lookupMaterial(arguments.get(0));
+            if (material == null) {
+                err.println("재료를 찾을 수 없습니다: " + arguments.get(0));
+                return EXIT_FAILURE;
+            }
+        } else {
+            material = new Material("custom", requiredDouble("youngs"), requiredDouble("yield"),
+                    requiredDouble("tensile"), 0.0, 0.0);
+        }
+
+        MaterialSimulator simulator = new MaterialSimulator();
+        if (options.containsKey("resolution")) {
+            int resolution = intOption("resolution", simulator.getResolution());
+            if (resolution < 2) {
+                throw new UsageException("--resolution은 2 이상이어야 합니다");
+            }
+            simulator.setResolution(resolution);
+        }
+        SimulationResult result = simulator.simulateMaterialBehavior(material);
+        if (!result.isValid()) {
+            err.println(result.getErrorMessage());
+            return EXIT_FAILURE;
+        }
+        print("material", material.getName());
+        print("points", result.getStrain().length);
+        printSummary(result);
+
+        String output = options.get("output");
+        if (output != null && !new ExportManager().exportDataAuto(result, output)) {
+            err.println("저장 실패: " + output);
+            return EXIT_FAILURE;
+        }
+        return EXIT_OK;
+    }
+
+    /**
+     * 시험 데이터 형식 변환 (.csv/.xlsx/.meva/.mevz 사이)
+     */
+    private int convert() throws UsageException {
+        requireArguments(2);
+        TestData testData = readTestData(arguments.get(0));
+        if (testData == null) {
+            return EXIT_FAILURE;
+        }
+        if (!new ExportManager().exportDataAuto(testData, arguments.get(1))) {
+            err.println("저장 실패: " + arguments.get(1));
+            return EXIT_FAILURE;
+        }
+        print("samples", testData.getSampleCount());
+        return EXIT_OK;
+    }
+
+    /**
+     * 시험 데이터의 응력-변형률 곡선을 계산하여 저장 (데이터 파일 또는 그래프 이미지)
+     */
+    private int export() throws UsageException {
+        requireArguments(2);
+        FileAnalyzer analyzer = createAnalyzer(arguments.get(0));
+        SimulationResult result = analyzer.analyse(arguments.get(0), doubleOption("area"), doubleOption("length"));
+        if (!result.isValid()) {
+            err.println(result.getErrorMessage());
+            return EXIT_FAILURE;
+        }
+        if (result.getStrain() == null) {
+            err.println("곡선으로 변환하기에 데이터가 너무 큽니다");
+            return EXIT_FAILURE;
+        }
+        String output = arguments.get(1);
+        // 이미지가 아니면 ChartImageExporter(AWT)를 불러오지 않음
+        boolean saved = ImageFormats.isSupported(output)
+                ? new ChartImageExporter().export(result, output)
+                : new ExportManager().exportDataAuto(result, output);
+        if (!saved) {
+            err.println("저장 실패: " + output);
+            return EXIT_FAILURE;
+        }
+        print("points", result.getStrain().length);
+        printSummary(result);
+        print("cached", String.valueOf(analyzer.wasCacheHit()));
+        return EXIT_OK;
+    }
+
+    /**
+     * 여러 시험 파일의 PDF 캠페인 보고서 작성
+     */
+    private int report() throws UsageException {
+        requireArguments(2);
+        String output = arguments.get(1);
+        if (!output.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+            throw new UsageException("보고서는 .pdf로 저장합니다: " + output);
+        }
+        List<String> files;
+        try {
+            files = new BatchAnalyzer().collectFiles(arguments.get(0));
+        } catch (IOException e) {
+            err.println("파일 목록을 읽을 수 없습니다: " + arguments.get(0));
+            return EXIT_FAILURE;
+        }
+        if (files.isEmpty()) {
+            err.println("보고서에 넣을 시험 파일이 없습니다: " + arguments.get(0));
+            return EXIT_FAILURE;
+        }
+
+        CampaignReport report = new CampaignReport();
+        String standardName = options.get("standard");
+        if (standardName != null) {
+            StandardProperty standard = lookupStandard(standardName);
+            if (standard == null) {
+                err.println("표준 물성을 찾을 수 없습니다: " + standardName);
+                return EXIT_FAILURE;
+            }
+            report.setStandard(standard);
+        }
+        if (options.containsKey("title")) {
+            report.setTitle(options.get("title"));
+        }
+        report.setCache(createCache());
+        report.setSpecimenDimensions(doubleOption("area"), doubleOption("length"));
+        if (!report.writeFiles(files, output)) {
+            err.println("저장 실패: " + output);
+            return EXIT_FAILURE;
+        }
+        print("specimens", report.getSpecimenCount());
+        print("failed", report.getFailedCount());
+        if (standardName != null) {
+            print("passed", report.getPassedCount());
+        }
+        print("pages", report.getPageCount());
+        return EXIT_OK;
+    }
+
+    /**
+     * 시험 데이터 읽기 (--area/--length가 있으면 파일 값 대신 사용)
+     * @return 시험 데이터 (실패 시 오류를 출력하고 null)
+     */
+    private TestData readTestData(String filePath) throws UsageException {
+        ExportManager exportManager = new ExportManager();
+        if (!exportManager.isSupported(filePath)) {
+            throw new UsageException("지원하지 않는 파일 형식: " + filePath);
+        }
+        TestData testData = exportManager.importTestData(filePath);
+        if (testData == null) {
+            err.println("파일을 읽을 수 없습니다: " + filePath);
+            return null;
+        }
+        if (options.containsKey("area")) {
+            testData.setCrossSectionArea(requiredDouble("area"));
+        }
+        if (options.containsKey("length")) {
+            testData.setInitialLength(requiredDouble("length"));
+        }
+        return testData;
+    }
+
+    /**
+     * 재료 데이터베이스에서 재료 조회 (이 명령에서만 데이터베이스를 염)
+     */
+    private static Material lookupMaterial(String name) {
+        String directory = ConfigManager.getInstance().getString(ConfigManager.KEY_DATABASE_DIRECTORY, "meva-db");
+        MaterialDatabase database = new MaterialDatabase(Paths.get(directory));
+        try {
+            database.loadStandardMaterials();
+            return database.getMaterial(name);
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * 표준 물성 범위 조회 (이 명령에서만 저장소를 염)
+     */
+    private static StandardProperty lookupStandard(String name) {
+        String directory = ConfigManager.getInstance().getString(ConfigManager.KEY_DATABASE_DIRECTORY, "meva-db");
+        StandardProperties standards = new StandardProperties(Paths.get(directory));
+        try {
+            standards.loadStandardProperties();
+            return standards.getStandardProperty(name);
+        } finally {
+            standards.close();
+        }
+    }
+
+    private void printSummary(SimulationResult result) {
+        print("youngsModulus(GPa)", result.getYoungsModulus());
+        print("yieldStrength(MPa)", result.getYieldStrength());
+        print("tensileStrength(MPa)", result.getTensileStrength());
+        print("elongation(%)", result.getElongation());
+    }
+
+    private void print(String name, double value) {
+        print(name, DoubleFormatter.toString(value, precision));
+    }
+
+    private void print(String name, long value) {
+        print(name, Long.toString(value));
+    }
+
+    private void print(String name, String value) {
+        out.println(name + "=" + value);
+    }
+
+    /**
+     * 인자 해석: "--이름 값" 형식은 옵션, 나머지는 위치 인자
+     */
+    private void parse(String[] args) throws UsageException {
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--") && arg.length() > 2) {
+                if (i + 1 >= args.length) {
+                    throw new UsageException("옵션 값이 없습니다: " + arg);
+                }
+                options.put(arg.substring(2), args[++i]);
+            } else {
+                arguments.add(arg);
+            }
+        }
+    }
+
+    private void requireArguments(int count) throws UsageException {
+        if (arguments.size() < count) {
+            throw new UsageException("인자가 부족합니다");
+        }
+    }
+
+    /**
+     * 결과 캐시를 쓰는 분석기
+     */
+    private FileAnalyzer createAnalyzer(String filePath) throws UsageException {
+        if (!new ExportManager().isSupported(filePath)) {
+            throw new UsageException("지원하지 않는 파일 형식: " + filePath);
+        }
+        return new FileAnalyzer(createCache());
+    }
+
+    /**
+     * --cache 옵션의 결과 캐시 ("off"이면 null, 없으면 설정 파일 값)
+     */
+    private ResultCache createCache() {
+        String cacheDirectory = options.get("cache");
+        if (cacheDirectory == null) {
+            return ResultCache.fromConfig(ConfigManager.getInstance());
+        }
+        if ("off".equals(cacheDirectory)) {
+            return null;
+        }
+        int maxMegabytes = ConfigManager.getInstance().getInt(ConfigManager.KEY_CACHE_MAX_MB, 256);
+        return new ResultCache(cacheDirectory, Math.max(1, maxMegabytes) * 1024L * 1024L);
+    }
+
+    /**
+     * 실수 옵션 (없으면 NaN)
+     */
+    private double doubleOption(String name) throws UsageException {
+        return options.containsKey(name) ? requiredDouble(name) : Double.NaN;
+    }
+
+    private double requiredDouble(String name) throws UsageException {
+        String value = options.get(name);
+        if (value == null) {
+            throw new UsageException("옵션이 필요합니다: --" + name);
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new UsageException("숫자가 아닙니다: --" + name + " " + value);
+        }
+    }
+
+    private int intOption(String name, int defaultValue) throws UsageException {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new UsageException("정수가 아닙니다: --" + name + " " + value);
+        }
+    }
+
+    /**
+     * 잘못된 사용법 (사용법을 함께 출력하고 EXIT_USAGE로 종료)
+     */
+    private static final class UsageException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UsageException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package meva.database;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 애플리케이션에 포함된 기본 데이터(CSV 리소스) 읽기
+ */
+final class BundledData {
+
+    private BundledData() {}
+
+    /**
+     * 리소스 CSV의 데이터 행 (헤더 제외)
+     * @param resource 리소스 경로 (예: "/data/standard_materials.csv")
+     * @return 행 목록, 리소스가 없으면 빈 목록
+     */
+    static List<String[]> readCsv(String resource) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        InputStream input = BundledData.class.getResourceAsStream(resource);
+        if (input == null) {
+            return rows;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // 헤더
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    rows.add(line.split(",", -1));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 숫자 열 변환 (빈 값은 NaN)
+     */
+    static double parse(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? Double.NaN : Double.parseDouble(trimmed);
+    }
+}
@@ -1,7 +1,11 @@
 package meva.database;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import meva.models.StandardProperty;
+import meva.utils.ConfigManager;
 
 /**
  * 데이터 관리 클래스
@@ -13,8 +17,15 @@ public class DataManager {
     private StandardProperties standardProps;
     
     public DataManager() {
-        this.materialDB = new MaterialDatabase();
-        this.standardProps = new StandardProperties();
+        this(Paths.get(ConfigManager.getInstance().getString(ConfigManager.KEY_DATABASE_DIRECTORY, "meva-db")));
+    }
+
+    /**
+     * @param storeDirectory 재료/표준 물성 저장 디렉터리 (null이면 메모리에만 보관)
+     */
+    public DataManager(Path storeDirectory) {
+        this.materialDB = new MaterialDatabase(storeDirectory);
+        this.standardProps = new StandardProperties(storeDirectory);
     }
     
     /**
@@ -60,4 +71,21 @@ public class DataManager {
     public boolean removeMaterial(String materialName) {
         return materialDB.removeMaterial(materialName);
     }
+
+    /**
+     * 재료의 표준 물성 범위 조회
+     * @param materialName 재료명
+     * @return 표준 물성, 없으면 null
+     */
+    public StandardProperty getStandardProperty(String materialName) {
+        return standardProps.getStandardProperty(materialName);
+    }
+
+    /**
+     * 저장소 닫기
+     */
+    public void close() {
+        materialDB.close();
+        standardProps.close();
+    }
 }
@@ -1,58 +1,207 @@
 package meva.database;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import meva.fileio.CSVHandler;
+import meva.models.Material;
 
 /**
  * 재료 데이터베이스 클래스
  * 표준 재료의 물성값을 관리
+ *
+ * 데이터는 불변 스냅샷(MaterialTable)으로 보관하고 변경 시 새 스냅샷으로 교체한다.
+ * 읽기는 volatile 참조 하나만 읽으므로 잠금이 없고, 쓰기만 동기화된다.
+ * 여러 값을 일관되게 읽어야 하면 snapshot()으로 얻은 테이블을 사용한다.
+ *
+ * 저장 디렉터리를 지정하면 재료는 RecordStore에 보관된다. 시작 시에는 색인만 열고,
+ * 이름으로 조회한 재료만 읽어 메모리에 올린다. 전체 목록이나 범위 조회가 처음 필요할 때
+ * 전체를 한 번 읽는다. 추가/삭제는 저장소 끝에 레코드 하나만 덧붙인다.
  */
 public class MaterialDatabase {
+
+    private static final Logger LOGGER = Logger.getLogger(MaterialDatabase.class.getName());
+    public static final String STORE_NAME = "materials";
+    static final String BUNDLED_RESOURCE = "/data/standard_materials.csv";
     
-    private Map<String, Map<String, Double>> materials;
+    private volatile MaterialTable table = MaterialTable.EMPTY;
+    private volatile boolean fullyLoaded = true;
+    private final Path storeDirectory;
+    private RecordStore store;
     private CSVHandler csvHandler;
     
+    /**
+     * 메모리에만 보관하는 데이터베이스 생성
+     */
     public MaterialDatabase() {
-        this.materials = new HashMap<>();
+        this(null);
+    }
+
+    /**
+     * 디스크 저장소를 사용하는 데이터베이스 생성
+     * @param storeDirectory 저장 디렉터리 (null이면 메모리에만 보관)
+     */
+    public MaterialDatabase(Path storeDirectory) {
+        this.storeDirectory = storeDirectory;
         this.csvHandler = new CSVHandler();
     }
     
     /**
      * 표준 재료 데이터 로드
+     * 저장소가 비어 있으면 포함된 표준 재료로 채우고, 아니면 색인만 연다
      */
-    public void loadStandardMaterials() {
-        // TODO: CSV 파일에서 표준 재료 데이터 로드
-        addSampleMaterials();
+    public synchronized void loadStandardMaterials() {
+        if (storeDirectory != null && store == null) {
+            try {
+                store = new RecordStore(storeDirectory, STORE_NAME);
+                if (store.size() == 0) {
+                    List<RecordStore.Record> records = new ArrayList<>();
+                    for (Material material : readBundledMaterials()) {
+                        records.add(toRecord(material));
+                    }
+                    store.putAll(records);
+                }
+                table = MaterialTable.EMPTY;
+                fullyLoaded = false;
+                return;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "재료 저장소를 열 수 없습니다. 메모리에서만 관리합니다.", e);
+                store = null;
+            }
+        }
+        List<Material> bundled = readBundledMaterials();
+        if (bundled.isEmpty()) {
+            addSampleMaterials();
+        } else {
+            addMaterials(bundled);
+        }
+    }
+
+    private static List<Material> readBundledMaterials() {
+        List<Material> materials = new ArrayList<>();
+        try {
+            for (String[] row : BundledData.readCsv(BUNDLED_RESOURCE)) {
+                materials.add(new Material(row[0].trim(), BundledData.parse(row[1]), BundledData.parse(row[2]),
+                        BundledData.parse(row[3]), BundledData.parse(row[4]), BundledData.parse(row[5])));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "표준 재료 데이터를 읽을 수 없습니다: " + BUNDLED_RESOURCE, e);
+        }
+        return materials;
+    }
+
+    private static RecordStore.Record toRecord(Material material) {
+        return new RecordStore.Record(material.getName(), new double[] {
+            material.getYoungsModulus(), material.getYieldStrength(), material.getTensileStrength(),
+            material.getDensity(), material.getPoissonRatio()
+        }, null);
+    }
+
+    private static Material toMaterial(RecordStore.Record record) {
+        return new Material(record.getKey(), record.getValue(0), record.getValue(1),
+                record.getValue(2), record.getValue(3), record.getValue(4));
+    }
+
+    /**
+     * 저장소의 전체 재료를 메모리로 읽음 (처음 한 번)
+     */
+    private void ensureFullyLoaded() {
+        if (fullyLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (fullyLoaded) {
+                return;
+            }
+            List<Material> all = new ArrayList<>(store.size());
+            try {
+                store.forEach(record -> all.add(toMaterial(record)));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "재료 저장소를 읽을 수 없습니다", e);
+                return;
+            }
+            table = MaterialTable.EMPTY.with(all);
+            fullyLoaded = true;
+        }
     }
     
     /**
      * 샘플 재료 데이터 추가 (테스트용)
      */
     private void addSampleMaterials() {
-        // 알루미늄
-        Map<String, Double> alProperties = new HashMap<>();
-        alProperties.put("youngsModulus", 70000.0);  // MPa
-        alProperties.put("yieldStrength", 276.0);    // MPa
-        alProperties.put("tensileStrength", 310.0);  // MPa
-        alProperties.put("density", 2700.0);         // kg/m³
-        materials.put("Aluminum", alProperties);
-        
-        // 강철
-        Map<String, Double> steelProperties = new HashMap<>();
-        steelProperties.put("youngsModulus", 200000.0); // MPa
-        steelProperties.put("yieldStrength", 250.0);    // MPa
-        steelProperties.put("tensileStrength", 400.0);  // MPa
-        steelProperties.put("density", 7850.0);         // kg/m³
-        materials.put("Steel", steelProperties);
+        addMaterials(Arrays.asList(
+            new Material("Aluminum", 70.0, 276.0, 310.0, 2700.0, 0.33), // GPa, MPa, MPa, kg/m³
+            new Material("Steel", 200.0, 250.0, 400.0, 7850.0, 0.29)
+        ));
+    }
+
+    /**
+     * 현재 데이터의 불변 스냅샷 (잠금 없음)
+     */
+    public MaterialTable snapshot() {
+        ensureFullyLoaded();
+        return table;
+    }
+
+    /**
+     * 재료 조회
+     * @param materialName 재료명
+     * @return 재료 정보 사본, 없으면 null
+     */
+    public Material getMaterial(String materialName) {
+        Material material = table.getMaterial(materialName);
+        if (material != null || fullyLoaded || materialName == null) {
+            return material;
+        }
+        synchronized (this) {
+            material = table.getMaterial(materialName);
+            if (material == null && !fullyLoaded) {
+                try {
+                    RecordStore.Record record = store.get(materialName);
+                    if (record != null) {
+                        material = toMaterial(record);
+                        table = table.with(Collections.singletonList(material));
+                    }
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "재료를 읽을 수 없습니다: " + materialName, e);
+                }
+            }
+        }
+        return material;
+    }
+
+    /**
+     * 물성값이 구간 안에 있는 재료 목록 (물성값 오름차순)
+     * @param property 물성값 열
+     * @param min 최솟값 (포함)
+     * @param max 최댓값 (포함)
+     * @return 재료 목록
+     */
+    public List<Material> findMaterials(MaterialProperty property, double min, double max) {
+        return snapshot().findMaterials(property, min, max);
     }
     
     /**
      * 재료 물성값 조회
      * @param materialName 재료명
-     * @return 물성값 맵
+     * @return 물성값 맵 (키는 MaterialProperty.getKey())
      */
     public Map<String, Double> getMaterialProperties(String materialName) {
-        return materials.get(materialName);
+        Material material = getMaterial(materialName);
+        if (material == null) {
+            return null;
+        }
+        Map<String, Double> properties = new HashMap<>();
+        double[] values = toRecord(material).getValues();
+        for (MaterialProperty property : MaterialProperty.values()) {
+            double value = values[property.ordinal()];
+            if (!Double.isNaN(value)) {
+                properties.put(property.getKey(), value);
+            }
+        }
+        return properties;
     }
     
     /**
@@ -60,21 +209,62 @@ public class MaterialDatabase {
      * @return 재료명 목록
      */
     public List<String> getStandardMaterialNames() {
-        return new ArrayList<>(materials.keySet());
+        return new ArrayList<>(snapshot().getNames());
+    }
+
+    /**
+     * 새 재료 추가 (같은 이름이 있으면 교체)
+     * @param material 재료 정보
+     * @return 추가 성공 여부
+     */
+    public boolean addMaterial(Material material) {
+        if (material == null || material.getName() == null) {
+            return false;
+        }
+        addMaterials(Collections.singletonList(material));
+        return true;
+    }
+
+    /**
+     * 여러 재료를 한 번에 추가 (스냅샷 교체 한 번)
+     * @param materials 재료 목록
+     */
+    public synchronized void addMaterials(Collection<Material> materials) {
+        if (store != null) {
+            List<RecordStore.Record> records = new ArrayList<>(materials.size());
+            for (Material material : materials) {
+                records.add(toRecord(material));
+            }
+            try {
+                store.putAll(records);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "재료를 저장할 수 없습니다", e);
+            }
+        }
+        table = table.with(materials);
     }
     
     /**
      * 새 재료 추가
      * @param materialName 재료명
-     * @param properties 물성값
+     * @param properties 물성값 (키는 MaterialProperty.getKey(), 없는 값은 NaN으로 저장)
      * @return 추가 성공 여부
      */
     public boolean addMaterial(String materialName, Map<String, Double> properties) {
         if (materialName == null || properties == null) {
             return false;
         }
-        materials.put(materialName, new HashMap<>(properties));
-        return true;
+        return addMaterial(new Material(materialName,
+                value(properties, MaterialProperty.YOUNGS_MODULUS),
+                value(properties, MaterialProperty.YIELD_STRENGTH),
+                value(properties, MaterialProperty.TENSILE_STRENGTH),
+                value(properties, MaterialProperty.DENSITY),
+                value(properties, MaterialProperty.POISSON_RATIO)));
+    }
+
+    private static double value(Map<String, Double> properties, MaterialProperty property) {
+        Double value = properties.get(property.getKey());
+        return value == null ? Double.NaN : value;
     }
     
     /**
@@ -82,7 +272,35 @@ public class MaterialDatabase {
      * @param materialName 재료명
      * @return 삭제 성공 여부
      */
-    public boolean removeMaterial(String materialName) {
-        return materials.remove(materialName) != null;
+    public synchronized boolean removeMaterial(String materialName) {
+        boolean removed = false;
+        if (store != null) {
+            try {
+                removed = store.remove(materialName);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "재료를 삭제할 수 없습니다: " + materialName, e);
+            }
+        }
+        int id = table.getId(materialName);
+        if (id >= 0) {
+            table = table.without(id);
+            removed = true;
+        }
+        return removed;
+    }
+
+    /**
+     * 저장소 닫기
+     */
+    public synchronized void close() {
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "재료 저장소를 닫을 수 없습니다", e);
+            }
+            store = null;
+            fullyLoaded = true; // 이미 읽은 재료만 메모리에 남음
+        }
     }
 }
@@ -0,0 +1,37 @@
+package meva.database;
+
+/**
+ * 재료 데이터베이스의 물성값 열
+ * 단위는 Material 모델과 동일 (영률 GPa, 강도 MPa, 밀도 kg/m³)
+ */
+public enum MaterialProperty {
+    YOUNGS_MODULUS("youngsModulus"),
+    YIELD_STRENGTH("yieldStrength"),
+    TENSILE_STRENGTH("tensileStrength"),
+    DENSITY("density"),
+    POISSON_RATIO("poissonRatio");
+
+    private final String key;
+
+    MaterialProperty(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 물성값 맵에서 사용하는 키 (예: "youngsModulus")
+     */
+    public String getKey() { return key; }
+
+    /**
+     * 키로 열 찾기
+     * @return 해당 열, 없으면 null
+     */
+    public static MaterialProperty fromKey(String key) {
+        for (MaterialProperty property : values()) {
+            if (property.key.equals(key)) {
+                return property;
+            }
+        }
+        return null;
+    }
+}
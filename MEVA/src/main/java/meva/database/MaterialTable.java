@@ -0,0 +1,194 @@
+package meva.database;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import meva.models.Material;
+
+/**
+ * 재료 데이터의 불변 스냅샷 (struct-of-arrays)
+ *
+ * 물성값은 열별 double 배열에 재료 id 순서로 저장된다. id는 0부터 size()-1까지이며
+ * 같은 스냅샷 안에서만 유효하다. 스냅샷은 변경되지 않으므로 여러 스레드가
+ * 잠금 없이 동시에 읽을 수 있다. 물성값별 정렬 인덱스는 처음 범위 조회할 때 만든다.
+ */
+public final class MaterialTable {
+
+    static final MaterialTable EMPTY = new MaterialTable(new String[0], new double[MaterialProperty.values().length][0]);
+
+    private final String[] names;
+    private final double[][] columns;
+    private final Map<String, Integer> idByName;
+    // 물성값 오름차순으로 정렬된 id 배열 (지연 생성)
+    private final AtomicReferenceArray<int[]> sortedIds = new AtomicReferenceArray<>(MaterialProperty.values().length);
+
+    MaterialTable(String[] names, double[][] columns) {
+        this.names = names;
+        this.columns = columns;
+        this.idByName = new HashMap<>(names.length * 2);
+        for (int id = 0; id < names.length; id++) {
+            idByName.put(names[id], id);
+        }
+    }
+
+    public int size() { return names.length; }
+
+    /**
+     * 재료명으로 id 조회
+     * @return id, 없으면 -1
+     */
+    public int getId(String name) {
+        Integer id = idByName.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public boolean contains(String name) {
+        return idByName.containsKey(name);
+    }
+
+    public String getName(int id) { return names[id]; }
+
+    /**
+     * 물성값 조회 (값이 없으면 NaN)
+     */
+    public double get(int id, MaterialProperty property) {
+        return columns[property.ordinal()][id];
+    }
+
+    public double getYoungsModulus(int id) { return columns[MaterialProperty.YOUNGS_MODULUS.ordinal()][id]; }
+    public double getYieldStrength(int id) { return columns[MaterialProperty.YIELD_STRENGTH.ordinal()][id]; }
+    public double getTensileStrength(int id) { return columns[MaterialProperty.TENSILE_STRENGTH.ordinal()][id]; }
+    public double getDensity(int id) { return columns[MaterialProperty.DENSITY.ordinal()][id]; }
+    public double getPoissonRatio(int id) { return columns[MaterialProperty.POISSON_RATIO.ordinal()][id]; }
+
+    /**
+     * id의 재료를 Material 객체로 반환 (스냅샷과 분리된 사본)
+     */
+    public Material getMaterial(int id) {
+        return new Material(names[id], getYoungsModulus(id), getYieldStrength(id),
+                getTensileStrength(id), getDensity(id), getPoissonRatio(id));
+    }
+
+    /**
+     * 재료명으로 Material 조회
+     * @return 재료, 없으면 null
+     */
+    public Material getMaterial(String name) {
+        int id = getId(name);
+        return id < 0 ? null : getMaterial(id);
+    }
+
+    /**
+     * 물성값이 [min, max] 구간에 있는 재료 id (물성값 오름차순)
+     * 예: 항복강도 300 MPa 초과 → findIds(YIELD_STRENGTH, Math.nextUp(300), Double.POSITIVE_INFINITY)
+     */
+    public int[] findIds(MaterialProperty property, double min, double max) {
+        int[] sorted = sortedIds(property);
+        double[] column = columns[property.ordinal()];
+        int from = lowerBound(sorted, column, min);
+        int to = lowerBound(sorted, column, Math.nextUp(max));
+        return from < to ? Arrays.copyOfRange(sorted, from, to) : new int[0];
+    }
+
+    /**
+     * 물성값이 [min, max] 구간에 있는 재료 목록 (물성값 오름차순)
+     */
+    public List<Material> findMaterials(MaterialProperty property, double min, double max) {
+        int[] ids = findIds(property, min, max);
+        List<Material> list = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            list.add(getMaterial(id));
+        }
+        return list;
+    }
+
+    /**
+     * 재료명 목록 (id 순서)
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    private int[] sortedIds(MaterialProperty property) {
+        int[] sorted = sortedIds.get(property.ordinal());
+        if (sorted == null) {
+            double[] column = columns[property.ordinal()];
+            // NaN(값 없음)은 인덱스에서 제외
+            sorted = IntStream.range(0, names.length)
+                    .filter(id -> !Double.isNaN(column[id]))
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(id -> column[id]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            sortedIds.compareAndSet(property.ordinal(), null, sorted);
+            sorted = sortedIds.get(property.ordinal());
+        }
+        return sorted;
+    }
+
+    private static int lowerBound(int[] sorted, double[] column, double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (column[sorted[mid]] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 재료 추가/교체한 새 스냅샷
+     */
+    MaterialTable with(Collection<Material> materials) {
+        int capacity = names.length + materials.size();
+        String[] newNames = Arrays.copyOf(names, capacity);
+        double[][] newColumns = new double[columns.length][];
+        for (int c = 0; c < columns.length; c++) {
+            newColumns[c] = Arrays.copyOf(columns[c], capacity);
+        }
+        Map<String, Integer> pending = new HashMap<>();
+        int size = names.length;
+        for (Material material : materials) {
+            Integer existing = idByName.get(material.getName());
+            if (existing == null) {
+                existing = pending.get(material.getName());
+            }
+            int id = existing != null ? existing : size++;
+            pending.put(material.getName(), id);
+            newNames[id] = material.getName();
+            newColumns[MaterialProperty.YOUNGS_MODULUS.ordinal()][id] = material.getYoungsModulus();
+            newColumns[MaterialProperty.YIELD_STRENGTH.ordinal()][id] = material.getYieldStrength();
+            newColumns[MaterialProperty.TENSILE_STRENGTH.ordinal()][id] = material.getTensileStrength();
+            newColumns[MaterialProperty.DENSITY.ordinal()][id] = material.getDensity();
+            newColumns[MaterialProperty.POISSON_RATIO.ordinal()][id] = material.getPoissonRatio();
+        }
+        if (size < capacity) {
+            newNames = Arrays.copyOf(newNames, size);
+            for (int c = 0; c < newColumns.length; c++) {
+                newColumns[c] = Arrays.copyOf(newColumns[c], size);
+            }
+        }
+        return new MaterialTable(newNames, newColumns);
+    }
+
+    /**
+     * 재료를 제거한 새 스냅샷 (뒤쪽 id가 하나씩 당겨짐)
+     */
+    MaterialTable without(int id) {
+        int size = names.length - 1;
+        String[] newNames = new String[size];
+        System.arraycopy(names, 0, newNames, 0, id);
+        System.arraycopy(names, id + 1, newNames, id, size - id);
+        double[][] newColumns = new double[columns.length][size];
+        for (int c = 0; c < columns.length; c++) {
+            System.arraycopy(columns[c], 0, newColumns[c], 0, id);
+            System.arraycopy(columns[c], id + 1, newColumns[c], id, size - id);
+        }
+        return new MaterialTable(newNames, newColumns);
+    }
+}
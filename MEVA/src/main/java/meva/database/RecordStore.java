@@ -0,0 +1,532 @@
+package meva.database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 이름을 키로 하는 추가 전용(append-only) 레코드 저장소
+ *
+ * 데이터 파일(.dat)에는 레코드를 뒤에 덧붙이기만 하고, 색인 파일(.idx)은
+ * 메모리 매핑된 해시 테이블(키 해시 → 레코드 위치)이다.
+ * 열 때는 색인만 매핑하므로 레코드 수와 무관하게 빠르고, 조회 시 필요한 레코드만 읽는다.
+ * 추가/삭제는 레코드 하나를 덧붙이고 색인 슬롯 하나만 갱신한다.
+ * 색인이 없거나 데이터 파일보다 뒤처져 있으면 부족한 부분만 다시 읽어 복구한다.
+ *
+ * <pre>
+ * .dat: [MAGIC][VERSION][reserved 8] 레코드*
+ *   레코드: [int 길이][byte 종류][short 키 길이][키 UTF-8][int 값 개수][double 값*][int 텍스트 길이(-1=null)][텍스트 UTF-8]
+ * .idx: [MAGIC][VERSION][int 용량][int 레코드 수][long 반영된 데이터 길이][long 사용 슬롯 수] 슬롯*
+ *   슬롯: [long 키 해시 (0=비어 있음)][long 레코드 위치 (-1=삭제됨)]
+ * </pre>
+ */
+public class RecordStore implements Closeable {
+
+    static final int DATA_MAGIC = 0x42445645;  // "EVDB"
+    static final int INDEX_MAGIC = 0x58445645; // "EVDX"
+    static final int VERSION = 1;
+    static final int DATA_HEADER_SIZE = 16;
+    static final int INDEX_HEADER_SIZE = 32;
+    static final int SLOT_SIZE = 16;
+    static final int MIN_CAPACITY = 64;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final long DELETED = -1L;
+
+    /**
+     * 저장된 레코드
+     */
+    public static final class Record {
+        private final String key;
+        private final double[] values;
+        private final String text;
+
+        public Record(String key, double[] values, String text) {
+            this.key = key;
+            this.values = values;
+            this.text = text;
+        }
+
+        public String getKey() { return key; }
+        public double[] getValues() { return values; }
+        public String getText() { return text; }
+
+        /** i번째 값, 없으면 NaN */
+        public double getValue(int i) {
+            return i < values.length ? values[i] : Double.NaN;
+        }
+    }
+
+    private final Path dataPath;
+    private final Path indexPath;
+    private FileChannel data;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int count;
+    private long usedSlots;
+    private long dataLength;
+
+    /**
+     * 저장소 열기 (파일이 없으면 생성)
+     * @param directory 저장 디렉터리
+     * @param name 파일 이름 (확장자 제외)
+     * @throws IOException 파일을 열 수 없거나 형식이 잘못된 경우
+     */
+    public RecordStore(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        this.dataPath = directory.resolve(name + ".dat");
+        this.indexPath = directory.resolve(name + ".idx");
+        openData();
+        openIndex();
+    }
+
+    private void openData() throws IOException {
+        data = FileChannel.open(dataPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (data.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(DATA_MAGIC).putInt(VERSION).putLong(0L).flip();
+            writeFully(header, 0);
+        } else {
+            ByteBuffer header = readAt(0, DATA_HEADER_SIZE);
+            if (header == null || header.getInt() != DATA_MAGIC || header.getInt() != VERSION) {
+                throw new IOException("MEVA 저장소 파일이 아닙니다: " + dataPath);
+            }
+        }
+        dataLength = data.size();
+    }
+
+    private void openIndex() throws IOException {
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = null;
+        long covered = -1;
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && indexChannel.read(header, header.position()) > 0) {
+            // 헤더 읽기
+        }
+        if (!header.hasRemaining()) {
+            header.flip();
+            int slots = header.getInt(8);
+            if (header.getInt(0) == INDEX_MAGIC && header.getInt(4) == VERSION
+                    && slots >= MIN_CAPACITY && Integer.bitCount(slots) == 1
+                    && indexChannel.size() >= INDEX_HEADER_SIZE + (long) slots * SLOT_SIZE) {
+                index = map(indexChannel, INDEX_HEADER_SIZE + (long) slots * SLOT_SIZE);
+                capacity = slots;
+                count = header.getInt(12);
+                covered = header.getLong(16);
+                usedSlots = header.getLong(24);
+            }
+        }
+        if (index == null || covered < DATA_HEADER_SIZE || covered > dataLength) {
+            createIndex(MIN_CAPACITY);
+            covered = DATA_HEADER_SIZE;
+        }
+        if (covered < dataLength) {
+            // 색인 이후에 덧붙은 레코드만 반영
+            replay(covered);
+        }
+    }
+
+    /**
+     * 빈 색인 생성. 매핑된 파일은 일부 운영체제에서 줄일 수 없으므로 크기는 늘리기만 한다
+     */
+    private void createIndex(int newCapacity) throws IOException {
+        long size = INDEX_HEADER_SIZE + (long) newCapacity * SLOT_SIZE;
+        index = map(indexChannel, size);
+        for (int position = INDEX_HEADER_SIZE; position < size; position += 8) {
+            index.putLong(position, 0L);
+        }
+        capacity = newCapacity;
+        count = 0;
+        usedSlots = 0;
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, VERSION);
+        index.putInt(8, capacity);
+        writeIndexHeader(DATA_HEADER_SIZE);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private void writeIndexHeader(long coveredLength) {
+        index.putInt(12, count);
+        index.putLong(16, coveredLength);
+        index.putLong(24, usedSlots);
+    }
+
+    /**
+     * from 위치부터 끝까지 레코드를 읽어 색인에 반영. 끝부분이 잘린 레코드는 버린다
+     */
+    private void replay(long from) throws IOException {
+        long position = from;
+        while (position < dataLength) {
+            ByteBuffer record = readRecordAt(position);
+            if (record == null) {
+                data.truncate(position);
+                dataLength = position;
+                break;
+            }
+            byte type = record.get(4);
+            String key = readKey(record);
+            if (type == PUT) {
+                indexPut(key, position);
+            } else {
+                indexRemove(key);
+            }
+            position += record.limit();
+        }
+        writeIndexHeader(dataLength);
+    }
+
+    /**
+     * 레코드 조회
+     * @param key 키
+     * @return 레코드, 없으면 null
+     */
+    public synchronized Record get(String key) throws IOException {
+        long offset = findOffset(key);
+        return offset < 0 ? null : decode(readRecordAt(offset));
+    }
+
+    public synchronized boolean contains(String key) throws IOException {
+        return findOffset(key) >= 0;
+    }
+
+    /**
+     * 레코드 추가 또는 교체 (파일 끝에 덧붙임)
+     * @param key 키
+     * @param values 값
+     * @param text 부가 텍스트 (null 가능)
+     */
+    public synchronized void put(String key, double[] values, String text) throws IOException {
+        long offset = append(encode(PUT, key, values, text));
+        indexPut(key, offset);
+        writeIndexHeader(dataLength);
+    }
+
+    /**
+     * 여러 레코드를 한 번의 쓰기로 추가
+     */
+    public synchronized void putAll(List<Record> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] encoded = new ByteBuffer[records.size()];
+        long total = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            Record record = records.get(i);
+            encoded[i] = encode(PUT, record.getKey(), record.getValues(), record.getText());
+            total += encoded[i].remaining();
+        }
+        long position = dataLength;
+        data.position(position);
+        while (total > 0) {
+            total -= data.write(encoded);
+        }
+        for (int i = 0; i < encoded.length; i++) {
+            indexPut(records.get(i).getKey(), position);
+            position += encoded[i].limit();
+        }
+        dataLength = position;
+        writeIndexHeader(dataLength);
+    }
+
+    /**
+     * 레코드 삭제 (삭제 표시를 덧붙임)
+     * @return 삭제 성공 여부
+     */
+    public synchronized boolean remove(String key) throws IOException {
+        if (findOffset(key) < 0) {
+            return false;
+        }
+        append(encode(DELETE, key, new double[0], null));
+        indexRemove(key);
+        writeIndexHeader(dataLength);
+        return true;
+    }
+
+    /** 저장된 레코드 수 */
+    public synchronized int size() { return count; }
+
+    /**
+     * 저장된 키 목록 (추가된 순서)
+     */
+    public synchronized List<String> keys() throws IOException {
+        List<String> keys = new ArrayList<>(count);
+        for (long offset : liveOffsets()) {
+            keys.add(readKey(readRecordAt(offset)));
+        }
+        return keys;
+    }
+
+    /**
+     * 모든 레코드를 추가된 순서로 읽음 (전체 목록이 필요할 때만 사용)
+     */
+    public synchronized void forEach(Consumer<Record> consumer) throws IOException {
+        for (long offset : liveOffsets()) {
+            consumer.accept(decode(readRecordAt(offset)));
+        }
+    }
+
+    /**
+     * 삭제되거나 교체된 레코드를 제거하여 데이터 파일을 다시 씀
+     */
+    public synchronized void compact() throws IOException {
+        List<Record> live = new ArrayList<>(count);
+        forEach(live::add);
+        Path temp = dataPath.resolveSibling(dataPath.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(DATA_MAGIC).putInt(VERSION).putLong(0L).flip();
+            out.write(header);
+            for (Record record : live) {
+                ByteBuffer encoded = encode(PUT, record.getKey(), record.getValues(), record.getText());
+                while (encoded.hasRemaining()) {
+                    out.write(encoded);
+                }
+            }
+            out.force(false);
+        }
+        data.close();
+        Files.move(temp, dataPath, StandardCopyOption.REPLACE_EXISTING);
+        openData();
+        createIndex(capacity);
+        replay(DATA_HEADER_SIZE);
+    }
+
+    /** 데이터 파일 크기 (바이트) */
+    public synchronized long getDataLength() { return dataLength; }
+
+    private long[] liveOffsets() {
+        long[] offsets = new long[count];
+        int n = 0;
+        for (int slot = 0; slot < capacity && n < count; slot++) {
+            long offset = index.getLong(slotPosition(slot) + 8);
+            if (index.getLong(slotPosition(slot)) != 0 && offset >= 0) {
+                offsets[n++] = offset;
+            }
+        }
+        offsets = Arrays.copyOf(offsets, n);
+        Arrays.sort(offsets);
+        return offsets;
+    }
+
+    // --- 색인 (선형 탐사 해시 테이블) ---
+
+    private static int slotPosition(int slot) {
+        return INDEX_HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private long findOffset(String key) throws IOException {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? -1 : index.getLong(slotPosition(slot) + 8);
+    }
+
+    /**
+     * 키가 살아 있는 슬롯, 없으면 -1
+     */
+    private int findSlot(String key, long hash) throws IOException {
+        int mask = capacity - 1;
+        for (int slot = (int) (hash & mask), probes = 0; probes < capacity; slot = (slot + 1) & mask, probes++) {
+            int position = slotPosition(slot);
+            long slotHash = index.getLong(position);
+            if (slotHash == 0) {
+                return -1;
+            }
+            long offset = index.getLong(position + 8);
+            if (slotHash == hash && offset >= 0 && key.equals(readKey(readRecordAt(offset)))) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void indexPut(String key, long offset) throws IOException {
+        long hash = hash(key);
+        int existing = findSlot(key, hash);
+        if (existing >= 0) {
+            index.putLong(slotPosition(existing) + 8, offset);
+            return;
+        }
+        if ((usedSlots + 1) * 2 > capacity) {
+            resize(capacity * 2);
+        }
+        insertSlot(hash, offset);
+        count++;
+    }
+
+    private void insertSlot(long hash, long offset) {
+        int mask = capacity - 1;
+        for (int slot = (int) (hash & mask); ; slot = (slot + 1) & mask) {
+            int position = slotPosition(slot);
+            long slotHash = index.getLong(position);
+            if (slotHash == 0 || index.getLong(position + 8) == DELETED) {
+                if (slotHash == 0) {
+                    usedSlots++;
+                }
+                index.putLong(position, hash);
+                index.putLong(position + 8, offset);
+                return;
+            }
+        }
+    }
+
+    private void indexRemove(String key) throws IOException {
+        int slot = findSlot(key, hash(key));
+        if (slot >= 0) {
+            // 탐사 사슬이 끊기지 않도록 해시는 남기고 위치만 삭제 표시
+            index.putLong(slotPosition(slot) + 8, DELETED);
+            count--;
+        }
+    }
+
+    /**
+     * 살아 있는 슬롯만 새 테이블로 옮김 (데이터 파일은 읽지 않음)
+     */
+    private void resize(int newCapacity) throws IOException {
+        int oldCapacity = capacity;
+        long[] hashes = new long[count];
+        long[] offsets = new long[count];
+        int n = 0;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int position = slotPosition(slot);
+            long slotHash = index.getLong(position);
+            long offset = index.getLong(position + 8);
+            if (slotHash != 0 && offset >= 0) {
+                hashes[n] = slotHash;
+                offsets[n++] = offset;
+            }
+        }
+        createIndex(Math.max(newCapacity, MIN_CAPACITY));
+        for (int i = 0; i < n; i++) {
+            insertSlot(hashes[i], offsets[i]);
+        }
+        count = n;
+        writeIndexHeader(dataLength);
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 (0은 빈 슬롯 표시에 쓰이므로 제외)
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 29;
+        return h == 0 ? 1 : h;
+    }
+
+    // --- 레코드 인코딩 ---
+
+    private static ByteBuffer encode(byte type, String key, double[] values, String text) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("key is too long: " + key.length());
+        }
+        byte[] textBytes = text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+        int length = 4 + 1 + 2 + keyBytes.length + 4 + values.length * 8 + 4 + (textBytes == null ? 0 : textBytes.length);
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(length - 4).put(type).putShort((short) keyBytes.length).put(keyBytes);
+        buffer.putInt(values.length);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+        buffer.putInt(textBytes == null ? -1 : textBytes.length);
+        if (textBytes != null) {
+            buffer.put(textBytes);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String readKey(ByteBuffer record) {
+        int keyLength = record.getShort(5);
+        return new String(record.array(), 7, keyLength, StandardCharsets.UTF_8);
+    }
+
+    private static Record decode(ByteBuffer record) {
+        String key = readKey(record);
+        record.position(7 + record.getShort(5));
+        double[] values = new double[record.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = record.getDouble();
+        }
+        int textLength = record.getInt();
+        String text = textLength < 0 ? null
+                : new String(record.array(), record.position(), textLength, StandardCharsets.UTF_8);
+        return new Record(key, values, text);
+    }
+
+    private long append(ByteBuffer record) throws IOException {
+        long offset = dataLength;
+        writeFully(record, offset);
+        dataLength = offset + record.limit();
+        return offset;
+    }
+
+    /**
+     * 위치의 레코드 전체 (길이 필드 포함), 잘려 있으면 null
+     */
+    private ByteBuffer readRecordAt(long position) throws IOException {
+        ByteBuffer lengthBuffer = readAt(position, 4);
+        if (lengthBuffer == null) {
+            return null;
+        }
+        int length = lengthBuffer.getInt();
+        if (length < 7 || position + 4 + length > dataLength) {
+            return null;
+        }
+        return readAt(position, 4 + length);
+    }
+
+    private ByteBuffer readAt(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (data.read(buffer, position + buffer.position()) < 0) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += data.write(buffer, position);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (index != null) {
+            index.force();
+            index = null;
+        }
+        if (indexChannel != null) {
+            indexChannel.close();
+        }
+        if (data != null) {
+            data.force(false);
+            data.close();
+        }
+    }
+}
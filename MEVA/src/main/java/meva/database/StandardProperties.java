@@ -0,0 +1,181 @@
+package meva.database;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import meva.models.StandardProperty;
+
+/**
+ * 표준 물성값 범위 관리 클래스
+ * 측정 결과를 재료별 규격 범위와 비교할 때 사용
+ *
+ * 저장 디렉터리를 지정하면 RecordStore에 보관하고 조회한 재료만 읽는다.
+ */
+public class StandardProperties {
+
+    private static final Logger LOGGER = Logger.getLogger(StandardProperties.class.getName());
+    public static final String STORE_NAME = "standard_properties";
+    static final String BUNDLED_RESOURCE = "/data/standard_properties.csv";
+
+    private final Path storeDirectory;
+    private final Map<String, StandardProperty> cache = new ConcurrentHashMap<>();
+    private RecordStore store;
+
+    /**
+     * 메모리에만 보관하는 표준 물성 생성
+     */
+    public StandardProperties() {
+        this(null);
+    }
+
+    /**
+     * @param storeDirectory 저장 디렉터리 (null이면 메모리에만 보관)
+     */
+    public StandardProperties(Path storeDirectory) {
+        this.storeDirectory = storeDirectory;
+    }
+
+    /**
+     * 표준 물성 데이터 로드
+     * 저장소가 비어 있으면 포함된 표준값으로 채우고, 아니면 색인만 연다
+     */
+    public synchronized void loadStandardProperties() {
+        if (storeDirectory != null && store == null) {
+            try {
+                store = new RecordStore(storeDirectory, STORE_NAME);
+                if (store.size() == 0) {
+                    List<RecordStore.Record> records = new ArrayList<>();
+                    for (StandardProperty property : readBundledProperties()) {
+                        records.add(toRecord(property));
+                    }
+                    store.putAll(records);
+                }
+                return;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "표준 물성 저장소를 열 수 없습니다. 메모리에서만 관리합니다.", e);
+                store = null;
+            }
+        }
+        for (StandardProperty property : readBundledProperties()) {
+            cache.put(property.getMaterialName(), property);
+        }
+    }
+
+    private static List<StandardProperty> readBundledProperties() {
+        List<StandardProperty> properties = new ArrayList<>();
+        try {
+            for (String[] row : BundledData.readCsv(BUNDLED_RESOURCE)) {
+                double[] ranges = new double[8];
+                for (int i = 0; i < ranges.length; i++) {
+                    ranges[i] = BundledData.parse(row[i + 1]);
+                }
+                properties.add(new StandardProperty(row[0].trim(), ranges, row.length > 9 ? row[9].trim() : null));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "표준 물성 데이터를 읽을 수 없습니다: " + BUNDLED_RESOURCE, e);
+        }
+        return properties;
+    }
+
+    private static RecordStore.Record toRecord(StandardProperty property) {
+        return new RecordStore.Record(property.getMaterialName(), property.toRanges(), property.getReference());
+    }
+
+    /**
+     * 재료의 표준 물성 범위 조회
+     * @param materialName 재료명
+     * @return 표준 물성, 없으면 null
+     */
+    public StandardProperty getStandardProperty(String materialName) {
+        StandardProperty property = cache.get(materialName);
+        if (property != null) {
+            return property;
+        }
+        synchronized (this) {
+            if (store == null) {
+                return null;
+            }
+            try {
+                RecordStore.Record record = store.get(materialName);
+                if (record == null) {
+                    return null;
+                }
+                property = new StandardProperty(record.getKey(), record.getValues(), record.getText());
+                cache.put(materialName, property);
+                return property;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "표준 물성을 읽을 수 없습니다: " + materialName, e);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 표준 물성이 등록된 재료명 목록
+     */
+    public synchronized List<String> getMaterialNames() {
+        if (store == null) {
+            return new ArrayList<>(cache.keySet());
+        }
+        try {
+            return store.keys();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "표준 물성 저장소를 읽을 수 없습니다", e);
+            return new ArrayList<>(cache.keySet());
+        }
+    }
+
+    /**
+     * 표준 물성 추가 또는 교체
+     * @return 추가 성공 여부
+     */
+    public synchronized boolean addStandardProperty(StandardProperty property) {
+        if (property == null || property.getMaterialName() == null) {
+            return false;
+        }
+        if (store != null) {
+            try {
+                RecordStore.Record record = toRecord(property);
+                store.put(record.getKey(), record.getValues(), record.getText());
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "표준 물성을 저장할 수 없습니다", e);
+                return false;
+            }
+        }
+        cache.put(property.getMaterialName(), property);
+        return true;
+    }
+
+    /**
+     * 표준 물성 삭제
+     * @return 삭제 성공 여부
+     */
+    public synchronized boolean removeStandardProperty(String materialName) {
+        boolean removed = cache.remove(materialName) != null;
+        if (store != null) {
+            try {
+                removed = store.remove(materialName) || removed;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "표준 물성을 삭제할 수 없습니다: " + materialName, e);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 저장소 닫기
+     */
+    public synchronized void close() {
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "표준 물성 저장소를 닫을 수 없습니다", e);
+            }
+            store = null;
+        }
+    }
+}
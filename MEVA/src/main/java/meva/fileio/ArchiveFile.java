@@ -0,0 +1,319 @@
+package meva.fileio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import meva.models.ChunkedColumn;
+import meva.models.TestData;
+
+/**
+ * 압축 보관 파일(.mevz) 리더
+ * 블록 색인을 먼저 읽고, 요청한 샘플/시간 구간에 걸치는 블록만 읽어 복원한다
+ *
+ * 파일 구조 (little-endian)
+ * <pre>
+ * magic "MEVZ" | version(int) | columnMask(int) | blockSize(int) | sampleCount(long)
+ * initialLength(double) | crossSectionArea(double)
+ * operator(int 길이 + UTF-8) | testDate(int 길이 + UTF-8)
+ * 블록[blockCount]: 하중 | 변위 | 시간 압축 비트열 (존재하는 컬럼만)
+ * 색인[blockCount]: offset(long) | minTime(double) | maxTime(double) | 컬럼별 byteLength(int × 3)
+ * indexOffset(long)
+ * </pre>
+ * 시간은 델타-오브-델타, 하중/변위는 XOR로 압축된다 ({@link GorillaCodec}).
+ */
+public class ArchiveFile implements Closeable {
+
+    static final int MAGIC = 0x5A56454D; // "MEVZ" (little-endian)
+    static final int VERSION = 1;
+    static final int FIXED_HEADER_SIZE = 40;
+    static final int INDEX_ENTRY_SIZE = 3 * Long.BYTES + 3 * Integer.BYTES;
+    static final int MAX_HEADER_SIZE = 1 << 20;
+    static final int MAX_BLOCK_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final int columnMask;
+    private final int blockSize;
+    private final long sampleCount;
+    private final int blockCount;
+    private final double initialLength;
+    private final double crossSectionArea;
+    private final String operator;
+    private final String testDate;
+
+    // 블록 색인
+    private final long[] blockOffsets;
+    private final double[] minTimes;
+    private final double[] maxTimes;
+    private final int[][] columnLengths;
+
+    // 복원용 재사용 버퍼
+    private byte[] blockBytes = new byte[0];
+    private final double[][] decoded = new double[3][];
+
+    private ArchiveFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        ByteBuffer header = read(0, (int) Math.min(fileSize, MAX_HEADER_SIZE));
+        if (header.remaining() < FIXED_HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IOException("MEVA 보관 파일 형식이 아닙니다");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 보관 파일 버전: " + version);
+        }
+        columnMask = header.getInt();
+        blockSize = header.getInt();
+        sampleCount = header.getLong();
+        if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE || sampleCount < 0) {
+            throw new IOException("파일이 손상되었습니다: 헤더 오류");
+        }
+        initialLength = header.getDouble();
+        crossSectionArea = header.getDouble();
+        try {
+            operator = MevaDataFile.readString(header);
+            testDate = MevaDataFile.readString(header);
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("파일이 손상되었습니다: 헤더가 잘렸습니다");
+        }
+
+        long blocks = (sampleCount + blockSize - 1) / blockSize;
+        if (blocks > Integer.MAX_VALUE / INDEX_ENTRY_SIZE) {
+            throw new IOException("파일이 손상되었습니다: 블록 수 오류");
+        }
+        blockCount = (int) blocks;
+        long indexOffset = read(fileSize - Long.BYTES, Long.BYTES).getLong();
+        if (indexOffset < FIXED_HEADER_SIZE || indexOffset + (long) blockCount * INDEX_ENTRY_SIZE + Long.BYTES != fileSize) {
+            throw new IOException("파일이 손상되었습니다: 색인 위치 오류");
+        }
+        ByteBuffer index = read(indexOffset, blockCount * INDEX_ENTRY_SIZE);
+        blockOffsets = new long[blockCount];
+        minTimes = new double[blockCount];
+        maxTimes = new double[blockCount];
+        columnLengths = new int[blockCount][3];
+        for (int b = 0; b < blockCount; b++) {
+            blockOffsets[b] = index.getLong();
+            minTimes[b] = index.getDouble();
+            maxTimes[b] = index.getDouble();
+            for (int c = 0; c < 3; c++) {
+                columnLengths[b][c] = index.getInt();
+            }
+        }
+    }
+
+    /**
+     * 보관 파일 열기 (헤더와 블록 색인만 읽음)
+     * @param filePath 파일 경로
+     * @return 리더
+     * @throws IOException 형식이 잘못되었거나 열 수 없는 경우
+     */
+    public static ArchiveFile open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            return new ArchiveFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getSampleCount() { return sampleCount; }
+    public int getBlockCount() { return blockCount; }
+    public int getBlockSize() { return blockSize; }
+    public double getInitialLength() { return initialLength; }
+    public double getCrossSectionArea() { return crossSectionArea; }
+    public String getOperator() { return operator; }
+    public String getTestDate() { return testDate; }
+
+    public boolean hasForceColumn() { return (columnMask & MevaDataFile.FORCE_COLUMN) != 0; }
+    public boolean hasDisplacementColumn() { return (columnMask & MevaDataFile.DISPLACEMENT_COLUMN) != 0; }
+    public boolean hasTimeColumn() { return (columnMask & MevaDataFile.TIME_COLUMN) != 0; }
+
+    /**
+     * 압축률 (압축하지 않은 컬럼 바이트 수 / 파일 크기)
+     */
+    public double getCompressionRatio() throws IOException {
+        long raw = sampleCount * Double.BYTES * Integer.bitCount(columnMask);
+        return raw / (double) channel.size();
+    }
+
+    /**
+     * 전체 데이터 복원
+     * @return 시험 데이터 (힙 묶음 컬럼)
+     */
+    public TestData readAll() throws IOException {
+        return readRange(0, sampleCount);
+    }
+
+    /**
+     * 샘플 위치 구간 복원 (걸치는 블록만 읽음)
+     * @param first 첫 샘플 위치
+     * @param count 샘플 수
+     * @return 시험 데이터
+     */
+    public TestData readRange(long first, long count) throws IOException {
+        if (first < 0 || count < 0 || first > sampleCount) {
+            throw new IndexOutOfBoundsException("range: " + first + "+" + count + ", size: " + sampleCount);
+        }
+        long end = Math.min(sampleCount, first + count);
+        ChunkedColumn[] columns = createColumns();
+        if (first < end) {
+            for (int b = (int) (first / blockSize); b <= (int) ((end - 1) / blockSize); b++) {
+                int length = decodeBlock(b);
+                long blockStart = (long) b * blockSize;
+                int from = (int) Math.max(0, first - blockStart);
+                int to = (int) Math.min(length, end - blockStart);
+                for (int c = 0; c < 3; c++) {
+                    if (columns[c] != null) {
+                        columns[c].appendAll(decoded[c], from, to - from);
+                    }
+                }
+            }
+        }
+        return toTestData(columns);
+    }
+
+    /**
+     * 시간 구간 [from, to]의 샘플 복원
+     * 블록 색인의 최소/최대 시간으로 걸치지 않는 블록은 읽지 않는다
+     * @param from 시작 시간 (s)
+     * @param to 끝 시간 (s)
+     * @return 시험 데이터
+     * @throws IllegalStateException 시간 컬럼이 없는 경우
+     */
+    public TestData readTimeRange(double from, double to) throws IOException {
+        if (!hasTimeColumn()) {
+            throw new IllegalStateException("시간 컬럼이 없는 파일입니다");
+        }
+        ChunkedColumn[] columns = createColumns();
+        for (int b = 0; b < blockCount; b++) {
+            if (maxTimes[b] < from || minTimes[b] > to) {
+                continue;
+            }
+            int length = decodeBlock(b);
+            double[] time = decoded[2];
+            for (int i = 0; i < length; i++) {
+                if (time[i] >= from && time[i] <= to) {
+                    for (int c = 0; c < 3; c++) {
+                        if (columns[c] != null) {
+                            columns[c].append(decoded[c][i]);
+                        }
+                    }
+                }
+            }
+        }
+        return toTestData(columns);
+    }
+
+    /**
+     * 블록 단위로 복원하며 전달 (전체를 메모리에 올리지 않음)
+     * 없는 컬럼의 값은 NaN
+     * @param listener 묶음 수신자
+     * @return 전달한 샘플 수
+     */
+    public long readAll(SampleChunkListener listener) throws IOException {
+        SampleChunk chunk = new SampleChunk(blockSize);
+        long delivered = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int length = decodeBlock(b);
+            chunk.reset(delivered);
+            for (int i = 0; i < length; i++) {
+                chunk.add(value(0, i), value(1, i), value(2, i));
+            }
+            listener.onChunk(chunk);
+            delivered += length;
+        }
+        return delivered;
+    }
+
+    private double value(int column, int i) {
+        return decoded[column] != null && (columnMask & (1 << column)) != 0 ? decoded[column][i] : Double.NaN;
+    }
+
+    /**
+     * 블록 하나를 decoded 버퍼로 복원
+     * @return 블록의 샘플 수
+     */
+    private int decodeBlock(int block) throws IOException {
+        int length = (int) Math.min(blockSize, sampleCount - (long) block * blockSize);
+        int[] lengths = columnLengths[block];
+        int total = lengths[0] + lengths[1] + lengths[2];
+        if (total < 0) {
+            throw new IOException("파일이 손상되었습니다: 블록 길이 오류");
+        }
+        if (blockBytes.length < total) {
+            blockBytes = new byte[total];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(blockBytes, 0, total);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, blockOffsets[block] + buffer.position()) < 0) {
+                throw new IOException("파일이 손상되었습니다: 블록이 잘렸습니다");
+            }
+        }
+        int offset = 0;
+        try {
+            for (int c = 0; c < 3; c++) {
+                if ((columnMask & (1 << c)) == 0) {
+                    continue;
+                }
+                if (decoded[c] == null || decoded[c].length < blockSize) {
+                    decoded[c] = new double[blockSize];
+                }
+                GorillaCodec.BitReader reader = new GorillaCodec.BitReader(blockBytes, offset, lengths[c]);
+                if (c == 2) {
+                    GorillaCodec.decodeDeltaOfDelta(reader, decoded[c], length);
+                } else {
+                    GorillaCodec.decodeXor(reader, decoded[c], length);
+                }
+                offset += lengths[c];
+            }
+        } catch (IllegalStateException e) {
+            throw new IOException("파일이 손상되었습니다: " + e.getMessage());
+        }
+        return length;
+    }
+
+    private ChunkedColumn[] createColumns() {
+        ChunkedColumn[] columns = new ChunkedColumn[3];
+        for (int c = 0; c < 3; c++) {
+            if ((columnMask & (1 << c)) != 0) {
+                columns[c] = new ChunkedColumn();
+            }
+        }
+        return columns;
+    }
+
+    private TestData toTestData(ChunkedColumn[] columns) {
+        TestData testData = new TestData();
+        testData.setForceColumn(columns[0]);
+        testData.setDisplacementColumn(columns[1]);
+        testData.setTimeColumn(columns[2]);
+        testData.setInitialLength(initialLength);
+        testData.setCrossSectionArea(crossSectionArea);
+        testData.setOperator(operator);
+        testData.setTestDate(testDate);
+        return testData;
+    }
+
+    private ByteBuffer read(long position, int size) throws IOException {
+        if (position < 0 || size < 0 || position + size > channel.size()) {
+            throw new IOException("MEVA 보관 파일 형식이 아닙니다");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("파일이 손상되었습니다: 데이터가 잘렸습니다");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,153 @@
+package meva.fileio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import meva.models.ChunkedColumn;
+import meva.models.TestData;
+
+/**
+ * 압축 보관 파일(.mevz) 처리 클래스
+ * 시험 데이터를 BLOCK_SIZE 샘플 단위 블록으로 나누어 Gorilla 방식으로 무손실 압축한다.
+ * 블록마다 시간 범위를 색인에 남기므로 특정 구간만 복원할 수 있다 ({@link ArchiveFile}).
+ */
+public class ArchiveHandler implements FileHandler {
+
+    public static final String EXTENSION = ".mevz";
+
+    /** 블록 하나의 샘플 수 */
+    public static final int BLOCK_SIZE = 4096;
+
+    @Override
+    public Object readFile(String filePath) {
+        try (ArchiveFile file = ArchiveFile.open(filePath)) {
+            return file.readAll();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    @Override
+    public boolean writeFile(Object data, String filePath) {
+        if (!(data instanceof TestData)) {
+            return false;
+        }
+
+        try {
+            write((TestData) data, filePath, BLOCK_SIZE);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isSupported(String filePath) {
+        return filePath != null && filePath.toLowerCase().endsWith(EXTENSION);
+    }
+
+    /**
+     * 시험 데이터를 압축하여 저장
+     * @param testData 시험 데이터
+     * @param filePath 저장할 .mevz 경로
+     * @param blockSize 블록 하나의 샘플 수
+     * @throws IOException 쓰기 실패 또는 컬럼 길이가 다른 경우
+     */
+    void write(TestData testData, String filePath, int blockSize) throws IOException {
+        if (blockSize <= 0 || blockSize > ArchiveFile.MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("blockSize: " + blockSize);
+        }
+        ChunkedColumn[] columns = {
+            testData.getForceColumn(), testData.getDisplacementColumn(), testData.getTimeColumn()
+        };
+        long sampleCount = MevaBinaryHandler.commonLength(columns);
+        int columnMask = (columns[0] != null ? MevaDataFile.FORCE_COLUMN : 0)
+                | (columns[1] != null ? MevaDataFile.DISPLACEMENT_COLUMN : 0)
+                | (columns[2] != null ? MevaDataFile.TIME_COLUMN : 0);
+        long blocks = (sampleCount + blockSize - 1) / blockSize;
+        if (blocks > Integer.MAX_VALUE / ArchiveFile.INDEX_ENTRY_SIZE) {
+            throw new IOException("블록 수가 너무 많습니다: " + blocks);
+        }
+        int blockCount = (int) blocks;
+
+        byte[] operator = MevaBinaryHandler.encode(testData.getOperator());
+        byte[] testDate = MevaBinaryHandler.encode(testData.getTestDate());
+        int headerSize = ArchiveFile.FIXED_HEADER_SIZE
+                + Integer.BYTES + (operator == null ? 0 : operator.length)
+                + Integer.BYTES + (testDate == null ? 0 : testDate.length);
+        if (headerSize > ArchiveFile.MAX_HEADER_SIZE) {
+            throw new IOException("헤더가 너무 큽니다: " + headerSize + " bytes");
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(ArchiveFile.MAGIC);
+        header.putInt(ArchiveFile.VERSION);
+        header.putInt(columnMask);
+        header.putInt(blockSize);
+        header.putLong(sampleCount);
+        header.putDouble(testData.getInitialLength());
+        header.putDouble(testData.getCrossSectionArea());
+        MevaBinaryHandler.putString(header, operator);
+        MevaBinaryHandler.putString(header, testDate);
+        header.flip();
+
+        ByteBuffer index = ByteBuffer.allocate(blockCount * ArchiveFile.INDEX_ENTRY_SIZE + Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        double[] values = new double[blockSize];
+        GorillaCodec.BitWriter bits = new GorillaCodec.BitWriter();
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MevaBinaryHandler.writeFully(channel, header);
+            long offset = headerSize;
+            for (int b = 0; b < blockCount; b++) {
+                long blockStart = (long) b * blockSize;
+                int length = (int) Math.min(blockSize, sampleCount - blockStart);
+                double minTime = Double.NaN;
+                double maxTime = Double.NaN;
+                int[] lengths = new int[3];
+                long blockOffset = offset;
+                for (int c = 0; c < 3; c++) {
+                    if (columns[c] == null) {
+                        continue;
+                    }
+                    columns[c].read(blockStart, values, 0, length);
+                    bits.reset();
+                    if (c == 2) {
+                        GorillaCodec.encodeDeltaOfDelta(values, length, bits);
+                        for (int i = 0; i < length; i++) {
+                            double value = values[i];
+                            if (Double.isNaN(value)) {
+                                continue; // 결측 시간은 블록 범위에서 제외
+                            }
+                            if (Double.isNaN(minTime) || value < minTime) {
+                                minTime = value;
+                            }
+                            if (Double.isNaN(maxTime) || value > maxTime) {
+                                maxTime = value;
+                            }
+                        }
+                    } else {
+                        GorillaCodec.encodeXor(values, length, bits);
+                    }
+                    lengths[c] = bits.byteLength();
+                    MevaBinaryHandler.writeFully(channel, ByteBuffer.wrap(bits.bytes(), 0, lengths[c]));
+                    offset += lengths[c];
+                }
+                index.putLong(blockOffset);
+                index.putDouble(minTime);
+                index.putDouble(maxTime);
+                for (int columnLength : lengths) {
+                    index.putInt(columnLength);
+                }
+            }
+            index.putLong(offset);
+            index.flip();
+            MevaBinaryHandler.writeFully(channel, index);
+        }
+    }
+}
@@ -3,6 +3,12 @@ package meva.fileio;
 import java.io.*;
 import java.util.List;
 import java.util.ArrayList;
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.SimulationResult;
+import meva.models.TestData;
 
 /**
  * CSV 파일 처리 클래스
@@ -27,8 +33,19 @@ public class CSVHandler implements FileHandler {
         return data;
     }
     
+    /**
+     * 데이터를 CSV로 저장
+     * SimulationResult와 TestData는 문자열 행으로 바꾸지 않고 {@link FastCsvWriter}로 바로 씀
+     * @param data 행 목록(List&lt;String[]&gt;), SimulationResult 또는 TestData
+     */
     @Override
     public boolean writeFile(Object data, String filePath) {
+        if (data instanceof SimulationResult) {
+            return writeSimulationResult((SimulationResult) data, filePath);
+        }
+        if (data instanceof TestData) {
+            return writeTestData((TestData) data, filePath);
+        }
         if (!(data instanceof List)) {
             return false;
         }
@@ -47,6 +64,175 @@ public class CSVHandler implements FileHandler {
         }
     }
     
+    /**
+     * 시뮬레이션 결과를 CSV로 저장
+     * 물성값 요약은 "# " 주석 행으로, 곡선은 변형률/응력/진변형률/진응력 컬럼으로 기록
+     * 숫자는 설정 파일의 계산 정밀도(유효숫자)로 씀
+     * @param result 저장할 결과
+     * @param filePath 파일 경로
+     * @return 성공 여부
+     */
+    public boolean writeSimulationResult(SimulationResult result, String filePath) {
+        double[] strain = result.getStrain();
+        double[] stress = result.getStress();
+        if (strain == null || stress == null || strain.length != stress.length) {
+            return false;
+        }
+        double[] trueStrain = sameLength(result.getTrueStrain(), strain.length);
+        double[] trueStress = sameLength(result.getTrueStress(), strain.length);
+        
+        try (Scope scope = Metrics.start(Metrics.CSV_WRITE);
+                FastCsvWriter writer = new FastCsvWriter(filePath)) {
+            scope.setItems(strain.length);
+            int precision = writer.getPrecision();
+            writer.writeComment("youngsModulus(GPa)," + DoubleFormatter.toString(result.getYoungsModulus(), precision));
+            writer.writeComment("yieldStrength(MPa)," + DoubleFormatter.toString(result.getYieldStrength(), precision));
+            writer.writeComment("tensileStrength(MPa),"
+                    + DoubleFormatter.toString(result.getTensileStrength(), precision));
+            writer.writeComment("elongation(%)," + DoubleFormatter.toString(result.getElongation(), precision));
+            writer.writeComment("reductionOfArea(%)," + DoubleFormatter.toString(result.getReductionOfArea(), precision));
+            
+            if (trueStrain != null && trueStress != null) {
+                writer.writeRow("strain", "stress(MPa)", "trueStrain", "trueStress(MPa)");
+            } else {
+                writer.writeRow("strain", "stress(MPa)");
+            }
+            for (int i = 0; i < strain.length; i++) {
+                writer.writeDouble(strain[i]);
+                writer.writeDouble(stress[i]);
+                if (trueStrain != null && trueStress != null) {
+                    writer.writeDouble(trueStrain[i]);
+                    writer.writeDouble(trueStress[i]);
+                }
+                writer.endRow();
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+    
+    /**
+     * 시험 데이터를 CSV로 저장 (있는 컬럼만, readTestData로 다시 읽을 수 있는 헤더 포함)
+     * 컬럼을 블록 단위로 읽으므로 배열 한도를 넘는 데이터도 쓸 수 있음
+     * @param testData 저장할 시험 데이터
+     * @param filePath 파일 경로
+     * @return 성공 여부
+     */
+    public boolean writeTestData(TestData testData, String filePath) {
+        ChunkedColumn[] columns = {
+            testData.getForceColumn(), testData.getDisplacementColumn(), testData.getTimeColumn()
+        };
+        String[] names = {"force(N)", "displacement(mm)", "time(s)"};
+        List<ColumnCursor> cursors = new ArrayList<>(3);
+        List<String> header = new ArrayList<>(3);
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                if (!cursors.isEmpty() && columns[i].size() != testData.getSampleCount()) {
+                    return false;
+                }
+                cursors.add(columns[i].cursor(SampleChunk.DEFAULT_CAPACITY));
+                header.add(names[i]);
+            }
+        }
+        
+        try (Scope scope = Metrics.start(Metrics.CSV_WRITE);
+                FastCsvWriter writer = new FastCsvWriter(filePath)) {
+            scope.setItems(testData.getSampleCount());
+            writer.writeRow(header.toArray(new String[0]));
+            int length;
+            while (!cursors.isEmpty() && (length = nextBlock(cursors)) > 0) {
+                for (int row = 0; row < length; row++) {
+                    for (ColumnCursor cursor : cursors) {
+                        writer.writeDouble(cursor.block()[row]);
+                    }
+                    writer.endRow();
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+    
+    private static int nextBlock(List<ColumnCursor> cursors) {
+        int length = Integer.MAX_VALUE;
+        for (ColumnCursor cursor : cursors) {
+            length = Math.min(length, cursor.next());
+        }
+        return length;
+    }
+    
+    private static double[] sameLength(double[] values, int length) {
+        return values != null && values.length == length ? values : null;
+    }
+    
+    /**
+     * 시험 데이터 CSV를 스트리밍으로 읽어 TestData로 변환
+     * 행마다 String[]을 만들지 않고 묶음 컬럼에 바로 누적 (배열 재할당/복사 없음)
+     * 파일에 없는 컬럼은 null로 설정됨
+     * @param filePath 파일 경로
+     * @return 시험 데이터 (실패 시 null)
+     */
+    public TestData readTestData(String filePath) {
+        try (Scope scope = Metrics.start(Metrics.CSV_READ);
+                CSVStreamReader reader = CSVStreamReader.open(filePath)) {
+            // 파일에 있는 컬럼만 만들어 누적
+            ChunkedColumn force = reader.hasForceColumn() ? new ChunkedColumn() : null;
+            ChunkedColumn displacement = reader.hasDisplacementColumn() ? new ChunkedColumn() : null;
+            ChunkedColumn time = reader.hasTimeColumn() ? new ChunkedColumn() : null;
+            
+            SampleChunk chunk = new SampleChunk();
+            long rows = 0;
+            int count;
+            while ((count = reader.readChunk(chunk)) > 0) {
+                if (force != null) {
+                    force.appendAll(chunk.getForce(), 0, count);
+                }
+                if (displacement != null) {
+                    displacement.appendAll(chunk.getDisplacement(), 0, count);
+                }
+                if (time != null) {
+                    time.appendAll(chunk.getTime(), 0, count);
+                }
+                rows += count;
+            }
+            scope.setItems(rows);
+            Metrics.count(Metrics.CSV_SKIPPED_ROWS, reader.getSkippedRows());
+            
+            TestData testData = new TestData();
+            testData.setForceColumn(force);
+            testData.setDisplacementColumn(displacement);
+            testData.setTimeColumn(time);
+            return testData;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * 시험 데이터 CSV를 묶음 단위로 읽으며 전달
+     * 파일을 다 읽기 전에 계산을 시작할 수 있음
+     * @param filePath 파일 경로
+     * @param listener 묶음 수신자
+     * @return 읽은 샘플 수 (실패 시 -1)
+     */
+    public long readTestDataChunks(String filePath, SampleChunkListener listener) {
+        try (Scope scope = Metrics.start(Metrics.CSV_READ);
+                CSVStreamReader reader = CSVStreamReader.open(filePath)) {
+            long count = reader.readAll(listener, SampleChunk.DEFAULT_CAPACITY);
+            scope.setItems(count);
+            Metrics.count(Metrics.CSV_SKIPPED_ROWS, reader.getSkippedRows());
+            return count;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return -1;
+        }
+    }
+    
     @Override
     public boolean isSupported(String filePath) {
         return filePath != null && filePath.toLowerCase().endsWith(".csv");
@@ -0,0 +1,502 @@
+package meva.fileio;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대용량 시험 데이터용 스트리밍 CSV 리더
+ * 바이트 버퍼에서 직접 숫자를 파싱하여 필드마다 String을 만들지 않고
+ * 하중/변위/시간 컬럼을 SampleChunk의 double 배열로 채움
+ *
+ * - 첫 행이 숫자가 아니면 헤더로 인식하여 컬럼 이름으로 매핑
+ * - 헤더가 없으면 하중, 변위, 시간 순서로 간주
+ * - 큰따옴표로 감싼 필드와 구분자(, ; 탭) 자동 감지 지원
+ * - 구분자가 쉼표가 아니면 소수점 쉼표("1,5") 허용
+ * - '#'으로 시작하는 행은 주석으로 보고 건너뜀
+ */
+public class CSVStreamReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    // 현재 행의 범위
+    private int lineStart;
+    private int lineEnd;
+
+    private byte delimiter;       // 0이면 자동 감지
+    private boolean commaDecimal; // 소수점으로 쉼표 허용 여부
+    private boolean initialized;
+
+    private String[] header;
+    private int forceColumn = -1;
+    private int displacementColumn = -1;
+    private int timeColumn = -1;
+
+    private long rowCount;
+    private long skippedRows;
+    private boolean parseFailed;
+
+    // scanField 결과
+    private int fieldStart;
+    private int fieldEnd;
+
+    /**
+     * 구분자와 소수점을 자동 감지하는 리더 생성
+     * @param in 입력 스트림 (UTF-8)
+     */
+    public CSVStreamReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * 구분자와 소수점 기호를 지정하는 리더 생성
+     * @param in 입력 스트림 (UTF-8)
+     * @param delimiter 필드 구분자
+     * @param decimalSeparator 소수점 기호 ('.' 또는 ',')
+     */
+    public CSVStreamReader(InputStream in, char delimiter, char decimalSeparator) {
+        if (delimiter == decimalSeparator) {
+            throw new IllegalArgumentException("구분자와 소수점 기호가 같을 수 없습니다: " + delimiter);
+        }
+        this.in = in;
+        this.delimiter = (byte) delimiter;
+        this.commaDecimal = decimalSeparator == ',';
+    }
+
+    /**
+     * 파일 경로로 리더 열기
+     * @param filePath CSV 파일 경로
+     * @return 스트리밍 리더
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static CSVStreamReader open(String filePath) throws IOException {
+        return new CSVStreamReader(new FileInputStream(filePath));
+    }
+
+    /**
+     * 다음 샘플 묶음 읽기 (pull 방식)
+     * @param chunk 채울 묶음 (기존 내용은 지워짐)
+     * @return 읽은 샘플 수 (파일 끝이면 0)
+     * @throws IOException 읽기 실패 시
+     */
+    public int readChunk(SampleChunk chunk) throws IOException {
+        ensureInitialized();
+        chunk.reset(rowCount);
+        while (!chunk.isFull() && nextLine()) {
+            if (isBlankOrComment()) {
+                continue;
+            }
+            parseRow(chunk);
+        }
+        return chunk.size();
+    }
+
+    /**
+     * 파일 끝까지 읽으면서 묶음 단위로 전달 (push 방식)
+     * @param listener 묶음 수신자
+     * @param chunkSize 묶음 크기
+     * @return 읽은 전체 샘플 수
+     * @throws IOException 읽기 실패 시
+     */
+    public long readAll(SampleChunkListener listener, int chunkSize) throws IOException {
+        SampleChunk chunk = new SampleChunk(chunkSize);
+        while (readChunk(chunk) > 0) {
+            listener.onChunk(chunk);
+        }
+        return rowCount;
+    }
+
+    public String[] getHeader() throws IOException {
+        ensureInitialized();
+        return header == null ? null : header.clone();
+    }
+
+    public boolean hasForceColumn() throws IOException {
+        ensureInitialized();
+        return forceColumn >= 0;
+    }
+
+    public boolean hasDisplacementColumn() throws IOException {
+        ensureInitialized();
+        return displacementColumn >= 0;
+    }
+
+    public boolean hasTimeColumn() throws IOException {
+        ensureInitialized();
+        return timeColumn >= 0;
+    }
+
+    /** 지금까지 읽은 데이터 행 수 */
+    public long getRowCount() { return rowCount; }
+
+    /** 숫자로 변환할 수 없어 건너뛴 행 수 */
+    public long getSkippedRows() { return skippedRows; }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 첫 행을 읽어 구분자, 헤더, 컬럼 매핑을 결정
+     */
+    private void ensureInitialized() throws IOException {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+        fill();
+        skipByteOrderMark();
+
+        while (nextLine()) {
+            if (!isBlankOrComment()) {
+                break;
+            }
+        }
+        if (isBlankOrComment()) {
+            return; // 빈 파일
+        }
+
+        if (delimiter == 0) {
+            delimiter = detectDelimiter(lineStart, lineEnd);
+            commaDecimal = delimiter != ',';
+        }
+
+        String[] names = splitHeader(lineStart, lineEnd);
+        if (isNumericRow(lineStart, lineEnd)) {
+            assignColumns(SampleColumns.byPosition(names.length));
+            position = lineStart; // 첫 행은 데이터로 다시 읽음
+        } else {
+            header = names;
+            assignColumns(SampleColumns.byName(names));
+        }
+    }
+
+    /**
+     * 빈 행이거나 '#'으로 시작하는 주석 행인지 (FastCsvWriter의 요약 주석)
+     */
+    private boolean isBlankOrComment() {
+        return lineStart == lineEnd || buffer[lineStart] == '#';
+    }
+
+    private void skipByteOrderMark() {
+        if (limit - position >= 3
+                && (buffer[position] & 0xFF) == 0xEF
+                && (buffer[position + 1] & 0xFF) == 0xBB
+                && (buffer[position + 2] & 0xFF) == 0xBF) {
+            position += 3;
+        }
+    }
+
+    private byte detectDelimiter(int start, int end) {
+        int commas = 0, semicolons = 0, tabs = 0;
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes) {
+                if (b == ',') commas++;
+                else if (b == ';') semicolons++;
+                else if (b == '\t') tabs++;
+            }
+        }
+        if (semicolons > commas && semicolons >= tabs) return ';';
+        if (tabs > commas && tabs > semicolons) return '\t';
+        return ',';
+    }
+
+    private void assignColumns(int[] columns) {
+        forceColumn = columns[SampleColumns.FORCE];
+        displacementColumn = columns[SampleColumns.DISPLACEMENT];
+        timeColumn = columns[SampleColumns.TIME];
+    }
+
+    /**
+     * 버퍼에서 다음 행을 찾아 lineStart/lineEnd를 설정
+     * 따옴표 안의 줄바꿈은 행 구분으로 보지 않음
+     */
+    private boolean nextLine() throws IOException {
+        int scan = position;
+        boolean inQuotes = false;
+        while (true) {
+            while (scan < limit) {
+                byte b = buffer[scan];
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    setLine(position, scan);
+                    position = scan + 1;
+                    return true;
+                }
+                scan++;
+            }
+            if (endOfStream) {
+                if (position < limit) {
+                    setLine(position, limit);
+                    position = limit;
+                    return true;
+                }
+                lineStart = lineEnd = position;
+                return false;
+            }
+            int consumed = position;
+            if (consumed > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= consumed;
+                scan -= consumed;
+                position = 0;
+            } else if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2); // 버퍼보다 긴 행
+            }
+            fill();
+        }
+    }
+
+    private void setLine(int start, int end) {
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    private void fill() throws IOException {
+        if (endOfStream || limit == buffer.length) {
+            return;
+        }
+        int n = in.read(buffer, limit, buffer.length - limit);
+        if (n < 0) {
+            endOfStream = true;
+        } else {
+            limit += n;
+        }
+    }
+
+    /**
+     * 현재 행을 파싱하여 묶음에 추가
+     */
+    private void parseRow(SampleChunk chunk) {
+        double forceValue = Double.NaN;
+        double displacementValue = Double.NaN;
+        double timeValue = Double.NaN;
+        int wanted = (forceColumn >= 0 ? 1 : 0) + (displacementColumn >= 0 ? 1 : 0) + (timeColumn >= 0 ? 1 : 0);
+        int found = 0;
+        parseFailed = false;
+
+        int p = lineStart;
+        int column = 0;
+        while (p <= lineEnd && found < wanted) {
+            p = scanField(p, lineEnd);
+            if (column == forceColumn) {
+                forceValue = parseDouble(fieldStart, fieldEnd);
+                found++;
+            } else if (column == displacementColumn) {
+                displacementValue = parseDouble(fieldStart, fieldEnd);
+                found++;
+            } else if (column == timeColumn) {
+                timeValue = parseDouble(fieldStart, fieldEnd);
+                found++;
+            }
+            column++;
+        }
+
+        if (parseFailed || found < wanted) {
+            skippedRows++;
+            return;
+        }
+        chunk.add(forceValue, displacementValue, timeValue);
+        rowCount++;
+    }
+
+    /**
+     * p에서 시작하는 필드의 범위를 fieldStart/fieldEnd에 설정
+     * @return 다음 필드의 시작 위치 (구분자 다음)
+     */
+    private int scanField(int p, int end) {
+        if (p < end && buffer[p] == '"') {
+            fieldStart = ++p;
+            while (p < end) {
+                if (buffer[p] == '"') {
+                    if (p + 1 < end && buffer[p + 1] == '"') {
+                        p += 2; // 이스케이프된 따옴표
+                        continue;
+                    }
+                    break;
+                }
+                p++;
+            }
+            fieldEnd = p;
+            while (p < end && buffer[p] != delimiter) {
+                p++;
+            }
+        } else {
+            fieldStart = p;
+            while (p < end && buffer[p] != delimiter) {
+                p++;
+            }
+            fieldEnd = p;
+        }
+        return p + 1;
+    }
+
+    /**
+     * 바이트 구간을 double로 변환
+     * 유효숫자 18자리, 지수 ±22 이내는 정확한 fast path로 처리하고
+     * 나머지는 Double.parseDouble로 넘김. 실패 시 parseFailed 설정
+     */
+    private double parseDouble(int start, int end) {
+        while (start < end && (buffer[start] == ' ' || buffer[start] == '\t')) start++;
+        while (end > start && (buffer[end - 1] == ' ' || buffer[end - 1] == '\t')) end--;
+        if (start == end) {
+            parseFailed = true;
+            return Double.NaN;
+        }
+
+        int p = start;
+        boolean negative = false;
+        if (buffer[p] == '-' || buffer[p] == '+') {
+            negative = buffer[p] == '-';
+            p++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean truncated = false;
+
+        while (p < end && buffer[p] >= '0' && buffer[p] <= '9') {
+            anyDigit = true;
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + (buffer[p] - '0');
+                if (mantissa != 0) digits++;
+            } else {
+                exponent++;
+                truncated = true;
+            }
+            p++;
+        }
+        if (p < end && (buffer[p] == '.' || (commaDecimal && buffer[p] == ','))) {
+            p++;
+            while (p < end && buffer[p] >= '0' && buffer[p] <= '9') {
+                anyDigit = true;
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (buffer[p] - '0');
+                    if (mantissa != 0) digits++;
+                    exponent--;
+                } else {
+                    truncated = true;
+                }
+                p++;
+            }
+        }
+        if (!anyDigit) {
+            parseFailed = true;
+            return Double.NaN;
+        }
+        if (p < end && (buffer[p] == 'e' || buffer[p] == 'E')) {
+            p++;
+            boolean negativeExponent = false;
+            if (p < end && (buffer[p] == '-' || buffer[p] == '+')) {
+                negativeExponent = buffer[p] == '-';
+                p++;
+            }
+            if (p == end) {
+                parseFailed = true;
+                return Double.NaN;
+            }
+            int exponentValue = 0;
+            while (p < end && buffer[p] >= '0' && buffer[p] <= '9') {
+                if (exponentValue < 10000) {
+                    exponentValue = exponentValue * 10 + (buffer[p] - '0');
+                }
+                p++;
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        if (p != end) {
+            parseFailed = true;
+            return Double.NaN;
+        }
+
+        double value;
+        if (!truncated && mantissa < MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        } else {
+            value = parseSlow(start, end);
+            return value; // 부호 포함하여 변환됨
+        }
+        return negative ? -value : value;
+    }
+
+    private double parseSlow(int start, int end) {
+        String text = new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        if (commaDecimal) {
+            text = text.replace(',', '.');
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            parseFailed = true;
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 첫 행이 데이터인지 판단. 빈 칸(끝 구분자 포함)은 판단에서 제외하고,
+     * 숫자가 아닌 값이 하나라도 있어야 헤더로 본다
+     */
+    private boolean isNumericRow(int start, int end) {
+        int p = start;
+        while (p <= end) {
+            p = scanField(p, end);
+            if (isBlankField(fieldStart, fieldEnd)) {
+                continue;
+            }
+            parseFailed = false;
+            parseDouble(fieldStart, fieldEnd);
+            if (parseFailed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBlankField(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] != ' ' && buffer[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 첫 행을 문자열 배열로 분리 (파일당 한 번만 호출)
+     */
+    private String[] splitHeader(int start, int end) {
+        List<String> names = new ArrayList<>();
+        int p = start;
+        while (p <= end) {
+            p = scanField(p, end);
+            String name = new String(buffer, fieldStart, fieldEnd - fieldStart, StandardCharsets.UTF_8);
+            names.add(name.replace("\"\"", "\"").trim());
+        }
+        return names.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,142 @@
+package meva.fileio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일 내용의 64비트 해시 (XXH64)
+ *
+ * 8바이트 단위로 4개 누산기를 갱신하므로 디스크 읽기 속도에 가깝게 계산된다.
+ * 암호학적 해시가 아니므로 결과 캐시 키처럼 우연한 충돌만 피하면 되는 곳에 쓴다.
+ */
+public final class ContentHash {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE = 32;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private ContentHash() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 파일 전체의 해시
+     * @param filePath 파일 경로
+     * @return XXH64 (seed 0)
+     * @throws IOException 읽기 실패
+     */
+    public static long ofFile(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            State state = new State(0);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                state.update(buffer);
+                buffer.compact();
+            }
+            buffer.flip();
+            return state.finish(buffer);
+        }
+    }
+
+    /**
+     * 바이트 배열의 해시
+     */
+    public static long of(byte[] bytes, long seed) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        State state = new State(seed);
+        state.update(buffer);
+        return state.finish(buffer);
+    }
+
+    /**
+     * 문자열(UTF-8)의 해시
+     */
+    public static long of(String text, long seed) {
+        return of(text.getBytes(StandardCharsets.UTF_8), seed);
+    }
+
+    /**
+     * 누산 상태. update는 32바이트 묶음만 소비하고 나머지는 버퍼에 남긴다
+     */
+    private static final class State {
+        private final long seed;
+        private long v1;
+        private long v2;
+        private long v3;
+        private long v4;
+        private long total;
+
+        State(long seed) {
+            this.seed = seed;
+            v1 = seed + PRIME1 + PRIME2;
+            v2 = seed + PRIME2;
+            v3 = seed;
+            v4 = seed - PRIME1;
+        }
+
+        void update(ByteBuffer buffer) {
+            while (buffer.remaining() >= STRIPE) {
+                v1 = round(v1, buffer.getLong());
+                v2 = round(v2, buffer.getLong());
+                v3 = round(v3, buffer.getLong());
+                v4 = round(v4, buffer.getLong());
+                total += STRIPE;
+            }
+        }
+
+        long finish(ByteBuffer tail) {
+            long length = total + tail.remaining();
+            long hash;
+            if (total > 0) {
+                hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+                hash = mergeRound(hash, v1);
+                hash = mergeRound(hash, v2);
+                hash = mergeRound(hash, v3);
+                hash = mergeRound(hash, v4);
+            } else {
+                hash = seed + PRIME5;
+            }
+            hash += length;
+            while (tail.remaining() >= 8) {
+                hash ^= round(0, tail.getLong());
+                hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+            }
+            if (tail.remaining() >= 4) {
+                hash ^= (tail.getInt() & 0xFFFFFFFFL) * PRIME1;
+                hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+            }
+            while (tail.hasRemaining()) {
+                hash ^= (tail.get() & 0xFFL) * PRIME5;
+                hash = Long.rotateLeft(hash, 11) * PRIME1;
+            }
+            hash ^= hash >>> 33;
+            hash *= PRIME2;
+            hash ^= hash >>> 29;
+            hash *= PRIME3;
+            hash ^= hash >>> 32;
+            return hash;
+        }
+
+        private static long round(long accumulator, long input) {
+            accumulator += input * PRIME2;
+            accumulator = Long.rotateLeft(accumulator, 31);
+            return accumulator * PRIME1;
+        }
+
+        private static long mergeRound(long hash, long value) {
+            hash ^= round(0, value);
+            return hash * PRIME1 + PRIME4;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package meva.fileio;
+
+import java.util.Arrays;
+
+/**
+ * 크기가 자동으로 늘어나는 double 컬럼 버퍼
+ * Double 박싱 없이 대용량 시계열 값을 누적하기 위해 사용
+ */
+public class DoubleColumnBuffer {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private double[] values;
+    private int size;
+
+    public DoubleColumnBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleColumnBuffer(int initialCapacity) {
+        this.values = new double[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * 값 하나 추가
+     * @param value 추가할 값
+     */
+    public void add(double value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * 배열의 일부 구간을 한 번에 추가
+     * @param source 원본 배열
+     * @param offset 시작 위치
+     * @param length 추가할 개수
+     */
+    public void addAll(double[] source, int offset, int length) {
+        if (size + length > values.length) {
+            grow(size + length);
+        }
+        System.arraycopy(source, offset, values, size, length);
+        size += length;
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * 버퍼 비우기 (할당된 배열은 재사용)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 저장된 값만큼 잘라낸 배열 반환
+     * @return 값 배열 (복사본)
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1));
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+        values = Arrays.copyOf(values, newCapacity);
+    }
+}
@@ -0,0 +1,206 @@
+package meva.fileio;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * double 값을 바이트 배열에 직접 쓰는 빠른 숫자 포맷터
+ * String이나 StringBuilder를 거치지 않으므로 값마다 객체가 생기지 않는다
+ *
+ * 값을 유효숫자 precision자리로 반올림한 뒤 끝의 0을 지운 가장 짧은 표현을 쓴다.
+ * 예: precision 6에서 0.1 → "0.1", 200000.0 → "200000", 1.23456789e-7 → "1.23457E-7"
+ * precision이 17 이상이면 다시 읽었을 때 같은 값이 되는 가장 짧은 표현을 쓴다
+ * ({@link ShortestDecimal}, 예: 0.1 → "0.1", Math.PI → "3.141592653589793").
+ */
+public final class DoubleFormatter {
+
+    /** 값 하나를 쓰는 데 필요한 최대 바이트 수 */
+    public static final int MAX_LENGTH = 32;
+
+    /** 정확히 반올림하는 최대 유효숫자 수 (이 값 이상이면 가장 짧은 왕복 표현) */
+    public static final int MAX_PRECISION = 17;
+
+    // 이 범위 밖의 지수는 과학적 표기법으로 씀
+    private static final int MIN_PLAIN_EXPONENT = -5;
+    private static final int MAX_PLAIN_EXPONENT = 15;
+
+    private static final double[] POWERS_OF_TEN = new double[309];
+    private static final long[] LONG_POWERS_OF_TEN = new long[19];
+
+    static {
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = Double.parseDouble("1e" + i); // 올바르게 반올림된 10^i
+        }
+        LONG_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++) {
+            LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private DoubleFormatter() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 값을 ASCII로 기록
+     * @param value 값
+     * @param precision 유효숫자 수 (1 이상)
+     * @param target 대상 배열 (offset부터 MAX_LENGTH바이트 이상 남아 있어야 함)
+     * @param offset 쓰기 시작 위치
+     * @return 쓴 다음 위치
+     */
+    public static int format(double value, int precision, byte[] target, int offset) {
+        if (precision < 1) {
+            throw new IllegalArgumentException("precision must be positive: " + precision);
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return writeAscii(Double.toString(value), target, offset);
+        }
+        int p = offset;
+        if (value < 0 || (value == 0 && 1.0 / value < 0)) {
+            target[p++] = '-';
+            value = -value;
+        }
+        if (value == 0) {
+            target[p++] = '0';
+            return p;
+        }
+        if (precision >= MAX_PRECISION) {
+            return ShortestDecimal.format(value, target, p);
+        }
+
+        // 10진 지수 추정 후 보정
+        int exponent = (int) Math.floor(Math.log10(value));
+        long mantissa = scale(value, precision - 1 - exponent);
+        if (mantissa >= LONG_POWERS_OF_TEN[precision]) {
+            exponent++;
+            mantissa = scale(value, precision - 1 - exponent);
+        } else if (mantissa < LONG_POWERS_OF_TEN[precision - 1]) {
+            exponent--;
+            mantissa = scale(value, precision - 1 - exponent);
+        }
+        if (mantissa >= LONG_POWERS_OF_TEN[precision]) {
+            // 9.9999995 같은 값이 반올림으로 자리가 올라간 경우
+            mantissa /= 10;
+            exponent++;
+        }
+
+        return write(mantissa, precision, exponent, target, p);
+    }
+
+    /**
+     * 값을 문자열로 변환 (요약 값처럼 드물게 쓰는 경우용)
+     */
+    public static String toString(double value, int precision) {
+        byte[] bytes = new byte[MAX_LENGTH];
+        int length = format(value, precision, bytes, 0);
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 양의 정수 f · 10^e 기록 (ShortestDecimal의 결과용)
+     */
+    static int writeDecimal(long f, int e, byte[] target, int p) {
+        int digits = 1;
+        while (digits < LONG_POWERS_OF_TEN.length && f >= LONG_POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return write(f, digits, e + digits - 1, target, p);
+    }
+
+    /**
+     * digits자리 가수 mantissa와 10진 지수로 끝의 0을 지운 뒤 기록
+     */
+    private static int write(long mantissa, int digits, int exponent, byte[] target, int p) {
+        while (digits > 1 && mantissa % 10 == 0) {
+            mantissa /= 10;
+            digits--;
+        }
+        if (exponent < MIN_PLAIN_EXPONENT || exponent >= MAX_PLAIN_EXPONENT) {
+            return writeScientific(mantissa, digits, exponent, target, p);
+        }
+        return writePlain(mantissa, digits, exponent, target, p);
+    }
+
+    /**
+     * value · 10^power를 가장 가까운 정수로 반올림
+     */
+    private static long scale(double value, int power) {
+        double scaled;
+        if (power >= 0) {
+            scaled = power < POWERS_OF_TEN.length
+                    ? value * POWERS_OF_TEN[power]
+                    : value * POWERS_OF_TEN[power - 300] * POWERS_OF_TEN[300]; // 비정규수
+        } else {
+            scaled = value / POWERS_OF_TEN[Math.min(-power, POWERS_OF_TEN.length - 1)];
+        }
+        return Math.round(scaled);
+    }
+
+    /**
+     * 일반 표기: 123.45, 0.00012, 200000
+     */
+    private static int writePlain(long mantissa, int digits, int exponent, byte[] target, int p) {
+        if (exponent < 0) {
+            target[p++] = '0';
+            target[p++] = '.';
+            for (int i = -1; i > exponent; i--) {
+                target[p++] = '0';
+            }
+            return writeDigits(mantissa, digits, target, p);
+        }
+        int integerDigits = exponent + 1;
+        if (digits <= integerDigits) {
+            p = writeDigits(mantissa, digits, target, p);
+            for (int i = digits; i < integerDigits; i++) {
+                target[p++] = '0';
+            }
+            return p;
+        }
+        long divisor = LONG_POWERS_OF_TEN[digits - integerDigits];
+        p = writeDigits(mantissa / divisor, integerDigits, target, p);
+        target[p++] = '.';
+        return writeDigits(mantissa % divisor, digits - integerDigits, target, p);
+    }
+
+    /**
+     * 과학적 표기: 1.23457E-7 (Double.toString과 같은 형식이라 Double.parseDouble로 읽힘)
+     */
+    private static int writeScientific(long mantissa, int digits, int exponent, byte[] target, int p) {
+        long divisor = LONG_POWERS_OF_TEN[digits - 1];
+        target[p++] = (byte) ('0' + mantissa / divisor);
+        if (digits > 1) {
+            target[p++] = '.';
+            p = writeDigits(mantissa % divisor, digits - 1, target, p);
+        }
+        target[p++] = 'E';
+        if (exponent < 0) {
+            target[p++] = '-';
+            exponent = -exponent;
+        }
+        if (exponent >= 100) {
+            target[p++] = (byte) ('0' + exponent / 100);
+        }
+        if (exponent >= 10) {
+            target[p++] = (byte) ('0' + exponent / 10 % 10);
+        }
+        target[p++] = (byte) ('0' + exponent % 10);
+        return p;
+    }
+
+    /**
+     * 정수를 정확히 count자리로 기록 (앞을 0으로 채움)
+     */
+    private static int writeDigits(long value, int count, byte[] target, int p) {
+        for (int i = p + count - 1; i >= p; i--) {
+            target[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return p + count;
+    }
+
+    private static int writeAscii(String text, byte[] target, int p) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, target, p, bytes.length);
+        return p + bytes.length;
+    }
+}
@@ -1,30 +1,170 @@
 package meva.fileio;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.TestData;
+
 /**
  * Excel 파일 처리 클래스
- * Excel 형식의 데이터 파일을 읽고 쓰는 기능을 제공
- * Apache POI 라이브러리 사용
+ * Excel(.xlsx) 형식의 데이터 파일을 읽고 쓰는 기능을 제공
+ * 읽기와 쓰기 모두 스트리밍 방식이라 행 수와 관계없이 메모리 사용량이 일정함
  */
 public class ExcelHandler implements FileHandler {
     
+    private static final int WRITE_BLOCK_SIZE = 8192;
+    
+    /**
+     * .xlsx 파일의 첫 번째 시트를 시험 데이터로 읽기
+     * @return TestData (실패 시 null)
+     */
     @Override
     public Object readFile(String filePath) {
-        // TODO: Apache POI를 사용한 Excel 파일 읽기 구현
-        System.out.println("Excel 파일 읽기: " + filePath);
-        return null;
+        return readTestData(filePath);
     }
     
+    /**
+     * 데이터를 .xlsx 파일로 저장
+     * @param data TestData 또는 행 목록(List&lt;String[]&gt;)
+     */
     @Override
     public boolean writeFile(Object data, String filePath) {
-        // TODO: Apache POI를 사용한 Excel 파일 쓰기 구현
-        System.out.println("Excel 파일 쓰기: " + filePath);
-        return false;
+        try {
+            if (data instanceof TestData) {
+                writeTestData((TestData) data, filePath);
+                return true;
+            }
+            if (data instanceof List) {
+                @SuppressWarnings("unchecked")
+                List<String[]> rows = (List<String[]>) data;
+                try (XlsxStreamWriter writer = XlsxStreamWriter.create(filePath)) {
+                    for (String[] row : rows) {
+                        writer.writeRow(row);
+                    }
+                }
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+    
+    /**
+     * 시험 데이터 시트를 스트리밍으로 읽어 TestData로 변환
+     * 행을 묶음 컬럼에 바로 누적하며, 시트에 없는 컬럼은 null로 설정됨
+     * @param filePath 파일 경로
+     * @return 시험 데이터 (실패 시 null)
+     */
+    public TestData readTestData(String filePath) {
+        try (XlsxStreamReader reader = XlsxStreamReader.open(filePath)) {
+            // 파일에 있는 컬럼만 만들어 누적
+            ChunkedColumn force = reader.hasForceColumn() ? new ChunkedColumn() : null;
+            ChunkedColumn displacement = reader.hasDisplacementColumn() ? new ChunkedColumn() : null;
+            ChunkedColumn time = reader.hasTimeColumn() ? new ChunkedColumn() : null;
+            
+            SampleChunk chunk = new SampleChunk();
+            int count;
+            while ((count = reader.readChunk(chunk)) > 0) {
+                if (force != null) {
+                    force.appendAll(chunk.getForce(), 0, count);
+                }
+                if (displacement != null) {
+                    displacement.appendAll(chunk.getDisplacement(), 0, count);
+                }
+                if (time != null) {
+                    time.appendAll(chunk.getTime(), 0, count);
+                }
+            }
+            
+            TestData testData = new TestData();
+            testData.setForceColumn(force);
+            testData.setDisplacementColumn(displacement);
+            testData.setTimeColumn(time);
+            return testData;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * 시험 데이터 시트를 묶음 단위로 읽으며 전달
+     * @param filePath 파일 경로
+     * @param listener 묶음 수신자
+     * @return 읽은 샘플 수 (실패 시 -1)
+     */
+    public long readTestDataChunks(String filePath, SampleChunkListener listener) {
+        try (XlsxStreamReader reader = XlsxStreamReader.open(filePath)) {
+            return reader.readAll(listener, SampleChunk.DEFAULT_CAPACITY);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return -1;
+        }
+    }
+    
+    /**
+     * 시험 데이터를 헤더 한 행 + 샘플 행으로 저장 (있는 컬럼만)
+     */
+    private void writeTestData(TestData testData, String filePath) throws IOException {
+        ChunkedColumn[] columns = {
+            testData.getForceColumn(), testData.getDisplacementColumn(), testData.getTimeColumn()
+        };
+        String[] names = {"force(N)", "displacement(mm)", "time(s)"};
+        int count = 0;
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                columns[count] = columns[i];
+                names[count] = names[i];
+                count++;
+            }
+        }
+        long rows = count == 0 ? 0 : columns[0].size();
+        for (int i = 1; i < count; i++) {
+            if (columns[i].size() != rows) {
+                throw new IOException("컬럼 길이가 서로 다릅니다");
+            }
+        }
+        if (rows >= XlsxStreamWriter.MAX_ROWS) {
+            throw new IOException("Excel 시트에 담을 수 없는 샘플 수입니다: " + rows);
+        }
+        
+        ColumnCursor[] cursors = new ColumnCursor[count];
+        for (int i = 0; i < count; i++) {
+            cursors[i] = columns[i].cursor(WRITE_BLOCK_SIZE);
+        }
+        double[] row = new double[count];
+        try (XlsxStreamWriter writer = XlsxStreamWriter.create(filePath)) {
+            writer.writeRow(Arrays.copyOf(names, count));
+            int length;
+            while (count > 0 && (length = nextBlock(cursors)) > 0) {
+                for (int r = 0; r < length; r++) {
+                    for (int c = 0; c < count; c++) {
+                        row[c] = cursors[c].block()[r];
+                    }
+                    writer.writeRow(row, count);
+                }
+            }
+        }
+    }
+    
+    private static int nextBlock(ColumnCursor[] cursors) {
+        int length = Integer.MAX_VALUE;
+        for (ColumnCursor cursor : cursors) {
+            length = Math.min(length, cursor.next());
+        }
+        return length;
     }
     
+    /**
+     * .xlsx만 지원 (이전 .xls 이진 형식은 스트리밍으로 읽을 수 없음)
+     */
     @Override
     public boolean isSupported(String filePath) {
         if (filePath == null) return false;
-        String lower = filePath.toLowerCase();
-        return lower.endsWith(".xlsx") || lower.endsWith(".xls");
+        return filePath.toLowerCase().endsWith(".xlsx");
     }
 }
@@ -2,6 +2,7 @@ package meva.fileio;
 
 import java.util.HashMap;
 import java.util.Map;
+import meva.models.TestData;
 
 /**
  * 내보내기 관리 클래스
@@ -22,13 +23,15 @@ public class ExportManager {
     private void registerHandlers() {
         handlers.put("csv", new CSVHandler());
         handlers.put("excel", new ExcelHandler());
+        handlers.put("meva", new MevaBinaryHandler());
+        handlers.put("archive", new ArchiveHandler());
     }
     
     /**
      * 데이터를 지정된 형식으로 내보내기
      * @param data 내보낼 데이터
      * @param filePath 저장할 파일 경로
-     * @param format 파일 형식 (csv, excel)
+     * @param format 파일 형식 (csv, excel, meva, archive)
      * @return 내보내기 성공 여부
      */
     public boolean exportData(Object data, String filePath, String format) {
@@ -57,4 +60,40 @@ public class ExportManager {
         System.err.println("지원하지 않는 파일 형식: " + filePath);
         return false;
     }
+    
+    /**
+     * 파일 경로를 처리할 수 있는 핸들러가 있는지 확인
+     * @param filePath 파일 경로
+     * @return 지원 여부
+     */
+    public boolean isSupported(String filePath) {
+        for (FileHandler handler : handlers.values()) {
+            if (handler.isSupported(filePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 파일 경로에 맞는 핸들러로 시험 데이터 읽기
+     * CSV는 스트리밍 리더로 바로 TestData를 만든다
+     * @param filePath 읽을 파일 경로
+     * @return 시험 데이터 (지원하지 않는 형식이거나 실패 시 null)
+     */
+    public TestData importTestData(String filePath) {
+        for (FileHandler handler : handlers.values()) {
+            if (!handler.isSupported(filePath)) {
+                continue;
+            }
+            if (handler instanceof CSVHandler) {
+                return ((CSVHandler) handler).readTestData(filePath);
+            }
+            Object data = handler.readFile(filePath);
+            return data instanceof TestData ? (TestData) data : null;
+        }
+        
+        System.err.println("지원하지 않는 파일 형식: " + filePath);
+        return null;
+    }
 }
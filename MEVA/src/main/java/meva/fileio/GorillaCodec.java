@@ -0,0 +1,232 @@
+package meva.fileio;
+
+import java.util.Arrays;
+
+/**
+ * Gorilla 방식의 무손실 double 컬럼 압축
+ *
+ * - 델타-오브-델타: 값의 비트 패턴(long)의 차분의 차분을 가변 길이로 기록.
+ *   시간처럼 일정 간격으로 증가하는 컬럼은 대부분 1비트로 줄어든다.
+ * - XOR: 이전 값과 XOR한 뒤 의미 있는 비트 구간만 기록.
+ *   하중/변위처럼 천천히 변하는 컬럼에 적합하다.
+ *
+ * 정수 연산과 비트 단위 XOR만 쓰므로 복원 값은 원래 비트와 정확히 같다 (NaN 포함).
+ */
+final class GorillaCodec {
+
+    private GorillaCodec() {
+    }
+
+    /**
+     * 델타-오브-델타 인코딩
+     * @param values 값
+     * @param count 앞에서부터 인코딩할 개수
+     * @param out 비트 출력 (이어서 씀)
+     */
+    static void encodeDeltaOfDelta(double[] values, int count, BitWriter out) {
+        long previous = 0;
+        long previousDelta = 0;
+        for (int i = 0; i < count; i++) {
+            long bits = Double.doubleToRawLongBits(values[i]);
+            if (i == 0) {
+                out.write(bits, 64);
+            } else {
+                long delta = bits - previous;
+                long dod = delta - previousDelta;
+                long zigzag = (dod << 1) ^ (dod >> 63);
+                if (zigzag == 0) {
+                    out.write(0, 1);
+                } else if (zigzag < (1L << 7)) {
+                    out.write(0b10, 2);
+                    out.write(zigzag, 7);
+                } else if (zigzag < (1L << 12)) {
+                    out.write(0b110, 3);
+                    out.write(zigzag, 12);
+                } else if (zigzag < (1L << 20)) {
+                    out.write(0b1110, 4);
+                    out.write(zigzag, 20);
+                } else {
+                    out.write(0b1111, 4);
+                    out.write(zigzag, 64);
+                }
+                previousDelta = delta;
+            }
+            previous = bits;
+        }
+    }
+
+    static void decodeDeltaOfDelta(BitReader in, double[] values, int count) {
+        long previous = 0;
+        long previousDelta = 0;
+        for (int i = 0; i < count; i++) {
+            long bits;
+            if (i == 0) {
+                bits = in.read(64);
+            } else {
+                long zigzag;
+                if (!in.readBit()) {
+                    zigzag = 0;
+                } else if (!in.readBit()) {
+                    zigzag = in.read(7);
+                } else if (!in.readBit()) {
+                    zigzag = in.read(12);
+                } else if (!in.readBit()) {
+                    zigzag = in.read(20);
+                } else {
+                    zigzag = in.read(64);
+                }
+                long dod = (zigzag >>> 1) ^ -(zigzag & 1);
+                long delta = previousDelta + dod;
+                bits = previous + delta;
+                previousDelta = delta;
+            }
+            values[i] = Double.longBitsToDouble(bits);
+            previous = bits;
+        }
+    }
+
+    /**
+     * XOR 인코딩
+     * @param values 값
+     * @param count 앞에서부터 인코딩할 개수
+     * @param out 비트 출력 (이어서 씀)
+     */
+    static void encodeXor(double[] values, int count, BitWriter out) {
+        long previous = 0;
+        int previousLeading = -1;
+        int previousTrailing = 0;
+        for (int i = 0; i < count; i++) {
+            long bits = Double.doubleToRawLongBits(values[i]);
+            if (i == 0) {
+                out.write(bits, 64);
+                previous = bits;
+                continue;
+            }
+            long xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0) {
+                out.write(0, 1);
+                continue;
+            }
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                // 이전 구간 안에 들어오면 구간 정보 없이 값만 기록
+                out.write(0b10, 2);
+                out.write(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int significant = 64 - leading - trailing;
+                out.write(0b11, 2);
+                out.write(leading, 5);
+                out.write(significant - 1, 6);
+                out.write(xor >>> trailing, significant);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+    }
+
+    static void decodeXor(BitReader in, double[] values, int count) {
+        long previous = 0;
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                previous = in.read(64);
+            } else if (in.readBit()) {
+                if (in.readBit()) {
+                    leading = (int) in.read(5);
+                    int significant = (int) in.read(6) + 1;
+                    trailing = 64 - leading - significant;
+                }
+                previous ^= in.read(64 - leading - trailing) << trailing;
+            }
+            values[i] = Double.longBitsToDouble(previous);
+        }
+    }
+
+    /**
+     * 바이트 배열에 비트를 이어 쓰는 출력 (MSB부터)
+     */
+    static final class BitWriter {
+        private byte[] bytes = new byte[4096];
+        private long bitLength;
+
+        /**
+         * value의 하위 bits비트 기록
+         * @param bits 1 ~ 64
+         */
+        void write(long value, int bits) {
+            ensureCapacity((int) ((bitLength + bits + 7) >>> 3));
+            while (bits > 0) {
+                int used = (int) (bitLength & 7);
+                int free = 8 - used;
+                int take = Math.min(free, bits);
+                int chunk = (int) ((value >>> (bits - take)) & ((1 << take) - 1));
+                bytes[(int) (bitLength >>> 3)] |= (byte) (chunk << (free - take));
+                bitLength += take;
+                bits -= take;
+            }
+        }
+
+        /** 기록한 바이트 수 (마지막 바이트는 0으로 채워짐) */
+        int byteLength() {
+            return (int) ((bitLength + 7) >>> 3);
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        void reset() {
+            Arrays.fill(bytes, 0, byteLength(), (byte) 0);
+            bitLength = 0;
+        }
+
+        private void ensureCapacity(int length) {
+            if (length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length, bytes.length * 2));
+            }
+        }
+    }
+
+    /**
+     * 바이트 배열에서 비트를 읽는 입력 (MSB부터)
+     */
+    static final class BitReader {
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+        private long position;
+
+        BitReader(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        boolean readBit() {
+            return read(1) != 0;
+        }
+
+        /**
+         * @param bits 0 ~ 64
+         */
+        long read(int bits) {
+            if (position + bits > (long) length * 8) {
+                throw new IllegalStateException("압축 데이터가 잘렸습니다");
+            }
+            long value = 0;
+            while (bits > 0) {
+                int used = (int) (position & 7);
+                int free = 8 - used;
+                int take = Math.min(free, bits);
+                int b = bytes[offset + (int) (position >>> 3)] & 0xFF;
+                value = (value << take) | ((b >>> (free - take)) & ((1 << take) - 1));
+                position += take;
+                bits -= take;
+            }
+            return value;
+        }
+    }
+}
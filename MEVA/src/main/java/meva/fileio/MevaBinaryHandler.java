@@ -0,0 +1,162 @@
+package meva.fileio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.TestData;
+
+/**
+ * MEVA 바이너리(.meva) 파일 처리 클래스
+ * 시험 데이터를 컬럼 단위 little-endian double 배열로 저장하여
+ * 다시 열 때 CSV 파싱 없이 메모리 매핑으로 바로 읽을 수 있게 함
+ */
+public class MevaBinaryHandler implements FileHandler {
+
+    public static final String EXTENSION = ".meva";
+
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * .meva 파일을 읽어 TestData 반환
+     * 대용량 데이터는 복사 없이 다루도록 {@link MevaDataFile#toMappedTestData()} 사용 권장
+     */
+    @Override
+    public Object readFile(String filePath) {
+        try (MevaDataFile file = MevaDataFile.open(filePath)) {
+            return file.toTestData();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    @Override
+    public boolean writeFile(Object data, String filePath) {
+        if (!(data instanceof TestData)) {
+            return false;
+        }
+
+        try {
+            write((TestData) data, filePath);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isSupported(String filePath) {
+        return filePath != null && filePath.toLowerCase().endsWith(EXTENSION);
+    }
+
+    /**
+     * CSV 시험 데이터를 .meva 형식으로 변환 (최초 1회)
+     * @param csvPath 원본 CSV 경로
+     * @param mevaPath 저장할 .meva 경로
+     * @return 변환 성공 여부
+     */
+    public boolean convertFromCSV(String csvPath, String mevaPath) {
+        TestData testData = new CSVHandler().readTestData(csvPath);
+        if (testData == null) {
+            return false;
+        }
+        return writeFile(testData, mevaPath);
+    }
+
+    private void write(TestData testData, String filePath) throws IOException {
+        ChunkedColumn force = testData.getForceColumn();
+        ChunkedColumn displacement = testData.getDisplacementColumn();
+        ChunkedColumn time = testData.getTimeColumn();
+        long sampleCount = commonLength(force, displacement, time);
+
+        int columnMask = (force != null ? MevaDataFile.FORCE_COLUMN : 0)
+                | (displacement != null ? MevaDataFile.DISPLACEMENT_COLUMN : 0)
+                | (time != null ? MevaDataFile.TIME_COLUMN : 0);
+        byte[] operator = encode(testData.getOperator());
+        byte[] testDate = encode(testData.getTestDate());
+
+        int headerSize = MevaDataFile.FIXED_HEADER_SIZE
+                + Integer.BYTES + (operator == null ? 0 : operator.length)
+                + Integer.BYTES + (testDate == null ? 0 : testDate.length);
+        int dataOffset = (headerSize + 7) & ~7; // 컬럼을 8바이트 경계에 정렬
+        if (dataOffset > MevaDataFile.MAX_HEADER_SIZE) {
+            throw new IOException("헤더가 너무 큽니다: " + dataOffset + " bytes");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MevaDataFile.MAGIC);
+        header.putInt(MevaDataFile.VERSION);
+        header.putInt(columnMask);
+        header.putLong(sampleCount);
+        header.putLong(dataOffset);
+        header.putDouble(testData.getInitialLength());
+        header.putDouble(testData.getCrossSectionArea());
+        putString(header, operator);
+        putString(header, testDate);
+        header.position(0);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            writeColumn(channel, buffer, force);
+            writeColumn(channel, buffer, displacement);
+            writeColumn(channel, buffer, time);
+        }
+    }
+
+    static long commonLength(ChunkedColumn... columns) throws IOException {
+        long length = -1;
+        for (ChunkedColumn column : columns) {
+            if (column == null) {
+                continue;
+            }
+            if (length >= 0 && column.size() != length) {
+                throw new IOException("컬럼 길이가 서로 다릅니다");
+            }
+            length = column.size();
+        }
+        return Math.max(length, 0);
+    }
+
+    private static void writeColumn(FileChannel channel, ByteBuffer buffer, ChunkedColumn column)
+            throws IOException {
+        if (column == null) {
+            return;
+        }
+        ColumnCursor cursor = column.cursor(buffer.capacity() / Double.BYTES);
+        int length;
+        while ((length = cursor.next()) > 0) {
+            buffer.clear();
+            buffer.asDoubleBuffer().put(cursor.block(), 0, length);
+            buffer.limit(length * Double.BYTES);
+            writeFully(channel, buffer);
+        }
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static void putString(ByteBuffer header, byte[] value) {
+        if (value == null) {
+            header.putInt(-1);
+        } else {
+            header.putInt(value.length);
+            header.put(value);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package meva.fileio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import meva.models.ChunkedColumn;
+import meva.models.ColumnCursor;
+import meva.models.TestData;
+
+/**
+ * 메모리 매핑된 .meva 파일
+ * 하중/변위/시간 컬럼을 복사 없이 ChunkedColumn(또는 DoubleBuffer 뷰)으로 제공
+ * 컬럼은 최대 1 GB 구간으로 나누어 매핑하므로 2 GB를 넘는 컬럼도 열 수 있다
+ *
+ * 파일 구조 (little-endian)
+ * <pre>
+ * magic "MEVA" | version(int) | columnMask(int) | sampleCount(long) | dataOffset(long)
+ * initialLength(double) | crossSectionArea(double)
+ * operator(int 길이 + UTF-8) | testDate(int 길이 + UTF-8) | 8바이트 정렬 패딩
+ * force[sampleCount] | displacement[sampleCount] | time[sampleCount]  (존재하는 컬럼만)
+ * </pre>
+ */
+public class MevaDataFile implements Closeable {
+
+    static final int MAGIC = 0x4156454D; // "MEVA" (little-endian)
+    static final int VERSION = 1;
+    static final int FORCE_COLUMN = 1;
+    static final int DISPLACEMENT_COLUMN = 1 << 1;
+    static final int TIME_COLUMN = 1 << 2;
+    static final int FIXED_HEADER_SIZE = 44;
+    static final int MAX_HEADER_SIZE = 1 << 20;
+    static final int MAP_CHUNK_SHIFT = 27; // 매핑 구간 하나에 2^27개 = 1 GB
+    private static final int COPY_BLOCK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final long sampleCount;
+    private final double initialLength;
+    private final double crossSectionArea;
+    private final String operator;
+    private final String testDate;
+    private final ChunkedColumn force;
+    private final ChunkedColumn displacement;
+    private final ChunkedColumn time;
+
+    private MevaDataFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer header = readHeader(FIXED_HEADER_SIZE);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("MEVA 파일 형식이 아닙니다");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 MEVA 파일 버전: " + version);
+        }
+        int columnMask = header.getInt();
+        sampleCount = header.getLong();
+        long dataOffset = header.getLong();
+        if (dataOffset < FIXED_HEADER_SIZE || dataOffset > MAX_HEADER_SIZE || sampleCount < 0) {
+            throw new IOException("파일이 손상되었습니다: 헤더 오류");
+        }
+        header = readHeader((int) dataOffset);
+        header.position(FIXED_HEADER_SIZE - 2 * Double.BYTES);
+        initialLength = header.getDouble();
+        crossSectionArea = header.getDouble();
+        operator = readString(header);
+        testDate = readString(header);
+
+        long columnBytes = sampleCount * Double.BYTES;
+        long offset = dataOffset;
+        force = (columnMask & FORCE_COLUMN) != 0 ? map(offset, sampleCount) : null;
+        offset += force != null ? columnBytes : 0;
+        displacement = (columnMask & DISPLACEMENT_COLUMN) != 0 ? map(offset, sampleCount) : null;
+        offset += displacement != null ? columnBytes : 0;
+        time = (columnMask & TIME_COLUMN) != 0 ? map(offset, sampleCount) : null;
+    }
+
+    /**
+     * .meva 파일을 읽기 전용으로 매핑
+     * @param filePath 파일 경로
+     * @return 매핑된 파일
+     * @throws IOException 파일 형식이 잘못되었거나 열 수 없는 경우
+     */
+    public static MevaDataFile open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            return new MevaDataFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer readHeader(int size) throws IOException {
+        if (channel.size() < size) {
+            throw new IOException("MEVA 파일 형식이 아닙니다");
+        }
+        ByteBuffer header = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("파일이 손상되었습니다: 헤더가 잘렸습니다");
+            }
+        }
+        header.flip();
+        return header;
+    }
+
+    private ChunkedColumn map(long offset, long count) throws IOException {
+        if (count > Long.MAX_VALUE / Double.BYTES || offset + count * Double.BYTES > channel.size()) {
+            throw new IOException("파일이 손상되었습니다: 컬럼 데이터가 부족합니다");
+        }
+        long perChunk = 1L << MAP_CHUNK_SHIFT;
+        List<DoubleBuffer> chunks = new ArrayList<>();
+        for (long start = 0; start < count; start += perChunk) {
+            long length = Math.min(perChunk, count - start);
+            chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, offset + start * Double.BYTES, length * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asDoubleBuffer());
+        }
+        return ChunkedColumn.wrap(chunks, MAP_CHUNK_SHIFT);
+    }
+
+    static String readString(ByteBuffer header) throws IOException {
+        int length = header.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > header.remaining()) {
+            throw new IOException("파일이 손상되었습니다: 헤더 문자열 길이 오류");
+        }
+        byte[] bytes = new byte[length];
+        header.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long getSampleCount() { return sampleCount; }
+    public double getInitialLength() { return initialLength; }
+    public double getCrossSectionArea() { return crossSectionArea; }
+    public String getOperator() { return operator; }
+    public String getTestDate() { return testDate; }
+
+    /** 매핑된 하중 컬럼 (없으면 null) */
+    public ChunkedColumn getForceColumn() { return force; }
+
+    /** 매핑된 변위 컬럼 (없으면 null) */
+    public ChunkedColumn getDisplacementColumn() { return displacement; }
+
+    /** 매핑된 시간 컬럼 (없으면 null) */
+    public ChunkedColumn getTimeColumn() { return time; }
+
+    /** 하중 컬럼 뷰 (없으면 null, 1 GB 이하 컬럼만) */
+    public DoubleBuffer getForce() { return view(force); }
+
+    /** 변위 컬럼 뷰 (없으면 null, 1 GB 이하 컬럼만) */
+    public DoubleBuffer getDisplacement() { return view(displacement); }
+
+    /** 시간 컬럼 뷰 (없으면 null, 1 GB 이하 컬럼만) */
+    public DoubleBuffer getTime() { return view(time); }
+
+    private DoubleBuffer view(ChunkedColumn column) {
+        if (column == null) {
+            return null;
+        }
+        if (column.getChunkCount() > 1) {
+            throw new IllegalStateException("컬럼이 매핑 구간 하나보다 큽니다. 컬럼 getter를 사용하세요: "
+                    + sampleCount + " samples");
+        }
+        return column.getChunkCount() == 0 ? DoubleBuffer.allocate(0) : column.chunk(0);
+    }
+
+    /**
+     * 매핑된 컬럼을 힙으로 복사하여 TestData 생성
+     * 묶음 컬럼으로 복사하므로 하나의 큰 배열을 할당하지 않는다
+     * @return 시험 데이터
+     */
+    public TestData toTestData() {
+        TestData testData = createTestData();
+        testData.setForceColumn(copy(force));
+        testData.setDisplacementColumn(copy(displacement));
+        testData.setTimeColumn(copy(time));
+        return testData;
+    }
+
+    /**
+     * 매핑된 컬럼을 복사 없이 그대로 쓰는 TestData 생성
+     * 데이터는 힙 밖에 있어 GC 부담이 없고, 파일을 닫은 뒤에도 매핑은 유효하다
+     * @return 시험 데이터 (읽기 전용 컬럼)
+     */
+    public TestData toMappedTestData() {
+        TestData testData = createTestData();
+        testData.setForceColumn(force);
+        testData.setDisplacementColumn(displacement);
+        testData.setTimeColumn(time);
+        return testData;
+    }
+
+    private TestData createTestData() {
+        TestData testData = new TestData();
+        testData.setInitialLength(initialLength);
+        testData.setCrossSectionArea(crossSectionArea);
+        testData.setOperator(operator);
+        testData.setTestDate(testDate);
+        return testData;
+    }
+
+    private static ChunkedColumn copy(ChunkedColumn column) {
+        if (column == null) {
+            return null;
+        }
+        ChunkedColumn heap = new ChunkedColumn();
+        ColumnCursor cursor = column.cursor(COPY_BLOCK_SIZE);
+        int length;
+        while ((length = cursor.next()) > 0) {
+            heap.appendAll(cursor.block(), 0, length);
+        }
+        return heap;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
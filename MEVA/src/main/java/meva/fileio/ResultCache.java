@@ -0,0 +1,359 @@
+package meva.fileio;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import meva.models.SimulationResult;
+import meva.utils.ConfigManager;
+
+/**
+ * 분석 결과의 디스크 캐시 (내용 주소 방식)
+ *
+ * 키는 입력 파일 내용의 해시({@link ContentHash})와 계산 설정 문자열의 해시로 만들어지므로
+ * 파일 이름이나 수정 시각이 바뀌어도 내용이 같으면 적중하고, 내용이나 설정이 바뀌면 새로 계산된다.
+ * 결과는 항목마다 한 파일(.mevr)에 곡선을 Gorilla XOR 방식으로 압축해 저장한다.
+ * 전체 크기가 상한을 넘으면 가장 오래 사용하지 않은 항목부터 지운다 (적중 시 수정 시각 갱신).
+ *
+ * 항목 구조 (little-endian)
+ * <pre>
+ * magic "MEVR" | version(int) | contentHash(long) | settingsHash(long)
+ * 물성값(double × 9) | sampleCount(long) | flags(int)
+ * 곡선[4]: 길이(int, 없으면 -1) | 압축 바이트 수(int) | 압축 비트열
+ * </pre>
+ */
+public class ResultCache {
+
+    public static final String EXTENSION = ".mevr";
+
+    static final int MAGIC = 0x5256454D; // "MEVR" (little-endian)
+    static final int VERSION = 1;
+    private static final int FLAG_VALID = 1;
+    private static final int FLAG_FRACTURE = 1 << 1;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param directory 캐시 디렉터리 (없으면 첫 저장 때 생성)
+     * @param maxBytes 항목 파일 크기 합의 상한
+     */
+    public ResultCache(String directory, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.directory = Paths.get(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 설정 파일(cache.enabled, cache.directory, cache.max_mb)의 캐시
+     * @return 캐시 (꺼져 있으면 null)
+     */
+    public static ResultCache fromConfig(ConfigManager config) {
+        if (!config.getBoolean(ConfigManager.KEY_CACHE_ENABLED, true)) {
+            return null;
+        }
+        long maxMegabytes = Math.max(1, config.getInt(ConfigManager.KEY_CACHE_MAX_MB, 256));
+        return new ResultCache(config.getString(ConfigManager.KEY_CACHE_DIRECTORY, "meva-cache"),
+                maxMegabytes * 1024 * 1024);
+    }
+
+    /**
+     * 캐시 키 계산 (파일 내용 전체를 읽음)
+     * @param filePath 입력 파일
+     * @param settings 결과에 영향을 주는 계산 설정 (같은 설정이면 같은 문자열)
+     * @return 캐시 키
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public Key keyOf(String filePath, String settings) throws IOException {
+        return new Key(ContentHash.ofFile(filePath), ContentHash.of(settings, VERSION));
+    }
+
+    /**
+     * 캐시 키 (입력 내용 해시 + 설정 해시)
+     */
+    public static final class Key {
+        private final long contentHash;
+        private final long settingsHash;
+
+        public Key(long contentHash, long settingsHash) {
+            this.contentHash = contentHash;
+            this.settingsHash = settingsHash;
+        }
+
+        public long getContentHash() { return contentHash; }
+        public long getSettingsHash() { return settingsHash; }
+
+        String fileName() {
+            return String.format("%016x-%016x%s", contentHash, settingsHash, EXTENSION);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return contentHash == other.contentHash && settingsHash == other.settingsHash;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(contentHash * 31 + settingsHash);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%016x-%016x", contentHash, settingsHash);
+        }
+    }
+
+    /**
+     * 결과 조회
+     * @return 저장된 결과 (없거나 손상되었으면 null, 손상된 항목은 지움)
+     */
+    public SimulationResult get(Key key) {
+        Path path = directory.resolve(key.fileName());
+        if (!Files.isRegularFile(path)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try {
+            SimulationResult result = decode(key, ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN));
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            return result;
+        } catch (IOException e) {
+            e.printStackTrace();
+            deleteQuietly(path);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * 결과 저장 (임시 파일에 쓴 뒤 이름을 바꾸므로 읽는 쪽은 항상 완전한 항목만 봄)
+     * @param key 캐시 키
+     * @param result 유효한 결과
+     * @return 저장 성공 여부
+     */
+    public boolean put(Key key, SimulationResult result) {
+        if (result == null || !result.isValid()) {
+            return false;
+        }
+        Path target = directory.resolve(key.fileName());
+        Path temporary = null;
+        try {
+            byte[] bytes = encode(key, result);
+            if (bytes.length > maxBytes) {
+                return false; // 상한보다 큰 결과는 보관하지 않음
+            }
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, "entry", ".tmp");
+            Files.write(temporary, bytes);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict(target);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (temporary != null) {
+                deleteQuietly(temporary);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 상한을 넘으면 오래 사용하지 않은 항목부터 삭제 (방금 저장한 항목은 남김)
+     */
+    private void evict(Path keep) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path path : stream) {
+                Entry entry = new Entry(path, Files.size(path), Files.getLastModifiedTime(path));
+                entries.add(entry);
+                total += entry.size;
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+        entries.sort(Comparator.comparing(entry -> entry.lastUsed));
+        for (int i = 0; i < entries.size() && total > maxBytes; i++) {
+            Entry entry = entries.get(i);
+            if (!entry.path.equals(keep) && Files.deleteIfExists(entry.path)) {
+                total -= entry.size;
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final Path path;
+        final long size;
+        final FileTime lastUsed;
+
+        Entry(Path path, long size, FileTime lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * 모든 항목 삭제 (통계는 유지)
+     */
+    public void clear() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path entry : stream) {
+                Files.deleteIfExists(entry);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 보관 중인 항목 파일 크기 합 (바이트)
+     */
+    public long getCurrentBytes() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        long total = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path entry : stream) {
+                total += Files.size(entry);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return total;
+    }
+
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+    public long getEvictionCount() { return evictions.get(); }
+    public long getMaxBytes() { return maxBytes; }
+    public String getDirectory() { return directory.toString(); }
+
+    static byte[] encode(Key key, SimulationResult result) {
+        double[][] curves = {result.getStress(), result.getStrain(), result.getTrueStress(), result.getTrueStrain()};
+        GorillaCodec.BitWriter[] encoded = new GorillaCodec.BitWriter[curves.length];
+        long size = 2 * Integer.BYTES + 2 * Long.BYTES + 9 * Double.BYTES + Long.BYTES + Integer.BYTES;
+        for (int c = 0; c < curves.length; c++) {
+            size += 2 * Integer.BYTES;
+            if (curves[c] != null) {
+                encoded[c] = new GorillaCodec.BitWriter();
+                GorillaCodec.encodeXor(curves[c], curves[c].length, encoded[c]);
+                size += encoded[c].byteLength();
+            }
+        }
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("result too large to cache: " + size + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(key.contentHash);
+        buffer.putLong(key.settingsHash);
+        buffer.putDouble(result.getYoungsModulus());
+        buffer.putDouble(result.getYieldStrength());
+        buffer.putDouble(result.getTensileStrength());
+        buffer.putDouble(result.getElongation());
+        buffer.putDouble(result.getReductionOfArea());
+        buffer.putDouble(result.getModulusRSquared());
+        buffer.putDouble(result.getModulusStartStrain());
+        buffer.putDouble(result.getModulusEndStrain());
+        buffer.putDouble(result.getUniformStrain());
+        buffer.putLong(result.getSampleCount());
+        buffer.putInt((result.isValid() ? FLAG_VALID : 0) | (result.isFractureDetected() ? FLAG_FRACTURE : 0));
+        for (int c = 0; c < curves.length; c++) {
+            if (curves[c] == null) {
+                buffer.putInt(-1);
+                buffer.putInt(0);
+            } else {
+                buffer.putInt(curves[c].length);
+                buffer.putInt(encoded[c].byteLength());
+                buffer.put(encoded[c].bytes(), 0, encoded[c].byteLength());
+            }
+        }
+        return buffer.array();
+    }
+
+    static SimulationResult decode(Key key, ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("캐시 항목 형식이 아닙니다");
+            }
+            if (buffer.getLong() != key.contentHash || buffer.getLong() != key.settingsHash) {
+                throw new IOException("캐시 항목의 키가 다릅니다");
+            }
+            SimulationResult result = new SimulationResult();
+            result.setYoungsModulus(buffer.getDouble());
+            result.setYieldStrength(buffer.getDouble());
+            result.setTensileStrength(buffer.getDouble());
+            result.setElongation(buffer.getDouble());
+            result.setReductionOfArea(buffer.getDouble());
+            result.setModulusRSquared(buffer.getDouble());
+            result.setModulusStartStrain(buffer.getDouble());
+            result.setModulusEndStrain(buffer.getDouble());
+            result.setUniformStrain(buffer.getDouble());
+            result.setSampleCount(buffer.getLong());
+            int flags = buffer.getInt();
+            result.setValid((flags & FLAG_VALID) != 0);
+            result.setFractureDetected((flags & FLAG_FRACTURE) != 0);
+            double[][] curves = new double[4][];
+            for (int c = 0; c < curves.length; c++) {
+                int length = buffer.getInt();
+                int byteLength = buffer.getInt();
+                if (length < 0) {
+                    continue;
+                }
+                if (byteLength < 0 || byteLength > buffer.remaining() || length > (long) byteLength * 8) {
+                    throw new IOException("캐시 항목이 잘렸습니다");
+                }
+                curves[c] = new double[length];
+                GorillaCodec.BitReader reader = new GorillaCodec.BitReader(
+                        buffer.array(), buffer.arrayOffset() + buffer.position(), byteLength);
+                GorillaCodec.decodeXor(reader, curves[c], length);
+                buffer.position(buffer.position() + byteLength);
+            }
+            result.setStress(curves[0]);
+            result.setStrain(curves[1]);
+            result.setTrueStress(curves[2]);
+            result.setTrueStrain(curves[3]);
+            return result;
+        } catch (BufferUnderflowException | IllegalStateException e) {
+            throw new IOException("캐시 항목이 손상되었습니다: " + e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 저장 때 덮어씀
+        }
+    }
+}
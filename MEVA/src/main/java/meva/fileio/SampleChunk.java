@@ -0,0 +1,63 @@
+package meva.fileio;
+
+/**
+ * 하중/변위/시간 샘플 묶음
+ * 스트리밍 리더가 채우고 계산 모듈이 소비하는 재사용 가능한 primitive 버퍼
+ * 파일에 없는 컬럼의 값은 NaN으로 채워짐
+ */
+public class SampleChunk {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private final double[] force;
+    private final double[] displacement;
+    private final double[] time;
+    private int size;
+    private long firstIndex; // 전체 시계열에서 이 묶음의 첫 샘플 위치
+
+    public SampleChunk() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SampleChunk(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.force = new double[capacity];
+        this.displacement = new double[capacity];
+        this.time = new double[capacity];
+    }
+
+    /**
+     * 샘플 하나 추가
+     * @return 추가 성공 여부 (가득 찬 경우 false)
+     */
+    public boolean add(double forceValue, double displacementValue, double timeValue) {
+        if (size == force.length) {
+            return false;
+        }
+        force[size] = forceValue;
+        displacement[size] = displacementValue;
+        time[size] = timeValue;
+        size++;
+        return true;
+    }
+
+    /**
+     * 묶음 비우기
+     * @param nextFirstIndex 다음에 채워질 첫 샘플의 전체 위치
+     */
+    public void reset(long nextFirstIndex) {
+        this.size = 0;
+        this.firstIndex = nextFirstIndex;
+    }
+
+    public double[] getForce() { return force; }
+    public double[] getDisplacement() { return displacement; }
+    public double[] getTime() { return time; }
+
+    public int size() { return size; }
+    public int capacity() { return force.length; }
+    public boolean isFull() { return size == force.length; }
+    public long getFirstIndex() { return firstIndex; }
+}
@@ -0,0 +1,14 @@
+package meva.fileio;
+
+/**
+ * 스트리밍으로 읽은 샘플 묶음을 전달받는 인터페이스
+ * 전달된 SampleChunk는 콜백이 끝나면 재사용되므로 보관하지 말고 값을 복사해야 함
+ */
+public interface SampleChunkListener {
+
+    /**
+     * 샘플 묶음 수신
+     * @param chunk 읽어온 샘플 묶음
+     */
+    void onChunk(SampleChunk chunk);
+}
@@ -0,0 +1,54 @@
+package meva.fileio;
+
+import java.util.Locale;
+
+/**
+ * 헤더 이름으로 하중/변위/시간 컬럼 위치를 정하는 규칙
+ * CSV와 Excel 리더가 같은 규칙을 쓰도록 한곳에 모아 둠
+ */
+final class SampleColumns {
+
+    static final int FORCE = 0;
+    static final int DISPLACEMENT = 1;
+    static final int TIME = 2;
+
+    private SampleColumns() {
+    }
+
+    /**
+     * 헤더가 없을 때: 하중, 변위, 시간 순서
+     * @param columnCount 행의 컬럼 수
+     * @return {하중, 변위, 시간} 컬럼 위치 (없으면 -1)
+     */
+    static int[] byPosition(int columnCount) {
+        return new int[] {
+            columnCount > 0 ? 0 : -1,
+            columnCount > 1 ? 1 : -1,
+            columnCount > 2 ? 2 : -1
+        };
+    }
+
+    /**
+     * 헤더 이름으로 매핑 (알아볼 수 있는 이름이 없으면 순서대로)
+     * @param names 헤더 이름
+     * @return {하중, 변위, 시간} 컬럼 위치 (없으면 -1)
+     */
+    static int[] byName(String[] names) {
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i] == null ? "" : names[i].toLowerCase(Locale.ROOT);
+            if (columns[FORCE] < 0 && (name.contains("force") || name.contains("load") || name.contains("하중"))) {
+                columns[FORCE] = i;
+            } else if (columns[DISPLACEMENT] < 0 && (name.contains("disp") || name.contains("extension")
+                    || name.contains("stroke") || name.contains("변위"))) {
+                columns[DISPLACEMENT] = i;
+            } else if (columns[TIME] < 0 && (name.contains("time") || name.contains("시간") || name.equals("t"))) {
+                columns[TIME] = i;
+            }
+        }
+        if (columns[FORCE] < 0 && columns[DISPLACEMENT] < 0 && columns[TIME] < 0) {
+            return byPosition(names.length);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,158 @@
+package meva.fileio;
+
+import java.math.BigInteger;
+
+/**
+ * double 값의 가장 짧은 왕복 가능한 10진 표현 계산 (Schubfach 알고리즘)
+ *
+ * Double.parseDouble로 다시 읽으면 같은 값이 되는 10진수 중 유효숫자가 가장 적은 것을,
+ * 그런 수가 여럿이면 원래 값에 가장 가까운 것을 고른다. 10의 거듭제곱 근삿값 표(126비트)와
+ * 64비트 곱셈만 사용하므로 값마다 객체가 생기지 않는다.
+ * 참고: R. Giulietti, "The Schubfach way to render doubles" (2020)
+ */
+final class ShortestDecimal {
+
+    // double 형식 상수
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7FF;
+    private static final long C_TINY = 3; // 이보다 작은 비정규수는 한 자리 더 계산해야 함
+
+    // 10의 거듭제곱 표 범위
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * 10^-k = β·2^r (2^125 ≤ β < 2^126)일 때 g = floor(β) + 1을
+     * 상위 g1 = g >> 63, 하위 g0 = g mod 2^63으로 나누어 보관
+     */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int r = flog2pow10(-k) - 125;
+            BigInteger beta;
+            if (k <= 0) {
+                BigInteger power = BigInteger.TEN.pow(-k);
+                beta = r >= 0 ? power.shiftRight(r) : power.shiftLeft(-r);
+            } else {
+                beta = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+            }
+            BigInteger g = beta.add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            G[2 * (k - K_MIN) + 1] = g.and(mask).longValue();
+        }
+    }
+
+    private ShortestDecimal() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 양의 유한한 값을 가장 짧은 표현으로 기록
+     * @param value 0보다 큰 유한한 값
+     * @return 쓴 다음 위치
+     */
+    static int format(double value, byte[] target, int p) {
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq != 0) {
+            // 정규수: value = c·2^q
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    // 2^53 미만의 정수는 그대로 씀
+                    return DoubleFormatter.writeDecimal(f, 0, target, p);
+                }
+            }
+            return toDecimal(-mq, c, 0, target, p);
+        }
+        // 비정규수
+        return t < C_TINY
+                ? toDecimal(Q_MIN, 10 * t, -1, target, p)
+                : toDecimal(Q_MIN, t, 0, target, p);
+    }
+
+    /**
+     * c·2^q의 반올림 구간 안에서 가장 짧은 10진수를 찾아 기록
+     */
+    private static int toDecimal(int q, long c, int dk, byte[] target, int p) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // 지수 경계: 아래쪽 간격이 위쪽의 절반
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+        long vb = roundToOdd(g1, g0, cb << h);
+        long vbl = roundToOdd(g1, g0, cbl << h);
+        long vbr = roundToOdd(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // 한 자리 적은 후보 (s를 10 단위로 내림/올림)
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return DoubleFormatter.writeDecimal(upin ? sp10 : tp10, k, target, p);
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return DoubleFormatter.writeDecimal(uin ? s : t, k + dk, target, p);
+        }
+        // 둘 다 구간 안이면 가까운 쪽, 같으면 짝수
+        long cmp = vb - (s + t << 1);
+        long f = cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t;
+        return DoubleFormatter.writeDecimal(f, k + dk, target, p);
+    }
+
+    /**
+     * (g·cp) / 2^127을 홀수 쪽으로 반올림 (g = g1·2^63 + g0)
+     */
+    private static long roundToOdd(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /** floor(log10(2^e)) (|e| ≤ 5456721) */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /** floor(log10(3/4 · 2^e)) (|e| ≤ 2_500_000) */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /** floor(log2(10^e)) (|e| ≤ 1_838_394) */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,512 @@
+package meva.fileio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * 대용량 Excel(.xlsx) 시험 데이터용 스트리밍 리더
+ * 첫 번째 시트 XML을 StAX 이벤트로 한 행씩 읽어 SampleChunk의 double 배열에 채우므로
+ * 통합 문서 전체를 메모리에 올리지 않고, 메모리 사용량이 행 수와 무관하다
+ *
+ * - 첫 행이 숫자가 아니면 헤더로 인식하여 CSV와 같은 규칙으로 컬럼 매핑
+ * - 공유 문자열 표는 헤더가 참조하는 항목까지만 읽음
+ * - 데이터 컬럼의 값이 숫자가 아니면 (공유 문자열, 오류 값 등) 그 행은 건너뜀
+ */
+public class XlsxStreamReader implements Closeable {
+
+    private static final String DEFAULT_SHEET = "xl/worksheets/sheet1.xml";
+    private static final String DEFAULT_SHARED_STRINGS = "xl/sharedStrings.xml";
+
+    private final ZipFile zip;
+    private final String sharedStringsEntry;
+    private final InputStream sheetStream;
+    private final XMLStreamReader sheet;
+
+    private boolean initialized;
+    private boolean pendingRow; // 헤더 판정에 사용한 첫 행을 데이터로 다시 처리해야 하는지
+    private boolean endOfSheet;
+
+    private String[] header;
+    private int forceColumn = -1;
+    private int displacementColumn = -1;
+    private int timeColumn = -1;
+
+    private long rowCount;
+    private long skippedRows;
+
+    // 현재 행의 셀 (헤더 판정 시에는 모든 셀, 이후에는 매핑된 컬럼만)
+    private int cellCount;
+    private int[] cellColumns = new int[16];
+    private String[] cellTypes = new String[16];
+    private String[] cellValues = new String[16];
+
+    private XlsxStreamReader(ZipFile zip) throws IOException {
+        this.zip = zip;
+        String[] parts = locateParts();
+        ZipEntry sheetEntry = zip.getEntry(parts[0]);
+        if (sheetEntry == null) {
+            throw new IOException("시트를 찾을 수 없습니다: " + parts[0]);
+        }
+        this.sharedStringsEntry = parts[1];
+        this.sheetStream = zip.getInputStream(sheetEntry);
+        this.sheet = createReader(sheetStream);
+    }
+
+    /**
+     * 파일 경로로 리더 열기
+     * @param filePath .xlsx 파일 경로
+     * @return 스트리밍 리더
+     * @throws IOException 파일을 열 수 없거나 .xlsx 형식이 아닌 경우
+     */
+    public static XlsxStreamReader open(String filePath) throws IOException {
+        ZipFile zip = new ZipFile(filePath);
+        try {
+            return new XlsxStreamReader(zip);
+        } catch (IOException | RuntimeException e) {
+            zip.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 샘플 묶음 읽기 (pull 방식)
+     * @param chunk 채울 묶음 (기존 내용은 지워짐)
+     * @return 읽은 샘플 수 (시트 끝이면 0)
+     * @throws IOException 읽기 실패 시
+     */
+    public int readChunk(SampleChunk chunk) throws IOException {
+        ensureInitialized();
+        chunk.reset(rowCount);
+        while (!chunk.isFull()) {
+            if (pendingRow) {
+                pendingRow = false;
+            } else if (!nextRow(false)) {
+                break;
+            }
+            if (cellCount > 0) {
+                parseRow(chunk);
+            }
+        }
+        return chunk.size();
+    }
+
+    /**
+     * 시트 끝까지 읽으면서 묶음 단위로 전달 (push 방식)
+     * @param listener 묶음 수신자
+     * @param chunkSize 묶음 크기
+     * @return 읽은 전체 샘플 수
+     * @throws IOException 읽기 실패 시
+     */
+    public long readAll(SampleChunkListener listener, int chunkSize) throws IOException {
+        SampleChunk chunk = new SampleChunk(chunkSize);
+        while (readChunk(chunk) > 0) {
+            listener.onChunk(chunk);
+        }
+        return rowCount;
+    }
+
+    public String[] getHeader() throws IOException {
+        ensureInitialized();
+        return header == null ? null : header.clone();
+    }
+
+    public boolean hasForceColumn() throws IOException {
+        ensureInitialized();
+        return forceColumn >= 0;
+    }
+
+    public boolean hasDisplacementColumn() throws IOException {
+        ensureInitialized();
+        return displacementColumn >= 0;
+    }
+
+    public boolean hasTimeColumn() throws IOException {
+        ensureInitialized();
+        return timeColumn >= 0;
+    }
+
+    /** 지금까지 읽은 데이터 행 수 */
+    public long getRowCount() { return rowCount; }
+
+    /** 숫자로 변환할 수 없어 건너뛴 행 수 */
+    public long getSkippedRows() { return skippedRows; }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException e) {
+            // 스트림은 아래에서 닫힘
+        }
+        sheetStream.close();
+        zip.close();
+    }
+
+    /**
+     * 첫 번째 비어 있지 않은 행으로 헤더와 컬럼 매핑 결정
+     */
+    private void ensureInitialized() throws IOException {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+        while (nextRow(true)) {
+            if (cellCount > 0) {
+                break;
+            }
+        }
+        if (cellCount == 0) {
+            return; // 빈 시트
+        }
+
+        int columnCount = cellColumns[cellCount - 1] + 1;
+        if (isNumericRow()) {
+            assignColumns(SampleColumns.byPosition(columnCount));
+            pendingRow = true; // 첫 행은 데이터로 다시 처리
+            return;
+        }
+
+        String[] names = new String[columnCount];
+        Arrays.fill(names, "");
+        int[] sharedIndexes = new int[cellCount];
+        int maxShared = -1;
+        for (int i = 0; i < cellCount; i++) {
+            sharedIndexes[i] = -1;
+            if ("s".equals(cellTypes[i]) && cellValues[i] != null) {
+                try {
+                    sharedIndexes[i] = Integer.parseInt(cellValues[i].trim());
+                    maxShared = Math.max(maxShared, sharedIndexes[i]);
+                } catch (NumberFormatException e) {
+                    // 잘못된 참조는 빈 이름으로 둠
+                }
+            } else if (cellValues[i] != null) {
+                names[cellColumns[i]] = cellValues[i].trim();
+            }
+        }
+        if (maxShared >= 0) {
+            String[] shared = readSharedStrings(maxShared);
+            for (int i = 0; i < cellCount; i++) {
+                int index = sharedIndexes[i];
+                if (index >= 0 && index < shared.length && shared[index] != null) {
+                    names[cellColumns[i]] = shared[index].trim();
+                }
+            }
+        }
+        header = names;
+        assignColumns(SampleColumns.byName(names));
+    }
+
+    private void assignColumns(int[] columns) {
+        forceColumn = columns[SampleColumns.FORCE];
+        displacementColumn = columns[SampleColumns.DISPLACEMENT];
+        timeColumn = columns[SampleColumns.TIME];
+    }
+
+    private boolean isNumericRow() {
+        for (int i = 0; i < cellCount; i++) {
+            String type = cellTypes[i];
+            if ((type != null && !"n".equals(type)) || Double.isNaN(parseValue(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 행을 파싱하여 묶음에 추가
+     */
+    private void parseRow(SampleChunk chunk) {
+        double forceValue = Double.NaN;
+        double displacementValue = Double.NaN;
+        double timeValue = Double.NaN;
+        int wanted = (forceColumn >= 0 ? 1 : 0) + (displacementColumn >= 0 ? 1 : 0) + (timeColumn >= 0 ? 1 : 0);
+        int found = 0;
+
+        for (int i = 0; i < cellCount; i++) {
+            int column = cellColumns[i];
+            double value;
+            if (column == forceColumn) {
+                value = forceValue = parseValue(i);
+            } else if (column == displacementColumn) {
+                value = displacementValue = parseValue(i);
+            } else if (column == timeColumn) {
+                value = timeValue = parseValue(i);
+            } else {
+                continue;
+            }
+            if (!Double.isNaN(value)) {
+                found++;
+            }
+        }
+
+        if (found < wanted) {
+            skippedRows++;
+            return;
+        }
+        chunk.add(forceValue, displacementValue, timeValue);
+        rowCount++;
+    }
+
+    /**
+     * 셀 값을 숫자로 변환 (숫자가 아니면 NaN)
+     */
+    private double parseValue(int cell) {
+        String type = cellTypes[cell];
+        String value = cellValues[cell];
+        if (value == null || "s".equals(type) || "e".equals(type)) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 다음 &lt;row&gt; 요소의 셀을 읽음
+     * @param allCells false이면 매핑된 컬럼의 값만 보관
+     * @return 행을 읽었으면 true, 시트 끝이면 false
+     */
+    private boolean nextRow(boolean allCells) throws IOException {
+        cellCount = 0;
+        if (endOfSheet) {
+            return false;
+        }
+        try {
+            while (sheet.hasNext()) {
+                int event = sheet.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    readCells(allCells);
+                    return true;
+                }
+                if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(sheet.getLocalName())) {
+                    break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("시트를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        endOfSheet = true;
+        return false;
+    }
+
+    private void readCells(boolean allCells) throws XMLStreamException {
+        int nextColumn = 0;
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                return;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(sheet.getLocalName())) {
+                continue;
+            }
+            String reference = sheet.getAttributeValue(null, "r");
+            int column = reference != null ? columnIndex(reference) : nextColumn;
+            nextColumn = column + 1;
+            String type = sheet.getAttributeValue(null, "t");
+            boolean keep = allCells || column == forceColumn || column == displacementColumn || column == timeColumn;
+            String value = readCellValue(keep);
+            if (keep && value != null) {
+                addCell(column, type, value);
+            }
+        }
+    }
+
+    /**
+     * &lt;c&gt; 요소 안의 &lt;v&gt; 또는 인라인 문자열 &lt;is&gt;&lt;t&gt; 값 읽기
+     * 요소의 끝(&lt;/c&gt;)까지 이동함
+     */
+    private String readCellValue(boolean keep) throws XMLStreamException {
+        String value = null;
+        StringBuilder inline = null;
+        int depth = 1;
+        while (depth > 0 && sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = sheet.getLocalName();
+                if (keep && "v".equals(name)) {
+                    value = sheet.getElementText();
+                } else if (keep && "t".equals(name)) {
+                    if (inline == null) {
+                        inline = new StringBuilder();
+                    }
+                    inline.append(sheet.getElementText());
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return inline != null ? inline.toString() : value;
+    }
+
+    private void addCell(int column, String type, String value) {
+        if (cellCount == cellColumns.length) {
+            cellColumns = Arrays.copyOf(cellColumns, cellCount * 2);
+            cellTypes = Arrays.copyOf(cellTypes, cellCount * 2);
+            cellValues = Arrays.copyOf(cellValues, cellCount * 2);
+        }
+        cellColumns[cellCount] = column;
+        cellTypes[cellCount] = type;
+        cellValues[cellCount] = value;
+        cellCount++;
+    }
+
+    /**
+     * 셀 참조("AB12")의 열 위치 (0부터)
+     */
+    static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                column = column * 26 + (c - 'A' + 1);
+            } else if (c >= 'a' && c <= 'z') {
+                column = column * 26 + (c - 'a' + 1);
+            } else {
+                break;
+            }
+        }
+        return column - 1;
+    }
+
+    /**
+     * 공유 문자열 표를 maxIndex 항목까지만 읽음
+     */
+    private String[] readSharedStrings(int maxIndex) throws IOException {
+        String[] strings = new String[maxIndex + 1];
+        ZipEntry entry = sharedStringsEntry == null ? null : zip.getEntry(sharedStringsEntry);
+        if (entry == null) {
+            return strings;
+        }
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader reader = createReader(in);
+            try {
+                int index = -1;
+                int phoneticDepth = 0;
+                StringBuilder text = new StringBuilder();
+                while (reader.hasNext() && index <= maxIndex) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("si".equals(name)) {
+                            index++;
+                            text.setLength(0);
+                        } else if ("rPh".equals(name)) {
+                            phoneticDepth++;
+                        } else if ("t".equals(name) && phoneticDepth == 0) {
+                            text.append(reader.getElementText());
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("rPh".equals(name)) {
+                            phoneticDepth--;
+                        } else if ("si".equals(name) && index <= maxIndex) {
+                            strings[index] = text.toString();
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("공유 문자열을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        return strings;
+    }
+
+    /**
+     * 통합 문서 관계에서 첫 번째 시트와 공유 문자열 표의 위치를 찾음
+     * @return {시트 경로, 공유 문자열 경로(없으면 null)}
+     */
+    private String[] locateParts() throws IOException {
+        String sheetId = null;
+        List<String[]> relationships = new ArrayList<>();
+        try {
+            ZipEntry workbook = zip.getEntry("xl/workbook.xml");
+            if (workbook == null) {
+                throw new IOException(".xlsx 형식이 아닙니다: xl/workbook.xml이 없습니다");
+            }
+            try (InputStream in = zip.getInputStream(workbook)) {
+                XMLStreamReader reader = createReader(in);
+                while (reader.hasNext() && sheetId == null) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(reader.getLocalName())) {
+                        sheetId = relationshipId(reader);
+                    }
+                }
+                reader.close();
+            }
+            ZipEntry rels = zip.getEntry("xl/_rels/workbook.xml.rels");
+            if (rels != null) {
+                try (InputStream in = zip.getInputStream(rels)) {
+                    XMLStreamReader reader = createReader(in);
+                    while (reader.hasNext()) {
+                        if (reader.next() == XMLStreamConstants.START_ELEMENT
+                                && "Relationship".equals(reader.getLocalName())) {
+                            relationships.add(new String[] {
+                                reader.getAttributeValue(null, "Id"),
+                                reader.getAttributeValue(null, "Type"),
+                                reader.getAttributeValue(null, "Target")
+                            });
+                        }
+                    }
+                    reader.close();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("통합 문서 구조를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        String sheetPath = DEFAULT_SHEET;
+        String sharedStringsPath = zip.getEntry(DEFAULT_SHARED_STRINGS) != null ? DEFAULT_SHARED_STRINGS : null;
+        for (String[] relationship : relationships) {
+            if (relationship[2] == null) {
+                continue;
+            }
+            if (relationship[0] != null && relationship[0].equals(sheetId)) {
+                sheetPath = resolve(relationship[2]);
+            } else if (relationship[1] != null && relationship[1].endsWith("/sharedStrings")) {
+                sharedStringsPath = resolve(relationship[2]);
+            }
+        }
+        return new String[] {sheetPath, sharedStringsPath};
+    }
+
+    private static String relationshipId(XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if ("id".equals(reader.getAttributeLocalName(i)) && reader.getAttributePrefix(i) != null
+                    && !reader.getAttributePrefix(i).isEmpty()) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static String resolve(String target) {
+        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    }
+
+    private static XMLStreamReader createReader(InputStream in) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        try {
+            return factory.createXMLStreamReader(in, "UTF-8");
+        } catch (XMLStreamException e) {
+            throw new IOException("XML을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+}
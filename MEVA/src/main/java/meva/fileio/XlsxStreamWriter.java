@@ -0,0 +1,279 @@
+package meva.fileio;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 대용량 Excel(.xlsx) 스트리밍 라이터
+ * 시트 XML을 한 행씩 바로 압축 스트림에 쓰므로 메모리에 행을 보관하지 않고,
+ * 메모리 사용량은 출력 버퍼 크기로 고정된다 (행 수와 무관)
+ *
+ * 문자열은 공유 문자열 표 대신 인라인 문자열로 저장하여 표를 메모리에 모을 필요가 없다.
+ * 시트 하나짜리 통합 문서만 만든다.
+ */
+public class XlsxStreamWriter implements Closeable {
+
+    /** Excel 시트 최대 행 수 */
+    public static final int MAX_ROWS = 1_048_576;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CONTENT_TYPES =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+        + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+        + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+        + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+        + "<Override PartName=\"/xl/workbook.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+        + "<Override PartName=\"/xl/worksheets/sheet1.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+        + "<Override PartName=\"/xl/styles.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>"
+        + "</Types>";
+
+    private static final String ROOT_RELS =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+        + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" "
+        + "Target=\"xl/workbook.xml\"/>"
+        + "</Relationships>";
+
+    private static final String WORKBOOK =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+        + "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" "
+        + "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+        + "<sheets><sheet name=\"%s\" sheetId=\"1\" r:id=\"rId1\"/></sheets>"
+        + "</workbook>";
+
+    private static final String WORKBOOK_RELS =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+        + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" "
+        + "Target=\"worksheets/sheet1.xml\"/>"
+        + "<Relationship Id=\"rId2\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" "
+        + "Target=\"styles.xml\"/>"
+        + "</Relationships>";
+
+    private static final String STYLES =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+        + "<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+        + "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+        + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+        + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+        + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+        + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+        + "<cellXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/></cellXfs>"
+        + "</styleSheet>";
+
+    private static final String SHEET_START =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+        + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>";
+
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private final ZipOutputStream zip;
+    private final Writer out;
+    private int rowCount;
+    private boolean closed;
+
+    /**
+     * @param out 출력 스트림 (close 시 함께 닫힘)
+     * @param sheetName 시트 이름
+     * @throws IOException 쓰기 실패 시
+     */
+    public XlsxStreamWriter(OutputStream out, String sheetName) throws IOException {
+        this.zip = new ZipOutputStream(out);
+        putEntry("[Content_Types].xml", CONTENT_TYPES);
+        putEntry("_rels/.rels", ROOT_RELS);
+        putEntry("xl/workbook.xml", String.format(WORKBOOK, escape(sheetName)));
+        putEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        putEntry("xl/styles.xml", STYLES);
+        // 시트는 마지막 항목이므로 close 전까지 열어 두고 행을 이어 씀
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        this.out = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.out.write(SHEET_START);
+    }
+
+    /**
+     * 파일로 쓰는 라이터 생성
+     * @param filePath 저장할 .xlsx 경로
+     * @return 라이터
+     * @throws IOException 파일을 만들 수 없는 경우
+     */
+    public static XlsxStreamWriter create(String filePath) throws IOException {
+        OutputStream out = new FileOutputStream(filePath);
+        try {
+            return new XlsxStreamWriter(out, "Data");
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 문자열 행 쓰기 (숫자로 읽히는 값은 숫자 셀로 저장)
+     * @param cells 셀 값 (null은 빈 셀)
+     * @throws IOException 쓰기 실패 또는 최대 행 수 초과 시
+     */
+    public void writeRow(String... cells) throws IOException {
+        startRow();
+        for (String cell : cells) {
+            if (cell == null || cell.isEmpty()) {
+                out.write("<c/>");
+            } else if (isNumber(cell)) {
+                out.write("<c><v>");
+                out.write(cell);
+                out.write("</v></c>");
+            } else {
+                out.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                out.write(escape(cell));
+                out.write("</t></is></c>");
+            }
+        }
+        out.write("</row>");
+    }
+
+    /**
+     * 숫자 행 쓰기 (NaN/무한대는 빈 셀)
+     * @param values 값 배열
+     * @param count 앞에서부터 쓸 개수
+     * @throws IOException 쓰기 실패 또는 최대 행 수 초과 시
+     */
+    public void writeRow(double[] values, int count) throws IOException {
+        startRow();
+        for (int i = 0; i < count; i++) {
+            double value = values[i];
+            if (Double.isFinite(value)) {
+                out.write("<c><v>");
+                out.write(Double.toString(value));
+                out.write("</v></c>");
+            } else {
+                out.write("<c/>");
+            }
+        }
+        out.write("</row>");
+    }
+
+    /** 지금까지 쓴 행 수 */
+    public int getRowCount() { return rowCount; }
+
+    /**
+     * 시트를 마무리하고 파일 닫기
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            out.write(SHEET_END);
+            out.flush();
+            zip.closeEntry();
+            zip.finish();
+        } finally {
+            zip.close();
+        }
+    }
+
+    private void startRow() throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 라이터입니다");
+        }
+        if (rowCount >= MAX_ROWS) {
+            throw new IOException("Excel 시트 최대 행 수(" + MAX_ROWS + ")를 초과했습니다");
+        }
+        rowCount++;
+        out.write("<row r=\"");
+        out.write(Integer.toString(rowCount));
+        out.write("\">");
+    }
+
+    private void putEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    /**
+     * xsd:double 형식의 숫자인지 확인 (부호, 정수부, 소수부, 지수부)
+     */
+    static boolean isNumber(String s) {
+        int i = 0;
+        int n = s.length();
+        if (i < n && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+            i++;
+        }
+        int digits = 0;
+        while (i < n && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            i++;
+            digits++;
+        }
+        if (i < n && s.charAt(i) == '.') {
+            i++;
+            while (i < n && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < n && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < n && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < n && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == n;
+    }
+
+    /**
+     * XML 특수 문자를 바꾸고 XML에 쓸 수 없는 제어 문자를 제거
+     */
+    static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+                case '&': replacement = "&amp;"; break;
+                case '<': replacement = "&lt;"; break;
+                case '>': replacement = "&gt;"; break;
+                case '"': replacement = "&quot;"; break;
+                default:
+                    replacement = c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "" : null;
+            }
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+}
@@ -1,29 +1,292 @@
 package meva.gui;
 
 import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import meva.aggregation.CurveStatistics;
+import meva.chart.ChartBand;
+import meva.chart.ChartImageExporter;
+import meva.chart.ChartMarker;
+import meva.chart.ChartRenderer;
+import meva.chart.CurveDownsampler;
+import meva.chart.CurvePyramid;
+import meva.chart.PlotPoints;
+import meva.chart.Viewport;
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
+import meva.models.SimulationResult;
+import meva.utils.ConfigManager;
 
 /**
  * 응력-변형률 곡선 그래프를 표시하는 패널
- * 
+ *
+ * 결과가 바뀔 때 한 번 CurvePyramid를 만들고, 다시 그릴 때마다
+ * 보이는 구간과 패널 폭에 맞는 점만 조회하여 그린다.
+ * 같은 곡선 배열의 결과가 다시 오면(진행 중 물성값 갱신) 피라미드를 그대로 두고 표시점만 갱신하며,
+ * 새 곡선의 피라미드는 {@link #prepareCurve}로 작업 스레드에서 미리 만들 수 있다.
+ * 마우스 휠로 확대/축소, 드래그로 이동, 더블 클릭으로 전체 보기
+ * 여러 시편의 통계는 평균 곡선과 백분위 띠로 표시한다
+ * 이미지 저장은 패널을 다시 그리지 않고 작업 스레드에서 ChartImageExporter로 한다
+ *
  * @author 김종현
  */
 public class GraphPanel extends JPanel {
-    
+
+    private static final double ZOOM_STEP = 1.25;
+
+    private final ChartRenderer renderer = new ChartRenderer();
+    private final PlotPoints points = new PlotPoints();
+    private final AtomicReference<PreparedCurve> prepared = new AtomicReference<>();
+    private CurvePyramid pyramid;
+    private double[] currentStress;
+    private int currentPeak;
+    private double currentYield;
+    private List<ChartMarker> markers = Collections.emptyList();
+    private ChartBand band;
+    private SimulationResult currentResult;
+    private Viewport viewport;
+    private int dragStartX = -1;
+
     public GraphPanel() {
         initializeComponents();
         setupLayout();
     }
-    
+
     private void initializeComponents() {
-        // TODO: JFreeChart 그래프 컴포넌트 초기화
+        ConfigManager config = ConfigManager.getInstance();
+        renderer.setAntiAliasing(config.getBoolean(ConfigManager.KEY_GRAPH_ANTI_ALIASING, true));
+        renderer.setShowGrid(config.getBoolean(ConfigManager.KEY_GRAPH_GRID, true));
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoomAt(e.getX(), e.getWheelRotation() < 0 ? 1.0 / ZOOM_STEP : ZOOM_STEP);
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragStartX = e.getX();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (viewport != null && dragStartX >= 0) {
+                    double perPixel = viewport.getWidth() / ChartRenderer.plotWidth(getWidth());
+                    viewport.panX((dragStartX - e.getX()) * perPixel);
+                    dragStartX = e.getX();
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    resetView();
+                }
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+        addMouseWheelListener(mouseHandler);
     }
-    
+
     private void setupLayout() {
-        // TODO: 레이아웃 설정
         setBorder(BorderFactory.createTitledBorder("응력-변형률 곡선"));
+        setPreferredSize(new Dimension(600, 450));
     }
-    
+
     public void updateGraph() {
-        // TODO: 그래프 업데이트 로직
+        repaint();
+    }
+
+    /**
+     * 새 곡선의 피라미드를 미리 만들어 둠 (작업 스레드에서 호출 가능)
+     * 이후 같은 배열의 결과로 updateGraph를 호출하면 EDT에서 곡선 전체를 다시 훑지 않는다
+     * @param result 곧 표시할 결과
+     */
+    public void prepareCurve(SimulationResult result) {
+        if (hasCurve(result)) {
+            prepared.set(new PreparedCurve(result.getStrain(), result.getStress(), result.getYieldStrength()));
+        }
+    }
+
+    /**
+     * 새 결과로 그래프 갱신 (EDT에서 호출)
+     * @param result 표시할 결과 (null이면 그래프를 비움)
+     */
+    public void updateGraph(SimulationResult result) {
+        band = null;
+        if (!hasCurve(result)) {
+            currentResult = null;
+            pyramid = null;
+            currentStress = null;
+            markers = Collections.emptyList();
+            viewport = null;
+            repaint();
+            return;
+        }
+        double[] stress = result.getStress();
+        boolean sameCurve = pyramid != null && stress == currentStress;
+        if (!sameCurve) {
+            PreparedCurve curve = prepared.get();
+            if (curve != null && curve.stress == stress) {
+                prepared.compareAndSet(curve, null);
+            } else {
+                curve = new PreparedCurve(result.getStrain(), stress, result.getYieldStrength());
+            }
+            pyramid = curve.pyramid;
+            currentPeak = curve.peak;
+            currentStress = stress;
+            currentYield = Double.NaN;
+        }
+        if (Double.compare(result.getYieldStrength(), currentYield) != 0) {
+            // 항복점 표시만 다시 찾음 (최대 응력점은 곡선마다 한 번)
+            currentYield = result.getYieldStrength();
+            int[] keys = CurveDownsampler.keyIndices(stress, currentYield, currentPeak);
+            markers = ChartMarker.fromKeyIndices(result.getStrain(), stress, keys);
+        }
+        currentResult = result;
+        if (sameCurve && viewport != null) {
+            // 같은 곡선의 물성값만 갱신된 경우 사용자의 확대/이동 상태 유지
+            repaint();
+        } else {
+            resetView();
+        }
+    }
+
+    private static boolean hasCurve(SimulationResult result) {
+        return result != null && result.isValid() && result.getStress() != null && result.getStrain() != null;
+    }
+
+    /**
+     * 여러 시편의 통계로 그래프 갱신: 평균 곡선과 백분위 띠 (EDT에서 호출)
+     * @param statistics 시편 통계 (null이면 그래프를 비움)
+     * @param lowerPercentile 띠 아래 경계 백분위 (예: 5)
+     * @param upperPercentile 띠 위 경계 백분위 (예: 95)
+     */
+    public void updateGraph(CurveStatistics statistics, double lowerPercentile, double upperPercentile) {
+        if (statistics == null) {
+            updateGraph((SimulationResult) null);
+            return;
+        }
+        SimulationResult mean = statistics.toMeanResult();
+        updateGraph(mean);
+        if (mean.isValid()) {
+            band = statistics.getPercentileBand(lowerPercentile, upperPercentile);
+            resetView();
+        }
+    }
+
+    /**
+     * 보이는 변형률 구간 설정 (확대/이동)
+     */
+    public void setVisibleRange(double strainMin, double strainMax) {
+        if (viewport != null) {
+            viewport.set(strainMin, strainMax, viewport.getYMin(), viewport.getYMax());
+            repaint();
+        }
+    }
+
+    /**
+     * 전체 곡선이 보이도록 초기화
+     */
+    public void resetView() {
+        if (pyramid != null) {
+            double yMax = pyramid.getMaxY();
+            if (band != null && band.getMaxUpper() > yMax) {
+                yMax = band.getMaxUpper();
+            }
+            viewport = Viewport.fit(pyramid.getMinX(), pyramid.getMaxX(), pyramid.getMinY(), yMax);
+        }
+        repaint();
+    }
+
+    /**
+     * 표시 중인 곡선을 이미지 파일로 저장 (EDT에서 호출, 저장은 작업 스레드에서 함)
+     * @param filePath .png, .jpg, .svg 경로
+     * @param width 이미지 폭
+     * @param height 이미지 높이
+     * @param onDone 저장이 끝나면 EDT에서 성공 여부로 호출 (null 가능)
+     */
+    public void exportImage(String filePath, int width, int height, Consumer<Boolean> onDone) {
+        SimulationResult result = currentResult;
+        ChartBand exportBand = band;
+        ChartImageExporter exporter = new ChartImageExporter();
+        exporter.setSize(width, height);
+        ConfigManager config = ConfigManager.getInstance();
+        exporter.setAntiAliasing(config.getBoolean(ConfigManager.KEY_GRAPH_ANTI_ALIASING, true));
+        exporter.setShowGrid(config.getBoolean(ConfigManager.KEY_GRAPH_GRID, true));
+        new SwingWorker<Boolean, Void>() {
+            @Override
+            protected Boolean doInBackground() {
+                return exporter.export(result, exportBand, filePath);
+            }
+
+            @Override
+            protected void done() {
+                boolean saved;
+                try {
+                    saved = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    e.printStackTrace();
+                    saved = false;
+                }
+                if (onDone != null) {
+                    onDone.accept(saved);
+                }
+            }
+        }.execute();
+    }
+
+    private void zoomAt(int pixelX, double factor) {
+        if (viewport == null) {
+            return;
+        }
+        int plotWidth = ChartRenderer.plotWidth(getWidth());
+        double ratio = Math.max(0.0, Math.min(1.0, (pixelX - ChartRenderer.MARGIN_LEFT) / (double) plotWidth));
+        viewport.zoomX(viewport.getXMin() + ratio * viewport.getWidth(), factor);
+        repaint();
+    }
+
+    /**
+     * 곡선 하나의 표시용 자료 (피라미드와 최대 응력점)
+     */
+    private static final class PreparedCurve {
+        private final double[] stress;
+        private final CurvePyramid pyramid;
+        private final int peak;
+
+        PreparedCurve(double[] strain, double[] stress, double yieldStrength) {
+            this.stress = stress;
+            this.peak = CurveDownsampler.peakIndex(stress);
+            this.pyramid = new CurvePyramid(strain, stress, CurveDownsampler.keyIndices(stress, yieldStrength, peak));
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Insets insets = getInsets();
+        int width = getWidth() - insets.left - insets.right;
+        int height = getHeight() - insets.top - insets.bottom;
+        if (pyramid == null || viewport == null || width <= 0 || height <= 0) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create(insets.left, insets.top, width, height);
+        try (Scope scope = Metrics.start(Metrics.GRAPH_RENDER)) {
+            pyramid.query(viewport.getXMin(), viewport.getXMax(), ChartRenderer.plotWidth(width), points);
+            renderer.render(g2, width, height, points, viewport, markers, band);
+            scope.setItems(points.size());
+        } finally {
+            g2.dispose();
+        }
     }
-}
\ No newline at end of file
+}
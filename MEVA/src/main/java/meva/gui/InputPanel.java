@@ -1,6 +1,13 @@
 package meva.gui;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+
+import meva.models.Material;
+import meva.models.TestData;
+import meva.utils.Constants;
 
 /**
  * 사용자 입력을 받는 패널
@@ -9,6 +16,13 @@ import javax.swing.*;
  * @author 김종현
  */
 public class InputPanel extends JPanel {
+
+    private JTextField youngsModulusField;
+    private JTextField yieldStrengthField;
+    private JTextField tensileStrengthField;
+    private JTextField initialLengthField;
+    private JTextField crossSectionAreaField;
+    private Runnable changeListener;
     
     public InputPanel() {
         initializeComponents();
@@ -16,12 +30,91 @@ public class InputPanel extends JPanel {
     }
     
     private void initializeComponents() {
-        // TODO: 입력 컴포넌트들 초기화
-        // 영률, 항복강도, 인장강도, 시편 치수 입력 필드들
+        // 기본값: AISI 1020 강, Ø10 mm × 50 mm 시편
+        youngsModulusField = createField("200");
+        yieldStrengthField = createField("250");
+        tensileStrengthField = createField("400");
+        initialLengthField = createField("50");
+        crossSectionAreaField = createField("78.54");
+    }
+
+    private JTextField createField(String value) {
+        JTextField field = new JTextField(value, 8);
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { fireChanged(); }
+            @Override public void removeUpdate(DocumentEvent e) { fireChanged(); }
+            @Override public void changedUpdate(DocumentEvent e) { fireChanged(); }
+        });
+        return field;
     }
     
     private void setupLayout() {
-        // TODO: 레이아웃 설정
         setBorder(BorderFactory.createTitledBorder("재료 물성 입력"));
+        setLayout(new GridBagLayout());
+        GridBagConstraints c = new GridBagConstraints();
+        c.insets = new Insets(4, 4, 4, 4);
+        c.anchor = GridBagConstraints.WEST;
+        addRow(c, 0, "영률 (GPa)", youngsModulusField);
+        addRow(c, 1, "항복강도 (MPa)", yieldStrengthField);
+        addRow(c, 2, "인장강도 (MPa)", tensileStrengthField);
+        addRow(c, 3, "초기 길이 (mm)", initialLengthField);
+        addRow(c, 4, "단면적 (mm²)", crossSectionAreaField);
+        c.gridy = 5;
+        c.weighty = 1.0;
+        add(Box.createGlue(), c);
+    }
+
+    private void addRow(GridBagConstraints c, int row, String label, JTextField field) {
+        c.gridy = row;
+        c.gridx = 0;
+        add(new JLabel(label), c);
+        c.gridx = 1;
+        add(field, c);
+    }
+
+    /**
+     * 입력값이 바뀔 때 호출할 리스너 설정 (EDT에서 호출됨)
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void fireChanged() {
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
+    /**
+     * 입력된 재료 물성값
+     * @return 재료 정보, 숫자가 아닌 값이 있으면 null
+     */
+    public Material getMaterial() {
+        try {
+            return new Material("사용자 입력",
+                    parse(youngsModulusField), parse(yieldStrengthField), parse(tensileStrengthField),
+                    0.0, Constants.DEFAULT_POISSON_RATIO);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 입력된 시편 치수
+     * @return 시험 데이터, 숫자가 아닌 값이 있으면 null
+     */
+    public TestData getTestData() {
+        try {
+            TestData testData = new TestData();
+            testData.setInitialLength(parse(initialLengthField));
+            testData.setCrossSectionArea(parse(crossSectionAreaField));
+            return testData;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static double parse(JTextField field) {
+        return Double.parseDouble(field.getText().trim());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package meva.gui;
+
+import javax.swing.Timer;
+
+import meva.acquisition.LiveAcquisition;
+import meva.acquisition.LiveDisplayBuffer;
+import meva.acquisition.LiveStatus;
+import meva.models.SimulationResult;
+import meva.utils.Constants;
+
+/**
+ * 실시간 측정 데이터를 일정한 주기로 그래프와 결과 패널에 반영
+ * 샘플 수신 속도와 무관하게 EDT 작업은 프레임당 한 번이다
+ *
+ * @author 김종현
+ */
+public class LiveGraphUpdater {
+
+    private final LiveAcquisition acquisition;
+    private final GraphPanel graphPanel;
+    private final ResultPanel resultPanel;
+    private final LiveDisplayBuffer display = new LiveDisplayBuffer();
+    private final Timer timer;
+    private Runnable finishedListener;
+
+    /**
+     * @param acquisition 실시간 측정 파이프라인
+     * @param graphPanel 곡선을 그릴 패널
+     * @param resultPanel 물성값을 표시할 패널 (null 가능)
+     */
+    public LiveGraphUpdater(LiveAcquisition acquisition, GraphPanel graphPanel, ResultPanel resultPanel) {
+        this.acquisition = acquisition;
+        this.graphPanel = graphPanel;
+        this.resultPanel = resultPanel;
+        this.timer = new Timer(1000 / Constants.LIVE_FRAME_RATE, e -> onFrame());
+        this.timer.setCoalesce(true);
+    }
+
+    /**
+     * 공급원이 끝나 마지막 샘플까지 표시한 뒤 호출할 리스너 설정 (EDT에서 호출됨)
+     */
+    public void setFinishedListener(Runnable finishedListener) {
+        this.finishedListener = finishedListener;
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    private void onFrame() {
+        boolean active = acquisition.isActive();
+        if (acquisition.drainTo(display) > 0) {
+            LiveStatus status = acquisition.getStatus();
+            SimulationResult result = display.toResult(status);
+            graphPanel.updateGraph(result);
+            if (resultPanel != null) {
+                resultPanel.displayResults(result);
+            }
+        }
+        if (!active) {
+            timer.stop();
+            if (finishedListener != null) {
+                finishedListener.run();
+            }
+        }
+    }
+}
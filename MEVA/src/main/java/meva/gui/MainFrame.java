@@ -2,6 +2,24 @@ package meva.gui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import meva.acquisition.FileTailSampleSource;
+import meva.acquisition.LiveAcquisition;
+import meva.acquisition.SampleRecorder;
+import meva.acquisition.SampleSource;
+import meva.acquisition.SocketSampleSource;
+import meva.metrics.Metrics;
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.CalculationListener;
+import meva.simulation.CalculationService;
+import meva.utils.ConfigManager;
+import meva.utils.Constants;
 
 /**
  * MEVA 애플리케이션의 메인 윈도우 프레임
@@ -9,23 +27,203 @@ import java.awt.*;
  * @author 김종현
  */
 public class MainFrame extends JFrame {
+    private static final String TITLE = "MEVA - Materials Engineering Visualization and Analysis";
+
     private InputPanel inputPanel;
     private GraphPanel graphPanel;
     private ResultPanel resultPanel;
     private MenuBar menuBar;
+    private CalculationService calculationService;
+    private LiveAcquisition liveAcquisition;
+    private LiveGraphUpdater liveUpdater;
     
     public MainFrame() {
         initializeComponents();
         setupLayout();
         setupFrame();
     }
+
+    /**
+     * 시스템 Look and Feel을 적용하고 EDT에서 메인 프레임 표시
+     */
+    public static void launch() {
+        Metrics.configure(ConfigManager.getInstance());
+        SwingUtilities.invokeLater(() -> {
+            try {
+                // Look and Feel 설정
+                UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+
+            // 메인 프레임 생성 및 표시
+            MainFrame mainFrame = new MainFrame();
+            mainFrame.setVisible(true);
+        });
+    }
     
     private void initializeComponents() {
-        // TODO: 컴포넌트 초기화
         inputPanel = new InputPanel();
         graphPanel = new GraphPanel();
         resultPanel = new ResultPanel();
         menuBar = new MenuBar();
+
+        // 계산은 백그라운드에서, 결과 반영은 EDT에서
+        calculationService = new CalculationService(new CalculationListener() {
+            @Override
+            public void onCurve(SimulationResult result) {
+                graphPanel.prepareCurve(result); // 피라미드는 작업 스레드에서 만듦
+            }
+
+            @Override
+            public void onProgress(SimulationResult result, double progress) {
+                graphPanel.updateGraph(result);
+                resultPanel.displayPartialResults(result, progress);
+            }
+
+            @Override
+            public void onCompleted(SimulationResult result) {
+                graphPanel.updateGraph(result);
+                resultPanel.displayResults(result);
+            }
+        }, SwingUtilities::invokeLater);
+        inputPanel.setChangeListener(this::requestCalculation);
+        menuBar.setLiveActions(this::startLiveFromFile, this::startLiveFromDevice, this::stopLive);
+    }
+
+    /**
+     * 현재 입력값으로 재계산 요청 (입력이 연속으로 바뀌면 마지막 값만 계산됨)
+     */
+    public void requestCalculation() {
+        if (liveAcquisition != null) {
+            return; // 측정 중에는 그래프를 이론 곡선으로 덮지 않음
+        }
+        Material material = inputPanel.getMaterial();
+        TestData testData = inputPanel.getTestData();
+        if (material == null || testData == null) {
+            calculationService.cancel();
+            return;
+        }
+        resultPanel.showProgress(-1);
+        calculationService.submit(material, testData);
+    }
+    
+    /**
+     * 시험기가 기록 중인 파일을 골라 실시간 측정 시작
+     */
+    private void startLiveFromFile() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            startLive(new FileTailSampleSource(chooser.getSelectedFile().toPath(),
+                    Constants.LIVE_POLL_MILLIS, Constants.LIVE_IDLE_TIMEOUT_MILLIS));
+        } catch (IOException e) {
+            e.printStackTrace();
+            showLiveError("파일을 열 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 장비 주소(호스트:포트)를 입력받아 실시간 측정 시작
+     */
+    private void startLiveFromDevice() {
+        String address = JOptionPane.showInputDialog(this, "장비 주소 (호스트:포트)", "localhost:5000");
+        if (address == null) {
+            return;
+        }
+        int colon = address.lastIndexOf(':');
+        int port;
+        try {
+            port = Integer.parseInt(address.substring(colon + 1).trim());
+        } catch (NumberFormatException e) {
+            port = -1;
+        }
+        if (colon <= 0 || port < 0 || port > 65535) {
+            showLiveError("주소는 호스트:포트 형식이어야 합니다");
+            return;
+        }
+        try {
+            startLive(new SocketSampleSource(address.substring(0, colon).trim(), port));
+        } catch (IOException e) {
+            e.printStackTrace();
+            showLiveError("장비에 연결할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 입력된 시편 치수로 샘플을 응력/변형률로 바꾸어 그래프와 결과 패널에 표시
+     */
+    private void startLive(SampleSource source) {
+        TestData dimensions = inputPanel.getTestData();
+        if (dimensions == null || dimensions.getCrossSectionArea() <= 0 || dimensions.getInitialLength() <= 0) {
+            closeSource(source);
+            showLiveError("시편 치수(초기 길이, 단면적)를 먼저 입력하세요");
+            return;
+        }
+        // 표시용 버퍼가 넘쳐도 모든 샘플은 기록 파일에 남음
+        SampleRecorder recorder;
+        try {
+            recorder = SampleRecorder.createIn(Paths.get(ConfigManager.getInstance()
+                    .getString(ConfigManager.KEY_LIVE_RECORD_DIRECTORY, "meva-records")));
+        } catch (IOException e) {
+            e.printStackTrace();
+            closeSource(source);
+            showLiveError("기록 파일을 만들 수 없습니다: " + e.getMessage());
+            return;
+        }
+        calculationService.cancel();
+        liveAcquisition = new LiveAcquisition(source, recorder,
+                dimensions.getCrossSectionArea(), dimensions.getInitialLength());
+        liveUpdater = new LiveGraphUpdater(liveAcquisition, graphPanel, resultPanel);
+        liveUpdater.setFinishedListener(this::onLiveFinished);
+        liveAcquisition.start();
+        liveUpdater.start();
+        menuBar.setLiveRunning(true);
+        setTitle(TITLE + " - 측정 중 (기록: " + recorder.getFile().toAbsolutePath() + ")");
+    }
+
+    /**
+     * 실시간 측정 중지 (마지막으로 표시한 곡선은 그대로 둠)
+     */
+    private void stopLive() {
+        if (liveAcquisition == null) {
+            return;
+        }
+        liveUpdater.stop();
+        try {
+            liveAcquisition.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        liveAcquisition = null;
+        liveUpdater = null;
+        menuBar.setLiveRunning(false);
+        setTitle(TITLE);
+    }
+
+    /**
+     * 공급원이 끝난 경우 (파일이 더 늘지 않거나 연결이 끊김)
+     */
+    private void onLiveFinished() {
+        IOException failure = liveAcquisition != null ? liveAcquisition.getFailure() : null;
+        stopLive();
+        if (failure != null) {
+            showLiveError("측정 중 오류가 발생했습니다: " + failure.getMessage());
+        }
+    }
+
+    private static void closeSource(SampleSource source) {
+        try {
+            source.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void showLiveError(String message) {
+        JOptionPane.showMessageDialog(this, message, "실시간 측정", JOptionPane.ERROR_MESSAGE);
     }
     
     private void setupLayout() {
@@ -42,9 +240,17 @@ public class MainFrame extends JFrame {
     }
     
     private void setupFrame() {
-        setTitle("MEVA - Materials Engineering Visualization and Analysis");
+        setTitle(TITLE);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setSize(1200, 800);
         setLocationRelativeTo(null);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stopLive();
+                calculationService.close();
+            }
+        });
+        requestCalculation();
     }
 }
\ No newline at end of file
@@ -8,6 +8,13 @@ import javax.swing.*;
  * @author 김종현
  */
 public class MenuBar extends JMenuBar {
+
+    private JMenuItem liveFileItem;
+    private JMenuItem liveDeviceItem;
+    private JMenuItem liveStopItem;
+    private Runnable liveFileAction;
+    private Runnable liveDeviceAction;
+    private Runnable liveStopAction;
     
     public MenuBar() {
         initializeMenus();
@@ -20,11 +27,52 @@ public class MenuBar extends JMenuBar {
         JMenu fileMenu = new JMenu("파일");
         JMenu editMenu = new JMenu("편집");
         JMenu viewMenu = new JMenu("보기");
+        JMenu liveMenu = new JMenu("측정");
         JMenu helpMenu = new JMenu("도움말");
+
+        liveFileItem = new JMenuItem("파일 따라가기...");
+        liveFileItem.addActionListener(e -> run(liveFileAction));
+        liveDeviceItem = new JMenuItem("장비 연결...");
+        liveDeviceItem.addActionListener(e -> run(liveDeviceAction));
+        liveStopItem = new JMenuItem("측정 중지");
+        liveStopItem.addActionListener(e -> run(liveStopAction));
+        liveMenu.add(liveFileItem);
+        liveMenu.add(liveDeviceItem);
+        liveMenu.addSeparator();
+        liveMenu.add(liveStopItem);
+        setLiveRunning(false);
         
         add(fileMenu);
         add(editMenu);
         add(viewMenu);
+        add(liveMenu);
         add(helpMenu);
     }
+
+    /**
+     * 실시간 측정 메뉴 동작 설정 (EDT에서 호출됨)
+     * @param startFromFile 기록 중인 파일을 따라가며 측정 시작
+     * @param startFromDevice 장비(TCP)에 연결하여 측정 시작
+     * @param stop 측정 중지
+     */
+    public void setLiveActions(Runnable startFromFile, Runnable startFromDevice, Runnable stop) {
+        this.liveFileAction = startFromFile;
+        this.liveDeviceAction = startFromDevice;
+        this.liveStopAction = stop;
+    }
+
+    /**
+     * 측정 중 여부에 따라 시작/중지 메뉴 활성화
+     */
+    public void setLiveRunning(boolean running) {
+        liveFileItem.setEnabled(!running);
+        liveDeviceItem.setEnabled(!running);
+        liveStopItem.setEnabled(running);
+    }
+
+    private static void run(Runnable action) {
+        if (action != null) {
+            action.run();
+        }
+    }
 }
\ No newline at end of file
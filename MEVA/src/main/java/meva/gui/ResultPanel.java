@@ -1,6 +1,10 @@
 package meva.gui;
 
 import javax.swing.*;
+import java.awt.*;
+import java.util.Locale;
+
+import meva.models.SimulationResult;
 
 /**
  * 계산 결과를 표시하는 패널
@@ -8,6 +12,15 @@ import javax.swing.*;
  * @author 김종현
  */
 public class ResultPanel extends JPanel {
+
+    private JLabel youngsModulusLabel;
+    private JLabel yieldStrengthLabel;
+    private JLabel tensileStrengthLabel;
+    private JLabel elongationLabel;
+    private JLabel rSquaredLabel;
+    private JLabel elasticRangeLabel;
+    private JLabel statusLabel;
+    private JProgressBar progressBar;
     
     public ResultPanel() {
         initializeComponents();
@@ -15,15 +28,114 @@ public class ResultPanel extends JPanel {
     }
     
     private void initializeComponents() {
-        // TODO: 결과 표시 컴포넌트들 초기화
+        youngsModulusLabel = new JLabel("-");
+        yieldStrengthLabel = new JLabel("-");
+        tensileStrengthLabel = new JLabel("-");
+        elongationLabel = new JLabel("-");
+        rSquaredLabel = new JLabel("-");
+        elasticRangeLabel = new JLabel("-");
+        statusLabel = new JLabel(" ");
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setVisible(false);
     }
     
     private void setupLayout() {
-        // TODO: 레이아웃 설정
         setBorder(BorderFactory.createTitledBorder("계산 결과"));
+        setLayout(new GridBagLayout());
+        GridBagConstraints c = new GridBagConstraints();
+        c.insets = new Insets(4, 4, 4, 4);
+        c.anchor = GridBagConstraints.WEST;
+        addRow(c, 0, "영률 (GPa)", youngsModulusLabel);
+        addRow(c, 1, "항복강도 (MPa)", yieldStrengthLabel);
+        addRow(c, 2, "인장강도 (MPa)", tensileStrengthLabel);
+        addRow(c, 3, "연신율 (%)", elongationLabel);
+        addRow(c, 4, "결정계수 R²", rSquaredLabel);
+        addRow(c, 5, "탄성 구간 (변형률)", elasticRangeLabel);
+        c.gridx = 0;
+        c.gridwidth = 2;
+        c.fill = GridBagConstraints.HORIZONTAL;
+        c.gridy = 6;
+        add(progressBar, c);
+        c.gridy = 7;
+        add(statusLabel, c);
+        c.gridy = 8;
+        c.weighty = 1.0;
+        add(Box.createGlue(), c);
+    }
+
+    private void addRow(GridBagConstraints c, int row, String label, JLabel value) {
+        c.gridy = row;
+        c.gridx = 0;
+        add(new JLabel(label), c);
+        c.gridx = 1;
+        add(value, c);
+    }
+
+    /**
+     * 계산 진행 중 표시
+     * @param progress 진행률 (0.0 ~ 1.0), 음수이면 진행률을 알 수 없음
+     */
+    public void showProgress(double progress) {
+        progressBar.setVisible(true);
+        progressBar.setIndeterminate(progress < 0);
+        progressBar.setValue((int) Math.round(Math.max(0.0, progress) * 100));
+        statusLabel.setText("계산 중...");
     }
     
     public void displayResults() {
-        // TODO: 결과 표시 로직
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * 결과 표시 (EDT에서 호출)
+     * @param result 표시할 결과
+     */
+    public void displayResults(SimulationResult result) {
+        progressBar.setVisible(false);
+        if (result == null || !result.isValid()) {
+            clearValues();
+            statusLabel.setText(result == null ? " " : result.getErrorMessage());
+        } else {
+            setValues(result);
+            statusLabel.setText(" ");
+        }
+        displayResults();
+    }
+
+    /**
+     * 중간 결과 표시. 아직 구하지 못한 값은 이전 표시를 유지하지 않고 비운다
+     */
+    public void displayPartialResults(SimulationResult result, double progress) {
+        setValues(result);
+        showProgress(progress);
+    }
+
+    private void setValues(SimulationResult result) {
+        youngsModulusLabel.setText(format(result.getYoungsModulus()));
+        yieldStrengthLabel.setText(format(result.getYieldStrength()));
+        tensileStrengthLabel.setText(format(result.getTensileStrength()));
+        elongationLabel.setText(format(result.getElongation()));
+        if (result.getModulusRSquared() > 0) {
+            rSquaredLabel.setText(String.format(Locale.ROOT, "%.5f", result.getModulusRSquared()));
+            elasticRangeLabel.setText(String.format(Locale.ROOT, "%.5f ~ %.5f",
+                    result.getModulusStartStrain(), result.getModulusEndStrain()));
+        } else {
+            rSquaredLabel.setText("-");
+            elasticRangeLabel.setText("-");
+        }
+    }
+
+    private void clearValues() {
+        youngsModulusLabel.setText("-");
+        yieldStrengthLabel.setText("-");
+        tensileStrengthLabel.setText("-");
+        elongationLabel.setText("-");
+        rSquaredLabel.setText("-");
+        elasticRangeLabel.setText("-");
+    }
+
+    private static String format(double value) {
+        return value > 0 ? String.format(Locale.ROOT, "%.2f", value) : "-";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package meva.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 현재 스레드가 지금까지 할당한 바이트 수 조회
+ * HotSpot의 com.sun.management.ThreadMXBean을 쓰며, 지원하지 않는 JVM에서는 -1을 돌려준다
+ */
+final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = lookup();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * @return 현재 스레드의 누적 할당 바이트 수 (측정 불가 시 -1)
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean lookup() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            // 측정하지 않음
+        }
+        return null;
+    }
+}
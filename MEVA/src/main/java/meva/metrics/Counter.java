@@ -0,0 +1,34 @@
+package meva.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스레드 경합이 적은 누적 카운터 (JMX로 노출됨)
+ */
+public class Counter implements CounterMXBean {
+
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public String getName() { return name; }
+
+    @Override
+    public long getCount() { return value.sum(); }
+
+    @Override
+    public void reset() {
+        value.reset();
+    }
+}
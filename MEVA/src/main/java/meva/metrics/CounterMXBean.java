@@ -0,0 +1,11 @@
+package meva.metrics;
+
+/**
+ * 카운터 JMX 인터페이스
+ */
+public interface CounterMXBean {
+
+    long getCount();
+
+    void reset();
+}
@@ -0,0 +1,122 @@
+package meva.metrics;
+
+import meva.utils.ConfigManager;
+
+/**
+ * 애플리케이션 계측 진입점
+ *
+ * 기본은 꺼져 있으며 {@link #configure(ConfigManager)}(설정 파일의 metrics.enabled)나
+ * {@link #setEnabled(boolean)}로 켠다. 꺼져 있으면 {@link #start(String)}는 공유 빈 구간을
+ * 돌려주고 {@link #count(String, long)}는 바로 반환하므로 비용이 거의 없다.
+ * 계측 코드 자체는 설정 파일을 읽지 않으므로 헤드리스 모드에서 ConfigManager를 초기화하지 않는다.
+ * 켜지면 결과를 JMX("meva:type=Metrics")로 노출하고, 각 구간은 JFR 이벤트(meva.Operation)로도 기록된다.
+ */
+public final class Metrics {
+
+    // 타이머 이름
+    public static final String CSV_READ = "fileio.csv.read";
+    public static final String CSV_WRITE = "fileio.csv.write";
+    public static final String STRESS_STRAIN = "calculation.stress_strain";
+    public static final String PROPERTIES = "calculation.properties";
+    public static final String MODULUS_FIT = "calculation.modulus_fit";
+    public static final String AGGREGATION = "aggregation.specimens";
+    public static final String SIMULATION = "simulation.material";
+    public static final String GRAPH_RENDER = "gui.graph.render";
+    public static final String IMAGE_EXPORT = "chart.image_export";
+    public static final String REPORT = "report.pdf";
+
+    // 카운터 이름
+    public static final String CSV_SKIPPED_ROWS = "fileio.csv.skipped_rows";
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+    private static final Control CONTROL = new Control();
+    private static volatile boolean enabled;
+    private static boolean dumpHookInstalled;
+
+    private Metrics() {
+        // 유틸리티 클래스
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 설정 파일에 따라 계측 켜기
+     * metrics.dump_file이 지정되어 있으면 종료 시 보고서를 그 파일에 저장한다
+     * @param config 설정
+     */
+    public static synchronized void configure(ConfigManager config) {
+        setEnabled(config.getBoolean(ConfigManager.KEY_METRICS_ENABLED, false));
+        String dumpFile = config.getString(ConfigManager.KEY_METRICS_DUMP_FILE, "").trim();
+        if (enabled && !dumpFile.isEmpty() && !dumpHookInstalled) {
+            dumpHookInstalled = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> REGISTRY.dump(dumpFile), "meva-metrics-dump"));
+        }
+    }
+
+    /**
+     * 계측 켜기/끄기 (처음 켤 때 JMX에 등록)
+     */
+    public static synchronized void setEnabled(boolean value) {
+        if (value) {
+            REGISTRY.registerJmx(CONTROL);
+        }
+        enabled = value;
+    }
+
+    /**
+     * 측정 구간 시작
+     * @param name 타이머 이름
+     * @return 구간 (계측이 꺼져 있으면 {@link Scope#NOOP})
+     */
+    public static Scope start(String name) {
+        return enabled ? REGISTRY.start(name) : Scope.NOOP;
+    }
+
+    /**
+     * 카운터 증가
+     * @param name 카운터 이름
+     * @param amount 증가량
+     */
+    public static void count(String name, long amount) {
+        if (enabled) {
+            REGISTRY.counter(name).add(amount);
+        }
+    }
+
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * JMX 제어용 MBean
+     */
+    private static final class Control implements MetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean value) {
+            Metrics.setEnabled(value);
+        }
+
+        @Override
+        public String getReport() {
+            return REGISTRY.getReport();
+        }
+
+        @Override
+        public boolean dump(String filePath) {
+            return REGISTRY.dump(filePath);
+        }
+
+        @Override
+        public void reset() {
+            REGISTRY.reset();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package meva.metrics;
+
+/**
+ * 계측 전체 JMX 인터페이스 (ObjectName "meva:type=Metrics")
+ * 개별 타이머/카운터는 "meva:type=Timer,name=..." / "meva:type=Counter,name=..."로 등록된다
+ */
+public interface MetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /** 모든 타이머/카운터의 현재 값을 사람이 읽을 수 있는 표로 반환 */
+    String getReport();
+
+    /**
+     * 보고서를 파일로 저장
+     * @param filePath 파일 경로
+     * @return 성공 여부
+     */
+    boolean dump(String filePath);
+
+    void reset();
+}
@@ -0,0 +1,142 @@
+package meva.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 이름별 타이머/카운터 보관소
+ * JMX에 등록하면 이후 만들어지는 타이머/카운터도 자동으로 등록된다
+ */
+public class MetricsRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(MetricsRegistry.class.getName());
+    private static final String DOMAIN = "meva";
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private volatile MBeanServer server;
+
+    /**
+     * 이름에 해당하는 타이머 (없으면 생성)
+     */
+    public Timer timer(String name) {
+        Timer timer = timers.get(name);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(name, key -> {
+                Timer created = new Timer(key);
+                register("Timer", key, created);
+                return created;
+            });
+        }
+        return timer;
+    }
+
+    /**
+     * 이름에 해당하는 카운터 (없으면 생성)
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(name, key -> {
+                Counter created = new Counter(key);
+                register("Counter", key, created);
+                return created;
+            });
+        }
+        return counter;
+    }
+
+    /**
+     * 측정 구간 시작
+     * @param name 타이머 이름
+     */
+    public Scope start(String name) {
+        return new Scope(timer(name));
+    }
+
+    /**
+     * 플랫폼 MBean 서버에 등록 (이미 등록되어 있으면 무시)
+     * @param metrics 전체 제어용 MBean
+     */
+    public synchronized void registerJmx(MetricsMXBean metrics) {
+        if (server != null) {
+            return;
+        }
+        server = ManagementFactory.getPlatformMBeanServer();
+        register(metrics, DOMAIN + ":type=Metrics");
+        timers.forEach((name, timer) -> register("Timer", name, timer));
+        counters.forEach((name, counter) -> register("Counter", name, counter));
+    }
+
+    /**
+     * 모든 값 초기화
+     */
+    public void reset() {
+        timers.values().forEach(Timer::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    /**
+     * 보고서 문자열 (이름순)
+     */
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-28s %10s %10s %10s %10s %10s %12s %14s%n",
+                "timer", "count", "mean(ms)", "p50(ms)", "p99(ms)", "max(ms)", "items", "alloc(bytes)"));
+        for (Timer timer : new TreeMap<>(timers).values()) {
+            sb.append(String.format("%-28s %10d %10.3f %10.3f %10.3f %10.3f %12d %14d%n",
+                    timer.getName(), timer.getCount(), timer.getMeanMillis(), timer.getP50Millis(),
+                    timer.getP99Millis(), timer.getMaxMillis(), timer.getItems(), timer.getAllocatedBytes()));
+        }
+        if (!counters.isEmpty()) {
+            sb.append(String.format("%n%-28s %10s%n", "counter", "count"));
+            for (Counter counter : new TreeMap<>(counters).values()) {
+                sb.append(String.format("%-28s %10d%n", counter.getName(), counter.getCount()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 보고서를 파일로 저장
+     * @param filePath 파일 경로
+     * @return 성공 여부
+     */
+    public boolean dump(String filePath) {
+        try {
+            Files.write(Paths.get(filePath), getReport().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private void register(String type, String name, Object bean) {
+        if (server != null) {
+            register(bean, DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+        }
+    }
+
+    private void register(Object bean, String name) {
+        try {
+            ObjectName objectName = new ObjectName(name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(bean, objectName);
+            }
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "JMX 등록 실패: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package meva.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 사용자 이벤트: 측정 구간 하나
+ * JDK Mission Control에서 "MEVA" 분류로 파싱/계산/렌더링 구간을 볼 수 있다
+ */
+@Name("meva.Operation")
+@Label("MEVA Operation")
+@Category("MEVA")
+@Description("파일 처리, 계산, 시뮬레이션, 렌더링 구간")
+class OperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Items")
+    long items;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,67 @@
+package meva.metrics;
+
+/**
+ * 측정 구간 (try-with-resources로 사용)
+ * 계측이 꺼져 있으면 {@link #NOOP}가 반환되어 close는 아무 일도 하지 않는다
+ *
+ * <pre>
+ * try (Scope scope = Metrics.start(Metrics.CSV_READ)) {
+ *     ...
+ *     scope.setItems(sampleCount);
+ * }
+ * </pre>
+ */
+public final class Scope implements AutoCloseable {
+
+    /** 계측이 꺼져 있을 때 쓰는 빈 구간 */
+    public static final Scope NOOP = new Scope(null);
+
+    private final Timer timer;
+    private final OperationEvent event;
+    private final long startNanos;
+    private final long startAllocated;
+    private long items;
+
+    Scope(Timer timer) {
+        this.timer = timer;
+        if (timer == null) {
+            event = null;
+            startNanos = 0;
+            startAllocated = -1;
+            return;
+        }
+        OperationEvent jfrEvent = new OperationEvent();
+        if (jfrEvent.isEnabled()) {
+            jfrEvent.begin();
+            event = jfrEvent;
+        } else {
+            event = null;
+        }
+        startAllocated = AllocationMeter.currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * 구간에서 처리한 항목 수 설정 (처리량 계산용)
+     */
+    public void setItems(long items) {
+        this.items = items;
+    }
+
+    @Override
+    public void close() {
+        if (timer == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = startAllocated >= 0
+                ? AllocationMeter.currentThreadAllocatedBytes() - startAllocated : 0;
+        timer.record(elapsed, items, allocated);
+        if (event != null) {
+            event.operation = timer.getName();
+            event.items = items;
+            event.allocatedBytes = allocated;
+            event.commit();
+        }
+    }
+}
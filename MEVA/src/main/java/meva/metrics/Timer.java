@@ -0,0 +1,69 @@
+package meva.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이름 붙은 작업 구간의 지연 시간/처리량/할당량 통계
+ */
+public class Timer implements TimerMXBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder items = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 구간 하나 기록
+     * @param nanos 걸린 시간
+     * @param itemCount 처리한 항목 수
+     * @param allocated 할당한 바이트 수
+     */
+    void record(long nanos, long itemCount, long allocated) {
+        histogram.record(nanos);
+        items.add(itemCount);
+        if (allocated > 0) {
+            allocatedBytes.add(allocated);
+        }
+    }
+
+    public String getName() { return name; }
+
+    public LatencyHistogram getHistogram() { return histogram; }
+
+    @Override
+    public long getCount() { return histogram.getCount(); }
+
+    @Override
+    public double getMeanMillis() { return histogram.getMean() / NANOS_PER_MILLI; }
+
+    @Override
+    public double getP50Millis() { return histogram.getPercentile(50) / NANOS_PER_MILLI; }
+
+    @Override
+    public double getP90Millis() { return histogram.getPercentile(90) / NANOS_PER_MILLI; }
+
+    @Override
+    public double getP99Millis() { return histogram.getPercentile(99) / NANOS_PER_MILLI; }
+
+    @Override
+    public double getMaxMillis() { return histogram.getMax() / NANOS_PER_MILLI; }
+
+    @Override
+    public long getItems() { return items.sum(); }
+
+    @Override
+    public long getAllocatedBytes() { return allocatedBytes.sum(); }
+
+    @Override
+    public void reset() {
+        histogram.reset();
+        items.reset();
+        allocatedBytes.reset();
+    }
+}
@@ -0,0 +1,27 @@
+package meva.metrics;
+
+/**
+ * 구간 타이머 JMX 인터페이스 (시간 단위는 ms)
+ */
+public interface TimerMXBean {
+
+    long getCount();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP90Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    /** 처리한 항목(샘플/포인트) 수 합계 */
+    long getItems();
+
+    /** 측정 구간에서 할당한 바이트 수 합계 (측정을 지원하지 않는 JVM이면 0) */
+    long getAllocatedBytes();
+
+    void reset();
+}
@@ -0,0 +1,324 @@
+package meva.models;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * 고정 크기 묶음(chunk)으로 나누어 저장하는 double 컬럼
+ *
+ * 하나의 연속 배열 대신 2^shift 개씩 나눈 묶음에 저장하므로 샘플 수가
+ * int 범위를 넘어도 되고, 값이 늘어날 때 기존 데이터를 복사하지 않는다.
+ * 묶음은 힙 배열, direct 버퍼(힙 밖), 또는 메모리 매핑 버퍼일 수 있다.
+ * direct 버퍼의 총량은 JVM 옵션 -XX:MaxDirectMemorySize로 제한된다.
+ * 힙 컬럼의 첫 묶음은 작게 시작해 두 배씩 키우므로 값이 적으면 묶음 전체를 할당하지 않는다.
+ *
+ * 순차 처리는 {@link #cursor(int)}, 임의 접근은 {@link #get(long)} 또는
+ * {@link ColumnCursor#seek(long)}를 사용한다. 스레드 안전하지 않다.
+ */
+public final class ChunkedColumn {
+
+    /** 기본 묶음 크기 지수: 2^20개 = 8 MB */
+    public static final int DEFAULT_CHUNK_SHIFT = 20;
+
+    /** 자바 배열로 만들 수 있는 최대 길이 */
+    public static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /** 힙 컬럼 첫 묶음의 초기 크기 지수: 2^10개 = 8 KB */
+    private static final int INITIAL_CHUNK_SHIFT = 10;
+
+    private final int shift;
+    private final long chunkSize;
+    private final long mask;
+    private final boolean offHeap;
+    private final boolean readOnly;
+    private double[][] heapChunks;
+    private DoubleBuffer[] bufferChunks;
+    private int chunkCount;
+    private long size;
+
+    /**
+     * 기본 묶음 크기의 힙 컬럼 생성
+     */
+    public ChunkedColumn() {
+        this(DEFAULT_CHUNK_SHIFT, false);
+    }
+
+    /**
+     * @param chunkShift 묶음 크기 지수 (묶음 하나에 2^chunkShift개, 4 ~ 27)
+     * @param offHeap true이면 묶음을 direct 버퍼로 할당하여 GC 대상에서 제외
+     */
+    public ChunkedColumn(int chunkShift, boolean offHeap) {
+        this(chunkShift, offHeap, false);
+        if (chunkShift < 4 || chunkShift > 27) {
+            throw new IllegalArgumentException("chunkShift must be between 4 and 27: " + chunkShift);
+        }
+        if (offHeap) {
+            bufferChunks = new DoubleBuffer[4];
+        } else {
+            heapChunks = new double[4][];
+        }
+    }
+
+    private ChunkedColumn(int chunkShift, boolean offHeap, boolean readOnly) {
+        this.shift = chunkShift;
+        this.chunkSize = 1L << chunkShift;
+        this.mask = chunkSize - 1;
+        this.offHeap = offHeap;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * 배열을 복사 없이 감싸는 읽기 전용 컬럼
+     * @param values 값 배열
+     * @return 묶음 하나로 된 컬럼
+     */
+    public static ChunkedColumn wrap(double[] values) {
+        int shift = Math.max(4, 32 - Integer.numberOfLeadingZeros(Math.max(1, values.length - 1)));
+        ChunkedColumn column = new ChunkedColumn(shift, false, true);
+        column.heapChunks = new double[][] {values};
+        column.chunkCount = 1;
+        column.size = values.length;
+        return column;
+    }
+
+    /**
+     * 이미 채워진 버퍼 묶음(예: 메모리 매핑 구간)을 감싸는 읽기 전용 컬럼
+     * 마지막을 제외한 모든 버퍼는 정확히 2^chunkShift개의 값을 가져야 한다
+     * @param chunks 순서대로 나열한 버퍼
+     * @param chunkShift 묶음 크기 지수
+     * @return 컬럼
+     */
+    public static ChunkedColumn wrap(List<DoubleBuffer> chunks, int chunkShift) {
+        ChunkedColumn column = new ChunkedColumn(chunkShift, true, true);
+        column.bufferChunks = new DoubleBuffer[chunks.size()];
+        long total = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            DoubleBuffer chunk = chunks.get(i);
+            boolean last = i == chunks.size() - 1;
+            if (last ? chunk.capacity() > column.chunkSize : chunk.capacity() != column.chunkSize) {
+                throw new IllegalArgumentException("chunk " + i + " has " + chunk.capacity() + " values");
+            }
+            column.bufferChunks[i] = chunk;
+            total += chunk.capacity();
+        }
+        column.chunkCount = chunks.size();
+        column.size = total;
+        return column;
+    }
+
+    /**
+     * 값 하나 추가
+     */
+    public void append(double value) {
+        checkWritable();
+        int offset = (int) (size & mask);
+        if (offset == 0) {
+            addChunk();
+        }
+        int chunk = chunkCount - 1;
+        if (offHeap) {
+            bufferChunks[chunk].put(offset, value);
+        } else {
+            ensureHeapCapacity(chunk, offset + 1);
+            heapChunks[chunk][offset] = value;
+        }
+        size++;
+    }
+
+    /**
+     * 배열의 일부 구간을 한 번에 추가
+     * @param source 원본 배열
+     * @param offset 시작 위치
+     * @param length 추가할 개수
+     */
+    public void appendAll(double[] source, int offset, int length) {
+        checkWritable();
+        while (length > 0) {
+            int position = (int) (size & mask);
+            if (position == 0) {
+                addChunk();
+            }
+            int count = (int) Math.min(length, chunkSize - position);
+            int chunk = chunkCount - 1;
+            if (offHeap) {
+                bufferChunks[chunk].put(position, source, offset, count);
+            } else {
+                ensureHeapCapacity(chunk, position + count);
+                System.arraycopy(source, offset, heapChunks[chunk], position, count);
+            }
+            size += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * 임의 위치의 값 조회
+     * @param index 0 ~ size()-1
+     */
+    public double get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        int chunk = (int) (index >>> shift);
+        int offset = (int) (index & mask);
+        return offHeap ? bufferChunks[chunk].get(offset) : heapChunks[chunk][offset];
+    }
+
+    /**
+     * 임의 위치의 값 변경
+     */
+    public void set(long index, double value) {
+        checkWritable();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        int chunk = (int) (index >>> shift);
+        int offset = (int) (index & mask);
+        if (offHeap) {
+            bufferChunks[chunk].put(offset, value);
+        } else {
+            heapChunks[chunk][offset] = value;
+        }
+    }
+
+    /**
+     * 연속 구간을 배열로 복사 (묶음 경계를 넘어도 됨)
+     * @param position 읽기 시작 위치
+     * @param target 대상 배열
+     * @param offset 대상 시작 위치
+     * @param length 최대 개수
+     * @return 실제로 복사한 개수 (끝에 도달하면 0)
+     */
+    public int read(long position, double[] target, int offset, int length) {
+        if (position < 0) {
+            throw new IndexOutOfBoundsException("position: " + position);
+        }
+        int total = (int) Math.min(length, Math.max(0, size - position));
+        int copied = 0;
+        while (copied < total) {
+            int chunk = (int) (position >>> shift);
+            int start = (int) (position & mask);
+            int count = (int) Math.min(total - copied, chunkSize - start);
+            if (offHeap) {
+                bufferChunks[chunk].get(start, target, offset + copied, count);
+            } else {
+                System.arraycopy(heapChunks[chunk], start, target, offset + copied, count);
+            }
+            copied += count;
+            position += count;
+        }
+        return total;
+    }
+
+    /**
+     * 묶음 하나의 읽기 전용 뷰 (복사 없음)
+     * @param index 0 ~ getChunkCount()-1
+     * @return 유효한 값만큼의 버퍼
+     */
+    public DoubleBuffer chunk(int index) {
+        if (index < 0 || index >= chunkCount) {
+            throw new IndexOutOfBoundsException("chunk: " + index + ", count: " + chunkCount);
+        }
+        int length = (int) Math.min(chunkSize, size - ((long) index << shift));
+        DoubleBuffer view = offHeap ? bufferChunks[index].duplicate() : DoubleBuffer.wrap(heapChunks[index]);
+        return view.limit(length).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * 순차/임의 접근용 블록 커서 생성
+     * @param blockSize 한 번에 읽을 최대 개수
+     */
+    public ColumnCursor cursor(int blockSize) {
+        return new ColumnCursor(this, blockSize);
+    }
+
+    /**
+     * 값을 하나씩 순차 조회하는 반복자
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    /**
+     * 전체 값을 하나의 배열로 반환
+     * {@link #wrap(double[])}로 만든 컬럼은 원본 배열을 그대로 반환한다
+     * @return 값 배열
+     * @throws IllegalStateException 값이 배열 한도를 넘는 경우
+     */
+    public double[] toArray() {
+        if (!offHeap && chunkCount == 1 && heapChunks[0].length == size) {
+            return heapChunks[0];
+        }
+        if (size > MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("column too large for an array: " + size + " values");
+        }
+        double[] values = new double[(int) size];
+        read(0, values, 0, values.length);
+        return values;
+    }
+
+    public long size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public long getChunkSize() { return chunkSize; }
+    public int getChunkCount() { return chunkCount; }
+    public boolean isOffHeap() { return offHeap; }
+    public boolean isReadOnly() { return readOnly; }
+
+    private void addChunk() {
+        if (offHeap) {
+            if (chunkCount == bufferChunks.length) {
+                bufferChunks = Arrays.copyOf(bufferChunks, chunkCount * 2);
+            }
+            bufferChunks[chunkCount++] = ByteBuffer.allocateDirect((int) chunkSize * Double.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asDoubleBuffer();
+        } else {
+            if (chunkCount == heapChunks.length) {
+                heapChunks = Arrays.copyOf(heapChunks, chunkCount * 2);
+            }
+            int length = chunkCount == 0 ? (int) Math.min(chunkSize, 1L << INITIAL_CHUNK_SHIFT) : (int) chunkSize;
+            heapChunks[chunkCount++] = new double[length];
+        }
+    }
+
+    /**
+     * 덜 자란 첫 묶음을 필요한 크기까지 두 배씩 키움 (묶음 크기를 넘지 않음)
+     */
+    private void ensureHeapCapacity(int chunk, int required) {
+        double[] values = heapChunks[chunk];
+        if (required > values.length) {
+            int capacity = values.length;
+            while (capacity < required) {
+                capacity <<= 1;
+            }
+            heapChunks[chunk] = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("column is read-only");
+        }
+    }
+}
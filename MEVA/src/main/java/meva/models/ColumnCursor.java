@@ -0,0 +1,59 @@
+package meva.models;
+
+/**
+ * ChunkedColumn을 블록 단위로 읽는 커서
+ *
+ * 같은 블록 크기로 만든 여러 컬럼의 커서는 항상 같은 길이의 블록을 돌려주므로
+ * 하중/변위 컬럼을 나란히 처리할 수 있다. 블록 배열은 커서마다 한 번만 할당된다.
+ */
+public final class ColumnCursor {
+
+    private final ChunkedColumn column;
+    private final double[] block;
+    private long position;
+    private long blockStart;
+    private int length;
+
+    ColumnCursor(ChunkedColumn column, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.column = column;
+        this.block = new double[(int) Math.min(blockSize, Math.max(1, column.size()))];
+    }
+
+    /**
+     * 다음 블록 읽기
+     * @return 읽은 개수 (끝이면 0)
+     */
+    public int next() {
+        blockStart = position;
+        length = column.read(position, block, 0, block.length);
+        position += length;
+        return length;
+    }
+
+    /**
+     * 다음 {@link #next()}가 읽을 위치 지정 (임의 접근)
+     * @param index 0 ~ size()
+     */
+    public void seek(long index) {
+        if (index < 0 || index > column.size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + column.size());
+        }
+        position = index;
+        length = 0;
+    }
+
+    /** 마지막으로 읽은 블록 (앞의 {@link #length()}개만 유효) */
+    public double[] block() { return block; }
+
+    /** 마지막으로 읽은 블록의 값 개수 */
+    public int length() { return length; }
+
+    /** 마지막으로 읽은 블록의 첫 값 위치 */
+    public long blockStart() { return blockStart; }
+
+    /** 다음에 읽을 위치 */
+    public long position() { return position; }
+}
@@ -8,11 +8,19 @@ package meva.models;
 public class SimulationResult {
     private double[] stress;       // 응력 배열
     private double[] strain;       // 변형률 배열
+    private double[] trueStress;   // 진응력 배열
+    private double[] trueStrain;   // 진변형률 배열
     private double youngsModulus;  // 계산된 영률
     private double yieldStrength;  // 계산된 항복강도
     private double tensileStrength; // 계산된 인장강도
     private double elongation;     // 연신율
     private double reductionOfArea; // 단면수축률
+    private double modulusRSquared;     // 영률 회귀 결정계수 (0이면 회귀 정보 없음)
+    private double modulusStartStrain;  // 영률 회귀 구간 시작 변형률
+    private double modulusEndStrain;    // 영률 회귀 구간 끝 변형률
+    private double uniformStrain;  // 균일 변형률 (인장강도 지점)
+    private boolean fractureDetected; // 파단 감지 여부
+    private long sampleCount;      // 물성값 계산에 사용한 측정 샘플 수
     private boolean isValid;       // 결과 유효성
     private String errorMessage;   // 오류 메시지
     
@@ -26,6 +34,12 @@ public class SimulationResult {
     public double[] getStrain() { return strain; }
     public void setStrain(double[] strain) { this.strain = strain; }
     
+    public double[] getTrueStress() { return trueStress; }
+    public void setTrueStress(double[] trueStress) { this.trueStress = trueStress; }
+    
+    public double[] getTrueStrain() { return trueStrain; }
+    public void setTrueStrain(double[] trueStrain) { this.trueStrain = trueStrain; }
+    
     public double getYoungsModulus() { return youngsModulus; }
     public void setYoungsModulus(double youngsModulus) { this.youngsModulus = youngsModulus; }
     
@@ -41,6 +55,24 @@ public class SimulationResult {
     public double getReductionOfArea() { return reductionOfArea; }
     public void setReductionOfArea(double reductionOfArea) { this.reductionOfArea = reductionOfArea; }
     
+    public double getModulusRSquared() { return modulusRSquared; }
+    public void setModulusRSquared(double modulusRSquared) { this.modulusRSquared = modulusRSquared; }
+    
+    public double getModulusStartStrain() { return modulusStartStrain; }
+    public void setModulusStartStrain(double modulusStartStrain) { this.modulusStartStrain = modulusStartStrain; }
+    
+    public double getModulusEndStrain() { return modulusEndStrain; }
+    public void setModulusEndStrain(double modulusEndStrain) { this.modulusEndStrain = modulusEndStrain; }
+    
+    public double getUniformStrain() { return uniformStrain; }
+    public void setUniformStrain(double uniformStrain) { this.uniformStrain = uniformStrain; }
+
+    public boolean isFractureDetected() { return fractureDetected; }
+    public void setFractureDetected(boolean fractureDetected) { this.fractureDetected = fractureDetected; }
+
+    public long getSampleCount() { return sampleCount; }
+    public void setSampleCount(long sampleCount) { this.sampleCount = sampleCount; }
+
     public boolean isValid() { return isValid; }
     public void setValid(boolean valid) { isValid = valid; }
     
@@ -0,0 +1,93 @@
+package meva.models;
+
+/**
+ * 재료별 표준 물성값 범위를 담는 모델 클래스
+ * 값이 정해지지 않은 범위는 NaN
+ */
+public class StandardProperty {
+    private String materialName;      // 재료명
+    private double youngsModulusMin;  // 영률 하한 (GPa)
+    private double youngsModulusMax;  // 영률 상한 (GPa)
+    private double yieldStrengthMin;  // 항복강도 하한 (MPa)
+    private double yieldStrengthMax;  // 항복강도 상한 (MPa)
+    private double tensileStrengthMin; // 인장강도 하한 (MPa)
+    private double tensileStrengthMax; // 인장강도 상한 (MPa)
+    private double elongationMin;     // 연신율 하한 (%)
+    private double elongationMax;     // 연신율 상한 (%)
+    private String reference;         // 출처 규격
+
+    // 생성자
+    public StandardProperty() {}
+
+    public StandardProperty(String materialName, double[] ranges, String reference) {
+        this.materialName = materialName;
+        this.youngsModulusMin = value(ranges, 0);
+        this.youngsModulusMax = value(ranges, 1);
+        this.yieldStrengthMin = value(ranges, 2);
+        this.yieldStrengthMax = value(ranges, 3);
+        this.tensileStrengthMin = value(ranges, 4);
+        this.tensileStrengthMax = value(ranges, 5);
+        this.elongationMin = value(ranges, 6);
+        this.elongationMax = value(ranges, 7);
+        this.reference = reference;
+    }
+
+    private static double value(double[] ranges, int i) {
+        return i < ranges.length ? ranges[i] : Double.NaN;
+    }
+
+    /**
+     * 범위 배열 {영률 하한, 상한, 항복강도 하한, 상한, 인장강도 하한, 상한, 연신율 하한, 상한}
+     */
+    public double[] toRanges() {
+        return new double[] {
+            youngsModulusMin, youngsModulusMax, yieldStrengthMin, yieldStrengthMax,
+            tensileStrengthMin, tensileStrengthMax, elongationMin, elongationMax
+        };
+    }
+
+    /**
+     * 계산 결과가 모든 표준 범위 안에 있는지 확인 (NaN 범위는 검사하지 않음)
+     */
+    public boolean isWithinRange(SimulationResult result) {
+        return within(result.getYoungsModulus(), youngsModulusMin, youngsModulusMax)
+            && within(result.getYieldStrength(), yieldStrengthMin, yieldStrengthMax)
+            && within(result.getTensileStrength(), tensileStrengthMin, tensileStrengthMax)
+            && within(result.getElongation(), elongationMin, elongationMax);
+    }
+
+    private static boolean within(double value, double min, double max) {
+        return !(value < min) && !(value > max);
+    }
+
+    // Getter 및 Setter 메서드들
+    public String getMaterialName() { return materialName; }
+    public void setMaterialName(String materialName) { this.materialName = materialName; }
+
+    public double getYoungsModulusMin() { return youngsModulusMin; }
+    public void setYoungsModulusMin(double youngsModulusMin) { this.youngsModulusMin = youngsModulusMin; }
+
+    public double getYoungsModulusMax() { return youngsModulusMax; }
+    public void setYoungsModulusMax(double youngsModulusMax) { this.youngsModulusMax = youngsModulusMax; }
+
+    public double getYieldStrengthMin() { return yieldStrengthMin; }
+    public void setYieldStrengthMin(double yieldStrengthMin) { this.yieldStrengthMin = yieldStrengthMin; }
+
+    public double getYieldStrengthMax() { return yieldStrengthMax; }
+    public void setYieldStrengthMax(double yieldStrengthMax) { this.yieldStrengthMax = yieldStrengthMax; }
+
+    public double getTensileStrengthMin() { return tensileStrengthMin; }
+    public void setTensileStrengthMin(double tensileStrengthMin) { this.tensileStrengthMin = tensileStrengthMin; }
+
+    public double getTensileStrengthMax() { return tensileStrengthMax; }
+    public void setTensileStrengthMax(double tensileStrengthMax) { this.tensileStrengthMax = tensileStrengthMax; }
+
+    public double getElongationMin() { return elongationMin; }
+    public void setElongationMin(double elongationMin) { this.elongationMin = elongationMin; }
+
+    public double getElongationMax() { return elongationMax; }
+    public void setElongationMax(double elongationMax) { this.elongationMax = elongationMax; }
+
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+}
@@ -3,14 +3,25 @@ package meva.models;
 /**
  * 시험 데이터를 담는 모델 클래스
  * 
+ * 하중/변위/시간은 ChunkedColumn으로 보관하므로 int 범위를 넘는 샘플 수나
+ * 힙 밖(direct/메모리 매핑) 데이터도 담을 수 있다. 배열 getter는 기존 코드와의
+ * 호환용이며, 배열로 설정한 값은 복사 없이 그대로 돌려준다. 컬럼으로 설정한 값은
+ * 처음 호출할 때 컬럼 전체를 배열로 복사하고, 컬럼 크기가 바뀌거나 다시 설정될
+ * 때까지 그 배열을 재사용한다. 대용량 데이터는 컬럼 getter와
+ * {@link ColumnCursor}로 처리해야 한다.
+ * 
  * @author 이태윤
  */
 public class TestData {
-    private double[] force;        // 하중 데이터
-    private double[] displacement; // 변위 데이터
-    private double[] time;         // 시간 데이터
+    private ChunkedColumn force;        // 하중 데이터
+    private ChunkedColumn displacement; // 변위 데이터
+    private ChunkedColumn time;         // 시간 데이터
+    private double[] forceArray;        // 배열 getter 결과 (컬럼 복사본 재사용)
+    private double[] displacementArray;
+    private double[] timeArray;
     private double initialLength;  // 초기 길이
     private double crossSectionArea; // 단면적
+    private double finalCrossSectionArea; // 파단 후 단면적 (측정하지 않았으면 0)
     private String testDate;       // 시험 일자
     private String operator;       // 시험자
     
@@ -18,14 +29,32 @@ public class TestData {
     public TestData() {}
     
     // Getter 및 Setter 메서드들
-    public double[] getForce() { return force; }
-    public void setForce(double[] force) { this.force = force; }
+    public double[] getForce() { return forceArray = toArray(force, forceArray); }
+    public void setForce(double[] force) { this.force = wrap(force); this.forceArray = null; }
+    
+    public double[] getDisplacement() { return displacementArray = toArray(displacement, displacementArray); }
+    public void setDisplacement(double[] displacement) { this.displacement = wrap(displacement); this.displacementArray = null; }
+    
+    public double[] getTime() { return timeArray = toArray(time, timeArray); }
+    public void setTime(double[] time) { this.time = wrap(time); this.timeArray = null; }
+    
+    public ChunkedColumn getForceColumn() { return force; }
+    public void setForceColumn(ChunkedColumn force) { this.force = force; this.forceArray = null; }
     
-    public double[] getDisplacement() { return displacement; }
-    public void setDisplacement(double[] displacement) { this.displacement = displacement; }
+    public ChunkedColumn getDisplacementColumn() { return displacement; }
+    public void setDisplacementColumn(ChunkedColumn displacement) { this.displacement = displacement; this.displacementArray = null; }
     
-    public double[] getTime() { return time; }
-    public void setTime(double[] time) { this.time = time; }
+    public ChunkedColumn getTimeColumn() { return time; }
+    public void setTimeColumn(ChunkedColumn time) { this.time = time; this.timeArray = null; }
+    
+    /**
+     * 샘플 수 (하중 컬럼 기준, 없으면 변위 컬럼 기준)
+     * @return 샘플 수 (데이터가 없으면 0)
+     */
+    public long getSampleCount() {
+        ChunkedColumn column = force != null ? force : displacement;
+        return column == null ? 0 : column.size();
+    }
     
     public double getInitialLength() { return initialLength; }
     public void setInitialLength(double initialLength) { this.initialLength = initialLength; }
@@ -33,9 +62,26 @@ public class TestData {
     public double getCrossSectionArea() { return crossSectionArea; }
     public void setCrossSectionArea(double crossSectionArea) { this.crossSectionArea = crossSectionArea; }
     
+    public double getFinalCrossSectionArea() { return finalCrossSectionArea; }
+    public void setFinalCrossSectionArea(double finalCrossSectionArea) { this.finalCrossSectionArea = finalCrossSectionArea; }
+    
     public String getTestDate() { return testDate; }
     public void setTestDate(String testDate) { this.testDate = testDate; }
     
     public String getOperator() { return operator; }
     public void setOperator(String operator) { this.operator = operator; }
-}
\ No newline at end of file
+    
+    private static ChunkedColumn wrap(double[] values) {
+        return values == null ? null : ChunkedColumn.wrap(values);
+    }
+    
+    /**
+     * 컬럼을 배열로 변환 (이전 결과와 크기가 같으면 복사하지 않고 재사용)
+     */
+    private static double[] toArray(ChunkedColumn column, double[] cached) {
+        if (column == null) {
+            return null;
+        }
+        return cached != null && cached.length == column.size() ? cached : column.toArray();
+    }
+}
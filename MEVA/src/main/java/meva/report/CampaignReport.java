@@ -0,0 +1,404 @@
+package meva.report;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import meva.calculation.FileAnalyzer;
+import meva.chart.ChartImageExporter;
+import meva.fileio.DoubleFormatter;
+import meva.fileio.ResultCache;
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
+import meva.models.SimulationResult;
+import meva.models.StandardProperty;
+
+/**
+ * 시험 캠페인(여러 시편) PDF 보고서 생성기
+ *
+ * 앞쪽에 캠페인 요약(물성 통계, 시편별 표, 표준 판정)을 두고, 시편마다 한 페이지에
+ * 응력-변형률 곡선과 물성값 표를 싣는다. 시편은 병렬 수의 두 배씩 묶어
+ * ForkJoinPool에서 분석, 그래프 그리기, 압축까지 마친 뒤 순서대로 PdfDocument에 쓰므로
+ * 동시에 메모리에 있는 곡선과 이미지는 한 묶음 분량뿐이다.
+ *
+ * 사용 예:
+ * <pre>
+ * CampaignReport report = new CampaignReport();
+ * report.setStandard(dataManager.getStandardProperty("Steel_AISI1020"));
+ * report.writeFiles(batchAnalyzer.collectFiles("runs/*.csv"), "campaign.pdf");
+ * </pre>
+ */
+public class CampaignReport {
+
+    // 그래프 이미지 크기 (픽셀)와 페이지에 놓을 크기 (pt)
+    private static final int CHART_WIDTH = 1000;
+    private static final int CHART_HEIGHT = 640;
+    private static final double CHART_BOX_WIDTH = 515;
+    private static final double CHART_BOX_HEIGHT = 329.6;
+
+    private static final double LEFT = 40;
+    private static final double ROW_HEIGHT = 16;
+    private static final int SUMMARY_ROWS_FIRST_PAGE = 24;
+    private static final int SUMMARY_ROWS_PER_PAGE = 44;
+    private static final int NAME_LENGTH = 38;
+    private static final int PRECISION = 5;
+
+    private static final String[] PROPERTY_NAMES = {
+        "Young's modulus (GPa)", "Yield strength (MPa)", "Tensile strength (MPa)", "Elongation (%)"
+    };
+
+    private String title = "MEVA Test Campaign Report";
+    private StandardProperty standard;
+    private ResultCache cache;
+    private double crossSectionArea = Double.NaN;
+    private double initialLength = Double.NaN;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private int specimenCount;
+    private int failedCount;
+    private int passedCount;
+    private int pageCount;
+
+    public void setTitle(String title) { this.title = title; }
+
+    /** 비교할 표준 물성 범위 (null이면 판정하지 않음) */
+    public void setStandard(StandardProperty standard) { this.standard = standard; }
+
+    /** writeFiles에서 사용할 결과 캐시 (null이면 항상 계산) */
+    public void setCache(ResultCache cache) { this.cache = cache; }
+
+    /** 시편 치수 지정값 (NaN이면 파일 값 사용) */
+    public void setSpecimenDimensions(double crossSectionArea, double initialLength) {
+        this.crossSectionArea = crossSectionArea;
+        this.initialLength = initialLength;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getSpecimenCount() { return specimenCount; }
+    public int getFailedCount() { return failedCount; }
+    /** 표준 범위 안에 든 시편 수 (표준이 없으면 0) */
+    public int getPassedCount() { return passedCount; }
+    public int getPageCount() { return pageCount; }
+
+    /**
+     * 시험 파일들을 분석하여 보고서 작성 (파일은 작업 스레드에서 읽고 곡선은 페이지를 만든 뒤 버림)
+     * @param filePaths 시험 파일 경로
+     * @param outputPath 저장할 PDF 경로
+     * @return 저장 성공 여부
+     */
+    public boolean writeFiles(List<String> filePaths, String outputPath) {
+        return write(filePaths, i -> new FileAnalyzer(cache).analyse(filePaths.get(i), crossSectionArea, initialLength),
+                outputPath);
+    }
+
+    /**
+     * 이미 계산된 결과로 보고서 작성
+     * @param names 시편 이름 (results와 같은 순서)
+     * @param results 시편별 결과
+     * @param outputPath 저장할 PDF 경로
+     * @return 저장 성공 여부
+     */
+    public boolean writeResults(List<String> names, List<SimulationResult> results, String outputPath) {
+        if (names.size() != results.size()) {
+            throw new IllegalArgumentException("names and results differ in size: "
+                    + names.size() + " != " + results.size());
+        }
+        return write(names, results::get, outputPath);
+    }
+
+    private boolean write(List<String> names, IntFunction<SimulationResult> loader, String outputPath) {
+        specimenCount = names.size();
+        failedCount = 0;
+        passedCount = 0;
+        pageCount = 0;
+        List<String[]> rows = new ArrayList<>(names.size());
+        PropertySummary[] summaries = new PropertySummary[PROPERTY_NAMES.length];
+        for (int p = 0; p < summaries.length; p++) {
+            summaries[p] = new PropertySummary();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (Scope scope = Metrics.start(Metrics.REPORT);
+             PdfDocument pdf = new PdfDocument(outputPath)) {
+            int window = parallelism * 2;
+            for (int start = 0; start < names.size(); start += window) {
+                int first = start;
+                int end = Math.min(names.size(), start + window);
+                SpecimenPage[] batch = pool.submit(() -> IntStream.range(first, end).parallel()
+                        .mapToObj(i -> renderSpecimen(i, names.get(i), loader.apply(i)))
+                        .toArray(SpecimenPage[]::new)).join();
+                for (SpecimenPage page : batch) {
+                    page.writeTo(pdf);
+                    rows.add(page.row);
+                    if (page.values == null) {
+                        failedCount++;
+                        continue;
+                    }
+                    for (int p = 0; p < summaries.length; p++) {
+                        summaries[p].add(page.values[p]);
+                    }
+                    if (page.passed) {
+                        passedCount++;
+                    }
+                }
+            }
+            int firstSummaryPage = pdf.getPageCount();
+            writeSummary(pdf, rows, summaries);
+            pdf.movePagesToFront(firstSummaryPage);
+            pageCount = pdf.getPageCount();
+            scope.setItems(pageCount);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 시편 한 페이지 준비 (작업 스레드에서 실행): 그래프 그리기와 압축, 페이지 내용 작성
+     */
+    private SpecimenPage renderSpecimen(int index, String name, SimulationResult result) {
+        SpecimenPage page = new SpecimenPage();
+        PageContent content = new PageContent();
+        content.text(LEFT, 50, 15, true, "Specimen " + (index + 1) + " / " + specimenCount);
+        content.text(LEFT, 68, 9, false, name);
+        content.line(LEFT, 76, LEFT + CHART_BOX_WIDTH, 76, 0.5, 0.6);
+
+        String number = String.valueOf(index + 1);
+        String shortName = shorten(name);
+        if (result == null || !result.isValid()) {
+            String message = result == null || result.getErrorMessage() == null
+                    ? "analysis failed" : result.getErrorMessage();
+            content.text(LEFT, 100, 11, true, "ERROR");
+            content.text(LEFT, 116, 10, false, message);
+            page.row = new String[] {number, shortName, "", "", "", "", "ERROR"};
+            page.content = content.toByteArray();
+            return page;
+        }
+
+        double[] values = {
+            result.getYoungsModulus(), result.getYieldStrength(), result.getTensileStrength(), result.getElongation()
+        };
+        page.values = values;
+        page.passed = standard != null && standard.isWithinRange(result);
+        double y = 90;
+        ChartImageExporter exporter = new ChartImageExporter();
+        exporter.setSize(CHART_WIDTH, CHART_HEIGHT);
+        BufferedImage image = exporter.renderImage(result, null);
+        if (image != null) {
+            page.image = PdfDocument.deflate(toRgb(image));
+            content.image("Im1", LEFT, y, CHART_BOX_WIDTH, CHART_BOX_HEIGHT);
+            y += CHART_BOX_HEIGHT + 24;
+        } else {
+            content.text(LEFT, y + 12, 10, false, "No stress-strain curve (data too large or not computed)");
+            y += 36;
+        }
+
+        double[] columns = {LEFT, LEFT + 190, LEFT + 290, LEFT + 430};
+        content.fillRect(LEFT, y - 12, CHART_BOX_WIDTH, ROW_HEIGHT, 0.9);
+        row(content, columns, y, true, "Property", "Measured", "Standard range", "Result");
+        y += ROW_HEIGHT;
+        double[] ranges = standard == null ? null : standard.toRanges();
+        for (int p = 0; p < PROPERTY_NAMES.length; p++) {
+            String range = "";
+            String verdict = "";
+            if (ranges != null) {
+                range = range(ranges[2 * p], ranges[2 * p + 1]);
+                verdict = within(values[p], ranges[2 * p], ranges[2 * p + 1]) ? "PASS" : "FAIL";
+            }
+            row(content, columns, y, false, PROPERTY_NAMES[p], format(values[p]), range, verdict);
+            y += ROW_HEIGHT;
+        }
+        row(content, columns, y, false, "Uniform strain", format(result.getUniformStrain()), "", "");
+        y += ROW_HEIGHT;
+        if (result.getModulusRSquared() > 0) {
+            row(content, columns, y, false, "Modulus fit R^2", format(result.getModulusRSquared()),
+                    "strain " + format(result.getModulusStartStrain()) + " - " + format(result.getModulusEndStrain()), "");
+            y += ROW_HEIGHT;
+        }
+        row(content, columns, y, false, "Samples", String.valueOf(result.getSampleCount()),
+                result.isFractureDetected() ? "fracture detected" : "", "");
+        y += ROW_HEIGHT;
+        content.line(LEFT, y - 11, LEFT + CHART_BOX_WIDTH, y - 11, 0.5, 0.6);
+        if (standard != null) {
+            content.text(LEFT, y + 14, 11, true, "Standard " + standard.getMaterialName()
+                    + (standard.getReference() != null ? " (" + standard.getReference() + ")" : "")
+                    + ": " + (page.passed ? "PASS" : "FAIL"));
+        }
+
+        page.row = new String[] {
+            number, shortName, format(values[0]), format(values[1]), format(values[2]), format(values[3]),
+            standard == null ? "OK" : page.passed ? "PASS" : "FAIL"
+        };
+        page.content = content.toByteArray();
+        return page;
+    }
+
+    /**
+     * 요약 페이지: 캠페인 정보, 물성 통계, 시편별 표 (표가 길면 여러 페이지)
+     */
+    private void writeSummary(PdfDocument pdf, List<String[]> rows, PropertySummary[] summaries) throws IOException {
+        PageContent content = new PageContent();
+        content.text(LEFT, 50, 18, true, title);
+        content.text(LEFT, 68, 9, false, "Generated " + LocalDate.now() + " by MEVA");
+        content.line(LEFT, 76, LEFT + CHART_BOX_WIDTH, 76, 0.5, 0.6);
+        double y = 98;
+        content.text(LEFT, y, 11, false, "Specimens: " + specimenCount + "    Failed: " + failedCount);
+        y += ROW_HEIGHT;
+        if (standard != null) {
+            content.text(LEFT, y, 11, false, "Standard: " + standard.getMaterialName()
+                    + (standard.getReference() != null ? " (" + standard.getReference() + ")" : "")
+                    + "    Passed: " + passedCount + " / " + (specimenCount - failedCount));
+            y += ROW_HEIGHT;
+        }
+        y += ROW_HEIGHT;
+
+        double[] statColumns = {LEFT, LEFT + 170, LEFT + 255, LEFT + 340, LEFT + 425};
+        content.fillRect(LEFT, y - 12, CHART_BOX_WIDTH, ROW_HEIGHT, 0.9);
+        row(content, statColumns, y, true, "Property", "Mean", "Std. dev.", "Min", "Max");
+        y += ROW_HEIGHT;
+        for (int p = 0; p < PROPERTY_NAMES.length; p++) {
+            PropertySummary summary = summaries[p];
+            row(content, statColumns, y, false, PROPERTY_NAMES[p], format(summary.mean),
+                    format(summary.getStandardDeviation()), format(summary.min), format(summary.max));
+            y += ROW_HEIGHT;
+        }
+        y += ROW_HEIGHT;
+
+        double[] columns = {LEFT, LEFT + 28, LEFT + 230, LEFT + 290, LEFT + 350, LEFT + 410, LEFT + 470};
+        String[] header = {"#", "Specimen", "E (GPa)", "Rp0.2", "Rm", "A (%)", "Result"};
+        int limit = SUMMARY_ROWS_FIRST_PAGE;
+        int onPage = 0;
+        content.fillRect(LEFT, y - 12, CHART_BOX_WIDTH, ROW_HEIGHT, 0.9);
+        row(content, columns, y, true, header);
+        y += ROW_HEIGHT;
+        for (String[] row : rows) {
+            if (onPage == limit) {
+                pdf.addPage(content.toByteArray(), Collections.emptyMap());
+                content = new PageContent();
+                y = 50;
+                onPage = 0;
+                limit = SUMMARY_ROWS_PER_PAGE;
+                content.fillRect(LEFT, y - 12, CHART_BOX_WIDTH, ROW_HEIGHT, 0.9);
+                row(content, columns, y, true, header);
+                y += ROW_HEIGHT;
+            }
+            row(content, columns, y, false, row);
+            y += ROW_HEIGHT;
+            onPage++;
+        }
+        pdf.addPage(content.toByteArray(), Collections.emptyMap());
+    }
+
+    private static void row(PageContent content, double[] columns, double y, boolean bold, String... cells) {
+        for (int c = 0; c < cells.length && c < columns.length; c++) {
+            if (!cells[c].isEmpty()) {
+                content.text(columns[c] + 4, y, 9, bold, cells[c]);
+            }
+        }
+    }
+
+    /**
+     * BufferedImage(TYPE_INT_RGB)를 행 순서 RGB 바이트로 변환
+     */
+    private static byte[] toRgb(BufferedImage image) {
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        byte[] rgb = new byte[pixels.length * 3];
+        for (int i = 0, j = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            rgb[j++] = (byte) (pixel >> 16);
+            rgb[j++] = (byte) (pixel >> 8);
+            rgb[j++] = (byte) pixel;
+        }
+        return rgb;
+    }
+
+    private static boolean within(double value, double min, double max) {
+        return !(value < min) && !(value > max);
+    }
+
+    private static String range(double min, double max) {
+        if (Double.isNaN(min) && Double.isNaN(max)) {
+            return "";
+        }
+        return (Double.isNaN(min) ? "" : format(min)) + " - " + (Double.isNaN(max) ? "" : format(max));
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "-" : DoubleFormatter.toString(value, PRECISION);
+    }
+
+    private static String shorten(String name) {
+        int slash = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+        String fileName = name.substring(slash + 1);
+        return fileName.length() <= NAME_LENGTH ? fileName : fileName.substring(0, NAME_LENGTH - 3) + "...";
+    }
+
+    /**
+     * 작업 스레드가 준비한 시편 페이지 (곡선 없이 압축된 이미지와 내용만 가짐)
+     */
+    private static final class SpecimenPage {
+        byte[] content;
+        byte[] image;
+        String[] row;
+        double[] values; // 분석 실패이면 null
+        boolean passed;
+
+        void writeTo(PdfDocument pdf) throws IOException {
+            if (image == null) {
+                pdf.addPage(content, Collections.emptyMap());
+                return;
+            }
+            int object = pdf.addImage(CHART_WIDTH, CHART_HEIGHT, image);
+            pdf.addPage(content, Collections.singletonMap("Im1", object));
+        }
+    }
+
+    /**
+     * 물성값 하나의 평균, 표준편차, 최소, 최대 (Welford)
+     */
+    private static final class PropertySummary {
+        long count;
+        double mean = Double.NaN;
+        double m2;
+        double min = Double.NaN;
+        double max = Double.NaN;
+
+        void add(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            count++;
+            if (count == 1) {
+                mean = value;
+                min = value;
+                max = value;
+                return;
+            }
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        double getStandardDeviation() {
+            return count > 1 ? Math.sqrt(m2 / (count - 1)) : Double.NaN;
+        }
+    }
+}
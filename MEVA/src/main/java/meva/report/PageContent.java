@@ -0,0 +1,112 @@
+package meva.report;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * PDF 페이지 내용 스트림 작성기
+ * 좌표는 pt 단위이며 원점은 페이지 왼쪽 위 (PDF의 아래 기준 좌표로 바꾸어 씀)
+ */
+public class PageContent {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final StringBuilder content = new StringBuilder(4096);
+
+    /**
+     * 글자 쓰기
+     * WinAnsi 범위의 글자만 있으면 Helvetica로, 한글 등이 섞여 있으면 문자열 전체를 CID 글꼴로 쓴다
+     * (CID 글꼴에는 굵은 꼴이 없어 bold는 무시됨, 제어 문자와 BMP 밖 글자는 '?')
+     * @param x 왼쪽 위치
+     * @param y 기준선 위치 (위에서부터)
+     * @param size 글자 크기 (pt)
+     * @param bold 굵게
+     */
+    public PageContent text(double x, double y, double size, boolean bold, String text) {
+        boolean unicode = false;
+        for (int i = 0; i < text.length() && !unicode; i++) {
+            unicode = text.charAt(i) > 0xFF;
+        }
+        content.append("BT /").append(unicode ? "F3 " : bold ? "F2 " : "F1 ");
+        number(size).append(" Tf ");
+        number(x).append(' ');
+        number(PdfDocument.PAGE_HEIGHT - y).append(" Td ");
+        if (unicode) {
+            content.append('<');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < 0x20 || Character.isSurrogate(c)) {
+                    c = '?';
+                }
+                content.append(HEX[c >> 12]).append(HEX[(c >> 8) & 0xF])
+                       .append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+            }
+            content.append("> Tj ET\n");
+            return this;
+        }
+        content.append('(');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                content.append('\\').append(c);
+            } else if (c < 0x20) {
+                content.append('?');
+            } else {
+                content.append(c);
+            }
+        }
+        content.append(") Tj ET\n");
+        return this;
+    }
+
+    /**
+     * 선 그리기
+     * @param gray 선 밝기 (0 검정 ~ 1 흰색)
+     */
+    public PageContent line(double x1, double y1, double x2, double y2, double width, double gray) {
+        number(gray).append(" G ");
+        number(width).append(" w ");
+        number(x1).append(' ');
+        number(PdfDocument.PAGE_HEIGHT - y1).append(" m ");
+        number(x2).append(' ');
+        number(PdfDocument.PAGE_HEIGHT - y2).append(" l S\n");
+        return this;
+    }
+
+    /**
+     * 사각형 채우기
+     * @param gray 채울 밝기 (0 검정 ~ 1 흰색)
+     */
+    public PageContent fillRect(double x, double y, double width, double height, double gray) {
+        number(gray).append(" g ");
+        number(x).append(' ');
+        number(PdfDocument.PAGE_HEIGHT - y - height).append(' ');
+        number(width).append(' ');
+        number(height).append(" re f 0 g\n");
+        return this;
+    }
+
+    /**
+     * 이미지 그리기
+     * @param name 페이지 자원 이름 ({@link PdfDocument#addPage}의 images 키)
+     */
+    public PageContent image(String name, double x, double y, double width, double height) {
+        content.append("q ");
+        number(width).append(" 0 0 ");
+        number(height).append(' ');
+        number(x).append(' ');
+        number(PdfDocument.PAGE_HEIGHT - y - height).append(" cm /").append(name).append(" Do Q\n");
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return content.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private StringBuilder number(double value) {
+        if (value == Math.rint(value)) {
+            return content.append((long) value);
+        }
+        return content.append(String.format(Locale.ROOT, "%.2f", value));
+    }
+}
@@ -0,0 +1,291 @@
+package meva.report;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * 페이지를 만드는 대로 파일에 쓰는 최소 PDF 1.4 작성기
+ *
+ * 객체는 추가되는 즉시 디스크에 쓰고 상호 참조 표에 필요한 위치만 기억하므로
+ * 페이지 수와 무관하게 메모리 사용량이 일정하다. 페이지 트리와 상호 참조 표는
+ * close에서 마지막에 쓴다. 글꼴은 내장 Helvetica(WinAnsi)를 쓰고, WinAnsi로 표현할 수 없는
+ * 글자(한글 등)가 있는 문자열은 Adobe-Korea1 CID 글꼴(HYGoThic-Medium, UniKS-UCS2-H)로 쓴다.
+ * CID 글꼴은 파일에 포함하지 않으므로 표시는 PDF 뷰어의 한글 글꼴에 맡기며,
+ * ToUnicode 표를 함께 넣어 텍스트 복사와 검색이 가능하다.
+ */
+public class PdfDocument implements Closeable {
+
+    /** A4 크기 (pt) */
+    public static final int PAGE_WIDTH = 595;
+    public static final int PAGE_HEIGHT = 842;
+
+    // 미리 정한 객체 번호
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int FONT_REGULAR = 3;
+    private static final int FONT_BOLD = 4;
+    private static final int FONT_UNICODE = 5;
+    private static final int CID_FONT = 6;
+    private static final int TO_UNICODE = 7;
+
+    private final CountingOutputStream out;
+    private final List<Long> offsets = new ArrayList<>();
+    private final List<Integer> pages = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * @param filePath 저장할 파일 경로
+     * @throws IOException 파일을 만들 수 없는 경우
+     */
+    public PdfDocument(String filePath) throws IOException {
+        this(Files.newOutputStream(Paths.get(filePath)));
+    }
+
+    /**
+     * @param output 출력 (close에서 닫힘)
+     */
+    public PdfDocument(OutputStream output) throws IOException {
+        out = new CountingOutputStream(new BufferedOutputStream(output, 1 << 16));
+        offsets.add(0L); // 0번 객체는 사용하지 않음
+        for (int i = CATALOG; i <= TO_UNICODE; i++) {
+            offsets.add(-1L);
+        }
+        write("%PDF-1.4\n");
+        out.write(new byte[] {'%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'});
+        beginObject(FONT_REGULAR);
+        write("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>\n");
+        endObject();
+        beginObject(FONT_BOLD);
+        write("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>\n");
+        endObject();
+        beginObject(FONT_UNICODE);
+        write("<< /Type /Font /Subtype /Type0 /BaseFont /HYGoThic-Medium /Encoding /UniKS-UCS2-H"
+                + " /DescendantFonts [" + CID_FONT + " 0 R] /ToUnicode " + TO_UNICODE + " 0 R >>\n");
+        endObject();
+        beginObject(CID_FONT);
+        // 라틴 문자(CID 1~95)는 반각, 나머지는 전각
+        write("<< /Type /Font /Subtype /CIDFontType0 /BaseFont /HYGoThic-Medium"
+                + " /CIDSystemInfo << /Registry (Adobe) /Ordering (Korea1) /Supplement 1 >>"
+                + " /FontDescriptor << /Type /FontDescriptor /FontName /HYGoThic-Medium /Flags 4"
+                + " /FontBBox [-6 -145 1003 880] /ItalicAngle 0 /Ascent 880 /Descent -120 /CapHeight 880"
+                + " /StemV 93 >> /DW 1000 /W [1 95 500] >>\n");
+        endObject();
+        byte[] toUnicode = deflate(toUnicodeCMap());
+        beginObject(TO_UNICODE);
+        write("<< /Length " + toUnicode.length + " /Filter /FlateDecode >>\nstream\n");
+        out.write(toUnicode);
+        write("\nendstream\n");
+        endObject();
+    }
+
+    /**
+     * UCS-2 코드를 그대로 유니코드로 대응시키는 ToUnicode CMap (서로게이트 영역 제외)
+     */
+    private static byte[] toUnicodeCMap() {
+        List<String> ranges = new ArrayList<>(256);
+        for (int high = 0; high <= 0xFF; high++) {
+            if (high >= 0xD8 && high <= 0xDF) {
+                continue;
+            }
+            ranges.add(String.format("<%02X00> <%02XFF> <%02X00>\n", high, high, high));
+        }
+        StringBuilder cmap = new StringBuilder(ranges.size() * 24 + 512);
+        cmap.append("/CIDInit /ProcSet findresource begin\n12 dict begin\nbegincmap\n")
+            .append("/CIDSystemInfo << /Registry (Adobe) /Ordering (UCS) /Supplement 0 >> def\n")
+            .append("/CMapName /Adobe-Identity-UCS def\n/CMapType 2 def\n")
+            .append("1 begincodespacerange\n<0000> <FFFF>\nendcodespacerange\n");
+        // bfrange 블록은 100개까지
+        for (int start = 0; start < ranges.size(); start += 100) {
+            int end = Math.min(ranges.size(), start + 100);
+            cmap.append(end - start).append(" beginbfrange\n");
+            for (String range : ranges.subList(start, end)) {
+                cmap.append(range);
+            }
+            cmap.append("endbfrange\n");
+        }
+        cmap.append("endcmap\nCMapName currentdict /CMap defineresource pop\nend\nend\n");
+        return cmap.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * RGB 이미지 추가
+     * @param width 이미지 폭 (픽셀)
+     * @param height 이미지 높이 (픽셀)
+     * @param compressedRgb 행 순서 RGB 바이트를 {@link #deflate(byte[])}로 압축한 값
+     * @return 이미지 객체 번호 ({@link #addPage}의 images 값으로 사용)
+     */
+    public synchronized int addImage(int width, int height, byte[] compressedRgb) throws IOException {
+        int object = reserve();
+        beginObject(object);
+        write("<< /Type /XObject /Subtype /Image /Width " + width + " /Height " + height
+                + " /ColorSpace /DeviceRGB /BitsPerComponent 8 /Filter /FlateDecode /Length "
+                + compressedRgb.length + " >>\nstream\n");
+        out.write(compressedRgb);
+        write("\nendstream\n");
+        endObject();
+        return object;
+    }
+
+    /**
+     * 페이지 추가
+     * @param content 페이지 내용 ({@link PageContent#toByteArray()})
+     * @param images 내용에서 쓰는 이미지 이름 → 이미지 객체 번호 (null 가능)
+     */
+    public synchronized void addPage(byte[] content, Map<String, Integer> images) throws IOException {
+        byte[] compressed = deflate(content);
+        int contents = reserve();
+        beginObject(contents);
+        write("<< /Length " + compressed.length + " /Filter /FlateDecode >>\nstream\n");
+        out.write(compressed);
+        write("\nendstream\n");
+        endObject();
+
+        StringBuilder page = new StringBuilder(256);
+        page.append("<< /Type /Page /Parent ").append(PAGES).append(" 0 R /MediaBox [0 0 ")
+            .append(PAGE_WIDTH).append(' ').append(PAGE_HEIGHT).append("] /Resources << /Font << /F1 ")
+            .append(FONT_REGULAR).append(" 0 R /F2 ").append(FONT_BOLD).append(" 0 R /F3 ").append(FONT_UNICODE).append(" 0 R >>");
+        if (images != null && !images.isEmpty()) {
+            page.append(" /XObject <<");
+            for (Map.Entry<String, Integer> image : images.entrySet()) {
+                page.append(" /").append(image.getKey()).append(' ').append(image.getValue()).append(" 0 R");
+            }
+            page.append(" >>");
+        }
+        page.append(" >> /Contents ").append(contents).append(" 0 R >>\n");
+        int object = reserve();
+        beginObject(object);
+        write(page.toString());
+        endObject();
+        pages.add(object);
+    }
+
+    /**
+     * 지금까지 추가한 페이지 수
+     */
+    public synchronized int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * firstPage 이후에 추가한 페이지를 문서 맨 앞으로 옮김
+     * (모든 페이지를 본 뒤에 만드는 요약 페이지를 앞에 두기 위함)
+     */
+    public synchronized void movePagesToFront(int firstPage) {
+        List<Integer> moved = new ArrayList<>(pages.subList(firstPage, pages.size()));
+        pages.subList(firstPage, pages.size()).clear();
+        pages.addAll(0, moved);
+    }
+
+    /**
+     * 페이지 트리, 카탈로그, 상호 참조 표를 쓰고 파일을 닫음
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            StringBuilder kids = new StringBuilder(pages.size() * 8);
+            for (int page : pages) {
+                kids.append(page).append(" 0 R ");
+            }
+            beginObject(PAGES);
+            write("<< /Type /Pages /Kids [" + kids + "] /Count " + pages.size() + " >>\n");
+            endObject();
+            beginObject(CATALOG);
+            write("<< /Type /Catalog /Pages " + PAGES + " 0 R >>\n");
+            endObject();
+            int info = reserve();
+            beginObject(info);
+            write("<< /Producer (MEVA) >>\n");
+            endObject();
+
+            long xref = out.getCount();
+            StringBuilder table = new StringBuilder(offsets.size() * 20 + 64);
+            table.append("xref\n0 ").append(offsets.size()).append("\n0000000000 65535 f \n");
+            for (int i = 1; i < offsets.size(); i++) {
+                table.append(String.format("%010d 00000 n \n", offsets.get(i)));
+            }
+            table.append("trailer\n<< /Size ").append(offsets.size()).append(" /Root ").append(CATALOG)
+                 .append(" 0 R /Info ").append(info).append(" 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+            write(table.toString());
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Flate 압축 (이미지와 페이지 내용용, 작업 스레드에서 미리 압축할 때 사용)
+     */
+    public static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, data.length / 8));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private int reserve() {
+        offsets.add(-1L);
+        return offsets.size() - 1;
+    }
+
+    private void beginObject(int object) throws IOException {
+        offsets.set(object, out.getCount());
+        write(object + " 0 obj\n");
+    }
+
+    private void endObject() throws IOException {
+        write("endobj\n");
+    }
+
+    private void write(String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * 상호 참조 표에 쓸 바이트 위치를 세는 스트림
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() { return count; }
+    }
+}
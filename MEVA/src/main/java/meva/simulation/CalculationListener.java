@@ -0,0 +1,32 @@
+package meva.simulation;
+
+import meva.models.SimulationResult;
+
+/**
+ * 비동기 계산 결과를 받는 리스너
+ * CalculationService 생성 시 지정한 실행기(GUI에서는 EDT)에서 호출된다
+ */
+public interface CalculationListener {
+
+    /**
+     * 새 곡선이 계산되면 발행 전에 한 번 호출 (작업 스레드에서 호출됨)
+     * 화면용 자료처럼 곡선 전체를 훑는 준비 작업을 EDT 밖에서 할 때 사용한다.
+     * 이후 onProgress/onCompleted로 전달되는 결과는 같은 곡선 배열을 공유한다
+     * @param result 곡선이 채워진 결과
+     */
+    default void onCurve(SimulationResult result) {
+    }
+
+    /**
+     * 계산 중간 결과
+     * @param result 지금까지 계산된 결과 (곡선은 완성, 물성값은 일부일 수 있음)
+     * @param progress 진행률 (0.0 ~ 1.0)
+     */
+    void onProgress(SimulationResult result, double progress);
+
+    /**
+     * 계산 완료
+     * @param result 최종 결과 (오류 시 isValid() == false)
+     */
+    void onCompleted(SimulationResult result);
+}
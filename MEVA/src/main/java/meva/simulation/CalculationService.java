@@ -0,0 +1,187 @@
+package meva.simulation;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import meva.calculation.ModulusFit;
+import meva.calculation.ModulusFitter;
+import meva.calculation.PropertyExtractor;
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.utils.Constants;
+
+/**
+ * EDT 밖에서 응력-변형률 계산을 수행하는 서비스
+ *
+ * - 입력이 연속으로 바뀌면 GRAPH_UPDATE_DELAY_MS 동안 모아서 마지막 요청만 계산한다
+ * - 새 요청이 들어오면 진행 중인 계산은 다음 묶음 경계에서 중단된다
+ * - 곡선이 나오면 작업 스레드에서 onCurve로 한 번 알린 뒤 먼저 전달하고,
+ *   물성값은 묶음 단위로 추출하며 진행률과 함께 전달한다 (중간 결과는 곡선 배열을 공유)
+ * - 계산기는 작업 스레드 하나가 계속 사용하므로 이론 곡선은 바뀐 물성값에 의존하는 단계만 다시 계산한다
+ * - 리스너 호출은 발행 실행기에 밀린 작업이 없을 때만 새로 예약되어 EDT에 작업이 쌓이지 않는다
+ *
+ * @author 김종현
+ */
+public class CalculationService implements AutoCloseable {
+
+    /** 물성값 추출 시 취소 확인 및 진행률 발행 단위 (샘플 수) */
+    static final int PROGRESS_CHUNK = 65536;
+    /** 중간 결과 발행 최소 간격 (60 fps) */
+    static final long FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+    private final ScheduledExecutorService worker;
+    private final Executor publisher;
+    private final CalculationListener listener;
+    private final long debounceMillis;
+    // 작업 스레드 전용
+    private final StressStrainCalculator calculator = new StressStrainCalculator();
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Runnable> pendingPublish = new AtomicReference<>();
+    private ScheduledFuture<?> scheduled;
+
+    /**
+     * @param listener 결과 리스너
+     * @param publisher 리스너를 호출할 실행기 (Swing에서는 SwingUtilities::invokeLater)
+     */
+    public CalculationService(CalculationListener listener, Executor publisher) {
+        this(listener, publisher, Constants.GRAPH_UPDATE_DELAY_MS);
+    }
+
+    public CalculationService(CalculationListener listener, Executor publisher, long debounceMillis) {
+        this.listener = listener;
+        this.publisher = publisher;
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "meva-calculation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 계산 요청. 이전 요청은 아직 시작 전이면 버려지고, 진행 중이면 중단된다
+     * @param material 재료 정보 (측정 데이터만 변환하는 경우 null 가능)
+     * @param testData 시험 데이터
+     */
+    public synchronized void submit(Material material, TestData testData) {
+        long id = generation.incrementAndGet();
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        scheduled = worker.schedule(() -> run(id, material, testData), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중이거나 진행 중인 계산 취소
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+    }
+
+    private boolean isSuperseded(long id) {
+        return generation.get() != id;
+    }
+
+    private void run(long id, Material material, TestData testData) {
+        if (isSuperseded(id)) {
+            return;
+        }
+        SimulationResult result;
+        try {
+            result = calculator.calculateStressStrain(material, testData);
+        } catch (RuntimeException e) {
+            result = new SimulationResult();
+            result.setErrorMessage("계산 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        if (result.isValid() && !isSuperseded(id)) {
+            listener.onCurve(result);
+        }
+        if (!result.isValid() || testData.getForceColumn() == null) {
+            // 이론 곡선은 물성값이 이미 채워져 있음
+            publishCompleted(id, result);
+            return;
+        }
+
+        publishProgress(id, snapshot(result), 0.0);
+        double[] stress = result.getStress();
+        double[] strain = result.getStrain();
+        // 항복강도와 연신율이 영률과 같은 탄성 직선을 따르도록 회귀를 먼저 수행
+        ModulusFit fit = new ModulusFitter().fit(stress, strain, stress.length);
+        if (isSuperseded(id)) {
+            return;
+        }
+        PropertyExtractor extractor = new PropertyExtractor();
+        extractor.useElasticLine(fit);
+        long lastPublish = System.nanoTime();
+        for (int offset = 0; offset < stress.length && !extractor.isFractureDetected(); offset += PROGRESS_CHUNK) {
+            if (isSuperseded(id)) {
+                return;
+            }
+            extractor.addStressStrainSamples(stress, strain, offset, Math.min(PROGRESS_CHUNK, stress.length - offset));
+            long now = System.nanoTime();
+            if (now - lastPublish >= FRAME_NANOS) {
+                SimulationResult partial = snapshot(result);
+                extractor.applyTo(partial);
+                fit.applyTo(partial);
+                publishProgress(id, partial, (offset + PROGRESS_CHUNK) / (double) stress.length);
+                lastPublish = now;
+            }
+        }
+        extractor.applyTo(result);
+        fit.applyTo(result);
+        publishCompleted(id, result);
+    }
+
+    /**
+     * 곡선 배열은 공유하고 물성값만 분리한 사본 (배열은 계산 후 변경되지 않음)
+     */
+    private static SimulationResult snapshot(SimulationResult source) {
+        SimulationResult copy = new SimulationResult();
+        copy.setStress(source.getStress());
+        copy.setStrain(source.getStrain());
+        copy.setTrueStress(source.getTrueStress());
+        copy.setTrueStrain(source.getTrueStrain());
+        copy.setValid(source.isValid());
+        return copy;
+    }
+
+    private void publishProgress(long id, SimulationResult result, double progress) {
+        publish(id, () -> listener.onProgress(result, Math.min(1.0, progress)));
+    }
+
+    private void publishCompleted(long id, SimulationResult result) {
+        publish(id, () -> listener.onCompleted(result));
+    }
+
+    /**
+     * 최신 발행만 남기고 이전 것은 덮어씀. 실행기에는 한 번에 하나의 작업만 올라간다
+     */
+    private void publish(long id, Runnable update) {
+        Runnable guarded = () -> {
+            if (!isSuperseded(id)) {
+                update.run();
+            }
+        };
+        if (pendingPublish.getAndSet(guarded) == null) {
+            publisher.execute(() -> {
+                Runnable latest = pendingPublish.getAndSet(null);
+                if (latest != null) {
+                    latest.run();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,255 @@
+package meva.simulation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.utils.Constants;
+
+/**
+ * 이론 응력-변형률 곡선 캐시
+ *
+ * 재료 물성값(영률, 항복강도, 인장강도)과 포인트 수가 같으면 같은 곡선이므로
+ * 생성된 배열을 보관해 두고 재사용한다. 전체 크기(바이트)가 상한을 넘으면
+ * 가장 오래 사용하지 않은 곡선부터 제거한다 (LRU, 곡선 크기 가중).
+ * 곡선 생성은 잠금 밖에서 수행하므로 느린 생성이 다른 조회를 막지 않는다.
+ * StressStrainCalculator와 MaterialSimulator.simulateMaterialBehavior는 기본적으로
+ * {@link #getDefault()}를 먼저 조회하고, 없을 때만 자신의 시뮬레이터로 계산해 보관한다.
+ */
+public class CurveCache {
+
+    /** 곡선 하나의 고정 부가 비용 추정 (키, 맵 항목, 배열 헤더) */
+    static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private static CurveCache defaultInstance;
+
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Curve> curves = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maxBytes 보관할 곡선 배열의 최대 총 크기 (바이트)
+     */
+    public CurveCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 애플리케이션 공용 캐시 (Constants.DEFAULT_CURVE_CACHE_BYTES)
+     */
+    public static synchronized CurveCache getDefault() {
+        if (defaultInstance == null) {
+            defaultInstance = new CurveCache(Constants.DEFAULT_CURVE_CACHE_BYTES);
+        }
+        return defaultInstance;
+    }
+
+    /**
+     * 캐시된 곡선 (변경 불가)
+     */
+    public static final class Curve {
+        private final double[] strain;
+        private final double[] stress;
+
+        Curve(double[] strain, double[] stress) {
+            this.strain = strain;
+            this.stress = stress;
+        }
+
+        public int size() { return strain.length; }
+        public double getStrain(int i) { return strain[i]; }
+        public double getStress(int i) { return stress[i]; }
+
+        /**
+         * 곡선을 결과 객체에 복사 (같은 길이의 배열이 있으면 재사용)
+         */
+        public void copyTo(SimulationResult result) {
+            result.setStrain(copy(strain, result.getStrain()));
+            result.setStress(copy(stress, result.getStress()));
+        }
+
+        private static double[] copy(double[] source, double[] target) {
+            if (target == null || target.length != source.length) {
+                return source.clone();
+            }
+            System.arraycopy(source, 0, target, 0, source.length);
+            return target;
+        }
+
+        long weight() {
+            return ENTRY_OVERHEAD_BYTES + 16L * strain.length;
+        }
+    }
+
+    /**
+     * 캐시 키 (곡선 모양을 결정하는 물성값 + 포인트 수)
+     */
+    private static final class Key {
+        private final long youngsModulus;
+        private final long yieldStrength;
+        private final long tensileStrength;
+        private final int resolution;
+
+        Key(Material material, int resolution) {
+            this.youngsModulus = Double.doubleToLongBits(material.getYoungsModulus());
+            this.yieldStrength = Double.doubleToLongBits(material.getYieldStrength());
+            this.tensileStrength = Double.doubleToLongBits(material.getTensileStrength());
+            this.resolution = resolution;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return youngsModulus == other.youngsModulus && yieldStrength == other.yieldStrength
+                && tensileStrength == other.tensileStrength && resolution == other.resolution;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = youngsModulus * 31 + yieldStrength;
+            h = h * 31 + tensileStrength;
+            h = h * 31 + resolution;
+            return Long.hashCode(h);
+        }
+    }
+
+    /**
+     * 곡선 조회, 없으면 생성하여 보관
+     * @param material 유효한 재료 정보
+     * @param resolution 포인트 수
+     * @return 곡선
+     */
+    public Curve get(Material material, int resolution) {
+        Curve cached = find(material, resolution);
+        if (cached != null) {
+            return cached;
+        }
+        MaterialSimulator simulator = new MaterialSimulator();
+        simulator.setResolution(resolution);
+        simulator.simulate(material);
+        return store(material, resolution, simulator.getStrain(), simulator.getStress());
+    }
+
+    /**
+     * 보관된 곡선만 조회 (적중/실패 통계에 반영)
+     * 없으면 호출자가 직접 계산한 뒤 {@link #store}로 보관한다
+     * @param material 유효한 재료 정보
+     * @param resolution 포인트 수
+     * @return 곡선, 없으면 null
+     */
+    public Curve find(Material material, int resolution) {
+        Key key = new Key(material, resolution);
+        lock.lock();
+        try {
+            Curve cached = curves.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 호출자가 계산한 곡선을 보관 (배열은 복사하므로 호출자는 계속 재사용할 수 있음)
+     * @return 보관된 곡선
+     */
+    Curve store(Material material, int resolution, double[] strain, double[] stress) {
+        Curve curve = new Curve(strain.clone(), stress.clone());
+        put(new Key(material, resolution), curve);
+        return curve;
+    }
+
+    private void put(Key key, Curve curve) {
+        long weight = curve.weight();
+        if (weight > maxBytes) {
+            return; // 상한보다 큰 곡선은 보관하지 않음
+        }
+        lock.lock();
+        try {
+            Curve previous = curves.put(key, curve);
+            if (previous != null) {
+                currentBytes -= previous.weight();
+            }
+            currentBytes += weight;
+            Iterator<Map.Entry<Key, Curve>> eldest = curves.entrySet().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<Key, Curve> entry = eldest.next();
+                currentBytes -= entry.getValue().weight();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 곡선 제거 (통계는 유지)
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            curves.clear();
+            currentBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+    public long getEvictionCount() { return evictions.get(); }
+
+    /** 적중률 (0.0 ~ 1.0) */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : hits.get() / (double) total;
+    }
+
+    /** 보관 중인 곡선 수 */
+    public int size() {
+        lock.lock();
+        try {
+            return curves.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 보관 중인 곡선의 추정 크기 (바이트) */
+    public long getCurrentBytes() {
+        lock.lock();
+        try {
+            return currentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxBytes() { return maxBytes; }
+
+    @Override
+    public String toString() {
+        return String.format("CurveCache[%d curves, %d/%d bytes, hit rate %.1f%%, %d evictions]",
+                size(), getCurrentBytes(), maxBytes, getHitRate() * 100.0, getEvictionCount());
+    }
+}
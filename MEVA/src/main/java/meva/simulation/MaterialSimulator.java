@@ -1,37 +1,258 @@
 package meva.simulation;
 
+import java.util.Arrays;
+
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
 import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.utils.Constants;
 
 /**
  * 재료 거동 시뮬레이션 클래스
+ *
+ * 탄성 → 항복 → 소성 경화 → 파단 단계를 TensileTestModel의 식으로 계산한다.
+ * 곡선은 인스턴스가 가진 작업 배열에 기록되어 반복 호출 시 할당이 없다.
+ * 따라서 인스턴스는 스레드 간에 공유하지 않는다 (병렬 실행 시 스레드마다 하나씩 사용).
+ *
+ * 단계마다 실제로 의존하는 입력(물성값, 변형률 간격, 담당 인덱스 구간)을 기억해 두고
+ * 입력이 바뀐 단계만 다시 계산한다. 단계들의 담당 구간은 항상 곡선 전체를 겹치지 않게 나누므로,
+ * 입력과 구간이 그대로인 단계의 값은 작업 배열에 그대로 남아 있다.
+ * 변형률 간격은 파단 변형률(항복비에 따른 균일 변형률)로 정해지므로, 인장강도만 바뀌어도
+ * 균일 변형률이 상/하한에 걸리지 않으면 간격이 달라져 전 단계를 다시 계산한다.
+ * simulateMaterialBehavior는 {@link CurveCache}에 같은 곡선이 있으면 계산하지 않고 복사한다.
  * 
  * @author 김종현
  */
 public class MaterialSimulator {
+
+    /** 단계 비트 ({@link #getRecomputedStages()}) */
+    static final int ELASTIC_STAGE = 1;
+    static final int YIELDING_STAGE = 1 << 1;
+    static final int HARDENING_STAGE = 1 << 2;
+    static final int FRACTURE_STAGE = 1 << 3;
+    static final int ALL_STAGES = ELASTIC_STAGE | YIELDING_STAGE | HARDENING_STAGE | FRACTURE_STAGE;
+
+    private int resolution = Constants.DEFAULT_CURVE_RESOLUTION;
+
+    // 작업 배열 (resolution 길이)
+    private double[] strain = new double[0];
+    private double[] stress = new double[0];
+
+    // 마지막 시뮬레이션의 단계 경계
+    private double step;
+    private double yieldStrain;
+    private double uniformStrain;
+    private double fractureStrain;
+    private int elasticEnd;
+    private int neckingStart;
+
+    // 단계별 마지막 계산 입력 (null이면 아직 계산하지 않음)
+    private double[] elasticInputs;
+    private double[] yieldingInputs;
+    private double[] hardeningInputs;
+    private double[] fractureInputs;
+    private int recomputedStages;
+
+    private CurveCache curveCache = CurveCache.getDefault();
+
+    /**
+     * 곡선 포인트 수 설정
+     * @param resolution 포인트 수 (2 이상)
+     */
+    public void setResolution(int resolution) {
+        if (resolution < 2) {
+            throw new IllegalArgumentException("resolution must be at least 2: " + resolution);
+        }
+        this.resolution = resolution;
+    }
+
+    public int getResolution() { return resolution; }
+
+    /**
+     * 곡선 캐시 설정
+     * @param curveCache 사용할 캐시 (null이면 캐시 없이 매번 계산)
+     */
+    public void setCurveCache(CurveCache curveCache) {
+        this.curveCache = curveCache;
+    }
+
+    public CurveCache getCurveCache() { return curveCache; }
     
     /**
      * 재료의 탄성, 항복, 소성경화, 파단 과정 시뮬레이션
      * 
      * @param material 재료 정보
+     * @return 시뮬레이션 결과 (곡선 배열은 새로 복사됨)
+     */
+    public SimulationResult simulateMaterialBehavior(Material material) {
+        SimulationResult result = new SimulationResult();
+        String error = validate(material);
+        if (error != null) {
+            result.setErrorMessage(error);
+            return result;
+        }
+        CurveCache.Curve cached = curveCache != null ? curveCache.find(material, resolution) : null;
+        if (cached != null) {
+            cached.copyTo(result);
+        } else {
+            try (Scope scope = Metrics.start(Metrics.SIMULATION)) {
+                simulate(material);
+                scope.setItems(resolution);
+            }
+            result.setStrain(strain.clone());
+            result.setStress(stress.clone());
+            if (curveCache != null) {
+                curveCache.store(material, resolution, strain, stress);
+            }
+        }
+        result.setYoungsModulus(material.getYoungsModulus());
+        result.setYieldStrength(material.getYieldStrength());
+        result.setTensileStrength(material.getTensileStrength());
+        double[] curveStress = result.getStress();
+        result.setElongation(TensileTestModel.elongation(material, curveStress[curveStress.length - 1]));
+        result.setValid(true);
+        return result;
+    }
+
+    /**
+     * 곡선을 작업 배열에만 계산 (결과 객체를 만들지 않음)
+     * 값은 getStrain()/getStress()로 다음 호출 전까지 읽을 수 있다
+     * @param material 유효한 재료 정보
      */
-    public void simulateMaterialBehavior(Material material) {
-        // TODO: F-SIM-002 요구사항 구현
-        // 재료의 단계별 거동 시뮬레이션
+    void simulate(Material material) {
+        if (strain.length != resolution) {
+            strain = new double[resolution];
+            stress = new double[resolution];
+            invalidate();
+        }
+        recomputedStages = 0;
+        simulateElasticStage(material);
+        simulateYieldingStage(material);
+        simulatePlasticHardeningStage(material);
+        simulateFractureStage(material);
+    }
+
+    /**
+     * 기억한 단계 입력을 모두 버려 다음 호출에서 전 단계를 다시 계산
+     */
+    void invalidate() {
+        elasticInputs = null;
+        yieldingInputs = null;
+        hardeningInputs = null;
+        fractureInputs = null;
+    }
+
+    /**
+     * 마지막 simulate 호출에서 다시 계산한 단계 (ELASTIC_STAGE 등의 비트 조합)
+     */
+    int getRecomputedStages() { return recomputedStages; }
+
+    /**
+     * 재료 정보 검사
+     * @return 오류 메시지, 정상이면 null
+     */
+    static String validate(Material material) {
+        if (material == null) {
+            return "재료 정보가 없습니다";
+        }
+        if (!(material.getYoungsModulus() > 0)) {
+            return "영률은 0보다 커야 합니다";
+        }
+        if (!(material.getYieldStrength() > 0)) {
+            return "항복강도는 0보다 커야 합니다";
+        }
+        if (!(material.getTensileStrength() >= material.getYieldStrength())) {
+            return "인장강도는 항복강도보다 작을 수 없습니다";
+        }
+        return null;
     }
     
     private void simulateElasticStage(Material material) {
-        // TODO: 탄성 단계 시뮬레이션
+        yieldStrain = TensileTestModel.yieldStrain(material);
+        uniformStrain = TensileTestModel.uniformStrain(material);
+        fractureStrain = TensileTestModel.fractureStrain(material);
+        step = fractureStrain / (resolution - 1);
+        elasticEnd = Math.min(resolution, (int) (yieldStrain / step) + 1);
+
+        double modulus = TensileTestModel.modulusMPa(material);
+        double[] inputs = {modulus, step, elasticEnd};
+        if (Arrays.equals(inputs, elasticInputs)) {
+            return;
+        }
+        elasticInputs = inputs;
+        recomputedStages |= ELASTIC_STAGE;
+        for (int i = 0; i < elasticEnd; i++) {
+            strain[i] = i * step;
+        }
+        for (int i = 0; i < elasticEnd; i++) {
+            stress[i] = modulus * strain[i];
+        }
     }
     
     private void simulateYieldingStage(Material material) {
-        // TODO: 항복 단계 시뮬레이션
+        // 항복점 이후 구간의 변형률 격자와 네킹 시작 인덱스 결정
+        neckingStart = Math.max(elasticEnd, Math.min(resolution, (int) (uniformStrain / step) + 1));
+        double[] inputs = {step, elasticEnd};
+        if (Arrays.equals(inputs, yieldingInputs)) {
+            return;
+        }
+        yieldingInputs = inputs;
+        recomputedStages |= YIELDING_STAGE;
+        for (int i = elasticEnd; i < resolution; i++) {
+            strain[i] = i * step;
+        }
     }
     
     private void simulatePlasticHardeningStage(Material material) {
-        // TODO: 소성 경화 단계 시뮬레이션
+        double yieldStrength = material.getYieldStrength();
+        double tensileStrength = material.getTensileStrength();
+        double[] inputs = {yieldStrength, tensileStrength, yieldStrain, uniformStrain, step, elasticEnd, neckingStart};
+        if (Arrays.equals(inputs, hardeningInputs)) {
+            return;
+        }
+        hardeningInputs = inputs;
+        recomputedStages |= HARDENING_STAGE;
+        for (int i = elasticEnd; i < neckingStart; i++) {
+            stress[i] = TensileTestModel.hardeningStress(
+                    yieldStrength, tensileStrength, yieldStrain, uniformStrain, strain[i]);
+        }
     }
     
     private void simulateFractureStage(Material material) {
-        // TODO: 파단 단계 시뮬레이션
+        double tensileStrength = material.getTensileStrength();
+        double[] inputs = {tensileStrength, uniformStrain, fractureStrain, step, neckingStart};
+        if (Arrays.equals(inputs, fractureInputs)) {
+            return;
+        }
+        fractureInputs = inputs;
+        recomputedStages |= FRACTURE_STAGE;
+        for (int i = neckingStart; i < resolution; i++) {
+            stress[i] = TensileTestModel.neckingStress(tensileStrength, uniformStrain, fractureStrain, strain[i]);
+        }
+    }
+
+    /**
+     * 마지막 곡선 아래 면적 (인성, MJ/m³ = MPa)
+     */
+    double getToughness() {
+        double sum = 0.0;
+        for (int i = 1; i < resolution; i++) {
+            sum += stress[i - 1] + stress[i];
+        }
+        return 0.5 * step * sum;
     }
-}
\ No newline at end of file
+
+    /**
+     * 연신율 (%) - 파단 변형률에서 탄성 회복분을 뺀 값
+     */
+    double getElongation(Material material) {
+        return TensileTestModel.elongation(material, stress[resolution - 1]);
+    }
+
+    double getYieldStrain() { return yieldStrain; }
+    double getUniformStrain() { return uniformStrain; }
+    double getFractureStrain() { return fractureStrain; }
+    double[] getStrain() { return strain; }
+    double[] getStress() { return stress; }
+}
@@ -0,0 +1,43 @@
+package meva.simulation;
+
+/**
+ * 파라미터 스윕의 한 축 (등간격 값)
+ */
+public class ParameterRange {
+
+    private final double min;
+    private final double max;
+    private final int steps;
+
+    /**
+     * @param min 시작값
+     * @param max 끝값 (포함)
+     * @param steps 값 개수 (1이면 min만 사용)
+     */
+    public ParameterRange(double min, double max, int steps) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("steps must be positive: " + steps);
+        }
+        this.min = min;
+        this.max = max;
+        this.steps = steps;
+    }
+
+    /**
+     * 값이 하나뿐인 축
+     */
+    public static ParameterRange of(double value) {
+        return new ParameterRange(value, value, 1);
+    }
+
+    /**
+     * i번째 값
+     */
+    public double value(int i) {
+        return steps == 1 ? min : min + (max - min) * i / (steps - 1);
+    }
+
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+    public int getSteps() { return steps; }
+}
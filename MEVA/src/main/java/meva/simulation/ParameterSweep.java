@@ -0,0 +1,173 @@
+package meva.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import meva.models.Material;
+import meva.utils.Constants;
+
+/**
+ * 재료 파라미터 격자 스윕
+ *
+ * 영률, 항복강도, 인장강도, 포아송비 범위의 모든 조합에 대해 MaterialSimulator의
+ * 단계별 시뮬레이션을 병렬로 수행하고 요약값만 리스너로 흘려보낸다.
+ * 조합은 CHUNK_SIZE 단위 묶음으로 나누어 작업 스레드에 분배되며, 각 스레드는
+ * 자신의 시뮬레이터(곡선 작업 배열)와 결과 묶음을 재사용한다.
+ * 인장강도가 항복강도보다 작은 조합은 건너뛴다.
+ *
+ * 사용 예:
+ * <pre>
+ * ParameterSweep sweep = new ParameterSweep();
+ * sweep.setYoungsModulus(new ParameterRange(150, 250, 21));
+ * sweep.setYieldStrength(new ParameterRange(200, 800, 61));
+ * sweep.setTensileStrength(new ParameterRange(300, 1000, 71));
+ * try (SweepCsvExporter exporter = new SweepCsvExporter("sweep.csv")) {
+ *     sweep.run(exporter);
+ * }
+ * </pre>
+ */
+public class ParameterSweep {
+
+    /** 작업 분배 및 리스너 전달 단위 (조합 수) */
+    public static final int CHUNK_SIZE = 1024;
+
+    private ParameterRange youngsModulus = ParameterRange.of(200.0);
+    private ParameterRange yieldStrength = ParameterRange.of(250.0);
+    private ParameterRange tensileStrength = ParameterRange.of(400.0);
+    private ParameterRange poissonRatio = ParameterRange.of(Constants.DEFAULT_POISSON_RATIO);
+    private double density = Double.NaN;
+    private int resolution = Constants.DEFAULT_CURVE_RESOLUTION;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final AtomicLong evaluatedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    public void setYoungsModulus(ParameterRange range) { this.youngsModulus = range; }
+    public void setYieldStrength(ParameterRange range) { this.yieldStrength = range; }
+    public void setTensileStrength(ParameterRange range) { this.tensileStrength = range; }
+    public void setPoissonRatio(ParameterRange range) { this.poissonRatio = range; }
+    public void setDensity(double density) { this.density = density; }
+
+    /**
+     * 조합당 곡선 포인트 수 (요약값 정밀도)
+     */
+    public void setResolution(int resolution) {
+        if (resolution < 2) {
+            throw new IllegalArgumentException("resolution must be at least 2: " + resolution);
+        }
+        this.resolution = resolution;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 전체 조합 수
+     */
+    public long size() {
+        return (long) youngsModulus.getSteps() * yieldStrength.getSteps()
+                * tensileStrength.getSteps() * poissonRatio.getSteps();
+    }
+
+    /** 마지막 실행에서 계산한 조합 수 */
+    public long getEvaluatedCount() { return evaluatedCount.get(); }
+
+    /** 마지막 실행에서 건너뛴 조합 수 */
+    public long getSkippedCount() { return skippedCount.get(); }
+
+    /**
+     * 스윕 실행 (모든 조합이 끝날 때까지 대기)
+     * @param listener 결과 묶음을 받을 리스너 (호출은 직렬화됨)
+     * @return 계산한 조합 수
+     */
+    public long run(SweepListener listener) {
+        evaluatedCount.set(0);
+        skippedCount.set(0);
+        long total = size();
+        long chunks = (total + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> LongStream.range(0, chunks).parallel().forEach(chunk -> {
+                Worker worker = workers.get();
+                long from = chunk * CHUNK_SIZE;
+                worker.evaluate(from, Math.min(total, from + CHUNK_SIZE));
+                if (worker.summary.size > 0) {
+                    synchronized (listener) {
+                        listener.onSummary(worker.summary);
+                    }
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+        return evaluatedCount.get();
+    }
+
+    /**
+     * 작업 스레드별 시뮬레이터와 결과 묶음
+     */
+    private final class Worker {
+        final MaterialSimulator simulator = new MaterialSimulator();
+        final SweepSummary summary = new SweepSummary(CHUNK_SIZE);
+        final Material material = new Material();
+
+        Worker() {
+            simulator.setResolution(resolution);
+            material.setName("sweep");
+            material.setDensity(density);
+        }
+
+        void evaluate(long from, long to) {
+            summary.size = 0;
+            int eSteps = youngsModulus.getSteps();
+            int ySteps = yieldStrength.getSteps();
+            int tSteps = tensileStrength.getSteps();
+            long skipped = 0;
+            for (long index = from; index < to; index++) {
+                // 혼합 기수 분해: index = ((p·T + t)·Y + y)·E + e
+                long rest = index;
+                int e = (int) (rest % eSteps);
+                rest /= eSteps;
+                int y = (int) (rest % ySteps);
+                rest /= ySteps;
+                int t = (int) (rest % tSteps);
+                int p = (int) (rest / tSteps);
+
+                material.setYoungsModulus(youngsModulus.value(e));
+                material.setYieldStrength(yieldStrength.value(y));
+                material.setTensileStrength(tensileStrength.value(t));
+                material.setPoissonRatio(poissonRatio.value(p));
+                if (MaterialSimulator.validate(material) != null) {
+                    skipped++;
+                    continue;
+                }
+                simulator.simulate(material);
+                record(index);
+            }
+            skippedCount.addAndGet(skipped);
+            evaluatedCount.addAndGet(summary.size);
+        }
+
+        private void record(long index) {
+            int row = summary.size++;
+            double modulusMPa = TensileTestModel.modulusMPa(material);
+            summary.index[row] = index;
+            summary.youngsModulus[row] = material.getYoungsModulus();
+            summary.yieldStrength[row] = material.getYieldStrength();
+            summary.tensileStrength[row] = material.getTensileStrength();
+            summary.poissonRatio[row] = material.getPoissonRatio();
+            summary.uniformStrain[row] = simulator.getUniformStrain();
+            summary.fractureStrain[row] = simulator.getFractureStrain();
+            summary.elongation[row] = simulator.getElongation(material);
+            summary.toughness[row] = simulator.getToughness();
+            summary.resilience[row] = material.getYieldStrength() * material.getYieldStrength() / (2.0 * modulusMPa);
+        }
+    }
+}
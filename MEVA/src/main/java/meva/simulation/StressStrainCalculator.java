@@ -1,42 +1,221 @@
 package meva.simulation;
 
+import meva.metrics.Metrics;
+import meva.metrics.Scope;
+import meva.models.ChunkedColumn;
 import meva.models.Material;
 import meva.models.TestData;
 import meva.models.SimulationResult;
+import meva.utils.Constants;
 
 /**
  * 응력-변형률 곡선 계산 클래스
- * 
+ *
+ * 시험 데이터에 하중이 있으면 측정값으로부터 공칭/진 응력-변형률을 계산하고,
+ * 없으면 재료 물성값으로 이론 곡선을 생성한다.
+ * 결과 배열은 SimulationResult에 이미 같은 길이의 배열이 있으면 재사용하므로
+ * 같은 결과 객체로 반복 계산하면 추가 할당이 없다.
+ * 이론 곡선은 인스턴스가 가진 {@link MaterialSimulator}로 계산하므로, 같은 계산기로 반복 계산하면
+ * 바뀐 물성값에 의존하는 단계만 다시 계산한다. 같은 물성값과 포인트 수의 곡선이 {@link CurveCache}에
+ * 있으면 계산하지 않고 복사한다. 인스턴스는 스레드 간에 공유하지 않는다.
+ *
  * @author 이태윤
  */
 public class StressStrainCalculator {
-    
+
+    private int resolution = Constants.DEFAULT_CURVE_RESOLUTION;
+    private final MaterialSimulator simulator = new MaterialSimulator();
+    private CurveCache curveCache = CurveCache.getDefault();
+    private boolean cacheHit;
+
     /**
      * 입력된 재료 물성값으로부터 응력-변형률 곡선을 계산
-     * 
+     *
      * @param material 재료 물성 정보
      * @param testData 시험 조건 정보
      * @return 시뮬레이션 결과
      */
     public SimulationResult calculateStressStrain(Material material, TestData testData) {
-        // TODO: 응력-변형률 곡선 계산 로직 구현
-        // F-SIM-001 요구사항 구현
-        return null;
+        return calculateStressStrain(material, testData, new SimulationResult());
+    }
+
+    /**
+     * 기존 결과 객체의 배열을 재사용하여 응력-변형률 곡선을 계산
+     *
+     * @param material 재료 물성 정보 (측정 데이터만 변환하는 경우 null 가능)
+     * @param testData 시험 조건 정보
+     * @param result 결과를 기록할 객체
+     * @return 전달받은 결과 객체
+     */
+    public SimulationResult calculateStressStrain(Material material, TestData testData, SimulationResult result) {
+        result.setValid(false);
+        result.setErrorMessage(null);
+        // 재사용하는 결과 객체에 이전 계산의 물성값이 남지 않도록 초기화 (배열은 재사용)
+        result.setYoungsModulus(0);
+        result.setYieldStrength(0);
+        result.setTensileStrength(0);
+        result.setElongation(0);
+        result.setReductionOfArea(0);
+        result.setModulusRSquared(0);
+        result.setModulusStartStrain(0);
+        result.setModulusEndStrain(0);
+        result.setUniformStrain(0);
+        result.setFractureDetected(false);
+        result.setSampleCount(0);
+
+        String error = validate(material, testData);
+        if (error != null) {
+            result.setErrorMessage(error);
+            return result;
+        }
+
+        try (Scope scope = Metrics.start(Metrics.STRESS_STRAIN)) {
+            if (testData.getForceColumn() != null) {
+                calculateMeasured(testData, result);
+            } else {
+                calculateTheoretical(material, result);
+            }
+            calculateTrueStressStrain(result);
+            scope.setItems(result.getStrain().length);
+        }
+        result.setValid(true);
+        return result;
     }
-    
+
     /**
-     * 탄성 영역 계산
+     * 이론 곡선 포인트 수 설정
+     * @param resolution 포인트 수 (2 이상)
      */
-    private double[] calculateElasticRegion(Material material, TestData testData) {
-        // TODO: 탄성 영역 계산
-        return null;
+    public void setResolution(int resolution) {
+        if (resolution < 2) {
+            throw new IllegalArgumentException("resolution must be at least 2: " + resolution);
+        }
+        this.resolution = resolution;
     }
-    
+
+    public int getResolution() { return resolution; }
+
+    /**
+     * 이론 곡선 캐시 설정
+     * @param curveCache 사용할 캐시 (null이면 캐시 없이 매번 계산)
+     */
+    public void setCurveCache(CurveCache curveCache) {
+        this.curveCache = curveCache;
+    }
+
+    public CurveCache getCurveCache() { return curveCache; }
+
+    private String validate(Material material, TestData testData) {
+        if (testData == null) {
+            return "시험 데이터가 없습니다";
+        }
+        ChunkedColumn force = testData.getForceColumn();
+        if (force != null) {
+            ChunkedColumn displacement = testData.getDisplacementColumn();
+            if (displacement == null || displacement.size() != force.size()) {
+                return "하중과 변위 데이터의 길이가 다릅니다";
+            }
+            if (force.size() > ChunkedColumn.MAX_ARRAY_LENGTH) {
+                return "곡선으로 변환하기에 데이터가 너무 큽니다 (물성값은 MaterialProperties로 계산)";
+            }
+            if (!(testData.getCrossSectionArea() > 0)) {
+                return "단면적은 0보다 커야 합니다";
+            }
+            if (!(testData.getInitialLength() > 0)) {
+                return "초기 길이는 0보다 커야 합니다";
+            }
+            return null;
+        }
+        // NaN 입력도 거르도록 시뮬레이터와 같은 검증 사용
+        return MaterialSimulator.validate(material);
+    }
+
     /**
-     * 소성 영역 계산
+     * 측정 하중/변위로부터 공칭 응력(σ = F/A₀)과 변형률(ε = ΔL/L₀) 계산
      */
-    private double[] calculatePlasticRegion(Material material, TestData testData) {
-        // TODO: 소성 영역 계산
-        return null;
+    private void calculateMeasured(TestData testData, SimulationResult result) {
+        ChunkedColumn force = testData.getForceColumn();
+        int n = (int) force.size();
+        double[] stress = reuse(result.getStress(), n);
+        double[] strain = reuse(result.getStrain(), n);
+
+        // 컬럼 묶음을 결과 배열로 바로 복사한 뒤 제자리에서 환산
+        force.read(0, stress, 0, n);
+        testData.getDisplacementColumn().read(0, strain, 0, n);
+        double inverseArea = 1.0 / testData.getCrossSectionArea();
+        double inverseLength = 1.0 / testData.getInitialLength();
+        // 분기 없는 단순 루프로 유지하여 JIT 자동 벡터화 대상이 되도록 함
+        for (int i = 0; i < n; i++) {
+            stress[i] *= inverseArea;
+        }
+        for (int i = 0; i < n; i++) {
+            strain[i] *= inverseLength;
+        }
+
+        result.setStress(stress);
+        result.setStrain(strain);
+    }
+
+    /**
+     * 재료 물성값으로 0 ~ 파단 변형률 구간의 이론 곡선 생성
+     * 캐시에 곡선이 있으면 복사하고, 없으면 탄성 → 항복 → 소성 경화 → 파단 단계 중
+     * 입력이 바뀐 단계만 다시 계산한 뒤 복사하고 캐시에 보관한다
+     */
+    private void calculateTheoretical(Material material, SimulationResult result) {
+        int n = resolution;
+        CurveCache.Curve cached = curveCache != null ? curveCache.find(material, n) : null;
+        cacheHit = cached != null;
+        if (cacheHit) {
+            cached.copyTo(result);
+        } else {
+            simulator.setResolution(n);
+            simulator.simulate(material);
+            double[] stress = reuse(result.getStress(), n);
+            double[] strain = reuse(result.getStrain(), n);
+            System.arraycopy(simulator.getStress(), 0, stress, 0, n);
+            System.arraycopy(simulator.getStrain(), 0, strain, 0, n);
+            result.setStress(stress);
+            result.setStrain(strain);
+            if (curveCache != null) {
+                curveCache.store(material, n, strain, stress);
+            }
+        }
+
+        result.setYoungsModulus(material.getYoungsModulus());
+        result.setYieldStrength(material.getYieldStrength());
+        result.setTensileStrength(material.getTensileStrength());
+        double[] stress = result.getStress();
+        result.setElongation(TensileTestModel.elongation(material, stress[n - 1]));
+    }
+
+    /**
+     * 마지막 이론 곡선 계산에서 다시 계산한 단계 (MaterialSimulator.ELASTIC_STAGE 등의 비트 조합)
+     * 캐시에서 복사한 경우 0
+     */
+    int getRecomputedStages() { return cacheHit ? 0 : simulator.getRecomputedStages(); }
+
+    /**
+     * 진응력 σt = σ(1+ε), 진변형률 εt = ln(1+ε)
+     */
+    private void calculateTrueStressStrain(SimulationResult result) {
+        double[] stress = result.getStress();
+        double[] strain = result.getStrain();
+        int n = stress.length;
+        double[] trueStress = reuse(result.getTrueStress(), n);
+        double[] trueStrain = reuse(result.getTrueStrain(), n);
+
+        for (int i = 0; i < n; i++) {
+            trueStress[i] = stress[i] * (1.0 + strain[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            trueStrain[i] = Math.log1p(strain[i]);
+        }
+
+        result.setTrueStress(trueStress);
+        result.setTrueStrain(trueStrain);
+    }
+
+    private static double[] reuse(double[] buffer, int length) {
+        return buffer != null && buffer.length == length ? buffer : new double[length];
     }
-}
\ No newline at end of file
+}
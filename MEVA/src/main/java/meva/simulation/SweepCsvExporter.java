@@ -0,0 +1,56 @@
+package meva.simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import meva.fileio.FastCsvWriter;
+
+/**
+ * 파라미터 스윕 결과를 받는 즉시 CSV로 기록하는 리스너
+ * 결과를 메모리에 모으지 않으므로 격자 크기와 무관하게 메모리 사용량이 일정하다
+ * 숫자는 설정 파일의 계산 정밀도(유효숫자)로 기록한다
+ */
+public class SweepCsvExporter implements SweepListener, Closeable {
+
+    private final FastCsvWriter writer;
+    private long rowCount;
+
+    /**
+     * @param filePath 저장할 CSV 경로
+     * @throws IOException 파일을 만들 수 없는 경우
+     */
+    public SweepCsvExporter(String filePath) throws IOException {
+        this.writer = new FastCsvWriter(filePath);
+        writer.writeRow(SweepSummary.HEADER);
+    }
+
+    @Override
+    public void onSummary(SweepSummary summary) {
+        try {
+            for (int row = 0; row < summary.size(); row++) {
+                writer.writeLong(summary.getIndex(row));
+                writer.writeDouble(summary.getYoungsModulus(row));
+                writer.writeDouble(summary.getYieldStrength(row));
+                writer.writeDouble(summary.getTensileStrength(row));
+                writer.writeDouble(summary.getPoissonRatio(row));
+                writer.writeDouble(summary.getUniformStrain(row));
+                writer.writeDouble(summary.getFractureStrain(row));
+                writer.writeDouble(summary.getElongation(row));
+                writer.writeDouble(summary.getToughness(row));
+                writer.writeDouble(summary.getResilience(row));
+                writer.endRow();
+            }
+            rowCount += summary.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 기록한 행 수 (헤더 제외) */
+    public long getRowCount() { return rowCount; }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
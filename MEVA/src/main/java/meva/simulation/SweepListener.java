@@ -0,0 +1,15 @@
+package meva.simulation;
+
+/**
+ * 파라미터 스윕 결과를 받는 리스너
+ * 호출은 직렬화되어 한 번에 하나씩 이루어지며, 묶음 순서는 완료 순서이다
+ * (행 순서가 필요하면 SweepSummary.getIndex 사용)
+ */
+public interface SweepListener {
+
+    /**
+     * 결과 묶음 전달
+     * @param summary 결과 묶음 (호출이 끝나면 재사용됨)
+     */
+    void onSummary(SweepSummary summary);
+}
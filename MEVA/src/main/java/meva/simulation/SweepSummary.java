@@ -0,0 +1,54 @@
+package meva.simulation;
+
+/**
+ * 파라미터 스윕 결과 묶음 (조합당 한 행, 열별 배열)
+ * 곡선 전체가 아니라 요약값만 담는다. 작업 스레드마다 하나씩 재사용되므로
+ * 리스너는 onSummary 호출 안에서만 값을 읽어야 한다.
+ */
+public class SweepSummary {
+
+    public static final String[] HEADER = {
+        "index", "youngsModulus(GPa)", "yieldStrength(MPa)", "tensileStrength(MPa)", "poissonRatio",
+        "uniformStrain", "fractureStrain", "elongation(%)", "toughness(MJ/m3)", "resilience(MJ/m3)"
+    };
+
+    final long[] index;
+    final double[] youngsModulus;
+    final double[] yieldStrength;
+    final double[] tensileStrength;
+    final double[] poissonRatio;
+    final double[] uniformStrain;
+    final double[] fractureStrain;
+    final double[] elongation;
+    final double[] toughness;
+    final double[] resilience;
+    int size;
+
+    SweepSummary(int capacity) {
+        index = new long[capacity];
+        youngsModulus = new double[capacity];
+        yieldStrength = new double[capacity];
+        tensileStrength = new double[capacity];
+        poissonRatio = new double[capacity];
+        uniformStrain = new double[capacity];
+        fractureStrain = new double[capacity];
+        elongation = new double[capacity];
+        toughness = new double[capacity];
+        resilience = new double[capacity];
+    }
+
+    /** 묶음의 행 수 */
+    public int size() { return size; }
+
+    /** 조합 번호 (스윕 격자에서의 위치, 0부터) */
+    public long getIndex(int row) { return index[row]; }
+    public double getYoungsModulus(int row) { return youngsModulus[row]; }
+    public double getYieldStrength(int row) { return yieldStrength[row]; }
+    public double getTensileStrength(int row) { return tensileStrength[row]; }
+    public double getPoissonRatio(int row) { return poissonRatio[row]; }
+    public double getUniformStrain(int row) { return uniformStrain[row]; }
+    public double getFractureStrain(int row) { return fractureStrain[row]; }
+    public double getElongation(int row) { return elongation[row]; }
+    public double getToughness(int row) { return toughness[row]; }
+    public double getResilience(int row) { return resilience[row]; }
+}
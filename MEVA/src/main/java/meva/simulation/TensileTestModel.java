@@ -1,16 +1,136 @@
 package meva.simulation;
 
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.utils.Constants;
+
 /**
  * 인장시험 모델 클래스
- * 
+ *
+ * 이론 곡선은 공칭 응력 기준으로 다음 구간으로 나뉨
+ * - 탄성: σ = E·ε (0 ~ 항복 변형률)
+ * - 소성 경화: 항복강도에서 인장강도까지 기울기가 0으로 수렴하는 2차 곡선 (~ 균일 변형률)
+ * - 네킹: 인장강도에서 파단 응력까지 2차 감소 (~ 파단 변형률)
+ *
  * @author 김종현
  */
 public class TensileTestModel {
-    
+
+    /** 균일 변형률 추정 범위 */
+    public static final double MIN_UNIFORM_STRAIN = 0.02;
+    public static final double MAX_UNIFORM_STRAIN = 0.4;
+
+    /** 파단 변형률 / 균일 변형률 */
+    public static final double FRACTURE_STRAIN_RATIO = 1.5;
+
+    /** 파단 응력 / 인장강도 */
+    public static final double FRACTURE_STRESS_RATIO = 0.8;
+
+    private final CurveCache curveCache;
+
+    /**
+     * 공용 곡선 캐시를 사용하는 모델 생성
+     */
+    public TensileTestModel() {
+        this(CurveCache.getDefault());
+    }
+
+    public TensileTestModel(CurveCache curveCache) {
+        this.curveCache = curveCache;
+    }
+
+    /**
+     * 인장시험 이론 모델 구현 (기본 포인트 수)
+     * @param material 재료 정보
+     * @return 이론 곡선 결과
+     */
+    public SimulationResult performTensileTest(Material material) {
+        return performTensileTest(material, Constants.DEFAULT_CURVE_RESOLUTION);
+    }
+
+    /**
+     * 이론 곡선 생성. 같은 물성값과 포인트 수의 곡선은 캐시에서 복사한다
+     * @param material 재료 정보
+     * @param resolution 포인트 수 (2 이상)
+     * @return 이론 곡선 결과 (배열은 호출자 소유)
+     */
+    public SimulationResult performTensileTest(Material material, int resolution) {
+        SimulationResult result = new SimulationResult();
+        String error = MaterialSimulator.validate(material);
+        if (error != null) {
+            result.setErrorMessage(error);
+            return result;
+        }
+        if (resolution < 2) {
+            throw new IllegalArgumentException("resolution must be at least 2: " + resolution);
+        }
+        CurveCache.Curve curve = curveCache.get(material, resolution);
+        curve.copyTo(result);
+        result.setYoungsModulus(material.getYoungsModulus());
+        result.setYieldStrength(material.getYieldStrength());
+        result.setTensileStrength(material.getTensileStrength());
+        result.setElongation(elongation(material, curve.getStress(curve.size() - 1)));
+        result.setValid(true);
+        return result;
+    }
+
+    public CurveCache getCurveCache() { return curveCache; }
+
+    /**
+     * 영률을 MPa 단위로 반환 (Material은 GPa 단위)
+     */
+    public static double modulusMPa(Material material) {
+        return material.getYoungsModulus() * Constants.GPA_TO_MPA;
+    }
+
+    /**
+     * 항복 변형률 σy / E
+     */
+    public static double yieldStrain(Material material) {
+        return material.getYieldStrength() / modulusMPa(material);
+    }
+
+    /**
+     * 균일 변형률(인장강도 도달 지점) 추정
+     * 항복비(σy/σu)가 낮을수록 가공경화 여유가 커서 균일 변형률이 커짐
+     */
+    public static double uniformStrain(Material material) {
+        double ratio = material.getYieldStrength() / material.getTensileStrength();
+        double estimate = Math.min(MAX_UNIFORM_STRAIN, Math.max(MIN_UNIFORM_STRAIN, 0.5 * (1.0 - ratio)));
+        return Math.max(estimate, 2.0 * yieldStrain(material));
+    }
+
+    /**
+     * 파단 변형률 추정
+     */
+    public static double fractureStrain(Material material) {
+        return uniformStrain(material) * FRACTURE_STRAIN_RATIO;
+    }
+
+    /**
+     * 파단 후 연신율 (%): 파단 변형률에서 탄성 회복분(파단 응력 / E)을 뺀 값
+     * @param fractureStress 곡선 마지막 점의 응력 (MPa)
+     */
+    public static double elongation(Material material, double fractureStress) {
+        return (fractureStrain(material) - fractureStress / modulusMPa(material)) * 100.0;
+    }
+
+    /**
+     * 소성 경화 구간 응력 (항복 변형률 ~ 균일 변형률)
+     */
+    public static double hardeningStress(double yieldStrength, double tensileStrength,
+                                         double yieldStrain, double uniformStrain, double strain) {
+        double x = (strain - yieldStrain) / (uniformStrain - yieldStrain);
+        double remaining = 1.0 - x;
+        return yieldStrength + (tensileStrength - yieldStrength) * (1.0 - remaining * remaining);
+    }
+
     /**
-     * 인장시험 이론 모델 구현
+     * 네킹 구간 응력 (균일 변형률 ~ 파단 변형률)
      */
-    public void performTensileTest() {
-        // TODO: 인장시험 이론 모델 구현
+    public static double neckingStress(double tensileStrength, double uniformStrain,
+                                       double fractureStrain, double strain) {
+        double x = (strain - uniformStrain) / (fractureStrain - uniformStrain);
+        return tensileStrength * (1.0 - (1.0 - FRACTURE_STRESS_RATIO) * x * x);
     }
-}
\ No newline at end of file
+}
@@ -32,6 +32,13 @@ public class ConfigManager {
     public static final String KEY_GRAPH_GRID = "graph.show_grid";
     public static final String KEY_DEFAULT_MATERIAL = "default.material";
     public static final String KEY_CALCULATION_PRECISION = "calculation.precision";
+    public static final String KEY_DATABASE_DIRECTORY = "database.directory";
+    public static final String KEY_METRICS_ENABLED = "metrics.enabled";
+    public static final String KEY_METRICS_DUMP_FILE = "metrics.dump_file";
+    public static final String KEY_CACHE_ENABLED = "cache.enabled";
+    public static final String KEY_CACHE_DIRECTORY = "cache.directory";
+    public static final String KEY_CACHE_MAX_MB = "cache.max_mb";
+    public static final String KEY_LIVE_RECORD_DIRECTORY = "live.record_directory";
     
     /**
      * Private 생성자 (Singleton 패턴)
@@ -88,8 +95,15 @@ public class ConfigManager {
         properties.setProperty(KEY_MAX_RECENT_FILES, "10");
         properties.setProperty(KEY_GRAPH_ANTI_ALIASING, "true");
         properties.setProperty(KEY_GRAPH_GRID, "true");
-        properties.setProperty(KEY_DEFAULT_MATERIAL, "Steel");
+        properties.setProperty(KEY_DEFAULT_MATERIAL, "Steel_AISI1020");
         properties.setProperty(KEY_CALCULATION_PRECISION, "6");
+        properties.setProperty(KEY_DATABASE_DIRECTORY, "meva-db");
+        properties.setProperty(KEY_METRICS_ENABLED, "false");
+        properties.setProperty(KEY_METRICS_DUMP_FILE, "");
+        properties.setProperty(KEY_CACHE_ENABLED, "true");
+        properties.setProperty(KEY_CACHE_DIRECTORY, "meva-cache");
+        properties.setProperty(KEY_CACHE_MAX_MB, "256");
+        properties.setProperty(KEY_LIVE_RECORD_DIRECTORY, "meva-records");
     }
     
     /**
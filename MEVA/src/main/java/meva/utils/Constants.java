@@ -16,20 +16,26 @@ public class Constants {
     public static final double DEFAULT_POISSON_RATIO = 0.3;
     public static final double MIN_YOUNGS_MODULUS = 1.0; // GPa
     public static final double MAX_YOUNGS_MODULUS = 1000.0; // GPa
+    public static final double GPA_TO_MPA = 1000.0;
     
     // UI 관련 상수
     public static final int DEFAULT_WINDOW_WIDTH = 1200;
     public static final int DEFAULT_WINDOW_HEIGHT = 800;
     public static final int GRAPH_UPDATE_DELAY_MS = 100;
+    public static final int LIVE_FRAME_RATE = 30; // 실시간 측정 그래프 갱신 횟수 (fps)
+    public static final long LIVE_POLL_MILLIS = 20; // 파일 따라가기 새 데이터 확인 간격
+    public static final long LIVE_IDLE_TIMEOUT_MILLIS = 5000; // 파일이 이 시간 동안 늘지 않으면 측정 종료
     
     // 파일 관련 상수
     public static final String[] SUPPORTED_IMAGE_FORMATS = {"PNG", "JPG", "SVG"};
-    public static final String[] SUPPORTED_DATA_FORMATS = {"CSV", "XLSX"};
+    public static final String[] SUPPORTED_DATA_FORMATS = {"CSV", "XLSX", "MEVA", "MEVZ"};
     public static final int MAX_DATA_POINTS = 10000;
     
     // 계산 관련 상수
     public static final double YIELD_OFFSET = 0.002; // 0.2% offset for yield strength
     public static final double CALCULATION_TOLERANCE = 1e-6;
+    public static final int DEFAULT_CURVE_RESOLUTION = 1000; // 이론 곡선 포인트 수
+    public static final long DEFAULT_CURVE_CACHE_BYTES = 32L * 1024 * 1024; // 이론 곡선 캐시 상한
     
     private Constants() {
         // 유틸리티 클래스이므로 인스턴스 생성 방지
@@ -0,0 +1,178 @@
+package meva.acquisition;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import meva.fileio.SampleChunk;
+import meva.models.SimulationResult;
+
+/**
+ * LiveAcquisition 및 샘플 공급원, 링 버퍼의 단위 테스트
+ */
+class LiveAcquisitionTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void testRingBufferPreservesOrderAcrossThreads() throws InterruptedException {
+        SampleRingBuffer ring = new SampleRingBuffer(100);
+        assertEquals(128, ring.capacity());
+        int total = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!ring.offer(i, -i, 0)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        producer.start();
+        double[] stress = new double[64];
+        double[] strain = new double[64];
+        int expected = 0;
+        while (expected < total) {
+            int count = ring.drain(stress, strain, null, 0, stress.length);
+            for (int k = 0; k < count; k++, expected++) {
+                assertEquals(expected, stress[k], 0.0);
+                assertEquals(-expected, strain[k], 0.0);
+            }
+        }
+        producer.join();
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void testSlowDisplayNeverDropsRecordedSamples() throws Exception {
+        Path input = Files.createTempFile("meva_live", ".csv");
+        Path record = Files.createTempFile("meva_record", ".csv");
+        try {
+            writeTensileRun(input);
+            // 화면 쪽이 전혀 비우지 않는 상황: 링 버퍼 64칸
+            try (LiveAcquisition acquisition = new LiveAcquisition(
+                    new FileTailSampleSource(input, 5, 200), new SampleRecorder(record), 78.54, 50.0, 64)) {
+                acquisition.start();
+                acquisition.awaitCompletion(10_000);
+
+                LiveStatus status = acquisition.getStatus();
+                assertEquals(SAMPLES, status.getSampleCount());
+                assertTrue(status.getDisplayDroppedCount() > 0);
+                assertEquals(400.0, status.getTensileStrength(), 1.0);
+                assertEquals(200.0, status.getYoungsModulus(), 2.0);
+
+                LiveDisplayBuffer display = new LiveDisplayBuffer();
+                assertEquals(64, acquisition.drainTo(display));
+                SimulationResult result = display.toResult(status);
+                assertTrue(result.isValid());
+                assertFalse(acquisition.isActive());
+            }
+            List<String> lines = Files.readAllLines(record, StandardCharsets.UTF_8);
+            assertEquals(SAMPLES + 1, lines.size());
+            assertEquals("force,displacement,time", lines.get(0));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(record);
+        }
+    }
+
+    @Test
+    void testStopDoesNotWaitForStalledDisplay() throws Exception {
+        Path directory = Files.createTempDirectory("meva_records");
+        SampleRecorder recorder = SampleRecorder.createIn(directory);
+        Path record = recorder.getFile();
+        assertTrue(record.getFileName().toString().startsWith("live-"));
+        // 닫힐 때까지 샘플을 계속 내보내는 공급원
+        SampleSource endless = new SampleSource() {
+            private volatile boolean closed;
+            private long next;
+
+            @Override
+            public int read(SampleChunk chunk) throws IOException {
+                if (closed) {
+                    throw new IOException("closed");
+                }
+                int before = chunk.size();
+                while (!chunk.isFull()) {
+                    chunk.add(next * 0.1, next * 0.0001, next * 0.01);
+                    next++;
+                }
+                return chunk.size() - before;
+            }
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        };
+        try {
+            LiveAcquisition acquisition = new LiveAcquisition(endless, recorder, 78.54, 50.0, 64);
+            acquisition.start();
+            while (acquisition.getStatus().getSampleCount() < 10_000) {
+                Thread.sleep(1);
+            }
+            // 화면 쪽이 링 버퍼를 전혀 비우지 않아도 중지는 바로 끝남
+            long start = System.nanoTime();
+            acquisition.close();
+            assertTrue(System.nanoTime() - start < 500_000_000L, "stop took too long");
+
+            long recorded = acquisition.getStatus().getSampleCount();
+            assertEquals(recorded + 1, Files.readAllLines(record, StandardCharsets.UTF_8).size());
+            // 같은 시각에 시작해도 기존 기록을 덮어쓰지 않음
+            SampleRecorder second = SampleRecorder.createIn(directory);
+            second.close();
+            assertFalse(record.equals(second.getFile()));
+            Files.deleteIfExists(second.getFile());
+        } finally {
+            Files.deleteIfExists(record);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    void testSocketSource() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            Thread machine = new Thread(() -> {
+                try (Socket client = server.accept();
+                     OutputStream out = client.getOutputStream();
+                     PrintWriter writer = new PrintWriter(out, true, StandardCharsets.US_ASCII)) {
+                    writer.println("force;displacement;time");
+                    for (int i = 0; i < 500; i++) {
+                        writer.println((i * 10.0) + ";" + (i * 0.001) + ";" + (i * 0.01));
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            machine.start();
+            try (LiveAcquisition acquisition = new LiveAcquisition(
+                    new SocketSampleSource("localhost", server.getLocalPort()), null, 10.0, 50.0)) {
+                acquisition.start();
+                acquisition.awaitCompletion(10_000);
+                assertEquals(500, acquisition.getStatus().getSampleCount());
+                LiveDisplayBuffer display = new LiveDisplayBuffer(100);
+                assertEquals(500, acquisition.drainTo(display));
+                assertTrue(display.size() <= 100);
+                assertEquals(8, display.getStride());
+            }
+            machine.join();
+        }
+    }
+
+    private static void writeTensileRun(Path file) throws IOException {
+        StringBuilder text = new StringBuilder("force,displacement,time\n");
+        for (int i = 0; i < SAMPLES; i++) {
+            double strain = 0.25 * i / SAMPLES;
+            double stress = strain < 0.00125 ? 200_000 * strain : 250 + 150 * Math.min(1.0, strain / 0.2);
+            text.append(stress * 78.54).append(',').append(strain * 50.0).append(',').append(i * 0.01).append('\n');
+        }
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
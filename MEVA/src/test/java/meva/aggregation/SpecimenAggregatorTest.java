@@ -0,0 +1,172 @@
+package meva.aggregation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.MaterialSimulator;
+
+/**
+ * SpecimenAggregator, CurveStatistics, CurveResampler 클래스의 단위 테스트
+ */
+class SpecimenAggregatorTest {
+
+    private final StrainGrid grid = new StrainGrid(0.0, 0.3, 301);
+
+    private static List<SimulationResult> lot(int specimens) {
+        Random random = new Random(7);
+        MaterialSimulator simulator = new MaterialSimulator();
+        simulator.setResolution(2000);
+        List<SimulationResult> results = new ArrayList<>();
+        for (int i = 0; i < specimens; i++) {
+            double yield = 250 + 10 * random.nextGaussian();
+            double tensile = 400 + 15 * random.nextGaussian();
+            results.add(simulator.simulateMaterialBehavior(new Material("lot", 200, yield, tensile, 7850, 0.29)));
+        }
+        return results;
+    }
+
+    @Test
+    void testResamplerInterpolatesAndStopsAtEnd() {
+        CurveResampler resampler = new CurveResampler(new StrainGrid(0.0, 1.0, 11));
+        resampler.add(0.0, 0.0);
+        resampler.add(0.25, 25.0);
+        resampler.add(0.2, 999.0); // 역행 샘플은 무시
+        resampler.add(0.55, 55.0);
+
+        double[] values = resampler.getValues();
+        assertEquals(0.0, values[0]);
+        assertEquals(10.0, values[1], 1e-9);
+        assertEquals(20.0, values[2], 1e-9);
+        assertEquals(50.0, values[5], 1e-9);
+        assertTrue(Double.isNaN(values[6]));
+        assertTrue(resampler.hasSamples());
+    }
+
+    @Test
+    void testMeanAndStandardDeviation() {
+        CurveStatistics statistics = new CurveStatistics(new StrainGrid(0.0, 1.0, 2));
+        statistics.add(new double[] {1.0, 10.0});
+        statistics.add(new double[] {2.0, Double.NaN});
+        statistics.add(new double[] {3.0, 20.0});
+
+        assertEquals(3, statistics.getSpecimenCount());
+        assertEquals(3, statistics.getCount(0));
+        assertEquals(2, statistics.getCount(1));
+        assertEquals(2.0, statistics.getMean(0), 1e-12);
+        assertEquals(1.0, statistics.getStandardDeviation(0), 1e-12);
+        assertEquals(15.0, statistics.getMean(1), 1e-12);
+        assertEquals(Math.sqrt(50.0), statistics.getStandardDeviation(1), 1e-12);
+        assertEquals(1.0, statistics.getMin(0));
+        assertEquals(20.0, statistics.getMax(1));
+    }
+
+    @Test
+    void testPercentilesAreWithinSketchError() {
+        StrainGrid single = new StrainGrid(0.0, 1.0, 2);
+        CurveStatistics statistics = new CurveStatistics(single);
+        Random random = new Random(1);
+        double[] values = new double[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 400 + 20 * random.nextGaussian();
+            statistics.add(new double[] {values[i], Double.NaN});
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] {5, 50, 95}) {
+            double exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertEquals(exact, statistics.getPercentile(0, percentile), exact * 0.005, "p" + percentile);
+        }
+    }
+
+    @Test
+    void testMergeMatchesSequentialAccumulation() {
+        List<SimulationResult> results = lot(40);
+        CurveStatistics all = new CurveStatistics(grid);
+        CurveStatistics first = new CurveStatistics(grid);
+        CurveStatistics second = new CurveStatistics(grid);
+        CurveResampler resampler = new CurveResampler(grid);
+        for (int i = 0; i < results.size(); i++) {
+            SimulationResult result = results.get(i);
+            resampler.reset();
+            resampler.add(result.getStrain(), result.getStress(), 0, result.getStrain().length);
+            all.add(resampler);
+            (i % 3 == 0 ? first : second).add(resampler);
+        }
+        first.merge(second);
+
+        assertEquals(all.getSpecimenCount(), first.getSpecimenCount());
+        for (int i = 0; i < grid.size(); i++) {
+            assertEquals(all.getCount(i), first.getCount(i));
+            if (all.getCount(i) > 0) {
+                assertEquals(all.getMean(i), first.getMean(i), 1e-9);
+                assertEquals(all.getPercentile(i, 90), first.getPercentile(i, 90));
+            }
+            if (all.getCount(i) > 1) {
+                assertEquals(all.getStandardDeviation(i), first.getStandardDeviation(i), 1e-9);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new CurveStatistics(new StrainGrid(0, 1, 2))));
+    }
+
+    @Test
+    void testParallelAggregationMatchesSequential() {
+        List<SimulationResult> results = lot(50);
+        SpecimenAggregator sequential = new SpecimenAggregator(grid);
+        sequential.setParallelism(1);
+        SpecimenAggregator parallel = new SpecimenAggregator(grid);
+        parallel.setParallelism(4);
+
+        CurveStatistics a = sequential.aggregateResults(results);
+        CurveStatistics b = parallel.aggregateResults(results);
+
+        assertEquals(50, a.getSpecimenCount());
+        assertEquals(50, b.getSpecimenCount());
+        for (int i = 0; i < grid.size(); i++) {
+            assertEquals(a.getCount(i), b.getCount(i));
+            if (a.getCount(i) > 0) {
+                assertEquals(a.getMean(i), b.getMean(i), 1e-9);
+            }
+        }
+        // 인장강도 부근의 평균과 띠
+        SimulationResult mean = b.toMeanResult();
+        assertTrue(mean.isValid());
+        assertEquals(400.0, mean.getTensileStrength(), 15.0);
+        assertEquals(mean.getStrain().length, b.getPercentileBand(5, 95).size());
+    }
+
+    @Test
+    void testAggregateTestDataSkipsUnusableSpecimens() {
+        double area = 78.54;
+        double length = 50.0;
+        List<TestData> specimens = new ArrayList<>();
+        for (SimulationResult result : lot(5)) {
+            int n = result.getStress().length;
+            double[] force = new double[n];
+            double[] displacement = new double[n];
+            for (int i = 0; i < n; i++) {
+                force[i] = result.getStress()[i] * area;
+                displacement[i] = result.getStrain()[i] * length;
+            }
+            TestData testData = new TestData();
+            testData.setForce(force);
+            testData.setDisplacement(displacement);
+            testData.setCrossSectionArea(area);
+            testData.setInitialLength(length);
+            specimens.add(testData);
+        }
+        specimens.add(new TestData()); // 하중/변위 없음
+
+        CurveStatistics statistics = new SpecimenAggregator(grid).aggregate(specimens);
+
+        assertEquals(5, statistics.getSpecimenCount());
+        assertEquals(5, statistics.getCount(1));
+        assertEquals(200000.0 * grid.strain(1), statistics.getMean(1), 1e-6);
+    }
+}
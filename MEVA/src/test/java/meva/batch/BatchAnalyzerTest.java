@@ -0,0 +1,123 @@
+package meva.batch;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import meva.fileio.ExportManager;
+import meva.models.TestData;
+
+/**
+ * BatchAnalyzer, BatchReport 클래스의 단위 테스트
+ */
+class BatchAnalyzerTest {
+
+    private static Path tempDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("meva-batch");
+        directory.toFile().deleteOnExit();
+        return directory;
+    }
+
+    private static Path touch(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, "1,2\n".getBytes(StandardCharsets.US_ASCII));
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    /**
+     * 탄성 → 선형 경화 곡선의 하중/변위 CSV 기록
+     */
+    private static String specimen(Path directory, String name, double yieldStrength) {
+        int n = 2000;
+        double[] force = new double[n];
+        double[] displacement = new double[n];
+        for (int i = 0; i < n; i++) {
+            double strain = 0.2 * i / (n - 1);
+            double stress = Math.min(200_000 * strain, yieldStrength + 500 * strain);
+            force[i] = stress * 78.54;
+            displacement[i] = strain * 50.0;
+        }
+        TestData testData = new TestData();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+        File file = directory.resolve(name).toFile();
+        file.deleteOnExit();
+        assertTrue(new ExportManager().exportData(testData, file.getPath(), "csv"));
+        return file.getPath();
+    }
+
+    @Test
+    void testCollectFilesWithGlobAndRecursion() throws IOException {
+        Path directory = tempDirectory();
+        Path top = touch(directory.resolve("a.csv"));
+        touch(directory.resolve("notes.txt"));
+        Path nested = touch(directory.resolve("sub").resolve("c.csv"));
+        Path deep = touch(directory.resolve("sub").resolve("deep").resolve("d.meva"));
+        BatchAnalyzer analyzer = new BatchAnalyzer(2);
+
+        // 디렉터리는 바로 아래의 지원 형식만
+        assertEquals(List.of(top.toString()), analyzer.collectFiles(directory.toString()));
+        assertEquals(List.of(top.toString()), analyzer.collectFiles(directory + "/*.csv"));
+        // "**"는 하위 디렉터리까지 탐색
+        assertEquals(List.of(nested.toString()), analyzer.collectFiles(directory + "/**/*.csv"));
+        assertEquals(List.of(top.toString(), nested.toString(), deep.toString()), analyzer.collectFiles(directory + "/**"));
+        assertEquals(List.of(nested.toString()), analyzer.collectFiles(directory + "/sub/*"));
+        // 단일 파일
+        assertEquals(List.of(top.toString()), analyzer.collectFiles(top.toString()));
+        assertTrue(analyzer.collectFiles(directory.resolve("notes.txt").toString()).isEmpty());
+    }
+
+    @Test
+    void testMixedBatchKeepsOrderAndCountsFailures() throws IOException {
+        Path directory = tempDirectory();
+        List<String> files = new ArrayList<>();
+        files.add(specimen(directory, "s1.csv", 250));
+        Path garbage = directory.resolve("garbage.csv");
+        Files.write(garbage, "force,time\nabc,def\n".getBytes(StandardCharsets.US_ASCII));
+        garbage.toFile().deleteOnExit();
+        files.add(garbage.toString());
+        files.add(specimen(directory, "s2.csv", 350));
+        files.add(directory.resolve("missing.csv").toString());
+
+        BatchReport report = new BatchAnalyzer(2).analyze(files);
+
+        assertEquals(4, report.getFileCount());
+        assertEquals(2, report.getFailedCount());
+        assertEquals(4000, report.getSampleCount());
+        List<String[]> rows = report.toRows();
+        assertArrayEquals(BatchReport.HEADER, rows.get(0));
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals(files.get(i), rows.get(i + 1)[0]);
+        }
+        assertEquals("OK", rows.get(1)[6]);
+        assertTrue(rows.get(2)[6].startsWith("ERROR"));
+        assertEquals("OK", rows.get(3)[6]);
+        assertTrue(rows.get(4)[6].startsWith("ERROR"));
+        assertTrue(Double.parseDouble(rows.get(3)[3]) > Double.parseDouble(rows.get(1)[3]));
+    }
+
+    @Test
+    void testInFlightFilesAreBounded() throws IOException {
+        Path directory = tempDirectory();
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            files.add(specimen(directory, "s" + i + ".csv", 200 + i));
+        }
+
+        BatchAnalyzer analyzer = new BatchAnalyzer(4, 2);
+        BatchReport report = analyzer.analyze(files);
+
+        assertEquals(0, report.getFailedCount());
+        assertTrue(analyzer.getPeakInFlight() >= 1);
+        assertTrue(analyzer.getPeakInFlight() <= 2, "peak: " + analyzer.getPeakInFlight());
+        assertThrows(IllegalArgumentException.class, () -> new BatchAnalyzer(1, 0));
+    }
+}
@@ -0,0 +1,107 @@
+package meva.calculation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import meva.models.ChunkedColumn;
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.StressStrainCalculator;
+
+/**
+ * MaterialProperties 클래스의 단위 테스트
+ * 이론 곡선을 하중/변위로 되돌려 시험 데이터로 사용
+ */
+class MaterialPropertiesTest {
+    
+    private MaterialProperties properties;
+    private TestData testData;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new MaterialProperties();
+        
+        Material steel = new Material("Steel_AISI1020", 200, 250, 400, 7850, 0.29);
+        StressStrainCalculator calculator = new StressStrainCalculator();
+        calculator.setResolution(20000);
+        SimulationResult curve = calculator.calculateStressStrain(steel, new TestData());
+        
+        double area = 78.54;
+        double length = 50.0;
+        int n = curve.getStress().length;
+        double[] force = new double[n + 1];
+        double[] displacement = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            force[i] = curve.getStress()[i] * area;
+            displacement[i] = curve.getStrain()[i] * length;
+        }
+        // 파단 후 하중 급감
+        force[n] = 0.0;
+        displacement[n] = displacement[n - 1];
+        
+        testData = new TestData();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+        testData.setCrossSectionArea(area);
+        testData.setInitialLength(length);
+    }
+    
+    @Test
+    void testSinglePassExtraction() {
+        PropertyExtractor extractor = properties.extract(testData);
+        
+        assertEquals(200.0, extractor.getYoungsModulus(), 0.5);
+        assertEquals(400.0, extractor.getTensileStrength(), 0.5);
+        assertTrue(extractor.getYieldStrength() > 250.0);
+        assertTrue(extractor.getYieldStrength() < 300.0);
+        assertTrue(extractor.isFractureDetected());
+        assertEquals(320.0, extractor.getFractureStress(), 1.0);
+    }
+    
+    @Test
+    void testIndividualMethodsMatchExtractor() {
+        // 항복강도/연신율은 영률과 같은 구간 탐색 회귀 직선을 사용
+        PropertyExtractor extractor = properties.extract(testData, properties.fitYoungsModulus(testData));
+        assertEquals(200.0, properties.calculateYoungsModulus(testData), 0.5);
+        assertEquals(extractor.getElongation(), properties.calculateElongation(testData));
+        assertTrue(properties.calculateElongation(testData) > 25.0);
+        assertEquals(extractor.getYieldStrength(), properties.calculateYieldStrength(testData));
+        assertEquals(properties.calculateYoungsModulus(testData), extractor.getYoungsModulus(), 1e-12);
+    }
+    
+    @Test
+    void testChunkedOffHeapColumnsMatchArrays() {
+        // 작은 묶음으로 나눠 블록 경계가 여러 번 걸리도록 함
+        ChunkedColumn force = new ChunkedColumn(10, true);
+        ChunkedColumn displacement = new ChunkedColumn(10, true);
+        force.appendAll(testData.getForce(), 0, testData.getForce().length);
+        displacement.appendAll(testData.getDisplacement(), 0, testData.getDisplacement().length);
+        TestData chunked = new TestData();
+        chunked.setForceColumn(force);
+        chunked.setDisplacementColumn(displacement);
+        chunked.setCrossSectionArea(testData.getCrossSectionArea());
+        chunked.setInitialLength(testData.getInitialLength());
+        
+        PropertyExtractor expected = properties.extract(testData);
+        PropertyExtractor actual = properties.extract(chunked);
+        assertEquals(expected.getYoungsModulus(), actual.getYoungsModulus());
+        assertEquals(expected.getYieldStrength(), actual.getYieldStrength());
+        assertEquals(expected.getFractureStrain(), actual.getFractureStrain());
+        assertEquals(testData.getSampleCount(), chunked.getSampleCount());
+    }
+    
+    @Test
+    void testReductionOfArea() {
+        assertEquals(0.0, properties.calculateReductionOfArea(testData));
+        testData.setFinalCrossSectionArea(39.27);
+        assertEquals(50.0, properties.calculateReductionOfArea(testData), 1e-9);
+    }
+    
+    @Test
+    void testEmptyData() {
+        assertEquals(0.0, properties.calculateYoungsModulus(new TestData()));
+        assertEquals(0.0, properties.calculateTensileStrength(null));
+    }
+}
@@ -0,0 +1,106 @@
+package meva.calculation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * ModulusFitter 클래스의 단위 테스트
+ * 초기 안착 구간과 잡음이 있는 곡선에서 탄성 구간을 찾는지 확인
+ */
+class ModulusFitterTest {
+
+    private static final double MODULUS = 200000.0; // MPa
+    private static final double YIELD_STRAIN = 0.00125;
+
+    /**
+     * 안착 구간(기울기 1/4) → 탄성 구간 → 완만한 경화 구간 곡선에 잡음 추가
+     */
+    private static void curve(double[] stress, double[] strain, double noise) {
+        Random random = new Random(42);
+        int n = stress.length;
+        double toeStrain = 0.0002;
+        double toeStress = MODULUS / 4 * toeStrain;
+        for (int i = 0; i < n; i++) {
+            double e = 0.01 * i / (n - 1);
+            double s;
+            if (e < toeStrain) {
+                s = MODULUS / 4 * e;
+            } else if (e < YIELD_STRAIN) {
+                s = toeStress + MODULUS * (e - toeStrain);
+            } else {
+                double yield = toeStress + MODULUS * (YIELD_STRAIN - toeStrain);
+                s = yield + 2000 * (e - YIELD_STRAIN);
+            }
+            strain[i] = e;
+            stress[i] = s + noise * random.nextGaussian();
+        }
+    }
+
+    @Test
+    void testFitFindsElasticWindow() {
+        double[] stress = new double[20000];
+        double[] strain = new double[20000];
+        curve(stress, strain, 0.5);
+
+        ModulusFit fit = new ModulusFitter().fit(stress, strain, stress.length);
+
+        assertTrue(fit.isValid());
+        assertEquals(200.0, fit.getYoungsModulus(), 200.0 * 0.02);
+        assertTrue(fit.getRSquared() > 0.99, "R²: " + fit.getRSquared());
+        assertTrue(fit.getStartStrain() >= 0.0002 * 0.9, "start: " + fit.getStartStrain());
+        assertTrue(fit.getEndStrain() <= YIELD_STRAIN * 1.1, "end: " + fit.getEndStrain());
+        assertTrue(fit.getEndIndex() > fit.getStartIndex());
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        double[] stress = new double[200000];
+        double[] strain = new double[200000];
+        curve(stress, strain, 0.5);
+
+        ModulusFitter sequential = new ModulusFitter();
+        sequential.setParallelism(1);
+        ModulusFitter parallel = new ModulusFitter();
+        parallel.setParallelism(4);
+
+        ModulusFit a = sequential.fit(stress, strain, stress.length);
+        ModulusFit b = parallel.fit(stress, strain, stress.length);
+
+        assertEquals(a.getStartIndex(), b.getStartIndex());
+        assertEquals(a.getEndIndex(), b.getEndIndex());
+        assertEquals(a.getYoungsModulus(), b.getYoungsModulus(), 1e-9);
+    }
+
+    @Test
+    void testExtractorUsesFittedLine() {
+        double[] stress = new double[20000];
+        double[] strain = new double[20000];
+        curve(stress, strain, 0.0);
+        ModulusFit fit = new ModulusFitter().fit(stress, strain, stress.length);
+
+        PropertyExtractor extractor = new PropertyExtractor();
+        extractor.useElasticLine(fit);
+        extractor.addStressStrainSamples(stress, strain, 0, stress.length);
+
+        // 안착 구간 때문에 절편이 음수인 직선(-30 MPa)을 0.2% 평행이동한 교점: 약 224 MPa
+        assertEquals(fit.getYoungsModulus(), extractor.getYoungsModulus(), 1e-12);
+        assertEquals(224.0, extractor.getYieldStrength(), 1.0);
+        int last = stress.length - 1;
+        double expected = (strain[last] - stress[last] / fit.getSlope()) * 100.0;
+        assertEquals(expected, extractor.getElongation(), 1e-9);
+        assertThrows(IllegalStateException.class, () -> extractor.useElasticLine(fit));
+    }
+
+    @Test
+    void testTooFewPointsReturnsNone() {
+        double[] stress = {0, 1, 2};
+        double[] strain = {0, 0.001, 0.002};
+
+        ModulusFit fit = new ModulusFitter().fit(stress, strain, stress.length);
+
+        assertSame(ModulusFit.NONE, fit);
+        assertFalse(fit.isValid());
+    }
+}
@@ -0,0 +1,118 @@
+package meva.chart;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.simulation.MaterialSimulator;
+
+/**
+ * ChartImageExporter, SvgChartWriter 클래스의 단위 테스트
+ */
+class ChartImageExporterTest {
+
+    private static SimulationResult curve(int resolution) {
+        MaterialSimulator simulator = new MaterialSimulator();
+        simulator.setResolution(resolution);
+        return simulator.simulateMaterialBehavior(new Material("chart", 200, 250, 400, 7850, 0.29));
+    }
+
+    private static Path tempDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("meva-chart");
+        directory.toFile().deleteOnExit();
+        return directory;
+    }
+
+    @Test
+    void testRenderImageDrawsCurveOnWhiteBackground() {
+        ChartImageExporter exporter = new ChartImageExporter();
+        exporter.setSize(400, 300);
+
+        BufferedImage image = exporter.renderImage(curve(20_000), null);
+
+        assertEquals(400, image.getWidth());
+        assertEquals(300, image.getHeight());
+        assertEquals(0xFFFFFF, image.getRGB(1, 1) & 0xFFFFFF);
+        int curvePixels = 0;
+        for (int x = ChartRenderer.MARGIN_LEFT + 1; x < 400 - ChartRenderer.MARGIN_RIGHT; x++) {
+            for (int y = ChartRenderer.MARGIN_TOP + 1; y < 300 - ChartRenderer.MARGIN_BOTTOM; y++) {
+                int rgb = image.getRGB(x, y) & 0xFFFFFF;
+                if ((rgb & 0xFF) > 0x80 && (rgb >> 16) < 0x80) { // 파란 곡선
+                    curvePixels++;
+                }
+            }
+        }
+        assertTrue(curvePixels > 100, "curve pixels: " + curvePixels);
+        assertNull(exporter.renderImage(new SimulationResult(), null));
+    }
+
+    @Test
+    void testSvgIsStreamedWithDownsampledPath() throws IOException {
+        Path directory = tempDirectory();
+        File file = directory.resolve("curve.svg").toFile();
+        file.deleteOnExit();
+        ChartImageExporter exporter = new ChartImageExporter();
+
+        assertTrue(exporter.export(curve(100_000), file.getPath()));
+
+        String svg = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(svg.startsWith("<?xml"));
+        assertTrue(svg.trim().endsWith("</svg>"));
+        assertTrue(svg.contains("인장강도"), "marker label");
+        int start = svg.indexOf("<path fill=\"none\"");
+        String path = svg.substring(svg.indexOf("d=\"", start) + 3, svg.indexOf('"', svg.indexOf("d=\"", start) + 3));
+        int commands = path.length() - path.replace("L", "").length() + 1;
+        int limit = ChartRenderer.plotWidth(ChartImageExporter.DEFAULT_WIDTH) * 2 + 8;
+        assertTrue(commands > 100 && commands <= limit, "path points: " + commands);
+    }
+
+    @Test
+    void testBatchExportInParallel() throws IOException {
+        Path directory = tempDirectory();
+        List<SimulationResult> results = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        String[] extensions = {".png", ".jpg", ".svg"};
+        for (int i = 0; i < 12; i++) {
+            results.add(curve(5_000 + i));
+            File file = directory.resolve("chart" + i + extensions[i % 3]).toFile();
+            file.deleteOnExit();
+            paths.add(file.getPath());
+        }
+        results.add(new SimulationResult()); // 곡선 없음
+        paths.add(directory.resolve("empty.png").toString());
+
+        ChartImageExporter exporter = new ChartImageExporter();
+        exporter.setParallelism(4);
+        exporter.setSize(320, 240);
+
+        assertEquals(12, exporter.exportAll(results, paths));
+        BufferedImage png = ImageIO.read(new File(paths.get(0)));
+        assertEquals(320, png.getWidth());
+        assertNotNull(ImageIO.read(new File(paths.get(1))));
+        assertFalse(new File(paths.get(12)).exists());
+        assertFalse(exporter.export(results.get(0), directory.resolve("chart.bmp").toString()));
+    }
+
+    @Test
+    void testSupportedFormats() {
+        assertTrue(ChartImageExporter.isSupported("a.PNG"));
+        assertTrue(ChartImageExporter.isSupported("a.jpeg"));
+        assertTrue(ChartImageExporter.isSupported("a.svg"));
+        assertFalse(ChartImageExporter.isSupported("a.csv"));
+        assertEquals("jpg", ImageFormats.formatOf("a.JPEG"));
+        assertEquals("svg", ImageFormats.formatOf("dir.png/a.svg"));
+        assertNull(ImageFormats.formatOf("a.xlsx"));
+        assertThrows(IllegalArgumentException.class, () -> new ChartImageExporter().setSize(10, 10));
+    }
+}
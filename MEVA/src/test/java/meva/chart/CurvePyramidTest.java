@@ -0,0 +1,78 @@
+package meva.chart;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CurvePyramid, CurveDownsampler 클래스의 단위 테스트
+ */
+class CurvePyramidTest {
+
+    private static final int SAMPLES = 1_000_000;
+
+    private double[] strain;
+    private double[] stress;
+    private int peak;
+
+    @BeforeEach
+    void setUp() {
+        strain = new double[SAMPLES];
+        stress = new double[SAMPLES];
+        peak = SAMPLES * 2 / 3;
+        for (int i = 0; i < SAMPLES; i++) {
+            strain[i] = i * 1e-6;
+            double base = i <= peak ? 400.0 * i / peak : 400.0 - 200.0 * (i - peak) / (SAMPLES - peak);
+            stress[i] = base + ((i * 7919) % 13 - 6) * 0.1; // 측정 잡음
+        }
+        stress[peak] = 500.0;
+    }
+
+    @Test
+    void testQueryIsBoundedByPixelWidth() {
+        CurvePyramid pyramid = new CurvePyramid(strain, stress, CurveDownsampler.keyIndices(stress, 0));
+        PlotPoints points = new PlotPoints();
+        pyramid.query(pyramid.getMinX(), pyramid.getMaxX(), 800, points);
+
+        assertTrue(points.size() <= 4 * 800 + 8, "points: " + points.size());
+        assertTrue(containsIndex(points, peak));
+        assertTrue(containsIndex(points, SAMPLES - 1));
+        assertEquals(500.0, pyramid.getMaxY(), 0.0);
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.getIndex(i) > points.getIndex(i - 1));
+        }
+    }
+
+    @Test
+    void testZoomedQueryReturnsRawSamples() {
+        CurvePyramid pyramid = new CurvePyramid(strain, stress);
+        PlotPoints points = new PlotPoints();
+        pyramid.query(strain[1000], strain[1100], 800, points);
+
+        // 픽셀보다 샘플이 적으면 원본 그대로 (양 끝 바깥 한 점씩 포함)
+        assertEquals(103, points.size());
+        assertEquals(999, points.getIndex(0));
+        assertEquals(stress[1050], points.getY(51), 0.0);
+    }
+
+    @Test
+    void testLttbKeepsKeyPoints() {
+        int[] keys = CurveDownsampler.keyIndices(stress, 0);
+        PlotPoints points = new PlotPoints();
+        CurveDownsampler.lttb(strain, stress, 500, points, keys);
+
+        assertTrue(points.size() <= 500 + keys.length);
+        assertEquals(0, points.getIndex(0));
+        assertTrue(containsIndex(points, peak));
+        assertEquals(SAMPLES - 1, points.lastIndex());
+    }
+
+    private static boolean containsIndex(PlotPoints points, int index) {
+        for (int i = 0; i < points.size(); i++) {
+            if (points.getIndex(i) == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
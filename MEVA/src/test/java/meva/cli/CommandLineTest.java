@@ -0,0 +1,140 @@
+package meva.cli;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import meva.fileio.ExportManager;
+import meva.models.TestData;
+
+/**
+ * CommandLine(헤드리스 모드) 단위 테스트
+ */
+class CommandLineTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+        out.reset();
+        err.reset();
+        return new CommandLine(new PrintStream(out, true), new PrintStream(err, true)).execute(args);
+    }
+
+    private String output() {
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static File linearTestData() throws IOException {
+        int n = 200;
+        double[] force = new double[n];
+        double[] displacement = new double[n];
+        for (int i = 0; i < n; i++) {
+            double strain = i * 1e-5;
+            force[i] = 200_000.0 * strain * 78.54; // E = 200 GPa
+            displacement[i] = strain * 50.0;
+        }
+        TestData testData = new TestData();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+
+        File file = File.createTempFile("meva-cli", ".csv");
+        file.deleteOnExit();
+        assertTrue(new ExportManager().exportData(testData, file.getPath(), "csv"));
+        return file;
+    }
+
+    @Test
+    void testUsageErrors() {
+        assertEquals(CommandLine.EXIT_USAGE, run());
+        assertEquals(CommandLine.EXIT_USAGE, run("unknown"));
+        assertEquals(CommandLine.EXIT_USAGE, run("simulate", "--youngs", "200"));
+        assertEquals(CommandLine.EXIT_USAGE, run("convert", "only-one.csv"));
+        assertEquals(CommandLine.EXIT_USAGE, run("analyse", "data.txt"));
+        assertEquals(CommandLine.EXIT_OK, run("help"));
+    }
+
+    @Test
+    void testSimulateWithProperties() {
+        assertEquals(CommandLine.EXIT_OK,
+                run("simulate", "--youngs", "200", "--yield", "250", "--tensile", "400", "--resolution", "50"));
+        String text = output();
+        assertTrue(text.contains("points=50"), text);
+        assertTrue(text.contains("yieldStrength(MPa)=250"), text);
+
+        assertEquals(CommandLine.EXIT_FAILURE, run("simulate", "--youngs", "200", "--yield", "500", "--tensile", "400"));
+    }
+
+    @Test
+    void testConvertThenAnalyse() throws IOException {
+        File csv = linearTestData();
+        File archive = File.createTempFile("meva-cli", ".mevz");
+        archive.deleteOnExit();
+
+        assertEquals(CommandLine.EXIT_OK, run("convert", csv.getPath(), archive.getPath()));
+        assertTrue(output().contains("samples=200"));
+
+        assertEquals(CommandLine.EXIT_OK,
+                run("analyse", archive.getPath(), "--area", "78.54", "--length", "50", "--precision", "3",
+                        "--cache", "off"));
+        assertTrue(output().contains("youngsModulus(GPa)=200"), output());
+
+        assertEquals(CommandLine.EXIT_FAILURE, run("analyse", "missing.csv", "--cache", "off"));
+    }
+
+    @Test
+    void testExportGraphImage() throws IOException {
+        File csv = linearTestData();
+        File image = File.createTempFile("meva-cli", ".png");
+        image.deleteOnExit();
+
+        assertEquals(CommandLine.EXIT_OK,
+                run("export", csv.getPath(), image.getPath(), "--area", "78.54", "--length", "50", "--cache", "off"));
+        assertTrue(output().contains("points=200"), output());
+        assertTrue(image.length() > 0);
+    }
+
+    @Test
+    void testReportCommand() throws IOException {
+        File csv = linearTestData();
+        File pdf = File.createTempFile("meva-cli", ".pdf");
+        pdf.deleteOnExit();
+
+        assertEquals(CommandLine.EXIT_OK,
+                run("report", csv.getPath(), pdf.getPath(), "--area", "78.54", "--length", "50", "--cache", "off"));
+        assertTrue(output().contains("specimens=1"), output());
+        assertTrue(output().contains("pages=2"), output());
+        assertTrue(pdf.length() > 0);
+
+        assertEquals(CommandLine.EXIT_USAGE, run("report", csv.getPath(), "report.txt"));
+    }
+
+    @Test
+    void testRepeatedAnalyseUsesCache() throws IOException {
+        File csv = linearTestData();
+        File cache = Files.createTempDirectory("meva-cli-cache").toFile();
+        cache.deleteOnExit();
+
+        assertEquals(CommandLine.EXIT_OK,
+                run("analyse", csv.getPath(), "--area", "78.54", "--length", "50", "--cache", cache.getPath()));
+        String first = output();
+        assertTrue(first.contains("cached=false"), first);
+
+        assertEquals(CommandLine.EXIT_OK,
+                run("analyse", csv.getPath(), "--area", "78.54", "--length", "50", "--cache", cache.getPath()));
+        String second = output();
+        assertTrue(second.contains("cached=true"), second);
+        assertEquals(first.replace("cached=false", ""), second.replace("cached=true", ""));
+
+        // 시편 치수가 다르면 다시 계산
+        assertEquals(CommandLine.EXIT_OK,
+                run("analyse", csv.getPath(), "--area", "50", "--length", "50", "--cache", cache.getPath()));
+        assertTrue(output().contains("cached=false"), output());
+    }
+}
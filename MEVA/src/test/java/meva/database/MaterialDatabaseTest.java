@@ -0,0 +1,109 @@
+package meva.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import meva.models.Material;
+
+/**
+ * MaterialDatabase 클래스의 단위 테스트
+ */
+class MaterialDatabaseTest {
+
+    private MaterialDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = new MaterialDatabase();
+        database.addMaterials(List.of(
+            new Material("Steel_AISI1020", 200, 250, 400, 7850, 0.29),
+            new Material("Steel_AISI4140", 205, 415, 655, 7850, 0.29),
+            new Material("Aluminum_6061T6", 69, 276, 310, 2700, 0.33),
+            new Material("Titanium_Ti6Al4V", 114, 880, 950, 4430, 0.32)
+        ));
+    }
+
+    @Test
+    void testTypedAccess() {
+        MaterialTable table = database.snapshot();
+        int id = table.getId("Aluminum_6061T6");
+        assertEquals(2, id);
+        assertEquals(69.0, table.getYoungsModulus(id), 0.0);
+        assertEquals(-1, table.getId("Unknown"));
+        assertNull(database.getMaterial("Unknown"));
+        assertEquals(880.0, database.getMaterial("Titanium_Ti6Al4V").getYieldStrength(), 0.0);
+    }
+
+    @Test
+    void testRangeQuery() {
+        List<Material> strong = database.findMaterials(MaterialProperty.YIELD_STRENGTH, Math.nextUp(300.0), Double.POSITIVE_INFINITY);
+        assertEquals(2, strong.size());
+        assertEquals("Steel_AISI4140", strong.get(0).getName());
+        assertEquals("Titanium_Ti6Al4V", strong.get(1).getName());
+
+        assertEquals(2, database.findMaterials(MaterialProperty.DENSITY, 7850, 7850).size());
+    }
+
+    @Test
+    void testReplaceAndRemove() {
+        MaterialTable before = database.snapshot();
+        database.addMaterial(new Material("Steel_AISI1020", 200, 350, 420, 7850, 0.29));
+        assertEquals(4, database.snapshot().size());
+        assertEquals(350.0, database.getMaterial("Steel_AISI1020").getYieldStrength(), 0.0);
+        // 이전 스냅샷은 변경되지 않음
+        assertEquals(250.0, before.getMaterial("Steel_AISI1020").getYieldStrength(), 0.0);
+
+        assertTrue(database.removeMaterial("Steel_AISI4140"));
+        assertFalse(database.removeMaterial("Steel_AISI4140"));
+        assertEquals(3, database.snapshot().size());
+        assertEquals(2, database.snapshot().getId("Titanium_Ti6Al4V"));
+        assertEquals(1, database.findMaterials(MaterialProperty.YIELD_STRENGTH, 800, 900).size());
+    }
+
+    @Test
+    void testPropertyMap() {
+        Map<String, Double> properties = new HashMap<>();
+        properties.put("youngsModulus", 110.0);
+        properties.put("yieldStrength", 70.0);
+        assertTrue(database.addMaterial("Copper_C101", properties));
+
+        Map<String, Double> stored = database.getMaterialProperties("Copper_C101");
+        assertEquals(110.0, stored.get("youngsModulus"), 0.0);
+        assertFalse(stored.containsKey("density"));
+        assertTrue(database.getStandardMaterialNames().contains("Copper_C101"));
+    }
+
+    @Test
+    void testStoreBackedDatabase() throws IOException {
+        Path directory = Files.createTempDirectory("meva_db");
+        MaterialDatabase stored = new MaterialDatabase(directory);
+        stored.loadStandardMaterials();
+        assertEquals(69.0, stored.getMaterial("Aluminum_6061T6").getYoungsModulus(), 0.0);
+        stored.addMaterial(new Material("Custom", 150, 300, 500, 7000, 0.3));
+        assertTrue(stored.removeMaterial("Brass_C360"));
+        stored.close();
+
+        // 다시 열면 표준 재료를 다시 넣지 않고 변경 사항이 유지됨
+        MaterialDatabase reopened = new MaterialDatabase(directory);
+        reopened.loadStandardMaterials();
+        assertEquals(300.0, reopened.getMaterial("Custom").getYieldStrength(), 0.0);
+        assertNull(reopened.getMaterial("Brass_C360"));
+        assertEquals(8, reopened.getStandardMaterialNames().size());
+        assertEquals(3, reopened.findMaterials(MaterialProperty.YIELD_STRENGTH, 400, 1000).size());
+        reopened.close();
+
+        StandardProperties standards = new StandardProperties(directory);
+        standards.loadStandardProperties();
+        assertEquals("ASTM B209", standards.getStandardProperty("Aluminum_6061T6").getReference());
+        assertEquals(8, standards.getMaterialNames().size());
+        standards.close();
+    }
+}
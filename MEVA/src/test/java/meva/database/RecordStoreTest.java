@@ -0,0 +1,113 @@
+package meva.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * RecordStore 클래스의 단위 테스트
+ */
+class RecordStoreTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("meva_store");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void testPutGetAndReopen() throws IOException {
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            store.put("Steel", new double[] {200, 250, 400}, "ASTM A29");
+            store.put("Aluminum", new double[] {69, 276, 310}, null);
+            store.put("Steel", new double[] {205, 415, 655}, null); // 교체
+            assertEquals(2, store.size());
+        }
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            assertEquals(2, store.size());
+            RecordStore.Record steel = store.get("Steel");
+            assertEquals(415.0, steel.getValue(1), 0.0);
+            assertNull(steel.getText());
+            assertTrue(Double.isNaN(steel.getValue(5)));
+            assertNull(store.get("Copper"));
+            assertEquals(List.of("Aluminum", "Steel"), store.keys());
+        }
+    }
+
+    @Test
+    void testRemoveAndManyRecords() throws IOException {
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            List<RecordStore.Record> records = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                records.add(new RecordStore.Record("M" + i, new double[] {i}, "재료 " + i));
+            }
+            store.putAll(records);
+            for (int i = 0; i < 5000; i += 2) {
+                assertTrue(store.remove("M" + i));
+            }
+            assertFalse(store.remove("M0"));
+            assertEquals(2500, store.size());
+        }
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            assertEquals(2500, store.size());
+            assertNull(store.get("M1000"));
+            assertEquals(4999.0, store.get("M4999").getValue(0), 0.0);
+            assertEquals("재료 4999", store.get("M4999").getText());
+        }
+    }
+
+    @Test
+    void testIndexIsRebuiltWhenMissingOrStale() throws IOException {
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            store.put("Steel", new double[] {200}, null);
+        }
+        Path index = directory.resolve("materials.idx");
+        byte[] staleIndex = Files.readAllBytes(index);
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            store.put("Copper", new double[] {110}, null);
+        }
+        // 이전 색인으로 되돌리면 뒤에 덧붙은 레코드만 다시 반영
+        Files.write(index, staleIndex);
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            assertEquals(2, store.size());
+            assertEquals(110.0, store.get("Copper").getValue(0), 0.0);
+        }
+        Files.delete(index);
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            assertEquals(2, store.size());
+            assertEquals(200.0, store.get("Steel").getValue(0), 0.0);
+        }
+    }
+
+    @Test
+    void testCompact() throws IOException {
+        try (RecordStore store = new RecordStore(directory, "materials")) {
+            for (int i = 0; i < 100; i++) {
+                store.put("Steel", new double[] {i}, null);
+            }
+            store.put("Copper", new double[] {110}, null);
+            long before = store.getDataLength();
+            store.compact();
+            assertTrue(store.getDataLength() < before / 10);
+            assertEquals(99.0, store.get("Steel").getValue(0), 0.0);
+            assertEquals(List.of("Steel", "Copper"), store.keys());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package meva.fileio;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import meva.models.TestData;
+
+/**
+ * ArchiveHandler / ArchiveFile 클래스의 단위 테스트
+ */
+class ArchiveHandlerTest {
+
+    private static TestData smoothData(int n) {
+        double[] force = new double[n];
+        double[] displacement = new double[n];
+        double[] time = new double[n];
+        for (int i = 0; i < n; i++) {
+            time[i] = i * 0.01;
+            displacement[i] = Math.round(i * 0.0005 * 1e4) / 1e4; // 0.1 µm 분해능
+            force[i] = Math.round(20000.0 * Math.tanh(i / 3000.0) * 10) / 10.0; // 0.1 N 분해능
+        }
+        TestData testData = new TestData();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+        testData.setTime(time);
+        testData.setInitialLength(50.0);
+        testData.setCrossSectionArea(78.54);
+        testData.setOperator("김세현");
+        return testData;
+    }
+
+    private static File tempFile() throws IOException {
+        File file = File.createTempFile("meva", ArchiveHandler.EXTENSION);
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Test
+    void testRoundTripIsBitExact() throws IOException {
+        TestData testData = smoothData(10_000);
+        double[] force = testData.getForce();
+        force[5] = Double.NaN;
+        force[6] = -0.0;
+        force[7] = Double.POSITIVE_INFINITY;
+        force[8] = Double.MIN_VALUE;
+        testData.setForce(force);
+
+        File file = tempFile();
+        assertTrue(new ExportManager().exportData(testData, file.getPath(), "archive"));
+
+        TestData read = new ExportManager().importTestData(file.getPath());
+        assertNotNull(read);
+        assertEquals(10_000, read.getSampleCount());
+        assertEquals(50.0, read.getInitialLength());
+        assertEquals(78.54, read.getCrossSectionArea());
+        assertEquals("김세현", read.getOperator());
+        assertNull(read.getTestDate());
+        double[] readForce = read.getForce();
+        for (int i = 0; i < force.length; i++) {
+            assertEquals(Double.doubleToRawLongBits(force[i]), Double.doubleToRawLongBits(readForce[i]));
+        }
+        assertArrayEquals(testData.getDisplacement(), read.getDisplacement());
+        assertArrayEquals(testData.getTime(), read.getTime());
+    }
+
+    @Test
+    void testSmoothDataIsCompressed() throws IOException {
+        File file = tempFile();
+        assertTrue(new ArchiveHandler().writeFile(smoothData(100_000), file.getPath()));
+
+        try (ArchiveFile archive = ArchiveFile.open(file.getPath())) {
+            assertEquals(100_000, archive.getSampleCount());
+            assertEquals(25, archive.getBlockCount());
+            assertTrue(archive.getCompressionRatio() > 2.0, "ratio: " + archive.getCompressionRatio());
+        }
+    }
+
+    @Test
+    void testReadTimeRange() throws IOException {
+        TestData testData = smoothData(20_000);
+        File file = tempFile();
+        assertTrue(new ArchiveHandler().writeFile(testData, file.getPath()));
+
+        try (ArchiveFile archive = ArchiveFile.open(file.getPath())) {
+            TestData range = archive.readTimeRange(50.0, 60.0);
+            assertEquals(1001, range.getSampleCount());
+            assertEquals(testData.getForce()[5000], range.getForce()[0]);
+            assertEquals(60.0, range.getTime()[1000], 1e-9);
+
+            TestData samples = archive.readRange(4090, 20);
+            assertEquals(20, samples.getSampleCount());
+            assertEquals(testData.getDisplacement()[4095], samples.getDisplacement()[5]);
+            assertEquals(testData.getDisplacement()[4096], samples.getDisplacement()[6]);
+
+            assertEquals(0, archive.readTimeRange(1000.0, 2000.0).getSampleCount());
+        }
+    }
+
+    @Test
+    void testMissingColumnAndEmptyData() throws IOException {
+        TestData testData = new TestData();
+        testData.setForce(new double[] {1.0, 2.0, 3.0});
+        testData.setDisplacement(new double[] {0.1, 0.2, 0.3});
+
+        File file = tempFile();
+        assertTrue(new ArchiveHandler().writeFile(testData, file.getPath()));
+        try (ArchiveFile archive = ArchiveFile.open(file.getPath())) {
+            assertFalse(archive.hasTimeColumn());
+            assertNull(archive.readAll().getTime());
+            assertThrows(IllegalStateException.class, () -> archive.readTimeRange(0, 1));
+        }
+
+        File empty = tempFile();
+        assertTrue(new ArchiveHandler().writeFile(new TestData(), empty.getPath()));
+        try (ArchiveFile archive = ArchiveFile.open(empty.getPath())) {
+            assertEquals(0, archive.getSampleCount());
+            assertEquals(0, archive.getBlockCount());
+        }
+    }
+
+    @Test
+    void testCorruptFileReturnsNull() throws IOException {
+        File file = tempFile();
+        assertTrue(new ArchiveHandler().writeFile(smoothData(1000), file.getPath()));
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+        assertNull(new ArchiveHandler().readFile(file.getPath()));
+    }
+}
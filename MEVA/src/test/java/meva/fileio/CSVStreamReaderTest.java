@@ -0,0 +1,121 @@
+package meva.fileio;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import meva.models.TestData;
+
+/**
+ * CSVStreamReader 클래스의 단위 테스트
+ */
+class CSVStreamReaderTest {
+
+    private CSVStreamReader reader(String csv) {
+        return new CSVStreamReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testHeaderMapping() throws IOException {
+        String csv = "Time (s),Load (N),Displacement (mm)\n0.0,10.5,0.01\n0.1,20.25,0.02\n";
+        try (CSVStreamReader r = reader(csv)) {
+            SampleChunk chunk = new SampleChunk(16);
+            assertEquals(2, r.readChunk(chunk));
+            assertEquals(10.5, chunk.getForce()[0]);
+            assertEquals(0.02, chunk.getDisplacement()[1]);
+            assertEquals(0.1, chunk.getTime()[1]);
+            assertEquals(0, r.readChunk(chunk));
+        }
+    }
+
+    @Test
+    void testNoHeaderDefaultsToForceDisplacementTime() throws IOException {
+        try (CSVStreamReader r = reader("1.0,2.0,3.0\r\n4,5,6")) {
+            SampleChunk chunk = new SampleChunk(16);
+            assertEquals(2, r.readChunk(chunk));
+            assertNull(r.getHeader());
+            assertEquals(4.0, chunk.getForce()[1]);
+            assertEquals(6.0, chunk.getTime()[1]);
+        }
+    }
+
+    @Test
+    void testTrailingDelimiterAndEmptyCellsAreNotHeader() throws IOException {
+        try (CSVStreamReader r = reader("1,2,3,\n4,5,6,\n")) {
+            SampleChunk chunk = new SampleChunk(16);
+            assertEquals(2, r.readChunk(chunk));
+            assertNull(r.getHeader());
+            assertEquals(1.0, chunk.getForce()[0]);
+            assertEquals(6.0, chunk.getTime()[1]);
+        }
+        try (CSVStreamReader r = reader("1,,3\n4,5,6\n")) {
+            SampleChunk chunk = new SampleChunk(16);
+            r.readChunk(chunk);
+            assertNull(r.getHeader());
+        }
+        try (CSVStreamReader r = reader("force,,time\n1,2,3\n")) {
+            SampleChunk chunk = new SampleChunk(16);
+            assertEquals(1, r.readChunk(chunk));
+            assertNotNull(r.getHeader());
+        }
+    }
+
+    @Test
+    void testSemicolonDelimiterWithDecimalComma() throws IOException {
+        try (CSVStreamReader r = reader("하중;변위\n\"1,5\";2,25\n-3,5E2;1e-3\n")) {
+            SampleChunk chunk = new SampleChunk(16);
+            assertEquals(2, r.readChunk(chunk));
+            assertEquals(1.5, chunk.getForce()[0]);
+            assertEquals(-350.0, chunk.getForce()[1]);
+            assertEquals(0.001, chunk.getDisplacement()[1]);
+            assertFalse(r.hasTimeColumn());
+            assertTrue(Double.isNaN(chunk.getTime()[0]));
+        }
+    }
+
+    @Test
+    void testInvalidRowsAreSkipped() throws IOException {
+        try (CSVStreamReader r = reader("1,2,3\nbad,row,here\n\n4,5,6\n")) {
+            SampleChunk chunk = new SampleChunk(16);
+            assertEquals(2, r.readChunk(chunk));
+            assertEquals(1, r.getSkippedRows());
+        }
+    }
+
+    @Test
+    void testChunkedRead() throws IOException {
+        StringBuilder csv = new StringBuilder("force,displacement,time\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i * 0.1).append(',').append(i * 0.001).append(',').append(i).append('\n');
+        }
+        try (CSVStreamReader r = reader(csv.toString())) {
+            long[] total = {0};
+            long rows = r.readAll(chunk -> {
+                assertEquals(total[0], chunk.getFirstIndex());
+                assertEquals(chunk.getFirstIndex() * 0.1, chunk.getForce()[0]);
+                total[0] += chunk.size();
+            }, 64);
+            assertEquals(1000, rows);
+            assertEquals(1000, total[0]);
+        }
+    }
+
+    @Test
+    void testReadTestDataSkipsMissingColumns() throws IOException {
+        Path file = Files.createTempFile("meva-csv", ".csv");
+        file.toFile().deleteOnExit();
+        Files.write(file, "force,displacement\n1.0,0.1\n2.0,0.2\n".getBytes(StandardCharsets.UTF_8));
+
+        TestData testData = new CSVHandler().readTestData(file.toString());
+        assertNotNull(testData);
+        assertEquals(2, testData.getSampleCount());
+        assertArrayEquals(new double[] {1.0, 2.0}, testData.getForce());
+        assertNull(testData.getTimeColumn());
+        assertNull(testData.getTime());
+    }
+}
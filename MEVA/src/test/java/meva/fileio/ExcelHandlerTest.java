@@ -0,0 +1,113 @@
+package meva.fileio;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import meva.models.TestData;
+
+/**
+ * ExcelHandler 및 xlsx 스트리밍 리더/라이터의 단위 테스트
+ */
+class ExcelHandlerTest {
+
+    @Test
+    void testTestDataRoundTrip() throws IOException {
+        int n = 20000;
+        double[] force = new double[n];
+        double[] displacement = new double[n];
+        for (int i = 0; i < n; i++) {
+            force[i] = i * 1.5;
+            displacement[i] = i * 1e-4;
+        }
+        TestData testData = new TestData();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+
+        File file = File.createTempFile("meva", ".xlsx");
+        file.deleteOnExit();
+        assertTrue(new ExportManager().exportDataAuto(testData, file.getPath()));
+
+        TestData read = new ExportManager().importTestData(file.getPath());
+        assertNotNull(read);
+        assertArrayEquals(force, read.getForce());
+        assertArrayEquals(displacement, read.getDisplacement());
+        assertNull(read.getTimeColumn());
+    }
+
+    @Test
+    void testSummaryRowsWithHeader() throws IOException {
+        File file = File.createTempFile("meva", ".xlsx");
+        file.deleteOnExit();
+        List<String[]> rows = List.of(
+            new String[] {"time (s)", "Load <kN>", "Extension & more"},
+            new String[] {"0.1", "1.5", "0.001"},
+            new String[] {"0.2", "ERROR", "0.002"},
+            new String[] {"0.3", "-3.5e2", "0.003"});
+        assertTrue(new ExcelHandler().writeFile(rows, file.getPath()));
+
+        try (XlsxStreamReader reader = XlsxStreamReader.open(file.getPath())) {
+            assertArrayEquals(rows.get(0), reader.getHeader());
+            SampleChunk chunk = new SampleChunk();
+            assertEquals(2, reader.readChunk(chunk));
+            assertEquals(1.5, chunk.getForce()[0]);
+            assertEquals(-350.0, chunk.getForce()[1]);
+            assertEquals(0.003, chunk.getDisplacement()[1]);
+            assertEquals(0.3, chunk.getTime()[1]);
+            assertEquals(1, reader.getSkippedRows());
+        }
+    }
+
+    @Test
+    void testSharedStringHeaderAndSparseCells() throws IOException {
+        File file = File.createTempFile("meva", ".xlsx");
+        file.deleteOnExit();
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+            put(zip, "xl/workbook.xml", "<workbook xmlns:r=\"urn:r\"><sheets>"
+                    + "<sheet name=\"Run\" sheetId=\"1\" r:id=\"rId7\"/></sheets></workbook>");
+            put(zip, "xl/_rels/workbook.xml.rels", "<Relationships>"
+                    + "<Relationship Id=\"rId7\" Type=\"x/worksheet\" Target=\"worksheets/run.xml\"/>"
+                    + "<Relationship Id=\"rId8\" Type=\"x/sharedStrings\" Target=\"strings.xml\"/>"
+                    + "</Relationships>");
+            put(zip, "xl/strings.xml", "<sst><si><t>변위</t></si>"
+                    + "<si><r><t>하</t></r><r><t>중</t></r></si><si><t>unused</t></si></sst>");
+            put(zip, "xl/worksheets/run.xml", "<worksheet><sheetData>"
+                    + "<row r=\"1\"><c r=\"B1\" t=\"s\"><v>1</v></c><c r=\"D1\" t=\"s\"><v>0</v></c></row>"
+                    + "<row r=\"2\"><c r=\"B2\"><v>10</v></c><c r=\"C2\"><v>99</v></c><c r=\"D2\"><v>0.5</v></c></row>"
+                    + "<row r=\"3\"><c r=\"B3\"><f>B2*2</f><v>20</v></c><c r=\"D3\" t=\"e\"><v>#N/A</v></c></row>"
+                    + "<row r=\"4\"><c r=\"B4\"><v>30</v></c><c r=\"D4\"><v>1.5</v></c></row>"
+                    + "</sheetData></worksheet>");
+        }
+
+        try (XlsxStreamReader reader = XlsxStreamReader.open(file.getPath())) {
+            assertArrayEquals(new String[] {"", "하중", "", "변위"}, reader.getHeader());
+            assertFalse(reader.hasTimeColumn());
+            SampleChunk chunk = new SampleChunk();
+            assertEquals(2, reader.readChunk(chunk));
+            assertEquals(30.0, chunk.getForce()[1]);
+            assertEquals(1.5, chunk.getDisplacement()[1]);
+            assertEquals(1, reader.getSkippedRows());
+        }
+    }
+
+    @Test
+    void testUnsupportedFormat() {
+        ExcelHandler handler = new ExcelHandler();
+        assertTrue(handler.isSupported("run.XLSX"));
+        assertFalse(handler.isSupported("run.xls"));
+        assertNull(handler.readTestData("missing.xlsx"));
+    }
+
+    private static void put(ZipOutputStream zip, String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(xml.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
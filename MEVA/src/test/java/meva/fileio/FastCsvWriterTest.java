@@ -0,0 +1,128 @@
+package meva.fileio;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+import meva.simulation.StressStrainCalculator;
+
+/**
+ * DoubleFormatter 및 FastCsvWriter의 단위 테스트
+ */
+class FastCsvWriterTest {
+
+    @Test
+    void testFormatterShortestRepresentation() {
+        assertEquals("0.1", DoubleFormatter.toString(0.1, 6));
+        assertEquals("200000", DoubleFormatter.toString(200000.0, 6));
+        assertEquals("-1.5", DoubleFormatter.toString(-1.5, 6));
+        assertEquals("0", DoubleFormatter.toString(0.0, 6));
+        assertEquals("0.000123457", DoubleFormatter.toString(0.0001234567, 6));
+        assertEquals("1.23457E-7", DoubleFormatter.toString(1.23456789e-7, 6));
+        assertEquals("1E20", DoubleFormatter.toString(1e20, 6));
+        assertEquals("10", DoubleFormatter.toString(9.9999996, 6));
+        assertEquals("NaN", DoubleFormatter.toString(Double.NaN, 6));
+        assertEquals(Double.toString(Math.PI), DoubleFormatter.toString(Math.PI, 17));
+    }
+
+    @Test
+    void testFormatterRoundsToPrecision() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+            int precision = 1 + random.nextInt(15);
+            double parsed = Double.parseDouble(DoubleFormatter.toString(value, precision));
+            double tolerance = Math.abs(value) * 0.50001 * Math.pow(10, 1 - precision);
+            assertEquals(value, parsed, tolerance);
+        }
+        assertEquals(Double.MIN_VALUE, Double.parseDouble(DoubleFormatter.toString(Double.MIN_VALUE, 17)));
+        assertEquals(4.9e-324, Double.parseDouble(DoubleFormatter.toString(Double.MIN_VALUE, 2)));
+        assertEquals("1.2E308", DoubleFormatter.toString(1.2345e308, 2));
+    }
+
+    @Test
+    void testFullPrecisionIsShortestRoundTrip() {
+        assertEquals("0.1", DoubleFormatter.toString(0.1, 17));
+        assertEquals("100", DoubleFormatter.toString(100.0, 17));
+        assertEquals("1E23", DoubleFormatter.toString(1e23, 17));
+        assertEquals("2.82879384806159E17", DoubleFormatter.toString(2.82879384806159E17, 17));
+        assertEquals("4.9E-324", DoubleFormatter.toString(Double.MIN_VALUE, 17));
+        assertEquals("1.7976931348623157E308", DoubleFormatter.toString(Double.MAX_VALUE, 17));
+        assertEquals("2.2250738585072014E-308", DoubleFormatter.toString(Double.MIN_NORMAL, 17));
+        assertEquals("-0.30000000000000004", DoubleFormatter.toString(-(0.1 + 0.2), 17));
+
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            double value = i % 2 == 0
+                    ? Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE)
+                    : random.nextDouble() * Math.pow(10, random.nextInt(30) - 15);
+            if (Double.isNaN(value) || Double.isInfinite(value) || value == 0) {
+                continue;
+            }
+            String text = DoubleFormatter.toString(value, 17);
+            assertEquals(value, Double.parseDouble(text), 0.0, text);
+            // 한 자리 적게 반올림하면 더 이상 같은 값이 아니어야 가장 짧은 표현
+            int digits = text.replaceFirst("E.*", "").replaceAll("[^0-9]", "").replaceFirst("^0+", "").length();
+            if (digits > 1) {
+                double shorter = Double.parseDouble(DoubleFormatter.toString(value, digits - 1));
+                assertTrue(shorter != value, text);
+            }
+        }
+    }
+
+    @Test
+    void testSimulationResultExport() throws IOException {
+        Material steel = new Material("Steel_AISI1020", 200, 250, 400, 7850, 0.29);
+        SimulationResult result = new StressStrainCalculator().calculateStressStrain(steel, new TestData());
+        File file = File.createTempFile("meva_result", ".csv");
+        file.deleteOnExit();
+        assertTrue(new ExportManager().exportDataAuto(result, file.getPath()));
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals("# youngsModulus(GPa),200", lines.get(0));
+        assertEquals("strain,stress(MPa),trueStrain,trueStress(MPa)", lines.get(5));
+        assertEquals(result.getStress().length + 6, lines.size());
+        String[] last = lines.get(lines.size() - 1).split(",");
+        assertEquals(result.getStress()[result.getStress().length - 1], Double.parseDouble(last[1]), 1e-3);
+    }
+
+    @Test
+    void testTestDataRoundTrip() throws IOException {
+        TestData testData = new TestData();
+        testData.setForce(new double[] {0.0, 1234.5, -7.25});
+        testData.setDisplacement(new double[] {0.0, 0.0125, 0.5});
+        File file = File.createTempFile("meva_data", ".csv");
+        file.deleteOnExit();
+        assertTrue(new CSVHandler().writeFile(testData, file.getPath()));
+
+        TestData read = new CSVHandler().readTestData(file.getPath());
+        assertArrayEquals(testData.getForce(), read.getForce());
+        assertArrayEquals(testData.getDisplacement(), read.getDisplacement());
+        assertNull(read.getTimeColumn());
+    }
+
+    @Test
+    void testQuotedTextAndLongs() throws IOException {
+        File file = File.createTempFile("meva_text", ".csv");
+        file.deleteOnExit();
+        try (FastCsvWriter writer = new FastCsvWriter(file.getPath(), 6)) {
+            writer.writeRow("a,b", "say \"hi\"", "plain");
+            writer.writeLong(-12345);
+            writer.writeLong(Long.MIN_VALUE);
+            writer.writeDouble(2.5);
+            assertEquals(1, writer.getRowCount());
+        }
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",plain", lines.get(0));
+        assertEquals("-12345," + Long.MIN_VALUE + ",2.5", lines.get(1));
+    }
+}
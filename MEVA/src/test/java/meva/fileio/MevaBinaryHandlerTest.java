@@ -0,0 +1,74 @@
+package meva.fileio;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+import meva.models.TestData;
+
+/**
+ * MevaBinaryHandler 클래스의 단위 테스트
+ */
+class MevaBinaryHandlerTest {
+
+    @Test
+    void testWriteAndMapRoundTrip() throws IOException {
+        TestData testData = new TestData();
+        testData.setForce(new double[] {0.0, 100.5, 200.25});
+        testData.setDisplacement(new double[] {0.0, 0.01, 0.02});
+        testData.setTime(new double[] {0.0, 0.1, 0.2});
+        testData.setInitialLength(50.0);
+        testData.setCrossSectionArea(78.54);
+        testData.setOperator("김세현");
+
+        File file = File.createTempFile("meva", MevaBinaryHandler.EXTENSION);
+        file.deleteOnExit();
+        assertTrue(new ExportManager().exportDataAuto(testData, file.getPath()));
+
+        try (MevaDataFile mapped = MevaDataFile.open(file.getPath())) {
+            assertEquals(3, mapped.getSampleCount());
+            assertEquals(50.0, mapped.getInitialLength());
+            assertEquals("김세현", mapped.getOperator());
+            assertNull(mapped.getTestDate());
+
+            DoubleBuffer force = mapped.getForce();
+            assertEquals(200.25, force.get(2));
+            assertEquals(0.02, mapped.getDisplacement().get(2));
+            assertEquals(0.1, mapped.getTime().get(1));
+        }
+
+        TestData read = (TestData) new MevaBinaryHandler().readFile(file.getPath());
+        assertArrayEquals(testData.getForce(), read.getForce());
+        assertEquals(78.54, read.getCrossSectionArea());
+    }
+
+    @Test
+    void testMissingColumnIsNull() throws IOException {
+        TestData testData = new TestData();
+        testData.setForce(new double[] {1.0, 2.0});
+        testData.setDisplacement(new double[] {0.1, 0.2});
+
+        File file = File.createTempFile("meva", MevaBinaryHandler.EXTENSION);
+        file.deleteOnExit();
+        assertTrue(new MevaBinaryHandler().writeFile(testData, file.getPath()));
+
+        try (MevaDataFile mapped = MevaDataFile.open(file.getPath())) {
+            assertNull(mapped.getTime());
+            assertEquals(0.2, mapped.getDisplacement().get(1));
+        }
+    }
+
+    @Test
+    void testRejectsMismatchedColumns() throws IOException {
+        TestData testData = new TestData();
+        testData.setForce(new double[] {1.0, 2.0});
+        testData.setDisplacement(new double[] {0.1});
+
+        File file = File.createTempFile("meva", MevaBinaryHandler.EXTENSION);
+        file.deleteOnExit();
+        assertFalse(new MevaBinaryHandler().writeFile(testData, file.getPath()));
+    }
+}
@@ -0,0 +1,150 @@
+package meva.fileio;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.simulation.MaterialSimulator;
+
+/**
+ * ResultCache / ContentHash 클래스의 단위 테스트
+ */
+class ResultCacheTest {
+
+    private static SimulationResult simulated() {
+        MaterialSimulator simulator = new MaterialSimulator();
+        simulator.setResolution(500);
+        SimulationResult result = simulator.simulateMaterialBehavior(new Material("cache", 200, 250, 400, 7850, 0.29));
+        result.setModulusRSquared(0.9995);
+        result.setUniformStrain(0.12);
+        result.setSampleCount(500);
+        result.setFractureDetected(true);
+        return result;
+    }
+
+    private static Path tempDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("meva-cache");
+        directory.toFile().deleteOnExit();
+        return directory;
+    }
+
+    private static File tempData(String content) throws IOException {
+        File file = File.createTempFile("meva-cache", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content.getBytes("UTF-8"));
+        return file;
+    }
+
+    @Test
+    void testContentHashKnownValues() {
+        assertEquals(0xef46db3751d8e999L, ContentHash.of(new byte[0], 0));
+        assertEquals(0x44bc2cf5ad770999L, ContentHash.of("abc", 0));
+    }
+
+    @Test
+    void testFileHashMatchesByteHash() throws IOException {
+        byte[] bytes = new byte[3 * 1024 * 1024 + 17];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31 + (i >> 9));
+        }
+        File file = File.createTempFile("meva-hash", ".bin");
+        file.deleteOnExit();
+        Files.write(file.toPath(), bytes);
+
+        assertEquals(ContentHash.of(bytes, 0), ContentHash.ofFile(file.getPath()));
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() throws IOException {
+        SimulationResult result = simulated();
+        ResultCache.Key key = new ResultCache.Key(1, 2);
+
+        SimulationResult decoded = ResultCache.decode(key,
+                ByteBuffer.wrap(ResultCache.encode(key, result)).order(ByteOrder.LITTLE_ENDIAN));
+
+        assertTrue(decoded.isValid());
+        assertTrue(decoded.isFractureDetected());
+        assertEquals(result.getYoungsModulus(), decoded.getYoungsModulus());
+        assertEquals(result.getTensileStrength(), decoded.getTensileStrength());
+        assertEquals(0.9995, decoded.getModulusRSquared());
+        assertEquals(0.12, decoded.getUniformStrain());
+        assertEquals(500, decoded.getSampleCount());
+        assertArrayEquals(result.getStress(), decoded.getStress());
+        assertArrayEquals(result.getStrain(), decoded.getStrain());
+        assertArrayEquals(result.getTrueStress(), decoded.getTrueStress());
+        assertArrayEquals(result.getTrueStrain(), decoded.getTrueStrain());
+
+        assertThrows(IOException.class, () -> ResultCache.decode(new ResultCache.Key(1, 3),
+                ByteBuffer.wrap(ResultCache.encode(key, result)).order(ByteOrder.LITTLE_ENDIAN)));
+    }
+
+    @Test
+    void testKeyDependsOnContentAndSettings() throws IOException {
+        ResultCache cache = new ResultCache(tempDirectory().toString(), 1 << 20);
+        File file = tempData("force,displacement\n1,2\n");
+        ResultCache.Key key = cache.keyOf(file.getPath(), "precision=6");
+
+        assertNull(cache.get(key));
+        assertTrue(cache.put(key, simulated()));
+        assertNotNull(cache.get(key));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertNull(cache.get(cache.keyOf(file.getPath(), "precision=4")));
+        Files.write(file.toPath(), "force,displacement\n1,3\n".getBytes("UTF-8"));
+        assertNull(cache.get(cache.keyOf(file.getPath(), "precision=6")));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted() throws IOException {
+        Path directory = tempDirectory();
+        SimulationResult result = simulated();
+        long entrySize = ResultCache.encode(new ResultCache.Key(0, 0), result).length;
+        ResultCache cache = new ResultCache(directory.toString(), entrySize * 2 + entrySize / 2);
+
+        ResultCache.Key first = new ResultCache.Key(1, 0);
+        ResultCache.Key second = new ResultCache.Key(2, 0);
+        ResultCache.Key third = new ResultCache.Key(3, 0);
+        assertTrue(cache.put(first, result));
+        assertTrue(cache.put(second, result));
+        Files.setLastModifiedTime(directory.resolve(first.fileName()), FileTime.fromMillis(1_000_000L));
+        Files.setLastModifiedTime(directory.resolve(second.fileName()), FileTime.fromMillis(2_000_000L));
+        assertNotNull(cache.get(first)); // first가 최근 사용
+
+        assertTrue(cache.put(third, result));
+
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(first));
+        assertNotNull(cache.get(third));
+        assertTrue(cache.getCurrentBytes() <= cache.getMaxBytes());
+        cache.clear();
+        assertEquals(0, cache.getCurrentBytes());
+    }
+
+    @Test
+    void testCorruptEntryIsTreatedAsMiss() throws IOException {
+        Path directory = tempDirectory();
+        ResultCache cache = new ResultCache(directory.toString(), 1 << 20);
+        ResultCache.Key key = new ResultCache.Key(42, 7);
+        assertTrue(cache.put(key, simulated()));
+
+        Path entry = directory.resolve(key.fileName());
+        byte[] bytes = Files.readAllBytes(entry);
+        byte[] truncated = new byte[bytes.length / 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(entry, truncated);
+
+        assertNull(cache.get(key));
+        assertFalse(Files.exists(entry));
+    }
+}
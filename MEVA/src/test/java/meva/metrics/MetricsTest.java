@@ -0,0 +1,99 @@
+package meva.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * 계측(Metrics, MetricsRegistry, LatencyHistogram) 단위 테스트
+ */
+class MetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setEnabled(false);
+        Metrics.getRegistry().reset();
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 1e-6);
+        // 로그-선형 구간의 상대 오차는 1/32 이하
+        assertEquals(5_000_000, histogram.getPercentile(50), 5_000_000 / 32.0);
+        assertEquals(9_900_000, histogram.getPercentile(99), 9_900_000 / 32.0);
+        assertEquals(10_000_000, histogram.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    void testBucketBoundsAreContiguous() {
+        for (long value : new long[] {0, 1, 31, 32, 33, 63, 64, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketLowerBound(index) <= value, "value " + value);
+            assertTrue(index + 1 == LatencyHistogram.BUCKET_COUNT || LatencyHistogram.bucketLowerBound(index + 1) > value, "value " + value);
+        }
+    }
+
+    @Test
+    void testDisabledReturnsNoop() {
+        Metrics.setEnabled(false);
+        assertSame(Scope.NOOP, Metrics.start("test.disabled"));
+        Metrics.count("test.disabled.counter", 5);
+        assertFalse(Metrics.getRegistry().getReport().contains("test.disabled"));
+    }
+
+    @Test
+    void testEnabledRecordsAndExposesJmx() throws JMException {
+        Metrics.setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            try (Scope scope = Metrics.start("test.enabled")) {
+                scope.setItems(10);
+            }
+        }
+        Metrics.count("test.enabled.counter", 7);
+
+        Timer timer = Metrics.getRegistry().timer("test.enabled");
+        assertEquals(3, timer.getCount());
+        assertEquals(30, timer.getItems());
+        assertEquals(7, Metrics.getRegistry().counter("test.enabled.counter").getCount());
+
+        ObjectName name = new ObjectName("meva:type=Timer,name=" + ObjectName.quote("test.enabled"));
+        assertEquals(3L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count"));
+        assertEquals(Boolean.TRUE, ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName("meva:type=Metrics"), "Enabled"));
+    }
+
+    @Test
+    void testDumpReport() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        try (Scope scope = registry.start("test.dump")) {
+            scope.setItems(1);
+        }
+        registry.counter("test.dump.counter").increment();
+
+        File file = File.createTempFile("meva-metrics", ".txt");
+        file.deleteOnExit();
+        assertTrue(registry.dump(file.getPath()));
+        String report = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(report.contains("test.dump "));
+        assertTrue(report.contains("test.dump.counter"));
+    }
+}
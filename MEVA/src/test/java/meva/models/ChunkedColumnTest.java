@@ -0,0 +1,126 @@
+package meva.models;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * ChunkedColumn 및 ColumnCursor의 단위 테스트
+ */
+class ChunkedColumnTest {
+
+    @Test
+    void testAppendAcrossChunks() {
+        for (boolean offHeap : new boolean[] {false, true}) {
+            ChunkedColumn column = new ChunkedColumn(4, offHeap);
+            double[] values = new double[100];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i * 0.5;
+            }
+            column.appendAll(values, 0, 37);
+            for (int i = 37; i < values.length; i++) {
+                column.append(values[i]);
+            }
+            assertEquals(100, column.size());
+            assertEquals(7, column.getChunkCount());
+            assertEquals(offHeap, column.isOffHeap());
+            assertEquals(49.5, column.get(99));
+            column.set(16, -1.0);
+            assertEquals(-1.0, column.get(16));
+            column.set(16, 8.0);
+            assertArrayEquals(values, column.toArray());
+            assertThrows(IndexOutOfBoundsException.class, () -> column.get(100));
+        }
+    }
+
+    @Test
+    void testFirstHeapChunkGrows() {
+        ChunkedColumn column = new ChunkedColumn(12, false);
+        column.appendAll(new double[1000], 0, 1000);
+        for (int i = 1000; i < 1024; i++) {
+            column.append(i);
+        }
+        // 첫 묶음이 값 수만큼만 자랐으므로 복사 없이 같은 배열을 돌려줌
+        assertSame(column.toArray(), column.toArray());
+        assertEquals(1023.0, column.get(1023));
+
+        double[] values = new double[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        column.appendAll(values, 1024, values.length - 1024);
+        assertEquals(5000, column.size());
+        assertEquals(2, column.getChunkCount());
+        assertEquals(4095.0, column.get(4095));
+        assertEquals(4096.0, column.get(4096));
+        assertEquals(4096, column.chunk(0).remaining());
+    }
+
+    @Test
+    void testCursorSequentialAndSeek() {
+        ChunkedColumn column = new ChunkedColumn(4, false);
+        for (int i = 0; i < 50; i++) {
+            column.append(i);
+        }
+        ColumnCursor cursor = column.cursor(20);
+        assertEquals(20, cursor.next());
+        assertEquals(20, cursor.next());
+        assertEquals(20.0, cursor.block()[0]);
+        assertEquals(20, cursor.blockStart());
+        assertEquals(10, cursor.next());
+        assertEquals(0, cursor.next());
+
+        cursor.seek(45);
+        assertEquals(5, cursor.next());
+        assertEquals(49.0, cursor.block()[4]);
+
+        PrimitiveIterator.OfDouble iterator = column.iterator();
+        double sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextDouble();
+        }
+        assertEquals(1225.0, sum);
+    }
+
+    @Test
+    void testWrapIsReadOnlyAndZeroCopy() {
+        double[] values = {1.0, 2.0, 3.0};
+        ChunkedColumn column = ChunkedColumn.wrap(values);
+        assertSame(values, column.toArray());
+        assertTrue(column.isReadOnly());
+        assertThrows(UnsupportedOperationException.class, () -> column.append(4.0));
+
+        TestData testData = new TestData();
+        testData.setForce(values);
+        assertSame(values, testData.getForce());
+        assertEquals(3, testData.getSampleCount());
+        assertNull(testData.getDisplacementColumn());
+
+        // 컬럼으로 설정한 값은 크기가 같은 동안 한 번만 복사
+        ChunkedColumn grown = new ChunkedColumn(4, false);
+        grown.appendAll(new double[40], 0, 40);
+        testData.setDisplacementColumn(grown);
+        double[] displacement = testData.getDisplacement();
+        assertSame(displacement, testData.getDisplacement());
+        grown.append(1.0);
+        assertEquals(41, testData.getDisplacement().length);
+    }
+
+    @Test
+    void testWrapBuffers() {
+        DoubleBuffer first = DoubleBuffer.wrap(new double[16]);
+        DoubleBuffer last = DoubleBuffer.wrap(new double[] {7.0, 8.0});
+        first.put(15, 6.0);
+        ChunkedColumn column = ChunkedColumn.wrap(List.of(first, last), 4);
+        assertEquals(18, column.size());
+        double[] tail = new double[4];
+        assertEquals(3, column.read(15, tail, 0, 4));
+        assertArrayEquals(new double[] {6.0, 7.0, 8.0, 0.0}, tail);
+        assertEquals(2, column.chunk(1).remaining());
+        assertThrows(IllegalArgumentException.class,
+                () -> ChunkedColumn.wrap(List.of(last, first), 4));
+    }
+}
@@ -0,0 +1,174 @@
+package meva.report;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import meva.fileio.ExportManager;
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.StandardProperty;
+import meva.models.TestData;
+import meva.simulation.MaterialSimulator;
+
+/**
+ * CampaignReport, PdfDocument 클래스의 단위 테스트
+ */
+class CampaignReportTest {
+
+    private static final StandardProperty STANDARD = new StandardProperty("Steel_AISI1020",
+            new double[] {190, 210, 210, 350, 380, 470, 15, 36}, "ASTM A29");
+
+    private static List<SimulationResult> lot(int specimens) {
+        Random random = new Random(3);
+        MaterialSimulator simulator = new MaterialSimulator();
+        simulator.setResolution(3000);
+        List<SimulationResult> results = new ArrayList<>();
+        for (int i = 0; i < specimens; i++) {
+            double yield = 300 + 40 * random.nextGaussian();
+            double tensile = 430 + 30 * random.nextGaussian();
+            results.add(simulator.simulateMaterialBehavior(new Material("lot", 200, yield, Math.max(yield + 20, tensile),
+                    7850, 0.29)));
+        }
+        return results;
+    }
+
+    private static File tempPdf() throws IOException {
+        File file = File.createTempFile("meva-report", ".pdf");
+        file.deleteOnExit();
+        return file;
+    }
+
+    /**
+     * 상호 참조 표의 위치가 모두 "n 0 obj"를 가리키는지 확인하고 /Count 값을 돌려줌
+     */
+    private static int checkStructure(File file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        String pdf = new String(bytes, StandardCharsets.ISO_8859_1);
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+
+        int startxref = pdf.lastIndexOf("startxref\n");
+        int xref = Integer.parseInt(pdf.substring(startxref + 10, pdf.indexOf('\n', startxref + 10)));
+        assertTrue(pdf.startsWith("xref\n", xref));
+        Matcher entry = Pattern.compile("(\\d{10}) 00000 n \n").matcher(pdf);
+        int object = 1;
+        int position = xref;
+        while (entry.find(position) && entry.start() < startxref) {
+            int offset = Integer.parseInt(entry.group(1));
+            assertTrue(pdf.startsWith(object + " 0 obj\n", offset), "object " + object);
+            object++;
+            position = entry.end();
+        }
+        assertTrue(pdf.contains("/Size " + object + " "));
+
+        Matcher count = Pattern.compile("/Type /Pages /Kids \\[[^\\]]*\\] /Count (\\d+)").matcher(pdf);
+        assertTrue(count.find());
+        return Integer.parseInt(count.group(1));
+    }
+
+    @Test
+    void testPdfDocumentStructure() throws IOException {
+        File file = tempPdf();
+        try (PdfDocument pdf = new PdfDocument(file.getPath())) {
+            pdf.addPage(new PageContent().text(40, 50, 12, true, "page (1) \\ ").toByteArray(), null);
+            int image = pdf.addImage(2, 1, PdfDocument.deflate(new byte[] {0, 0, 0, (byte) 255, (byte) 255, (byte) 255}));
+            pdf.addPage(new PageContent().image("Im1", 40, 60, 100, 50).toByteArray(),
+                    Collections.singletonMap("Im1", image));
+            pdf.movePagesToFront(1);
+            assertEquals(2, pdf.getPageCount());
+        }
+        assertEquals(2, checkStructure(file));
+    }
+
+    @Test
+    void testKoreanTextUsesCidFont() throws IOException {
+        String content = new String(new PageContent().text(40, 50, 10, true, "파단 (A)").text(40, 70, 10, false, "Force (N)")
+                .toByteArray(), StandardCharsets.ISO_8859_1);
+        assertTrue(content.contains("/F3 10 Tf 40 792 Td <D30CB2E80020002800410029> Tj ET"), content);
+        assertTrue(content.contains("/F1 10 Tf 40 772 Td (Force \\(N\\)) Tj ET"), content);
+
+        File file = tempPdf();
+        try (PdfDocument pdf = new PdfDocument(file.getPath())) {
+            pdf.addPage(content.getBytes(StandardCharsets.ISO_8859_1), null);
+        }
+        assertEquals(1, checkStructure(file));
+        String pdf = new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1);
+        assertTrue(pdf.contains("/Encoding /UniKS-UCS2-H"));
+        assertTrue(pdf.contains("/Ordering (Korea1)"));
+        assertTrue(pdf.contains("/F3 5 0 R"));
+        assertTrue(pdf.contains("/ToUnicode 7 0 R"));
+    }
+
+    @Test
+    void testReportFromResultsWithStandard() throws IOException {
+        List<SimulationResult> results = lot(30);
+        SimulationResult failed = new SimulationResult();
+        failed.setErrorMessage("데이터가 없습니다");
+        results.add(failed);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            names.add("runs/specimen-" + i + ".csv");
+        }
+        File file = tempPdf();
+
+        CampaignReport report = new CampaignReport();
+        report.setStandard(STANDARD);
+        report.setParallelism(4);
+        assertTrue(report.writeResults(names, results, file.getPath()));
+
+        int passed = 0;
+        for (SimulationResult result : results.subList(0, 30)) {
+            if (STANDARD.isWithinRange(result)) {
+                passed++;
+            }
+        }
+        assertEquals(31, report.getSpecimenCount());
+        assertEquals(1, report.getFailedCount());
+        assertEquals(passed, report.getPassedCount());
+        // 요약 2쪽 (24행 + 7행) + 시편 31쪽
+        assertEquals(33, report.getPageCount());
+        assertEquals(33, checkStructure(file));
+    }
+
+    @Test
+    void testReportFromFiles() throws IOException {
+        File directory = Files.createTempDirectory("meva-report").toFile();
+        directory.deleteOnExit();
+        List<String> paths = new ArrayList<>();
+        for (SimulationResult result : lot(3)) {
+            int n = result.getStress().length;
+            double[] force = new double[n];
+            double[] displacement = new double[n];
+            for (int i = 0; i < n; i++) {
+                force[i] = result.getStress()[i] * 78.54;
+                displacement[i] = result.getStrain()[i] * 50.0;
+            }
+            TestData testData = new TestData();
+            testData.setForce(force);
+            testData.setDisplacement(displacement);
+            File file = new File(directory, "specimen" + paths.size() + ".csv");
+            file.deleteOnExit();
+            assertTrue(new ExportManager().exportData(testData, file.getPath(), "csv"));
+            paths.add(file.getPath());
+        }
+        File output = tempPdf();
+
+        CampaignReport report = new CampaignReport();
+        report.setSpecimenDimensions(78.54, 50.0);
+        assertTrue(report.writeFiles(paths, output.getPath()));
+
+        assertEquals(0, report.getFailedCount());
+        assertEquals(4, checkStructure(output));
+    }
+}
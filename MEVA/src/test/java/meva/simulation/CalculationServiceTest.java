@@ -0,0 +1,97 @@
+package meva.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+
+/**
+ * CalculationService 클래스의 단위 테스트
+ */
+class CalculationServiceTest {
+
+    private final List<SimulationResult> completed = new CopyOnWriteArrayList<>();
+    private final List<double[]> curves = new CopyOnWriteArrayList<>();
+    private final List<double[]> published = new CopyOnWriteArrayList<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private final CalculationListener listener = new CalculationListener() {
+        @Override
+        public void onCurve(SimulationResult result) {
+            assertTrue(Thread.currentThread().getName().startsWith("meva-calculation"));
+            curves.add(result.getStress());
+        }
+
+        @Override
+        public void onProgress(SimulationResult result, double progress) {
+            assertTrue(progress >= 0.0 && progress <= 1.0);
+            published.add(result.getStress());
+        }
+
+        @Override
+        public void onCompleted(SimulationResult result) {
+            published.add(result.getStress());
+            completed.add(result);
+            done.countDown();
+        }
+    };
+
+    @Test
+    void testRapidSubmissionsAreCoalesced() throws InterruptedException {
+        try (CalculationService service = new CalculationService(listener, Runnable::run, 50)) {
+            for (int i = 1; i <= 5; i++) {
+                service.submit(new Material("Steel", 200, 200 + i * 10, 400, 7850, 0.29), specimen());
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+        }
+        assertEquals(1, completed.size());
+        assertTrue(completed.get(0).isValid());
+        assertEquals(250.0, completed.get(0).getYieldStrength(), 1e-9);
+    }
+
+    @Test
+    void testMeasuredDataExtractsProperties() throws InterruptedException {
+        int n = 200_000;
+        double[] force = new double[n];
+        double[] displacement = new double[n];
+        for (int i = 0; i < n; i++) {
+            double strain = 0.2 * i / n;
+            double stress = Math.min(200_000.0 * strain, 300.0 + 500.0 * strain);
+            displacement[i] = strain * 50.0;
+            force[i] = stress * 78.54;
+        }
+        TestData testData = specimen();
+        testData.setForce(force);
+        testData.setDisplacement(displacement);
+
+        try (CalculationService service = new CalculationService(listener, Runnable::run, 0)) {
+            service.submit(null, testData);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+        SimulationResult result = completed.get(0);
+        assertTrue(result.isValid());
+        assertEquals(200.0, result.getYoungsModulus(), 1.0);
+        assertEquals(400.0, result.getTensileStrength(), 0.01);
+
+        // 곡선 준비는 한 번만, 이후 발행은 모두 같은 곡선 배열을 공유
+        assertEquals(1, curves.size());
+        for (double[] stress : published) {
+            assertSame(curves.get(0), stress);
+        }
+    }
+
+    private static TestData specimen() {
+        TestData testData = new TestData();
+        testData.setInitialLength(50.0);
+        testData.setCrossSectionArea(78.54);
+        return testData;
+    }
+}
@@ -0,0 +1,104 @@
+package meva.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+import meva.models.TestData;
+
+/**
+ * CurveCache, TensileTestModel 클래스의 단위 테스트
+ */
+class CurveCacheTest {
+
+    private final Material steel = new Material("Steel", 200, 250, 400, 7850, 0.29);
+    private final Material aluminum = new Material("Aluminum", 70, 276, 310, 2700, 0.33);
+
+    @Test
+    void testRepeatedTestsHitCache() {
+        TensileTestModel model = new TensileTestModel(new CurveCache(1024 * 1024));
+        SimulationResult first = model.performTensileTest(steel);
+        SimulationResult second = model.performTensileTest(new Material("Steel copy", 200, 250, 400, 0, 0.3));
+
+        assertTrue(first.isValid());
+        assertNotSame(first.getStress(), second.getStress());
+        assertArrayEquals(first.getStress(), second.getStress(), 0.0);
+        assertEquals(1, model.getCurveCache().getMissCount());
+        assertEquals(1, model.getCurveCache().getHitCount());
+
+        // 캐시된 곡선은 호출자가 결과를 바꿔도 영향받지 않음
+        second.getStress()[10] = -1;
+        assertEquals(first.getStress()[10], model.performTensileTest(steel).getStress()[10], 0.0);
+
+        SimulationResult expected = new MaterialSimulator().simulateMaterialBehavior(steel);
+        assertArrayEquals(expected.getStress(), first.getStress(), 0.0);
+        assertEquals(expected.getElongation(), first.getElongation(), 1e-12);
+        assertFalse(model.performTensileTest(new Material("Bad", 200, 500, 400, 0, 0.3)).isValid());
+    }
+
+    @Test
+    void testTheoreticalCurvesGoThroughCache() {
+        CurveCache cache = new CurveCache(1024 * 1024);
+        StressStrainCalculator calculator = new StressStrainCalculator();
+        calculator.setCurveCache(cache);
+        TestData noForce = new TestData();
+
+        SimulationResult first = calculator.calculateStressStrain(steel, noForce);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(MaterialSimulator.ALL_STAGES, calculator.getRecomputedStages());
+        SimulationResult reused = new SimulationResult();
+        calculator.calculateStressStrain(new Material("Steel copy", 200, 250, 400, 0, 0.3), noForce, reused);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, calculator.getRecomputedStages());
+        assertArrayEquals(first.getStress(), reused.getStress(), 0.0);
+        assertArrayEquals(first.getTrueStrain(), reused.getTrueStrain(), 0.0);
+        assertEquals(first.getElongation(), reused.getElongation(), 0.0);
+
+        // 계산기가 보관한 곡선을 시뮬레이터가 그대로 사용
+        MaterialSimulator simulator = new MaterialSimulator();
+        simulator.setCurveCache(cache);
+        SimulationResult simulated = simulator.simulateMaterialBehavior(steel);
+        assertEquals(2, cache.getHitCount());
+        assertArrayEquals(first.getStress(), simulated.getStress(), 0.0);
+        // 연신율은 어느 경로든 파단 후 소성 연신율 (탄성 회복분 제외)
+        assertEquals(simulated.getElongation(), first.getElongation(), 1e-12);
+        assertTrue(first.getElongation() < TensileTestModel.fractureStrain(steel) * 100.0);
+        simulated.getStress()[10] = -1;
+        assertEquals(first.getStress()[10], calculator.calculateStressStrain(steel, noForce).getStress()[10], 0.0);
+
+        MaterialSimulator uncached = new MaterialSimulator();
+        uncached.setCurveCache(null);
+        SimulationResult computed = uncached.simulateMaterialBehavior(aluminum);
+        SimulationResult stored = simulator.simulateMaterialBehavior(aluminum);
+        assertEquals(2, cache.size());
+        assertArrayEquals(computed.getStress(), simulator.simulateMaterialBehavior(aluminum).getStress(), 0.0);
+        assertEquals(computed.getElongation(), stored.getElongation(), 0.0);
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        int resolution = 1000;
+        long curveBytes = CurveCache.ENTRY_OVERHEAD_BYTES + 16L * resolution;
+        CurveCache cache = new CurveCache(2 * curveBytes);
+        Material titanium = new Material("Titanium", 114, 880, 950, 4430, 0.32);
+
+        cache.get(steel, resolution);
+        cache.get(aluminum, resolution);
+        cache.get(steel, resolution);    // steel을 최근 사용으로
+        cache.get(titanium, resolution); // aluminum 제거
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.getCurrentBytes() <= cache.getMaxBytes());
+
+        long misses = cache.getMissCount();
+        cache.get(steel, resolution);
+        assertEquals(misses, cache.getMissCount());
+        cache.get(aluminum, resolution);
+        assertEquals(misses + 1, cache.getMissCount());
+
+        // 포인트 수가 다르면 다른 곡선
+        assertEquals(500, cache.get(steel, 500).size());
+    }
+}
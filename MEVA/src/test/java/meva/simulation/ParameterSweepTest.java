@@ -0,0 +1,60 @@
+package meva.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+
+import meva.models.Material;
+import meva.models.SimulationResult;
+
+/**
+ * ParameterSweep, MaterialSimulator 클래스의 단위 테스트
+ */
+class ParameterSweepTest {
+
+    @Test
+    void testSimulateMaterialBehavior() {
+        Material steel = new Material("Steel_AISI1020", 200, 250, 400, 7850, 0.29);
+        SimulationResult result = new MaterialSimulator().simulateMaterialBehavior(steel);
+        assertTrue(result.isValid());
+        double[] stress = result.getStress();
+        double max = 0;
+        for (double value : stress) {
+            max = Math.max(max, value);
+        }
+        assertEquals(400.0, max, 1.0);
+        assertEquals(400.0 * TensileTestModel.FRACTURE_STRESS_RATIO, stress[stress.length - 1], 1e-6);
+
+        assertFalse(new MaterialSimulator().simulateMaterialBehavior(new Material("Bad", 200, 500, 400, 0, 0.3)).isValid());
+    }
+
+    @Test
+    void testSweepCoversEveryValidCombination() {
+        ParameterSweep sweep = new ParameterSweep();
+        sweep.setYoungsModulus(new ParameterRange(150, 250, 11));
+        sweep.setYieldStrength(new ParameterRange(200, 600, 21));
+        sweep.setTensileStrength(new ParameterRange(300, 700, 21));
+        sweep.setPoissonRatio(new ParameterRange(0.28, 0.34, 4));
+        sweep.setResolution(200);
+        sweep.setParallelism(4);
+
+        BitSet seen = new BitSet();
+        double[] maxToughness = {0};
+        long evaluated = sweep.run(summary -> {
+            for (int row = 0; row < summary.size(); row++) {
+                assertFalse(seen.get((int) summary.getIndex(row)));
+                seen.set((int) summary.getIndex(row));
+                assertTrue(summary.getTensileStrength(row) >= summary.getYieldStrength(row));
+                assertTrue(summary.getToughness(row) > 0);
+                maxToughness[0] = Math.max(maxToughness[0], summary.getToughness(row));
+            }
+        });
+
+        assertEquals(11L * 21 * 21 * 4, sweep.size());
+        assertEquals(sweep.size(), evaluated + sweep.getSkippedCount());
+        assertEquals(evaluated, seen.cardinality());
+        assertTrue(sweep.getSkippedCount() > 0);
+        assertTrue(maxToughness[0] > 0);
+    }
+}
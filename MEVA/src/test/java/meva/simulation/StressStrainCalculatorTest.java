@@ -34,14 +34,119 @@ class StressStrainCalculatorTest {
     
     @Test
     void testCalculateStressStrain() {
-        // TODO: 응력-변형률 계산 테스트 구현
-        // SimulationResult result = calculator.calculateStressStrain(testMaterial, testData);
-        // assertNotNull(result);
-        // assertTrue(result.isValid());
+        SimulationResult result = calculator.calculateStressStrain(testMaterial, testData);
+        assertNotNull(result);
+        assertTrue(result.isValid());
+        
+        double[] stress = result.getStress();
+        double[] strain = result.getStrain();
+        assertEquals(calculator.getResolution(), stress.length);
+        assertEquals(0.0, stress[0]);
+        // 탄성 구간: σ = E·ε (200 GPa)
+        assertEquals(200000.0 * strain[1], stress[1], 1e-9);
+        
+        double max = 0.0;
+        for (double s : stress) {
+            max = Math.max(max, s);
+        }
+        assertEquals(400.0, max, 1.0);
+        assertTrue(stress[stress.length - 1] < max);
+    }
+    
+    @Test
+    void testMeasuredData() {
+        testData.setForce(new double[] {0.0, 7854.0, 15708.0});
+        testData.setDisplacement(new double[] {0.0, 0.05, 0.5});
+        
+        SimulationResult result = calculator.calculateStressStrain(testMaterial, testData);
+        assertTrue(result.isValid());
+        assertEquals(100.0, result.getStress()[1], 1e-9);
+        assertEquals(0.01, result.getStrain()[2], 1e-12);
+        assertEquals(200.0 * 1.01, result.getTrueStress()[2], 1e-9);
+        assertEquals(Math.log(1.01), result.getTrueStrain()[2], 1e-12);
+    }
+    
+    @Test
+    void testResultBuffersAreReused() {
+        SimulationResult result = calculator.calculateStressStrain(testMaterial, testData);
+        double[] stress = result.getStress();
+        double[] trueStrain = result.getTrueStrain();
+        
+        testMaterial.setYieldStrength(300);
+        calculator.calculateStressStrain(testMaterial, testData, result);
+        assertSame(stress, result.getStress());
+        assertSame(trueStrain, result.getTrueStrain());
+    }
+
+    @Test
+    void testReusedResultDropsPreviousProperties() {
+        SimulationResult result = calculator.calculateStressStrain(testMaterial, testData);
+        assertEquals(200.0, result.getYoungsModulus());
+        assertTrue(result.getElongation() > 0);
+
+        // 측정 데이터 변환은 물성값을 계산하지 않으므로 이론 곡선의 값이 남으면 안 됨
+        testData.setForce(new double[] {0.0, 7854.0, 15708.0});
+        testData.setDisplacement(new double[] {0.0, 0.05, 0.5});
+        calculator.calculateStressStrain(null, testData, result);
+        assertTrue(result.isValid());
+        assertEquals(0.0, result.getYoungsModulus());
+        assertEquals(0.0, result.getYieldStrength());
+        assertEquals(0.0, result.getTensileStrength());
+        assertEquals(0.0, result.getElongation());
+    }
+    
+    @Test
+    void testOnlyDependentStagesAreRecomputed() {
+        calculator.setCurveCache(null); // 공용 캐시 적중과 무관하게 단계별 재계산만 확인
+        calculator.calculateStressStrain(testMaterial, testData);
+        assertEquals(MaterialSimulator.ALL_STAGES, calculator.getRecomputedStages());
+        
+        // 곡선과 무관한 물성값만 바뀌면 다시 계산하지 않음
+        testMaterial.setDensity(7800);
+        calculator.calculateStressStrain(testMaterial, testData);
+        assertEquals(0, calculator.getRecomputedStages());
+        
+        // 항복비 0.2 이하에서는 균일 변형률이 상한에 걸려 변형률 간격이 그대로
+        testMaterial.setTensileStrength(1300);
+        calculator.calculateStressStrain(testMaterial, testData);
+        testMaterial.setTensileStrength(1400);
+        SimulationResult incremental = calculator.calculateStressStrain(testMaterial, testData);
+        assertEquals(MaterialSimulator.HARDENING_STAGE | MaterialSimulator.FRACTURE_STAGE,
+                calculator.getRecomputedStages());
+        
+        SimulationResult fresh = new StressStrainCalculator().calculateStressStrain(testMaterial, testData);
+        assertArrayEquals(fresh.getStrain(), incremental.getStrain());
+        assertArrayEquals(fresh.getStress(), incremental.getStress());
+        assertEquals(fresh.getElongation(), incremental.getElongation());
+        
+        // 영률은 네킹 구간에 영향이 없음
+        testMaterial.setYoungsModulus(210);
+        calculator.calculateStressStrain(testMaterial, testData);
+        assertEquals(MaterialSimulator.ALL_STAGES & ~MaterialSimulator.FRACTURE_STAGE,
+                calculator.getRecomputedStages());
     }
     
     @Test
     void testInvalidInputHandling() {
-        // TODO: 잘못된 입력값 처리 테스트
+        SimulationResult result = calculator.calculateStressStrain(testMaterial, null);
+        assertFalse(result.isValid());
+        assertNotNull(result.getErrorMessage());
+        
+        testMaterial.setTensileStrength(100);
+        assertFalse(calculator.calculateStressStrain(testMaterial, testData).isValid());
+        
+        // NaN은 비교가 모두 거짓이므로 따로 걸러야 함
+        testMaterial.setTensileStrength(400);
+        testMaterial.setYoungsModulus(Double.NaN);
+        result = calculator.calculateStressStrain(testMaterial, testData);
+        assertFalse(result.isValid());
+        assertEquals("영률은 0보다 커야 합니다", result.getErrorMessage());
+        testMaterial.setYoungsModulus(200);
+        testMaterial.setTensileStrength(Double.NaN);
+        assertFalse(calculator.calculateStressStrain(testMaterial, testData).isValid());
+        
+        testData.setForce(new double[] {1.0, 2.0});
+        testData.setDisplacement(new double[] {0.1});
+        assertFalse(calculator.calculateStressStrain(null, testData).isValid());
     }
-}
\ No newline at end of file
+}